@@ -44,6 +44,7 @@ module org.lecturestudio.core {
 	exports org.lecturestudio.core.camera;
 	exports org.lecturestudio.core.camera.bus.event;
 	exports org.lecturestudio.core.codec;
+	exports org.lecturestudio.core.concurrent;
 	exports org.lecturestudio.core.controller;
 	exports org.lecturestudio.core.converter;
 	exports org.lecturestudio.core.geometry;
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.ExecutableState;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.util.FileUtils;
 
 /**
@@ -176,6 +177,8 @@ public abstract class ApplicationBase implements Application {
 
 		setState(ExecutableState.Destroyed);
 
+		ExecutionService.shutdown();
+
 		System.exit(0);
 	}
 
@@ -331,6 +334,8 @@ public abstract class ApplicationBase implements Application {
 			Class<? extends Preloader> preloaderClass) throws Exception {
 		requireNonNull(appClass, "Application class must not be null.");
 
+		StartupTimeline.mark("launch");
+
 		Preloader preloader = null;
 
 		if (nonNull(preloaderClass)) {
@@ -342,6 +347,8 @@ public abstract class ApplicationBase implements Application {
 			catch (Exception e) {
 				LOG.warn("Start preloader failed.", e);
 			}
+
+			StartupTimeline.mark("preloader");
 		}
 
 		StateListener stateListener = new StateListener(preloader);
@@ -349,13 +356,20 @@ public abstract class ApplicationBase implements Application {
 		Application application = appClass.getConstructor().newInstance();
 		application.addStateListener(stateListener);
 		application.init(args);
+
+		StartupTimeline.mark("init");
+
 		application.start();
 
+		StartupTimeline.mark("start");
+
 		if (nonNull(stateListener.getException())) {
 			throw stateListener.getException();
 		}
 
 		application.removeStateListener(stateListener);
+
+		StartupTimeline.finish();
 	}
 
 	/**
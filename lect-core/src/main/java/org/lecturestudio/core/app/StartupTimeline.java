@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.app;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Records the duration of each startup phase of an application. Phases are
+ * marked in the order they complete. Once the application has started, the
+ * timeline is written as a single line to the log of this class, which the
+ * logging configuration routes into a separate startup log. This way startup
+ * regressions can be compared across versions and machines.
+ *
+ * @author Alex Andres
+ */
+public final class StartupTimeline {
+
+	private static final Logger LOG = LogManager.getLogger(StartupTimeline.class);
+
+	/** The completed phases in the order they were marked. */
+	private static final List<Phase> PHASES = new ArrayList<>();
+
+	/** The time of the last mark, initially the start time of the process. */
+	private static long lastMark = getProcessStartTime();
+
+	/** Whether the timeline has already been written. */
+	private static boolean finished;
+
+
+	private StartupTimeline() {
+	}
+
+	/**
+	 * Marks the end of a startup phase. The phase lasted from the previous mark
+	 * until now, the first phase starts with the process. Marks after the
+	 * timeline has been finished are ignored.
+	 *
+	 * @param phase The name of the completed phase.
+	 */
+	public static synchronized void mark(String phase) {
+		if (finished) {
+			return;
+		}
+
+		long now = System.nanoTime();
+
+		PHASES.add(new Phase(phase, now - lastMark));
+
+		lastMark = now;
+	}
+
+	/**
+	 * Writes the startup timeline.
+	 */
+	public static synchronized void finish() {
+		if (finished) {
+			return;
+		}
+
+		finished = true;
+
+		StringBuilder builder = new StringBuilder("Startup");
+		long total = 0;
+
+		for (Phase phase : PHASES) {
+			appendPhase(builder, phase.name(), phase.nanos());
+
+			total += phase.nanos();
+		}
+
+		appendPhase(builder, "total", total);
+
+		LOG.info(builder.toString());
+	}
+
+	/**
+	 * @return the start time of the process on the {@link System#nanoTime()}
+	 * scale, or the current time if the start time is not available.
+	 */
+	private static long getProcessStartTime() {
+		long now = System.nanoTime();
+
+		return ProcessHandle.current().info().startInstant()
+				.map(start -> now - Duration.between(start, Instant.now()).toNanos())
+				.orElse(now);
+	}
+
+	private static void appendPhase(StringBuilder builder, String name, long nanos) {
+		builder.append(' ').append(name).append('=')
+				.append(TimeUnit.NANOSECONDS.toMillis(nanos)).append("ms");
+	}
+
+
+	private record Phase(String name, long nanos) {
+
+	}
+}
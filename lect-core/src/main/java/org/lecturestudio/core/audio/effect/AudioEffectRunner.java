@@ -21,6 +21,8 @@ package org.lecturestudio.core.audio.effect;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.lecturestudio.core.ExecutableBase;
@@ -31,6 +33,8 @@ import org.lecturestudio.core.audio.AudioUtils;
 import org.lecturestudio.core.audio.sink.AudioSink;
 import org.lecturestudio.core.audio.source.AudioSource;
 import org.lecturestudio.core.bus.event.ProgressEvent;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -61,8 +65,8 @@ public abstract class AudioEffectRunner extends ExecutableBase {
 	/** Indicates whether the executor is rendering audio. */
 	private final AtomicBoolean render = new AtomicBoolean(false);
 
-	/** The effect rendering thread. */
-	private Thread renderThread;
+	/** The running effect rendering task. */
+	private CompletableFuture<Void> renderTask;
 
 
 	/**
@@ -122,7 +126,7 @@ public abstract class AudioEffectRunner extends ExecutableBase {
 	protected void startInternal() throws ExecutableException {
 		render.set(true);
 
-		renderThread = new Thread(() -> {
+		renderTask = ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				runEffect();
 				close();
@@ -131,9 +135,7 @@ public abstract class AudioEffectRunner extends ExecutableBase {
 			catch (Exception e) {
 				LOG.error("Run audio effect failed.", e);
 			}
-		}, getClass().getSimpleName());
-
-		renderThread.start();
+		});
 	}
 
 	@Override
@@ -141,11 +143,11 @@ public abstract class AudioEffectRunner extends ExecutableBase {
 		render.set(false);
 
 		// Stop gracefully.
-		if (renderThread.isAlive()) {
+		if (!renderTask.isDone()) {
 			try {
-				renderThread.join();
+				renderTask.get();
 			}
-			catch (InterruptedException e) {
+			catch (InterruptedException | ExecutionException e) {
 				throw new ExecutableException(e);
 			}
 		}
@@ -153,7 +155,7 @@ public abstract class AudioEffectRunner extends ExecutableBase {
 
 	@Override
 	protected void destroyInternal() throws ExecutableException {
-		renderThread = null;
+		renderTask = null;
 	}
 
 	/**
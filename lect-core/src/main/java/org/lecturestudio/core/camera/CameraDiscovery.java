@@ -20,13 +20,13 @@ package org.lecturestudio.core.camera;
 
 import java.util.Arrays;
 import java.util.TreeSet;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.lecturestudio.core.camera.bus.CameraBus;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 
 /**
  * The {@link CameraDiscovery} runs an background task to discover connected cameras and
@@ -43,9 +43,6 @@ public final class CameraDiscovery {
 	/* Represents the current discovery state: discovering or not. */
 	private final AtomicBoolean open = new AtomicBoolean(false);
 
-	/* Scheduled discovery executor. */
-	private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
 	/* Current discovery task that may be cancelled. */
 	private ScheduledFuture<?> scheduledTask;
 
@@ -64,8 +61,9 @@ public final class CameraDiscovery {
 	public void start(CameraDriver driver) {
 	  	if (open.compareAndSet(false, true)) {
 		    cameraDriver = driver;
-		    scheduledTask = scheduler.scheduleWithFixedDelay(new DiscoverTask(),
-					DISCOVERY_INTERVAL, DISCOVERY_INTERVAL, TimeUnit.MILLISECONDS);
+		    scheduledTask = ExecutionService.scheduleWithFixedDelay(ExecutionPool.BACKGROUND,
+				    new DiscoverTask(), DISCOVERY_INTERVAL, DISCOVERY_INTERVAL,
+				    TimeUnit.MILLISECONDS);
 
 		    if (scheduledTask.isCancelled())
 			    open.set(false);
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+/**
+ * The classes of work executed by the {@link ExecutionService}. Each class is
+ * backed by its own thread pool, so that bulk jobs never delay work the user
+ * is waiting for. The thread priority of a pool reflects how latency-sensitive
+ * its work is.
+ *
+ * @author Alex Andres
+ */
+public enum ExecutionPool {
+
+	/** Rendering of content the user is interacting with, e.g. slides. */
+	RENDER("render", Thread.MAX_PRIORITY, Math.max(2, CpuCount.VALUE / 2)),
+
+	/** Audio processing that has to keep up with playback or capture. */
+	AUDIO("audio", Thread.MAX_PRIORITY, 2),
+
+	/**
+	 * Bulk jobs that mostly block on files or the network, e.g. loading,
+	 * saving and exporting recordings. The pool is bounded, threads are
+	 * created on demand and terminate when idle.
+	 */
+	BULK_IO("io", Thread.NORM_PRIORITY, Math.max(8, CpuCount.VALUE * 2)),
+
+	/**
+	 * Checksums computed alongside a bulk job the user is waiting for, e.g.
+	 * while saving a recording. Kept apart from the bulk jobs, which wait for
+	 * the checksums, and from background analysis, which must not delay them.
+	 */
+	CHECKSUM("checksum", Thread.NORM_PRIORITY, Math.max(2, CpuCount.VALUE / 2)),
+
+	/** CPU-bound analysis nobody waits for, e.g. indexing and waveforms. */
+	BACKGROUND("background", Thread.MIN_PRIORITY, Math.max(1, CpuCount.VALUE - 1));
+
+
+	private final String name;
+
+	private final int priority;
+
+	private final int maxThreads;
+
+
+	ExecutionPool(String name, int priority, int maxThreads) {
+		this.name = name;
+		this.priority = priority;
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * @return the name used for the threads of this pool.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the priority of the threads of this pool.
+	 */
+	public int getPriority() {
+		return priority;
+	}
+
+	/**
+	 * @return the maximum number of threads of this pool.
+	 */
+	public int getMaxThreads() {
+		return maxThreads;
+	}
+
+
+	/**
+	 * Enum constants cannot refer to static fields of their enum while being
+	 * initialized.
+	 */
+	private static class CpuCount {
+
+		static final int VALUE = Runtime.getRuntime().availableProcessors();
+
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the load and timing of an {@link ExecutionPool}.
+ *
+ * @param pool            The pool the metrics belong to.
+ * @param threads         The current number of threads.
+ * @param activeThreads   The number of threads executing a task.
+ * @param queuedTasks     The number of tasks waiting for a thread.
+ * @param completedTasks  The number of completed tasks.
+ * @param rejectedTasks   The number of tasks rejected after shutdown.
+ * @param totalWaitNanos  The time completed tasks spent in the queue.
+ * @param totalRunNanos   The time spent executing completed tasks.
+ *
+ * @author Alex Andres
+ */
+public record ExecutionPoolMetrics(ExecutionPool pool, int threads, int activeThreads,
+		int queuedTasks, long completedTasks, long rejectedTasks, long totalWaitNanos,
+		long totalRunNanos) {
+
+	/**
+	 * @return the average time a task waited for a thread in microseconds.
+	 */
+	public long getAverageWaitMicros() {
+		return completedTasks > 0 ? TimeUnit.NANOSECONDS.toMicros(totalWaitNanos / completedTasks) : 0;
+	}
+
+	/**
+	 * @return the average execution time of a task in microseconds.
+	 */
+	public long getAverageRunMicros() {
+		return completedTasks > 0 ? TimeUnit.NANOSECONDS.toMicros(totalRunNanos / completedTasks) : 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [threads=%d, active=%d, queued=%d, completed=%d, rejected=%d, avgWait=%dus, avgRun=%dus]",
+				pool, threads, activeThreads, queuedTasks, completedTasks, rejectedTasks,
+				getAverageWaitMicros(), getAverageRunMicros());
+	}
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Central place to run asynchronous work. Instead of creating threads or using
+ * the common fork-join pool, components submit their work to the
+ * {@link ExecutionPool} matching its kind. This way bulk jobs cannot delay
+ * rendering or audio processing. All pools are created on first use and keep
+ * metrics about their load, which can be queried with {@link #getMetrics()}.
+ * <p>
+ * Timed tasks share a single scheduler thread, which only hands the tasks over
+ * to their pool.
+ *
+ * @author Alex Andres
+ */
+public final class ExecutionService {
+
+	private static final Logger LOG = LogManager.getLogger(ExecutionService.class);
+
+	private static final Map<ExecutionPool, MeteredThreadPool> POOLS = new EnumMap<>(ExecutionPool.class);
+
+	private static ScheduledThreadPoolExecutor scheduler;
+
+	private static boolean shutdown;
+
+
+	private ExecutionService() {
+	}
+
+	/**
+	 * Returns the executor of the specified pool.
+	 *
+	 * @param pool The pool to execute tasks with.
+	 *
+	 * @return the executor of the pool.
+	 *
+	 * @throws RejectedExecutionException If the service has been shut down.
+	 */
+	public static synchronized Executor getExecutor(ExecutionPool pool) {
+		checkRunning();
+
+		return POOLS.computeIfAbsent(pool, MeteredThreadPool::new);
+	}
+
+	/**
+	 * Runs the specified task asynchronously in the specified pool.
+	 *
+	 * @param pool The pool to run the task in.
+	 * @param task The task to run.
+	 *
+	 * @return the future that completes when the task has run.
+	 */
+	public static CompletableFuture<Void> runAsync(ExecutionPool pool, Runnable task) {
+		return CompletableFuture.runAsync(task, getExecutor(pool));
+	}
+
+	/**
+	 * Computes a value asynchronously in the specified pool.
+	 *
+	 * @param pool     The pool to run the supplier in.
+	 * @param supplier The supplier computing the value.
+	 * @param <T>      The type of the computed value.
+	 *
+	 * @return the future that completes with the computed value.
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(ExecutionPool pool, Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(supplier, getExecutor(pool));
+	}
+
+	/**
+	 * Creates an executor that runs its tasks one at a time and in submission
+	 * order on the threads of the specified pool. Use it in place of a
+	 * dedicated single-thread executor.
+	 *
+	 * @param pool The pool to run the tasks in.
+	 *
+	 * @return a new serial executor.
+	 */
+	public static Executor newSerialExecutor(ExecutionPool pool) {
+		return new SerialExecutor(getExecutor(pool));
+	}
+
+	/**
+	 * Runs the specified task once in the specified pool after the given
+	 * delay.
+	 *
+	 * @param pool  The pool to run the task in.
+	 * @param task  The task to run.
+	 * @param delay The delay before the task runs.
+	 * @param unit  The unit of the delay.
+	 *
+	 * @return the future that can be used to cancel the task.
+	 */
+	public static ScheduledFuture<?> schedule(ExecutionPool pool, Runnable task, long delay,
+			TimeUnit unit) {
+		return schedule(getExecutor(pool), task, delay, unit);
+	}
+
+	/**
+	 * Runs the specified task once with the specified executor after the given
+	 * delay, e.g. with a serial executor, so that the task never overlaps with
+	 * other tasks of that executor.
+	 *
+	 * @param executor The executor to run the task with.
+	 * @param task     The task to run.
+	 * @param delay    The delay before the task runs.
+	 * @param unit     The unit of the delay.
+	 *
+	 * @return the future that can be used to cancel the task.
+	 *
+	 * @see #newSerialExecutor(ExecutionPool)
+	 */
+	public static ScheduledFuture<?> schedule(Executor executor, Runnable task, long delay,
+			TimeUnit unit) {
+		return getScheduler().schedule(dispatch(executor, task), delay, unit);
+	}
+
+	/**
+	 * Runs the specified task periodically in the specified pool, see
+	 * {@link ScheduledThreadPoolExecutor#scheduleAtFixedRate}. A run is skipped
+	 * if the previous run has not finished yet. A failing run does not suppress
+	 * subsequent runs.
+	 *
+	 * @param pool         The pool to run the task in.
+	 * @param task         The task to run.
+	 * @param initialDelay The delay before the first run.
+	 * @param period       The period between the start of two runs.
+	 * @param unit         The unit of the delay and the period.
+	 *
+	 * @return the future that can be used to cancel the task.
+	 */
+	public static ScheduledFuture<?> scheduleAtFixedRate(ExecutionPool pool, Runnable task,
+			long initialDelay, long period, TimeUnit unit) {
+		return getScheduler().scheduleAtFixedRate(dispatch(getExecutor(pool), task), initialDelay, period, unit);
+	}
+
+	/**
+	 * Runs the specified task periodically with the specified executor, see
+	 * {@link #scheduleAtFixedRate(ExecutionPool, Runnable, long, long, TimeUnit)}.
+	 * Tasks that only start asynchronous operations may pass a direct executor,
+	 * e.g. {@code Runnable::run}, to run on the scheduler thread. This way they
+	 * are not delayed by long-running jobs of a pool. Such tasks must never
+	 * block.
+	 *
+	 * @param executor     The executor to run the task with.
+	 * @param task         The task to run.
+	 * @param initialDelay The delay before the first run.
+	 * @param period       The period between the start of two runs.
+	 * @param unit         The unit of the delay and the period.
+	 *
+	 * @return the future that can be used to cancel the task.
+	 */
+	public static ScheduledFuture<?> scheduleAtFixedRate(Executor executor, Runnable task,
+			long initialDelay, long period, TimeUnit unit) {
+		return getScheduler().scheduleAtFixedRate(dispatch(executor, task), initialDelay, period, unit);
+	}
+
+	/**
+	 * Runs the specified task periodically in the specified pool, see
+	 * {@link ScheduledThreadPoolExecutor#scheduleWithFixedDelay}. The delay is
+	 * measured from the hand-over of the previous run. A run is skipped if the
+	 * previous run has not finished yet. A failing run does not suppress
+	 * subsequent runs.
+	 *
+	 * @param pool         The pool to run the task in.
+	 * @param task         The task to run.
+	 * @param initialDelay The delay before the first run.
+	 * @param delay        The delay between two runs.
+	 * @param unit         The unit of the delays.
+	 *
+	 * @return the future that can be used to cancel the task.
+	 */
+	public static ScheduledFuture<?> scheduleWithFixedDelay(ExecutionPool pool, Runnable task,
+			long initialDelay, long delay, TimeUnit unit) {
+		return getScheduler().scheduleWithFixedDelay(dispatch(getExecutor(pool), task), initialDelay, delay, unit);
+	}
+
+	/**
+	 * Creates a dedicated thread for a long-running loop, e.g. a render loop
+	 * waiting for tasks. The thread gets the priority of the specified pool,
+	 * but is not part of it and is not reflected in its metrics.
+	 *
+	 * @param pool The pool that matches the kind of work of the thread.
+	 * @param name The name of the thread.
+	 * @param task The task the thread runs.
+	 *
+	 * @return the new unstarted thread.
+	 */
+	public static Thread newThread(ExecutionPool pool, String name, Runnable task) {
+		Thread thread = new Thread(task, name);
+		thread.setPriority(pool.getPriority());
+
+		return thread;
+	}
+
+	/**
+	 * @return the metrics of all pools that have been used so far.
+	 */
+	public static synchronized Map<ExecutionPool, ExecutionPoolMetrics> getMetrics() {
+		Map<ExecutionPool, ExecutionPoolMetrics> metrics = new EnumMap<>(ExecutionPool.class);
+
+		for (MeteredThreadPool threadPool : POOLS.values()) {
+			ExecutionPoolMetrics poolMetrics = threadPool.getMetrics();
+
+			metrics.put(poolMetrics.pool(), poolMetrics);
+		}
+
+		return Collections.unmodifiableMap(metrics);
+	}
+
+	/**
+	 * Stops all pools and the scheduler. Running and queued tasks complete,
+	 * further tasks are rejected. The final metrics of all pools are written to
+	 * the log.
+	 */
+	public static synchronized void shutdown() {
+		if (shutdown) {
+			return;
+		}
+
+		shutdown = true;
+
+		if (nonNull(scheduler)) {
+			scheduler.shutdownNow();
+		}
+
+		for (MeteredThreadPool threadPool : POOLS.values()) {
+			threadPool.shutdown();
+
+			LOG.info(threadPool.getMetrics());
+		}
+	}
+
+	private static synchronized ScheduledThreadPoolExecutor getScheduler() {
+		checkRunning();
+
+		if (isNull(scheduler)) {
+			scheduler = new ScheduledThreadPoolExecutor(1,
+					new MeteredThreadPool.PoolThreadFactory("scheduler", Thread.NORM_PRIORITY));
+			scheduler.setRemoveOnCancelPolicy(true);
+		}
+
+		return scheduler;
+	}
+
+	/**
+	 * Wraps a timed task, so that the scheduler thread only hands it over to
+	 * its executor.
+	 */
+	private static Runnable dispatch(Executor executor, Runnable task) {
+		AtomicBoolean running = new AtomicBoolean();
+
+		return () -> {
+			if (!running.compareAndSet(false, true)) {
+				// The previous run is still in progress.
+				return;
+			}
+
+			try {
+				executor.execute(() -> {
+					try {
+						task.run();
+					}
+					catch (Throwable e) {
+						LOG.error("Scheduled task failed", e);
+					}
+					finally {
+						running.set(false);
+					}
+				});
+			}
+			catch (RejectedExecutionException e) {
+				running.set(false);
+			}
+		};
+	}
+
+	private static void checkRunning() {
+		if (shutdown) {
+			throw new RejectedExecutionException("Execution service has been shut down");
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread pool of an {@link ExecutionPool} that measures how long tasks wait
+ * in the queue and how long they run. Idle threads terminate after a while, so
+ * that pools which are rarely used do not hold on to their threads.
+ *
+ * @author Alex Andres
+ */
+final class MeteredThreadPool extends ThreadPoolExecutor {
+
+	private static final long KEEP_ALIVE_SECONDS = 30;
+
+	private final ExecutionPool pool;
+
+	private final LongAdder waitNanos = new LongAdder();
+
+	private final LongAdder runNanos = new LongAdder();
+
+	private final LongAdder rejected = new LongAdder();
+
+
+	MeteredThreadPool(ExecutionPool pool) {
+		super(pool.getMaxThreads(), pool.getMaxThreads(), KEEP_ALIVE_SECONDS,
+				TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				new PoolThreadFactory(pool.getName() + "-pool", pool.getPriority()));
+
+		this.pool = pool;
+
+		allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		try {
+			super.execute(new TimedTask(command));
+		}
+		catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return a snapshot of the current load and timing of this pool.
+	 */
+	ExecutionPoolMetrics getMetrics() {
+		return new ExecutionPoolMetrics(pool, getPoolSize(), getActiveCount(),
+				getQueue().size(), getCompletedTaskCount(), rejected.sum(),
+				waitNanos.sum(), runNanos.sum());
+	}
+
+
+	private class TimedTask implements Runnable {
+
+		private final Runnable task;
+
+		private final long submitTime = System.nanoTime();
+
+
+		TimedTask(Runnable task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			long startTime = System.nanoTime();
+
+			waitNanos.add(startTime - submitTime);
+
+			try {
+				task.run();
+			}
+			finally {
+				runNanos.add(System.nanoTime() - startTime);
+			}
+		}
+	}
+
+
+	/**
+	 * Creates named daemon threads with a fixed priority.
+	 */
+	static class PoolThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private final String name;
+
+		private final int priority;
+
+
+		PoolThreadFactory(String name, int priority) {
+			this.name = name;
+			this.priority = priority;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setPriority(priority);
+
+			return thread;
+		}
+	}
+}
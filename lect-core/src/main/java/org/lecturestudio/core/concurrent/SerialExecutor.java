@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Executes tasks one after another in submission order on a shared executor.
+ * At most one task of this executor occupies a thread of the shared executor
+ * at any time.
+ *
+ * @author Alex Andres
+ */
+final class SerialExecutor implements Executor {
+
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+	private final Executor executor;
+
+	/** The task currently handed to the shared executor. */
+	private Runnable active;
+
+
+	SerialExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public synchronized void execute(Runnable task) {
+		tasks.add(() -> {
+			try {
+				task.run();
+			}
+			finally {
+				scheduleNext();
+			}
+		});
+
+		if (isNull(active)) {
+			scheduleNext();
+		}
+	}
+
+	private synchronized void scheduleNext() {
+		active = tasks.poll();
+
+		if (nonNull(active)) {
+			executor.execute(active);
+		}
+	}
+}
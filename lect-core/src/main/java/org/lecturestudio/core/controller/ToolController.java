@@ -23,7 +23,9 @@ import static java.util.Objects.nonNull;
 
 import com.google.common.eventbus.Subscribe;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.inject.Inject;
@@ -120,6 +122,12 @@ public class ToolController extends Controller implements ToolContext {
 	/** The view matrix of the presentation view. */
 	private Matrix viewMatrix;
 
+	/** The tool events accumulated during a batch. */
+	private final ToolEventBatch eventBatch = new ToolEventBatch();
+
+	/** The number of nested batches. */
+	private int batchDepth;
+
 
 	@Inject
 	public ToolController(ApplicationContext context, DocumentService documentService) {
@@ -207,11 +215,43 @@ public class ToolController extends Controller implements ToolContext {
 		Document document = documentService.getDocuments().getSelectedDocument();
 		Page page = document.getCurrentPage();
 
-		if (event instanceof ShapePaintEvent shapePaintEvent) {
-			page.pushShapePaintEvent(shapePaintEvent);
+		synchronized (eventBatch) {
+			if (batchDepth > 0) {
+				eventBatch.add(page, event);
+				return;
+			}
 		}
-		else if (event instanceof ShapeModifyEvent shapeModifyEvent) {
-			page.pushShapeModifyEvent(shapeModifyEvent);
+
+		pushToolEvent(page, event);
+	}
+
+	/**
+	 * Starts a batch of tool actions. Until the batch is ended, the shape
+	 * paint and modify events are accumulated and fired once with the combined
+	 * dirty region. This way the views are updated once per rendered frame
+	 * instead of once per action, e.g. when executing recorded actions during
+	 * playback or video rendering. Batches may be nested.
+	 */
+	public void beginBatch() {
+		synchronized (eventBatch) {
+			batchDepth++;
+		}
+	}
+
+	/**
+	 * Ends a batch of tool actions started with {@link #beginBatch()}. Ending
+	 * the outermost batch fires the accumulated events.
+	 *
+	 * @throws IllegalStateException If no batch has been started.
+	 */
+	public void endBatch() {
+		synchronized (eventBatch) {
+			if (batchDepth == 0) {
+				throw new IllegalStateException("No batch has been started");
+			}
+			if (--batchDepth == 0) {
+				eventBatch.flush();
+			}
 		}
 	}
 
@@ -991,4 +1031,86 @@ public class ToolController extends Controller implements ToolContext {
 			}
 		}
 	}
+
+	private static void pushToolEvent(Page page, ToolEvent event) {
+		if (event instanceof ShapePaintEvent shapePaintEvent) {
+			page.pushShapePaintEvent(shapePaintEvent);
+		}
+		else if (event instanceof ShapeModifyEvent shapeModifyEvent) {
+			page.pushShapeModifyEvent(shapeModifyEvent);
+		}
+	}
+
+
+	/**
+	 * Combines the tool events fired on a page into at most one paint event
+	 * covering the union of all dirty regions and one modify event containing
+	 * all modified shapes.
+	 */
+	private static class ToolEventBatch {
+
+		private Page page;
+
+		/** The most recent paint event. */
+		private ShapePaintEvent paintEvent;
+
+		/** The union of all dirty regions. */
+		private Rectangle2D dirtyRect;
+
+		/** Whether a paint event requested to repaint the whole page. */
+		private boolean repaintAll;
+
+		private List<Shape> modifiedShapes;
+
+
+		void add(Page page, ToolEvent event) {
+			if (this.page != page) {
+				flush();
+
+				this.page = page;
+			}
+
+			if (event instanceof ShapePaintEvent shapePaintEvent) {
+				Rectangle2D clip = shapePaintEvent.getClipRect();
+
+				if (isNull(clip)) {
+					repaintAll = true;
+				}
+				else if (isNull(dirtyRect)) {
+					dirtyRect = new Rectangle2D(clip);
+				}
+				else {
+					dirtyRect.union(clip);
+				}
+
+				paintEvent = shapePaintEvent;
+			}
+			else if (event instanceof ShapeModifyEvent shapeModifyEvent) {
+				if (isNull(modifiedShapes)) {
+					modifiedShapes = new ArrayList<>();
+				}
+				if (nonNull(shapeModifyEvent.getShapes())) {
+					modifiedShapes.addAll(shapeModifyEvent.getShapes());
+				}
+			}
+		}
+
+		void flush() {
+			if (nonNull(page)) {
+				if (nonNull(paintEvent)) {
+					page.pushShapePaintEvent(new ShapePaintEvent(paintEvent.getType(),
+							paintEvent.getShape(), repaintAll ? null : dirtyRect));
+				}
+				if (nonNull(modifiedShapes)) {
+					page.pushShapeModifyEvent(new ShapeModifyEvent(modifiedShapes));
+				}
+			}
+
+			page = null;
+			paintEvent = null;
+			dirtyRect = null;
+			repaintAll = false;
+			modifiedShapes = null;
+		}
+	}
 }
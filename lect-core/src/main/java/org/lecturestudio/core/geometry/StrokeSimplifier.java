@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.geometry;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Online, bounded-error decimation of pen strokes. Points are fed one by one
+ * while the stroke is being drawn. A point is held back as long as the segment
+ * from the last emitted point to the newest point represents all held back
+ * points within the tolerance. The error of a point is its distance to the
+ * segment plus the deviation of the stroke outline caused by the difference
+ * between its pressure and the pressure interpolated along the segment.
+ * <p>
+ * In contrast to a Ramer-Douglas-Peucker pass over the finished stroke this
+ * keeps the latency bounded, since at most {@link #MAX_PENDING} points are held
+ * back at any time.
+ *
+ * @author Alex Andres
+ */
+public class StrokeSimplifier {
+
+	/** The maximum number of points represented by a single segment. */
+	public static final int MAX_PENDING = 16;
+
+	/** The points between the anchor and the candidate. */
+	private final List<PenPoint2D> skipped = new ArrayList<>(MAX_PENDING);
+
+	/** The maximum distance of a dropped point to the stroke outline. */
+	private final double tolerance;
+
+	/** Half the stroke width, used to weight pressure differences. */
+	private final double halfWidth;
+
+	/** The last emitted point. */
+	private PenPoint2D anchor;
+
+	/** The newest point, which has not been emitted yet. */
+	private PenPoint2D candidate;
+
+
+	/**
+	 * Creates a new {@code StrokeSimplifier}.
+	 *
+	 * @param tolerance   The maximum deviation of the simplified stroke in
+	 *                    shape coordinates.
+	 * @param strokeWidth The width of the stroke in shape coordinates.
+	 */
+	public StrokeSimplifier(double tolerance, double strokeWidth) {
+		this.tolerance = tolerance;
+		this.halfWidth = strokeWidth / 2;
+	}
+
+	/**
+	 * Starts a new stroke at the specified point, which is considered as
+	 * emitted.
+	 *
+	 * @param point The first point of the stroke.
+	 */
+	public void begin(PenPoint2D point) {
+		anchor = point.clone();
+		candidate = null;
+		skipped.clear();
+	}
+
+	/**
+	 * Adds the next point of the stroke.
+	 *
+	 * @param point The point to add.
+	 *
+	 * @return the point to emit, or {@code null} if the stroke is represented
+	 * within the tolerance without emitting a new point.
+	 */
+	public PenPoint2D add(PenPoint2D point) {
+		PenPoint2D next = point.clone();
+
+		if (isNull(anchor)) {
+			anchor = next;
+			return next;
+		}
+		if (isNull(candidate)) {
+			candidate = next;
+			return null;
+		}
+
+		if (skipped.size() < MAX_PENDING - 1 && isRepresented(next)) {
+			skipped.add(candidate);
+			candidate = next;
+			return null;
+		}
+
+		PenPoint2D emitted = candidate;
+
+		anchor = emitted;
+		candidate = next;
+		skipped.clear();
+
+		return emitted;
+	}
+
+	/**
+	 * Ends the current stroke.
+	 *
+	 * @return the held back point to emit, or {@code null} if there is none.
+	 */
+	public PenPoint2D flush() {
+		PenPoint2D emitted = candidate;
+
+		if (nonNull(emitted)) {
+			anchor = emitted;
+		}
+
+		candidate = null;
+		skipped.clear();
+
+		return emitted;
+	}
+
+	private boolean isRepresented(PenPoint2D end) {
+		if (error(candidate, end) > tolerance) {
+			return false;
+		}
+
+		for (PenPoint2D point : skipped) {
+			if (error(point, end) > tolerance) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private double error(PenPoint2D point, PenPoint2D end) {
+		double dx = end.getX() - anchor.getX();
+		double dy = end.getY() - anchor.getY();
+		double lengthSq = dx * dx + dy * dy;
+		double t = 0;
+
+		if (lengthSq > 0) {
+			t = ((point.getX() - anchor.getX()) * dx + (point.getY() - anchor.getY()) * dy) / lengthSq;
+			t = Math.max(0, Math.min(1, t));
+		}
+
+		double px = anchor.getX() + t * dx - point.getX();
+		double py = anchor.getY() + t * dy - point.getY();
+		double pressure = anchor.getPressure() + t * (end.getPressure() - anchor.getPressure());
+
+		return Math.sqrt(px * px + py * py)
+				+ Math.abs(pressure - point.getPressure()) * halfWidth;
+	}
+}
@@ -27,8 +27,6 @@ import javax.sound.sampled.UnsupportedAudioFileException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import org.lecturestudio.core.model.Interval;
-
 public class DynamicByteArrayInputStream extends DynamicInputStream {
 
 	/** Logger for {@link DynamicByteArrayInputStream} */
@@ -55,9 +53,7 @@ public class DynamicByteArrayInputStream extends DynamicInputStream {
 		try {
 			clone = new DynamicByteArrayInputStream(data);
 			
-			for (Interval<Long> iv : exclusions) {
-				clone.addExclusion(new Interval<>(iv.getStart(), iv.getEnd()));
-			}
+			copyExclusionsTo(clone);
 		}
 		catch (Exception e) {
 			LOG.error(e);
@@ -44,11 +44,11 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	/** The underlying input stream. */
 	protected final InputStream stream;
 
-	/** 
-	 * The canonical list of exclusion intervals, always sorted by start position
-	 * and non-overlapping. Uses exclusive end semantics [start, end).
+	/**
+	 * The exclusion intervals, always sorted by start position and
+	 * non-overlapping. Uses exclusive end semantics [start, end).
 	 */
-	protected List<Interval<Long>> exclusions = new ArrayList<>();
+	private ExclusionIndex exclusions = new ExclusionIndex();
 
 	/** Audio filters mapped to their applicable intervals (in physical coordinates). */
 	protected Map<AudioFilter, Interval<Long>> filters = new HashMap<>();
@@ -81,8 +81,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 			return;
 		}
 
-		exclusions.add(new Interval<>(interval.getStart(), interval.getEnd()));
-		normalizeExclusions();
+		exclusions.add(interval.getStart(), interval.getEnd());
 	}
 
 	/**
@@ -91,9 +90,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 * @param interval The interval to remove.
 	 */
 	public void removeExclusion(Interval<Long> interval) {
-		exclusions.removeIf(iv -> 
-			iv.getStart().equals(interval.getStart()) && 
-			iv.getEnd().equals(interval.getEnd()));
+		exclusions.remove(interval.getStart(), interval.getEnd());
 	}
 
 	/**
@@ -109,11 +106,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 * @return A new list containing copies of all exclusion intervals.
 	 */
 	public List<Interval<Long>> getExclusions() {
-		List<Interval<Long>> copy = new ArrayList<>(exclusions.size());
-		for (Interval<Long> iv : exclusions) {
-			copy.add(new Interval<>(iv.getStart(), iv.getEnd()));
-		}
-		return copy;
+		return exclusions.toList();
 	}
 
 	/**
@@ -123,15 +116,23 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 * @param intervals The new exclusion intervals.
 	 */
 	public void setExclusions(List<Interval<Long>> intervals) {
-		exclusions.clear();
 		if (intervals != null) {
-			for (Interval<Long> iv : intervals) {
-				if (iv.getStart() < iv.getEnd()) {
-					exclusions.add(new Interval<>(iv.getStart(), iv.getEnd()));
-				}
-			}
+			exclusions.set(intervals);
+		}
+		else {
+			exclusions.clear();
 		}
-		normalizeExclusions();
+	}
+
+	/**
+	 * Copies the exclusion intervals of this stream to the given stream,
+	 * replacing its current exclusions. The copy shares the immutable
+	 * interval arrays and therefore runs in constant time.
+	 *
+	 * @param target The stream to receive the exclusions.
+	 */
+	protected void copyExclusionsTo(DynamicInputStream target) {
+		target.exclusions = exclusions.copy();
 	}
 
 	/**
@@ -146,20 +147,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 * @return The corresponding physical position.
 	 */
 	public long virtualToPhysical(long virtualPos) {
-		long physical = virtualPos;
-
-		for (Interval<Long> ex : exclusions) {
-			if (ex.getStart() <= physical) {
-				// This exclusion comes before or at our current position.
-				physical += ex.getEnd() - ex.getStart();
-			}
-			else {
-				// Exclusions are sorted, no more can affect us.
-				break;
-			}
-		}
-
-		return physical;
+		return exclusions.virtualToPhysical(virtualPos);
 	}
 
 	/**
@@ -171,24 +159,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 *         is within an excluded region.
 	 */
 	public long physicalToVirtual(long physicalPos) {
-		long virtual = physicalPos;
-
-		for (Interval<Long> ex : exclusions) {
-			if (ex.getEnd() <= physicalPos) {
-				// This exclusion is entirely before our position.
-				virtual -= ex.getEnd() - ex.getStart();
-			}
-			else if (ex.getStart() <= physicalPos) {
-				// Position is within an excluded region.
-				return -1;
-			}
-			else {
-				// Exclusions are sorted, no more can affect us.
-				break;
-			}
-		}
-
-		return virtual;
+		return exclusions.physicalToVirtual(physicalPos);
 	}
 
 	/**
@@ -197,11 +168,7 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	 * @return The total excluded length.
 	 */
 	public long getExcludedLength() {
-		long total = 0;
-		for (Interval<Long> iv : exclusions) {
-			total += iv.getEnd() - iv.getStart();
-		}
-		return total;
+		return exclusions.getExcludedLength();
 	}
 
 	/**
@@ -263,13 +230,8 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 		skipExcludedRegions();
 
 		// Find the next exclusion boundary.
-		long maxRead = length;
-		for (Interval<Long> ex : exclusions) {
-			if (ex.getStart() > physicalPosition) {
-				maxRead = Math.min(maxRead, ex.getStart() - physicalPosition);
-				break;
-			}
-		}
+		long maxRead = Math.min(length,
+				exclusions.getNextExclusionStart(physicalPosition) - physicalPosition);
 
 		// Read up to the boundary.
 		int toRead = (int) Math.min(length, maxRead);
@@ -297,13 +259,8 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 			skipExcludedRegions();
 
 			// Find distance to the next exclusion.
-			long distanceToExclusion = Long.MAX_VALUE;
-			for (Interval<Long> ex : exclusions) {
-				if (ex.getStart() > physicalPosition) {
-					distanceToExclusion = ex.getStart() - physicalPosition;
-					break;
-				}
-			}
+			long distanceToExclusion = exclusions.getNextExclusionStart(physicalPosition)
+					- physicalPosition;
 
 			// Skip either to the exclusion or the remaining amount.
 			long toSkip = Math.min(remaining, distanceToExclusion);
@@ -367,10 +324,8 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 			throw new RuntimeException(e);
 		}
 
-		// Deep copy exclusions.
-		for (Interval<Long> iv : exclusions) {
-			clone.exclusions.add(new Interval<>(iv.getStart(), iv.getEnd()));
-		}
+		// Copy exclusions.
+		copyExclusionsTo(clone);
 
 		// Deep copy filters.
 		for (var entry : filters.entrySet()) {
@@ -407,62 +362,21 @@ public class DynamicInputStream extends InputStream implements Cloneable {
 	}
 
 	/**
-	 * Normalizes the exclusion list by sorting and merging overlapping intervals.
+	 * Skips over any excluded regions at the current physical position.
 	 */
-	private void normalizeExclusions() {
-		if (exclusions.size() <= 1) {
-			return;
-		}
-
-		// Sort by start position.
-		// TODO
-		exclusions.sort(Comparator.comparingLong(Interval::getStart));
-
-		// Merge overlapping intervals.
-		List<Interval<Long>> merged = new ArrayList<>();
-		Interval<Long> current = exclusions.get(0);
+	private void skipExcludedRegions() throws IOException {
+		long end;
 
-		for (int i = 1; i < exclusions.size(); i++) {
-			Interval<Long> next = exclusions.get(i);
+		while ((end = exclusions.getExclusionEnd(physicalPosition)) >= 0) {
+			// The current position is in an excluded region, skip to the end.
+			long actualSkip = stream.skip(end - physicalPosition);
 
-			if (next.getStart() <= current.getEnd()) {
-				// Overlapping or adjacent, merge them.
-				current = new Interval<>(
-					current.getStart(),
-					Math.max(current.getEnd(), next.getEnd())
-				);
-			}
-			else {
-				merged.add(current);
-				current = next;
+			if (actualSkip <= 0) {
+				break;
 			}
-		}
-		merged.add(current);
 
-		exclusions = merged;
-	}
-
-	/**
-	 * Skips over any excluded regions at the current physical position.
-	 */
-	private void skipExcludedRegions() throws IOException {
-		boolean skipped;
-		do {
-			skipped = false;
-			for (Interval<Long> ex : exclusions) {
-				if (ex.getStart() <= physicalPosition && physicalPosition < ex.getEnd()) {
-					// The current position is in an excluded region, skip to the end.
-					long toSkip = ex.getEnd() - physicalPosition;
-					long actualSkip = stream.skip(toSkip);
-					physicalPosition += actualSkip;
-					skipped = true;
-					break;
-				}
-				else if (ex.getStart() > physicalPosition) {
-					break; // No more exclusions can affect the current position.
-				}
-			}
-		} while (skipped);
+			physicalPosition += actualSkip;
+		}
 	}
 
 	/**
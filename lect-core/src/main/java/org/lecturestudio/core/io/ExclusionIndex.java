@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.lecturestudio.core.model.Interval;
+
+/**
+ * Index of the excluded byte ranges of a {@link DynamicInputStream}. The
+ * exclusions are kept sorted and merged in flat arrays together with the
+ * prefix sums of their lengths. This way all position lookups are binary
+ * searches, which keeps playback and seeking at O(log n) regardless of how
+ * many cuts a recording has. Modifications rebuild the arrays in O(n), since
+ * they only occur when editing.
+ * <p>
+ * Ranges use exclusive end semantics [start, end). Overlapping or adjacent
+ * ranges are merged.
+ *
+ * @author Alex Andres
+ */
+final class ExclusionIndex {
+
+	private static final long[] EMPTY = new long[0];
+
+	/** The sorted start positions of the exclusions. */
+	private long[] starts = EMPTY;
+
+	/** The end positions of the exclusions, exclusive. */
+	private long[] ends = EMPTY;
+
+	/**
+	 * The excluded length before each exclusion. Contains one more element,
+	 * the total excluded length.
+	 */
+	private long[] prefix = { 0 };
+
+
+	/**
+	 * @return the number of exclusions.
+	 */
+	int size() {
+		return starts.length;
+	}
+
+	/**
+	 * Adds the specified range and merges it with all overlapping and
+	 * adjacent exclusions.
+	 *
+	 * @param start The start position, inclusive.
+	 * @param end   The end position, exclusive.
+	 */
+	void add(long start, long end) {
+		if (start >= end) {
+			return;
+		}
+
+		int n = starts.length;
+		// First exclusion that overlaps or touches the range from the left.
+		int first = firstEndAtLeast(start);
+		// Last exclusion that overlaps or touches the range from the right.
+		int last = lastStartAtMost(end);
+
+		if (first <= last) {
+			start = Math.min(start, starts[first]);
+			end = Math.max(end, ends[last]);
+		}
+		else {
+			last = first - 1;
+		}
+
+		int removed = last - first + 1;
+		long[] newStarts = new long[n - removed + 1];
+		long[] newEnds = new long[n - removed + 1];
+
+		System.arraycopy(starts, 0, newStarts, 0, first);
+		System.arraycopy(ends, 0, newEnds, 0, first);
+
+		newStarts[first] = start;
+		newEnds[first] = end;
+
+		System.arraycopy(starts, last + 1, newStarts, first + 1, n - last - 1);
+		System.arraycopy(ends, last + 1, newEnds, first + 1, n - last - 1);
+
+		update(newStarts, newEnds);
+	}
+
+	/**
+	 * Removes the exclusion that exactly matches the specified range.
+	 *
+	 * @param start The start position, inclusive.
+	 * @param end   The end position, exclusive.
+	 *
+	 * @return {@code true} if an exclusion has been removed.
+	 */
+	boolean remove(long start, long end) {
+		int index = Arrays.binarySearch(starts, start);
+
+		if (index < 0 || ends[index] != end) {
+			return false;
+		}
+
+		int n = starts.length;
+		long[] newStarts = new long[n - 1];
+		long[] newEnds = new long[n - 1];
+
+		System.arraycopy(starts, 0, newStarts, 0, index);
+		System.arraycopy(ends, 0, newEnds, 0, index);
+		System.arraycopy(starts, index + 1, newStarts, index, n - index - 1);
+		System.arraycopy(ends, index + 1, newEnds, index, n - index - 1);
+
+		update(newStarts, newEnds);
+
+		return true;
+	}
+
+	/**
+	 * Replaces all exclusions with the specified ranges. Empty ranges are
+	 * ignored.
+	 *
+	 * @param intervals The new exclusions.
+	 */
+	void set(List<Interval<Long>> intervals) {
+		long[][] ranges = new long[intervals.size()][];
+		int count = 0;
+
+		for (Interval<Long> iv : intervals) {
+			if (iv.getStart() < iv.getEnd()) {
+				ranges[count++] = new long[] { iv.getStart(), iv.getEnd() };
+			}
+		}
+
+		Arrays.sort(ranges, 0, count, (a, b) -> Long.compare(a[0], b[0]));
+
+		long[] newStarts = new long[count];
+		long[] newEnds = new long[count];
+		int n = 0;
+
+		for (int i = 0; i < count; i++) {
+			long[] range = ranges[i];
+
+			if (n > 0 && range[0] <= newEnds[n - 1]) {
+				newEnds[n - 1] = Math.max(newEnds[n - 1], range[1]);
+			}
+			else {
+				newStarts[n] = range[0];
+				newEnds[n] = range[1];
+				n++;
+			}
+		}
+
+		update(Arrays.copyOf(newStarts, n), Arrays.copyOf(newEnds, n));
+	}
+
+	/**
+	 * Removes all exclusions.
+	 */
+	void clear() {
+		update(EMPTY, EMPTY);
+	}
+
+	/**
+	 * @return copies of all exclusions, sorted by their start position.
+	 */
+	List<Interval<Long>> toList() {
+		List<Interval<Long>> list = new ArrayList<>(starts.length);
+
+		for (int i = 0; i < starts.length; i++) {
+			list.add(new Interval<>(starts[i], ends[i]));
+		}
+
+		return list;
+	}
+
+	/**
+	 * @return the total number of excluded bytes.
+	 */
+	long getExcludedLength() {
+		return prefix[starts.length];
+	}
+
+	/**
+	 * Converts a virtual position to a physical position. All exclusions that
+	 * start at or before the resulting position are skipped.
+	 *
+	 * @param virtualPos The virtual position.
+	 *
+	 * @return the physical position.
+	 */
+	long virtualToPhysical(long virtualPos) {
+		// The virtual start position of exclusion i is starts[i] - prefix[i],
+		// which is strictly increasing since merged exclusions never touch.
+		int low = 0;
+		int high = starts.length;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (starts[mid] - prefix[mid] <= virtualPos) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return virtualPos + prefix[low];
+	}
+
+	/**
+	 * Converts a physical position to a virtual position.
+	 *
+	 * @param physicalPos The physical position.
+	 *
+	 * @return the virtual position, or -1 if the position is excluded.
+	 */
+	long physicalToVirtual(long physicalPos) {
+		int index = lastStartAtMost(physicalPos);
+
+		if (index < 0) {
+			return physicalPos;
+		}
+		if (physicalPos < ends[index]) {
+			return -1;
+		}
+
+		return physicalPos - prefix[index + 1];
+	}
+
+	/**
+	 * Returns the end of the exclusion containing the specified position.
+	 *
+	 * @param physicalPos The physical position.
+	 *
+	 * @return the exclusive end of the exclusion, or -1 if the position is not
+	 * excluded.
+	 */
+	long getExclusionEnd(long physicalPos) {
+		int index = lastStartAtMost(physicalPos);
+
+		if (index < 0 || physicalPos >= ends[index]) {
+			return -1;
+		}
+
+		return ends[index];
+	}
+
+	/**
+	 * Returns the start of the first exclusion after the specified position.
+	 *
+	 * @param physicalPos The physical position.
+	 *
+	 * @return the start of the next exclusion, or {@link Long#MAX_VALUE} if
+	 * there is none.
+	 */
+	long getNextExclusionStart(long physicalPos) {
+		int index = lastStartAtMost(physicalPos) + 1;
+
+		return index < starts.length ? starts[index] : Long.MAX_VALUE;
+	}
+
+	/**
+	 * @return a copy of this index.
+	 */
+	ExclusionIndex copy() {
+		ExclusionIndex copy = new ExclusionIndex();
+		// The arrays are never modified in place and can be shared.
+		copy.starts = starts;
+		copy.ends = ends;
+		copy.prefix = prefix;
+
+		return copy;
+	}
+
+	private void update(long[] newStarts, long[] newEnds) {
+		long[] newPrefix = new long[newStarts.length + 1];
+
+		for (int i = 0; i < newStarts.length; i++) {
+			newPrefix[i + 1] = newPrefix[i] + newEnds[i] - newStarts[i];
+		}
+
+		starts = newStarts;
+		ends = newEnds;
+		prefix = newPrefix;
+	}
+
+	/**
+	 * @return the index of the last exclusion starting at or before the
+	 * position, or -1.
+	 */
+	private int lastStartAtMost(long position) {
+		int low = 0;
+		int high = starts.length;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (starts[mid] <= position) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return low - 1;
+	}
+
+	/**
+	 * @return the index of the first exclusion ending at or after the
+	 * position, or the number of exclusions.
+	 */
+	private int firstEndAtLeast(long position) {
+		int low = 0;
+		int high = ends.length;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (ends[mid] < position) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+
+		return low;
+	}
+}
@@ -25,10 +25,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.geometry.Dimension2D;
 import org.lecturestudio.core.geometry.Rectangle2D;
 import org.lecturestudio.core.model.listener.DocumentChangeListener;
@@ -54,7 +59,13 @@ public class Document {
 	 */
 	protected static final Logger LOG = LogManager.getLogger(Document.class);
 
-	private final List<DocumentChangeListener> changeListeners = new ArrayList<>();
+	private final List<DocumentChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Set while an overlay page detection is scheduled, but has not started
+	 * yet. Coalesces the detections requested by bursts of page changes.
+	 */
+	private final AtomicBoolean overlayDetectionPending = new AtomicBoolean();
 
 	/**
 	 * A list with all the pages of the document.
@@ -98,6 +109,9 @@ public class Document {
 	/** Position of Notes in new Documents for export. Setting the splitSlideNotesPosition variable ends in broken PDF. */
 	private NotesPosition actualSplitSlideNotesPosition = NotesPosition.UNKNOWN;
 
+	/** The documents providing the resources of restored pages. */
+	private final List<Document> restoredDocuments = new ArrayList<>();
+
 
 	/**
 	 * Create a new {@link Document}.
@@ -208,7 +222,15 @@ public class Document {
 	 * Closes the document and removes all the pages from {@link #pages}.
 	 */
 	public void close() {
-		closeDocument();
+		synchronized (this) {
+			closeDocument();
+
+			for (Document restored : restoredDocuments) {
+				restored.close();
+			}
+
+			restoredDocuments.clear();
+		}
 
 		pages.clear();
 	}
@@ -316,7 +338,7 @@ public class Document {
 	 *
 	 * @param title The new title.
 	 */
-	public void setTitle(String title) {
+	public synchronized void setTitle(String title) {
 		pdfDocument.setTitle(title);
 		this.title = title;
 	}
@@ -342,7 +364,7 @@ public class Document {
 	 *
 	 * @param author The new author.
 	 */
-	public void setAuthor(String author) {
+	public synchronized void setAuthor(String author) {
 		pdfDocument.setAuthor(author);
 	}
 
@@ -407,7 +429,7 @@ public class Document {
 	 *
 	 * @param page The page to remove.
 	 */
-	public boolean removePage(Page page) {
+	public synchronized boolean removePage(Page page) {
 		int pageNumber = getPageIndex(page);
 		boolean isSelected = pageNumber == currentPageNumber;
 
@@ -489,7 +511,7 @@ public class Document {
 	 *
 	 * @return The new page.
 	 */
-	public Page createPage() {
+	public synchronized Page createPage() {
 		int pageIndex = pdfDocument.createPage(getPageSize());
 
 		Page newPage = new Page(this, pageIndex);
@@ -510,6 +532,108 @@ public class Document {
 		return importPage(page, page.getPageNumber(), -1, pageRect);
 	}
 
+	/**
+	 * Removes the pages at the specified positions. In contrast to {@link
+	 * #removePage(Page)} the page numbers of the remaining pages are always
+	 * re-aligned, thus this document does not need to be reloaded to show the
+	 * remaining pages. This is the counterpart of {@link #restorePages}.
+	 *
+	 * @param pageIndices The indices of the pages to remove.
+	 */
+	public synchronized void removePages(int[] pageIndices) {
+		int[] sorted = Arrays.stream(pageIndices).distinct().sorted().toArray();
+		List<Page> removed = new ArrayList<>(sorted.length);
+
+		// Remove from the back, so that the remaining indices stay valid.
+		for (int i = sorted.length - 1; i >= 0; i--) {
+			int pageIndex = sorted[i];
+
+			removed.add(pages.remove(pageIndex));
+			pdfDocument.removePage(pageIndex);
+
+			if (currentPageNumber == pageIndex) {
+				currentPageNumber = -1;
+			}
+			else if (currentPageNumber > pageIndex) {
+				currentPageNumber--;
+			}
+		}
+
+		// Re-align page numbers.
+		for (int i = 0; i < pages.size(); i++) {
+			pages.get(i).setPageNumber(i);
+		}
+
+		for (Page page : removed) {
+			fireRemoveChange(page);
+		}
+	}
+
+	/**
+	 * Inserts the pages of the specified document at the given positions,
+	 * e.g. to restore previously removed pages. In contrast to {@link
+	 * #createPage(Page, int)} the pages are imported into the rendering
+	 * backend as well, thus this document does not need to be reloaded to
+	 * show the new pages.
+	 * <p>
+	 * The inserted pages share their resources with the source document.
+	 * Therefore, this document takes ownership of the source document and
+	 * closes it along with itself.
+	 *
+	 * @param source      The document providing the pages in ascending
+	 *                    order of their target positions.
+	 * @param pageIndices The sorted indices at which to insert the pages.
+	 *
+	 * @throws IOException If a page cannot be imported.
+	 */
+	public synchronized void restorePages(Document source, int[] pageIndices) throws IOException {
+		PdfDocument sourcePdfDocument = source.getPdfDocument();
+
+		restoredDocuments.add(source);
+
+		for (int i = 0; i < pageIndices.length; i++) {
+			int pageIndex = pdfDocument.importPageNative(sourcePdfDocument, i,
+					pageIndices[i], null);
+
+			if (pageIndex == -1) {
+				throw new IOException("Restore page " + pageIndices[i] + " failed");
+			}
+
+			insertPage(new Page(this, pageIndex), pageIndex);
+
+			if (currentPageNumber >= pageIndex) {
+				currentPageNumber++;
+			}
+		}
+
+		// Re-align page numbers.
+		for (int i = 0; i < pages.size(); i++) {
+			pages.get(i).setPageNumber(i);
+		}
+	}
+
+	/**
+	 * Imports the specified page and appends it to this document. Importing
+	 * the same source page again creates a page that shares the content
+	 * streams and resources of the previously imported page instead of copying
+	 * them again.
+	 *
+	 * @param page The page to import.
+	 *
+	 * @return The new page.
+	 *
+	 * @throws IOException If the page cannot be imported.
+	 */
+	public synchronized Page createSharedPage(Page page) throws IOException {
+		PdfDocument pagePdfDocument = page.getDocument().getPdfDocument();
+		int pageIndex = pdfDocument.importSharedPage(pagePdfDocument, page.getPageNumber());
+
+		Page newPage = new Page(this, pageIndex);
+		insertPage(newPage, pageIndex);
+
+		return newPage;
+	}
+
 	public boolean hasTextNotes() {
 		for (Page page : getPages()) {
 			if (!page.getNotes().isEmpty()) {
@@ -631,11 +755,12 @@ public class Document {
 	}
 
 	/**
-	 * Converts the PDF document to the specified output stream.
+	 * Converts the PDF document to the specified output stream. Pages cannot
+	 * be added or removed while the document is being written.
 	 *
 	 * @param stream The output stream.
 	 */
-	public void toOutputStream(OutputStream stream) throws IOException {
+	public synchronized void toOutputStream(OutputStream stream) throws IOException {
 		if (pdfDocument != null) {
 			pdfDocument.toOutputStream(stream);
 			stream.flush();
@@ -647,7 +772,7 @@ public class Document {
 	 *
 	 * @param stream The output stream.
 	 */
-	public void toOutputStreamNative(OutputStream stream) throws IOException {
+	public synchronized void toOutputStreamNative(OutputStream stream) throws IOException {
 		if (pdfDocument != null) {
 			pdfDocument.toOutputStreamNative(stream);
 			stream.flush();
@@ -725,7 +850,7 @@ public class Document {
 	 * @param page    The page to be replaced.
 	 * @param newPage The new page.
 	 */
-	public void replacePage(Page page, Page newPage) {
+	public synchronized void replacePage(Page page, Page newPage) {
 		PdfDocument newPdfDocument = newPage.getDocument().getPdfDocument();
 		int docIndex = newPage.getPageNumber();
 
@@ -737,7 +862,7 @@ public class Document {
 	 *
 	 * @param newDocument The document containing all new Pages.
 	 */
-	public void replaceAllPages(Document newDocument) {
+	public synchronized void replaceAllPages(Document newDocument) {
 		PdfDocument newPdfDocument = newDocument.getPdfDocument();
 
 		for (int pageIndex = 0; pageIndex < pdfDocument.getPageCount(); pageIndex++) {
@@ -749,12 +874,22 @@ public class Document {
 		for (DocumentChangeListener listener : changeListeners) {
 			listener.pageAdded(page);
 		}
+
+		detectOverlayPagesAsync();
 	}
 
 	private void fireRemoveChange(Page page) {
 		for (DocumentChangeListener listener : changeListeners) {
 			listener.pageRemoved(page);
 		}
+
+		detectOverlayPagesAsync();
+	}
+
+	private void firePageChange(Page page) {
+		for (DocumentChangeListener listener : changeListeners) {
+			listener.pageChanged(page);
+		}
 	}
 
 	/**
@@ -795,12 +930,11 @@ public class Document {
 
 		int pageCount = pdfDocument.getPageCount();
 
-		List<String> lastPageTextLines = List.of();
-
 		for (int number = 0; number < pageCount; number++) {
 			Page page = new Page(this, number);
 
-			// Add embedded shapes.
+			// Add embedded shapes. This removes the shapes from the PDF page,
+			// thus it has to be done before the document can be modified.
 			List<Shape> shapes = pdfDocument.getEditableShapes(number);
 			if (shapes != null) {
 				for (Shape shape : shapes) {
@@ -808,7 +942,70 @@ public class Document {
 				}
 			}
 
-			List<String> pageTextLines = pdfDocument.getPageTextLines(number, 2);
+			pages.add(page);
+		}
+
+		if (currentPageNumber > pageCount - 1) {
+			currentPageNumber = 0;
+		}
+
+		detectOverlayPagesAsync();
+	}
+
+	/**
+	 * Schedules the detection of overlay pages in the background. Does nothing
+	 * for whiteboards and if a detection is already scheduled, which then picks
+	 * up the current pages.
+	 */
+	private void detectOverlayPagesAsync() {
+		if (isWhiteboard() || !overlayDetectionPending.compareAndSet(false, true)) {
+			return;
+		}
+
+		ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
+					List<Page> currentPages;
+
+					synchronized (this) {
+						overlayDetectionPending.set(false);
+
+						currentPages = List.copyOf(pages);
+					}
+
+					if (currentPages.size() > 1) {
+						detectOverlayPages(currentPages);
+					}
+				})
+				.exceptionally(throwable -> {
+					LOG.error("Detect overlay pages failed", throwable);
+					return null;
+				});
+	}
+
+	/**
+	 * Marks consecutive pages with equal leading text lines as overlay pages.
+	 * Walking the text of each page is expensive for large documents, thus
+	 * this runs in the background after the pages have been loaded or changed
+	 * and publishes the overlay state page by page with a page change event.
+	 * The detection stops if the document is closed or its pages change in the
+	 * meantime, since the page change schedules a new detection.
+	 *
+	 * @param loadedPages The pages of the document at the time of scheduling.
+	 */
+	private void detectOverlayPages(List<Page> loadedPages) {
+		List<String> lastPageTextLines = List.of();
+		boolean[] overlays = new boolean[loadedPages.size()];
+
+		for (int number = 0; number < loadedPages.size(); number++) {
+			Page page = loadedPages.get(number);
+			List<String> pageTextLines;
+
+			synchronized (this) {
+				if (isClosed() || number >= pages.size() || pages.get(number) != page) {
+					return;
+				}
+
+				pageTextLines = pdfDocument.getPageTextLines(number, 2);
+			}
 
 			List<String> finalLastPageTextLines = lastPageTextLines;
 			List<String> differences = pageTextLines.stream()
@@ -818,28 +1015,43 @@ public class Document {
 			if (differences.isEmpty()) {
 				int hash = pageTextLines.hashCode();
 
-				page.setOverlay(true, hash);
+				overlays[number] = true;
+				updateOverlay(page, true, hash);
 
 				if (number > 0) {
-					Page prevPage = pages.get(number - 1);
-					prevPage.setOverlay(true, hash);
+					overlays[number - 1] = true;
+					updateOverlay(loadedPages.get(number - 1), true, hash);
 				}
 			}
 
 			lastPageTextLines = pageTextLines;
+		}
 
-			pages.add(page);
+		// Pages may lose their overlay state, e.g. when an adjacent page has
+		// been removed.
+		for (int number = 0; number < loadedPages.size(); number++) {
+			if (!overlays[number]) {
+				Page page = loadedPages.get(number);
+
+				updateOverlay(page, false, page.getOverlayId());
+			}
 		}
+	}
 
-		if (currentPageNumber > pageCount - 1) {
-			currentPageNumber = 0;
+	private void updateOverlay(Page page, boolean overlay, int id) {
+		if (page.isOverlay() == overlay && page.getOverlayId() == id) {
+			return;
 		}
+
+		page.setOverlay(overlay, id);
+
+		firePageChange(page);
 	}
 
 	/**
 	 * Calculates the crop-box for all pages, depending on splitSlideNotesPosition variable.
 	 */
-	public void calculateCropBox() {
+	public synchronized void calculateCropBox() {
 		int width;
 		int height;
 
@@ -108,10 +108,10 @@ public class Page {
 	private UUID uid;
 
 	/** Flag indicating whether this page is an overlay displayed on top of another page. */
-	private boolean overlay = false;
+	private volatile boolean overlay = false;
 
 	/** The identifier associated with this page when used as an overlay. */
-	private int overlayId;
+	private volatile int overlayId;
 
 
 	/**
@@ -45,7 +45,7 @@ public class ScreenDocument extends Document {
 		setDocumentType(DocumentType.SCREEN);
 	}
 
-	public Page createPage(BufferedImage image) {
+	public synchronized Page createPage(BufferedImage image) {
 		Page page = createPage();
 		int pageIndex = page.getPageNumber();
 
@@ -43,5 +43,14 @@ public interface DocumentChangeListener {
 	 * @param page The page.
 	 */
 	void pageRemoved(Page page);
+
+	/**
+	 * Fired when the state of a page has changed, e.g. it has been marked as
+	 * an overlay page.
+	 *
+	 * @param page The page.
+	 */
+	default void pageChanged(Page page) {
+	}
 	
 }
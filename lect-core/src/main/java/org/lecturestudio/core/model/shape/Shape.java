@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.lecturestudio.core.input.KeyEvent;
 import org.lecturestudio.core.geometry.PenPoint2D;
@@ -40,7 +41,7 @@ public abstract class Shape implements Cloneable {
 
 	private final List<PenPoint2D> points = new ArrayList<>();
 
-	private final transient List<ShapeChangeListener> listeners = new ArrayList<>();
+	private final transient CopyOnWriteArrayList<ShapeChangeListener> listeners = new CopyOnWriteArrayList<>();
 
 	private Rectangle2D bounds = new Rectangle2D();
 
@@ -204,9 +205,7 @@ public abstract class Shape implements Cloneable {
 	 * @param listener The listener to add.
 	 */
 	public void addShapeChangedListener(ShapeChangeListener listener) {
-		if (!listeners.contains(listener)) {
-			listeners.add(listener);
-		}
+		listeners.addIfAbsent(listener);
 	}
 
 	/**
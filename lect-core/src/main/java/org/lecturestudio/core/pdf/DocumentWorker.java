@@ -20,6 +20,9 @@ package org.lecturestudio.core.pdf;
 
 import java.util.concurrent.LinkedBlockingQueue;
 
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
+
 public class DocumentWorker {
 
     private final DocumentPlatformQueue eventQueue;
@@ -35,7 +38,8 @@ public class DocumentWorker {
         this.eventQueue = eventQueue;
 
         queue = new LinkedBlockingQueue<>();
-        thread = new Thread(this::run);
+        thread = ExecutionService.newThread(ExecutionPool.RENDER,
+                getClass().getSimpleName(), this::run);
     }
 
     public void start() {
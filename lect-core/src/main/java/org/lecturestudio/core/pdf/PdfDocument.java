@@ -203,6 +203,10 @@ public class PdfDocument {
 		return pdfBoxDocument.importPage(pdfDocument.pdfBoxDocument, srcPageIndex, dstPageIndex, pageRect);
 	}
 
+	public int importSharedPage(PdfDocument pdfDocument, int srcPageIndex) throws IOException {
+		return pdfBoxDocument.importSharedPage(pdfDocument.pdfBoxDocument, srcPageIndex);
+	}
+
 	public int importPageNative(PdfDocument pdfDocument, int srcPageIndex, int dstPageIndex, Rectangle2D pageRect) throws IOException {
 		muPDFDocument.importPage(pdfDocument.muPDFDocument, srcPageIndex, dstPageIndex);
 
@@ -356,8 +356,8 @@ public class MuPDFDocument implements DocumentAdapter {
 				}
 			}
 
-			if (dstPageIndex >= doc.countPages()) {
-				dstPageIndex = doc.countPages() - 1;
+			if (dstPageIndex > doc.countPages()) {
+				dstPageIndex = doc.countPages();
 			}
 
 			int insertIndex = dstPageIndex > -1 ? dstPageIndex : doc.countPages() - 1;
@@ -367,7 +367,7 @@ public class MuPDFDocument implements DocumentAdapter {
 			// Clear the display list cache. Otherwise, the pages will be rendered in distorted form.
 			displayListMap.clear();
 
-			return dstPageIndex > 0 ? dstPageIndex : getPageCount() - 1;
+			return dstPageIndex > -1 ? dstPageIndex : getPageCount() - 1;
 		}
 	}
 
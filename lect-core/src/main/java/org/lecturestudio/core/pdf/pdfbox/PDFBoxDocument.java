@@ -34,6 +34,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.apache.pdfbox.contentstream.operator.Operator;
 import org.apache.pdfbox.cos.COSArray;
@@ -78,6 +79,13 @@ public class PDFBoxDocument implements DocumentAdapter {
 
 	private DocumentOutline outline;
 
+	/**
+	 * Pages imported with shared content, keyed by the source page dictionary.
+	 * The keys are weak, so that a closed source document can be collected.
+	 * Page dictionaries are compared by identity.
+	 */
+	private final Map<COSDictionary, SharedPage> sharedPages = new WeakHashMap<>();
+
 
 	/**
 	 * Create a new {@link PDFBoxDocument}.
@@ -463,13 +471,65 @@ public class PDFBoxDocument implements DocumentAdapter {
 
 			if (dstPageIndex >= 0 && dstPageIndex < doc.getPages().getCount()) {
 				doc.getPages().remove(imported);
-				doc.getPages().insertAfter(imported, doc.getPage(dstPageIndex - 1));
+
+				if (dstPageIndex == 0) {
+					doc.getPages().insertBefore(imported, doc.getPage(0));
+				}
+				else {
+					doc.getPages().insertAfter(imported, doc.getPage(dstPageIndex - 1));
+				}
+
+				return dstPageIndex;
 			}
 
 			return dstPageIndex > 0 ? dstPageIndex : getPageCount() - 1;
 		}
 	}
 
+	/**
+	 * Imports the specified page and appends it to {@link #doc}. The first
+	 * import of a source page works like {@link #importPage(PDFBoxDocument,
+	 * int, int, AffineTransform)}. Every further import of the same unmodified
+	 * source page creates a page that references the content streams and
+	 * resources of the first import, as they were right after that import, so
+	 * they are stored only once when the document is saved. Content appended
+	 * to any of these pages later on is not shared. Each page gets its own
+	 * copies of the annotation dictionaries, their appearance streams are
+	 * shared.
+	 *
+	 * @param srcDocument  The document containing the page to import.
+	 * @param srcPageIndex The index of the page in {@code srcDocument}.
+	 *
+	 * @return the index of the imported page.
+	 *
+	 * @throws IOException If the page cannot be imported.
+	 */
+	public synchronized int importSharedPage(PDFBoxDocument srcDocument, int srcPageIndex) throws IOException {
+		PDDocument sourceDocument = srcDocument.doc;
+		PDPage page;
+		COSBase srcContents;
+
+		synchronized (sourceDocument) {
+			page = sourceDocument.getPage(srcPageIndex);
+			srcContents = page.getCOSObject().getDictionaryObject(COSName.CONTENTS);
+		}
+
+		SharedPage shared = sharedPages.get(page.getCOSObject());
+
+		if (nonNull(shared) && shared.isValid(srcContents)) {
+			doc.addPage(new PDPage(shared.createPageDict()));
+
+			return getPageCount() - 1;
+		}
+
+		int pageIndex = importPage(srcDocument, srcPageIndex, -1, new AffineTransform());
+
+		sharedPages.put(page.getCOSObject(),
+				new SharedPage(doc.getPage(pageIndex).getCOSObject(), srcContents));
+
+		return pageIndex;
+	}
+
 	/**
 	 * Replaces the page that has the {@code pageNumber} in {@link #doc} with
 	 * the page that has {@code docIndex} in {@code newDoc}.
@@ -671,4 +731,112 @@ public class PDFBoxDocument implements DocumentAdapter {
 	public PDDocument getDoc() {
 		return doc;
 	}
+
+
+	/**
+	 * A page that has been imported once and whose content is shared by all
+	 * further imports of the same source page.
+	 */
+	private static class SharedPage {
+
+		/**
+		 * A copy of the dictionary of the first imported page, taken right
+		 * after the import. The first page may be modified later on.
+		 */
+		private final COSDictionary pageDict;
+
+		/** The content of the source page at the time of the import. */
+		private final COSBase srcContents;
+
+		/** The number of source content streams at the time of the import. */
+		private final int srcContentsSize;
+
+
+		SharedPage(COSDictionary pageDict, COSBase srcContents) {
+			this.pageDict = new COSDictionary(pageDict);
+			this.pageDict.removeItem(COSName.PARENT);
+			this.pageDict.removeItem(COSName.getPDFName(PdfDocument.EMBEDDED_SHAPES_KEY));
+
+			COSBase contents = pageDict.getDictionaryObject(COSName.CONTENTS);
+
+			if (contents instanceof COSArray) {
+				// Appending content to the first page modifies its array in
+				// place, thus keep the streams of the import.
+				this.pageDict.setItem(COSName.CONTENTS, copyArray((COSArray) contents));
+			}
+
+			this.srcContents = srcContents;
+			this.srcContentsSize = getSize(srcContents);
+		}
+
+		/**
+		 * @return a new page dictionary sharing the content streams and
+		 * resources of the first imported page.
+		 */
+		COSDictionary createPageDict() {
+			COSDictionary dict = new COSDictionary(pageDict);
+			COSBase contents = pageDict.getDictionaryObject(COSName.CONTENTS);
+			COSBase annotations = pageDict.getDictionaryObject(COSName.ANNOTS);
+
+			if (contents instanceof COSArray) {
+				// Each page requires its own array, since appending content
+				// modifies the array in place. The streams are shared.
+				dict.setItem(COSName.CONTENTS, copyArray((COSArray) contents));
+			}
+			if (annotations instanceof COSArray) {
+				dict.setItem(COSName.ANNOTS, copyAnnotations((COSArray) annotations, dict));
+			}
+
+			return dict;
+		}
+
+		/**
+		 * @param contents The current content of the source page.
+		 *
+		 * @return {@code true} if the source page content has not been replaced
+		 * or extended since the import.
+		 */
+		boolean isValid(COSBase contents) {
+			return contents == srcContents && getSize(contents) == srcContentsSize;
+		}
+
+		private static int getSize(COSBase contents) {
+			return contents instanceof COSArray ? ((COSArray) contents).size() : 0;
+		}
+
+		private static COSArray copyArray(COSArray array) {
+			COSArray copy = new COSArray();
+			copy.addAll(array);
+
+			return copy;
+		}
+
+		/**
+		 * Copies the annotation dictionaries and links them to the specified
+		 * page, so that modifying the annotations of one page does not affect
+		 * the other pages.
+		 */
+		private static COSArray copyAnnotations(COSArray annotations, COSDictionary page) {
+			COSArray copy = new COSArray();
+
+			for (int i = 0; i < annotations.size(); i++) {
+				COSBase annotation = annotations.getObject(i);
+
+				if (annotation instanceof COSDictionary) {
+					COSDictionary annotationDict = new COSDictionary((COSDictionary) annotation);
+
+					if (annotationDict.containsKey(COSName.P)) {
+						annotationDict.setItem(COSName.P, page);
+					}
+
+					copy.add(annotationDict);
+				}
+				else {
+					copy.add(annotations.get(i));
+				}
+			}
+
+			return copy;
+		}
+	}
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import org.lecturestudio.core.recording.action.ActionType;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+
+/**
+ * Compacts the recorded actions of a page to the actions required to restore
+ * the current annotation and view state of the page. The actions are grouped
+ * into units, each starting with a tool action followed by its tool and key
+ * actions. The grouping is maintained incrementally, so compacting only
+ * processes actions appended since the last call and a filter pass over the
+ * units.
+ * <p>
+ * The compacted actions keep the original order, since the replay of a shape
+ * depends on the view state at the time the shape was created. The following
+ * units are omitted:
+ * <ul>
+ *     <li>units of shapes that are no longer part of the page, e.g. erased,
+ *     deleted or undone shapes;</li>
+ *     <li>pointer, undo, redo, erase and delete-all units, whose effect is
+ *     already reflected by the remaining shapes;</li>
+ *     <li>zoom and panning units that have been reset by a subsequent
+ *     zoom-out before any shape was created, and superseded view
+ *     extensions.</li>
+ * </ul>
+ * Units that locate shapes by their position, e.g. moving or cloning
+ * selected shapes, depend on all shapes present at that time. If a page
+ * contains such units the actions are not compacted.
+ *
+ * @author Alex Andres
+ */
+public class PageActionLog {
+
+	/** Units without a lasting effect on the shapes of a page. */
+	private static final Set<ActionType> TRANSIENT = EnumSet.of(ActionType.POINTER,
+			ActionType.UNDO, ActionType.REDO, ActionType.RUBBER_EXT,
+			ActionType.TEXT_REMOVE, ActionType.DELETE_ALL);
+
+	/** Units depending on the position of the shapes on a page. */
+	private static final Set<ActionType> POSITIONAL = EnumSet.of(ActionType.SELECT,
+			ActionType.SELECT_GROUP, ActionType.CLONE, ActionType.RUBBER);
+
+	/** Actions that continue the current unit. */
+	private static final Set<ActionType> CONTINUATION = EnumSet.of(ActionType.TOOL_BEGIN,
+			ActionType.TOOL_EXECUTE, ActionType.TOOL_END, ActionType.KEY);
+
+	/** The recorded actions of the page. */
+	private final List<PlaybackAction> actions;
+
+	private final List<Unit> units = new ArrayList<>();
+
+	/** The number of actions grouped into units. */
+	private int processed;
+
+	private boolean positional;
+
+
+	/**
+	 * Creates a new {@code PageActionLog} for the specified recorded actions.
+	 * Actions appended to the list later on are picked up with the next call
+	 * of {@link #compact(IntPredicate)}.
+	 *
+	 * @param actions The recorded actions of a page.
+	 */
+	public PageActionLog(List<PlaybackAction> actions) {
+		this.actions = actions;
+	}
+
+	/**
+	 * @param actions The list of recorded actions to check.
+	 *
+	 * @return {@code true} if this log has been created for the specified
+	 * list.
+	 */
+	public boolean isLogOf(List<PlaybackAction> actions) {
+		return this.actions == actions;
+	}
+
+	/**
+	 * Compacts the recorded actions of the page.
+	 *
+	 * @param isShapeAlive Tests whether the shape with a handle is still part
+	 *                     of the page.
+	 *
+	 * @return the actions required to restore the state of the page.
+	 */
+	public List<PlaybackAction> compact(IntPredicate isShapeAlive) {
+		update();
+
+		if (positional) {
+			return new ArrayList<>(actions);
+		}
+
+		List<Unit> kept = new ArrayList<>();
+
+		for (Unit unit : units) {
+			ActionType type = unit.type();
+
+			if (TRANSIENT.contains(type)) {
+				continue;
+			}
+			if (unit.hasHandle() && !isShapeAlive.test(unit.handle())) {
+				continue;
+			}
+
+			if (type == ActionType.ZOOM_OUT) {
+				// Reset view changes without any shape created in between.
+				removeTrailing(kept, EnumSet.of(ActionType.ZOOM, ActionType.PANNING,
+						ActionType.ZOOM_OUT));
+			}
+			else if (type == ActionType.EXTEND_VIEW) {
+				removeTrailing(kept, EnumSet.of(ActionType.EXTEND_VIEW));
+			}
+
+			kept.add(unit);
+		}
+
+		List<PlaybackAction> compacted = new ArrayList<>();
+
+		for (Unit unit : kept) {
+			compacted.addAll(actions.subList(unit.start(), unit.end()));
+		}
+
+		return compacted;
+	}
+
+	private void update() {
+		int size = actions.size();
+
+		for (int i = processed; i < size; i++) {
+			PlaybackAction action = actions.get(i);
+			ActionType type = action.getType();
+
+			if (CONTINUATION.contains(type) && !units.isEmpty()) {
+				Unit last = units.remove(units.size() - 1);
+
+				units.add(last.extend(i + 1));
+				continue;
+			}
+
+			if (POSITIONAL.contains(type)) {
+				positional = true;
+			}
+
+			units.add(new Unit(type, action.hasHandle(), action.getHandle(), i, i + 1));
+		}
+
+		processed = size;
+	}
+
+	private static void removeTrailing(List<Unit> units, Set<ActionType> types) {
+		while (!units.isEmpty() && types.contains(units.get(units.size() - 1).type())) {
+			units.remove(units.size() - 1);
+		}
+	}
+
+
+	/**
+	 * A tool action followed by its tool and key actions.
+	 *
+	 * @param type      The type of the first action.
+	 * @param hasHandle Whether the first action refers to a shape.
+	 * @param handle    The shape handle of the first action.
+	 * @param start     The index of the first action, inclusive.
+	 * @param end       The index of the last action, exclusive.
+	 */
+	private record Unit(ActionType type, boolean hasHandle, int handle, int start, int end) {
+
+		Unit extend(int newEnd) {
+			return new Unit(type, hasHandle, handle, start, newEnd);
+		}
+	}
+}
@@ -19,13 +19,25 @@
 package org.lecturestudio.core.recording;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * The recorded events of all pages of a recording. The pages are serialized
+ * with the {@link RecordedPageCodec}. The encoding starts with a marker, which
+ * never occurs in the former format. Thus, events serialized with former
+ * versions, which concatenate the regular page encodings, are still parsed.
+ *
+ * @author Alex Andres
+ */
 public class RecordedEvents extends RecordedObjectBase {
 
+	/** Marks the compact encoding. Negative, thus never a former page length. */
+	private static final int COMPACT_MARKER = 0xCE504C52;
+
 	private List<RecordedPage> recordedPages;
 
 
@@ -61,14 +73,43 @@ public class RecordedEvents extends RecordedObjectBase {
 
 	@Override
 	public byte[] toByteArray() throws IOException {
+		return toByteArray(true);
+	}
+
+	/**
+	 * Serializes the recorded events either with the compact encoding or with
+	 * the former encoding, which concatenates the regular page encodings. The
+	 * former encoding is required by consumers that read recordings of format
+	 * version {@link Recording#MIN_FORMAT_VERSION}, e.g. the web player.
+	 *
+	 * @param compact {@code true} to use the compact encoding.
+	 *
+	 * @return the serialized events.
+	 *
+	 * @throws IOException If the events could not be serialized.
+	 */
+	public byte[] toByteArray(boolean compact) throws IOException {
 		ByteArrayOutputStream actionStream = new ByteArrayOutputStream();
+		DataOutputStream dataStream = new DataOutputStream(actionStream);
+
+		if (compact) {
+			dataStream.writeInt(COMPACT_MARKER);
+		}
 
 		for (RecordedPage recPage : recordedPages) {
-			byte[] pageData = recPage.toByteArray();
-			actionStream.write(pageData);
+			if (compact) {
+				byte[] pageData = RecordedPageCodec.encode(recPage, true);
+
+				dataStream.writeInt(pageData.length);
+				dataStream.write(pageData);
+			}
+			else {
+				// The regular page encoding starts with its length.
+				dataStream.write(recPage.toByteArray());
+			}
 		}
 
-		actionStream.close();
+		dataStream.close();
 
 		return actionStream.toByteArray();
 	}
@@ -79,15 +120,33 @@ public class RecordedEvents extends RecordedObjectBase {
 
 		recordedPages = new CopyOnWriteArrayList<>();
 
+		if (buffer.remaining() >= 4 && buffer.getInt(0) == COMPACT_MARKER) {
+			buffer.position(4);
+
+			while (buffer.hasRemaining()) {
+				int pageLength = buffer.getInt();
+
+				recordedPages.add(RecordedPageCodec.decode(input, buffer.position(), pageLength));
+
+				buffer.position(buffer.position() + pageLength);
+			}
+
+			return;
+		}
+
+		// Former encoding.
 		while (buffer.hasRemaining()) {
 			// Read the page data size.
 			int entryLength = buffer.getInt();
+			int pageEnd = buffer.position() + entryLength;
+
+			// Parse the page in place.
+			RecordedPage page = new RecordedPage();
+			page.parseFrom(buffer);
 
-			// Read page data.
-			byte[] pageData = new byte[entryLength];
-			buffer.get(pageData);
+			buffer.position(pageEnd);
 
-			recordedPages.add(new RecordedPage(pageData));
+			recordedPages.add(page);
 		}
 	}
 
@@ -18,17 +18,26 @@
 
 package org.lecturestudio.core.recording;
 
-import java.util.Objects;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.lecturestudio.core.recording.edit.EditableRecordedObject;
 import org.lecturestudio.core.recording.edit.RecordedObjectAction;
 
 public abstract class RecordedObjectBase implements EditableRecordedObject, RecordedObject {
 
+	/**
+	 * Source of versions shared by all recorded objects. This keeps versions
+	 * unique even if a recorded object gets replaced by a new instance.
+	 */
+	private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
 	protected Stack<RecordedObjectAction<?>> undoActions = new Stack<>();
 	protected Stack<RecordedObjectAction<?>> redoActions = new Stack<>();
 
+	/** The version assigned with the last modification of this object. */
+	private volatile long version;
+
 
 	@Override
 	public void undo() throws RecordingEditException {
@@ -40,6 +49,8 @@ public abstract class RecordedObjectBase implements EditableRecordedObject, Reco
 		aEditAction.undo();
 
 		redoActions.push(aEditAction);
+
+		markModified();
 	}
 
 	@Override
@@ -52,12 +63,16 @@ public abstract class RecordedObjectBase implements EditableRecordedObject, Reco
 		aEditAction.redo();
 
 		undoActions.push(aEditAction);
+
+		markModified();
 	}
 
 	@Override
 	public void addEditAction(RecordedObjectAction<?> action) {
 		undoActions.push(action);
 		redoActions.clear();
+
+		markModified();
 	}
 
 	public boolean hasUndoActions() {
@@ -68,7 +83,33 @@ public abstract class RecordedObjectBase implements EditableRecordedObject, Reco
 		return !redoActions.empty();
 	}
 
-	public int getStateHash() {
-		return Objects.hash(undoActions, redoActions);
+	/**
+	 * Returns the modification version of this object. Every modification
+	 * assigns a new version, thus two equal values indicate that the object
+	 * has not been modified in the meantime, or has been returned to the same
+	 * state by undoing or redoing edits.
+	 *
+	 * @return the current version of this object.
+	 */
+	public long getModificationVersion() {
+		return version;
+	}
+
+	/**
+	 * Assigns a new version to this object to indicate a modification.
+	 */
+	public void markModified() {
+		version = VERSION_COUNTER.incrementAndGet();
+	}
+
+	/**
+	 * Restores a version previously returned by {@link #getModificationVersion()}
+	 * after an undo or redo has returned this object to the state it had with
+	 * that version.
+	 *
+	 * @param version The version to restore.
+	 */
+	void restoreModificationVersion(long version) {
+		this.version = version;
 	}
 }
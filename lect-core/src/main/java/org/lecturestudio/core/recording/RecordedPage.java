@@ -146,67 +146,43 @@ public class RecordedPage implements RecordedObject, Cloneable {
 	
 	@Override
 	public void parseFrom(byte[] input) throws IOException {
-		ByteBuffer buffer = ByteBuffer.wrap(input);
+		parseFrom(ByteBuffer.wrap(input));
+	}
+
+	/**
+	 * Parses the page starting at the position of the provided buffer. The
+	 * actions are parsed in place, the buffer is used as shared read-only
+	 * source and the action data is never copied. Afterwards, the position of
+	 * the buffer is right behind the page.
+	 *
+	 * @param buffer The buffer containing the page without its length prefix.
+	 *
+	 * @throws IOException If the page data is malformed.
+	 */
+	public void parseFrom(ByteBuffer buffer) throws IOException {
+		// Cursor passed to the actions, limited to the payload of one action.
+		ByteBuffer cursor = buffer.duplicate();
 
 		// Read page header.
 		number = buffer.getInt();
 		timestamp = buffer.getInt();
 
 		// Read static/cloned actions.
-		int clonedSize = buffer.getInt();
-		if (clonedSize > 0) {
-			// Get cloned action chunk.
-			byte[] clonedData = new byte[clonedSize];
-			buffer.get(clonedData);
-
-			ByteBuffer clonedBuffer = ByteBuffer.wrap(clonedData);
-			clonedBuffer.clear();
-
-			while (clonedBuffer.hasRemaining()) {
-				int length = clonedBuffer.getInt();
-				int type = clonedBuffer.get();
-				int timestamp = clonedBuffer.getInt();
-				
-				byte[] actionData = null;
-				int dataLength = length - 5;
-				if (dataLength > 0) {
-					actionData = new byte[dataLength];
-					clonedBuffer.get(actionData);
-				}
+		int clonedEnd = buffer.getInt();
+		clonedEnd += buffer.position();
 
-				PlaybackAction action = ActionFactory.createAction(type, timestamp, actionData);
+		while (buffer.position() < clonedEnd) {
+			PlaybackAction action = readAction(buffer, cursor);
 
-				StaticShapeAction staticAction = new StaticShapeAction(action);
-				staticActions.add(staticAction);
-			}
+			staticActions.add(new StaticShapeAction(action));
 		}
 
-		int playbackSize = buffer.getInt();
-		if (playbackSize > 0) {
-			// Get playback action chunk.
-			byte[] playbackData = new byte[playbackSize];
-			buffer.get(playbackData);
-
-			ByteBuffer playbackBuffer = ByteBuffer.wrap(playbackData);
-			playbackBuffer.clear();
-
-			while (playbackBuffer.hasRemaining()) {
-				int length = playbackBuffer.getInt();
-				int type = playbackBuffer.get();
-				int timestamp = playbackBuffer.getInt();
-
-				// Get event chunk.
-				byte[] actionData = null;
-				int dataLength = length - 5;
-				if (dataLength > 0) {
-					actionData = new byte[dataLength];
-					playbackBuffer.get(actionData);
-				}
-
-				PlaybackAction action = ActionFactory.createAction(type, timestamp, actionData);
+		// Read playback actions.
+		int playbackEnd = buffer.getInt();
+		playbackEnd += buffer.position();
 
-				playback.add(action);
-			}
+		while (buffer.position() < playbackEnd) {
+			playback.add(readAction(buffer, cursor));
 		}
 	}
 
@@ -313,6 +289,25 @@ public class RecordedPage implements RecordedObject, Cloneable {
 		}
 	}
 
+	private static PlaybackAction readAction(ByteBuffer buffer, ByteBuffer cursor)
+			throws IOException {
+		int length = buffer.getInt();
+		int type = buffer.get();
+		int timestamp = buffer.getInt();
+
+		ByteBuffer actionData = null;
+		int dataLength = length - 5;
+		if (dataLength > 0) {
+			int offset = buffer.position();
+
+			actionData = cursor.limit(offset + dataLength).position(offset);
+
+			buffer.position(offset + dataLength);
+		}
+
+		return ActionFactory.createAction(type, timestamp, actionData);
+	}
+
 	private void setStateAction(ToolState state, PlaybackAction action) {
 		if (nonNull(state) && !state.isComplete()) {
 			state.setAction(action);
@@ -0,0 +1,538 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.recording.action.ActionFactory;
+import org.lecturestudio.core.recording.action.ActionType;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.StaticShapeAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+
+/**
+ * Compact binary encoding of {@link RecordedPage}s. All integers are written
+ * as variable-length integers and action timestamps are delta coded. The pen
+ * points of tool actions, which make up most of the recorded events, are
+ * quantized and delta coded as well. All other actions keep their regular
+ * payload. Pages with a large encoding are additionally deflated, if this
+ * reduces their size.
+ * <p>
+ * Coordinates are quantized to 2<sup>-20</sup> of the page width and the
+ * pressure to 1/1023, which is far below the resolution of any display.
+ * Decoding and encoding a page again yields the very same data.
+ *
+ * @author Alex Andres
+ */
+public final class RecordedPageCodec {
+
+	/** The page data is stored as is. */
+	private static final int ENCODING_PLAIN = 0;
+
+	/** The page data is deflated. */
+	private static final int ENCODING_DEFLATE = 1;
+
+	/** The minimum size of page data to be deflated. */
+	private static final int DEFLATE_THRESHOLD = 256;
+
+	/** Tool action without a point. */
+	private static final int POINT_NONE = 0;
+
+	/** Tool action with a delta coded point. */
+	private static final int POINT_DELTA = 1;
+
+	/** Tool action with a regular payload, e.g. carrying a key event. */
+	private static final int POINT_PAYLOAD = 2;
+
+	private static final double COORDINATE_SCALE = 1 << 20;
+
+	private static final double PRESSURE_SCALE = 1023;
+
+	/** The length of the regular action header: length, type and timestamp. */
+	private static final int ACTION_HEADER_LENGTH = 9;
+
+
+	private RecordedPageCodec() {
+
+	}
+
+	/**
+	 * Encodes the specified page.
+	 *
+	 * @param page     The page to encode.
+	 * @param compress {@code true} to deflate large pages.
+	 *
+	 * @return the encoded page.
+	 *
+	 * @throws IOException If an action cannot be serialized.
+	 */
+	public static byte[] encode(RecordedPage page, boolean compress) throws IOException {
+		Output output = new Output(64 + page.getPlaybackActions().size() * 8);
+		output.writeVarInt(ENCODING_PLAIN);
+		output.writeVarInt(page.getNumber());
+		output.writeSignedVarInt(page.getTimestamp());
+
+		List<StaticShapeAction> staticActions = page.getStaticActions();
+		List<PlaybackAction> playbackActions = page.getPlaybackActions();
+
+		output.writeVarInt(staticActions.size());
+
+		ActionState state = new ActionState();
+
+		for (StaticShapeAction action : staticActions) {
+			writeAction(output, action.getAction(), state);
+		}
+
+		output.writeVarInt(playbackActions.size());
+
+		state = new ActionState();
+
+		for (PlaybackAction action : playbackActions) {
+			writeAction(output, action, state);
+		}
+
+		if (compress && output.length > DEFLATE_THRESHOLD) {
+			byte[] deflated = deflate(output.data, 1, output.length - 1);
+
+			if (nonNull(deflated)) {
+				return deflated;
+			}
+		}
+
+		return output.toByteArray();
+	}
+
+	/**
+	 * Decodes a page previously encoded with {@link #encode}.
+	 *
+	 * @param data The encoded page.
+	 *
+	 * @return the decoded page.
+	 *
+	 * @throws IOException If the data is malformed.
+	 */
+	public static RecordedPage decode(byte[] data) throws IOException {
+		return decode(data, 0, data.length);
+	}
+
+	/**
+	 * Decodes a page previously encoded with {@link #encode}. The page data is
+	 * decoded in place, without copying any action payload.
+	 *
+	 * @param data   The array containing the encoded page.
+	 * @param offset The offset of the page in the array.
+	 * @param length The length of the encoded page.
+	 *
+	 * @return the decoded page.
+	 *
+	 * @throws IOException If the data is malformed.
+	 */
+	public static RecordedPage decode(byte[] data, int offset, int length) throws IOException {
+		if (offset < 0 || length < 0 || offset + length > data.length) {
+			throw new IOException("Unexpected end of page data");
+		}
+
+		Input input = new Input(data, offset, length);
+
+		int encoding = input.readVarInt();
+
+		if (encoding == ENCODING_DEFLATE) {
+			input = new Input(inflate(input));
+		}
+		else if (encoding != ENCODING_PLAIN) {
+			throw new IOException("Unknown page encoding: " + encoding);
+		}
+
+		RecordedPage page = new RecordedPage();
+		page.setNumber(input.readVarInt());
+		page.setTimestamp(input.readSignedVarInt());
+
+		int staticCount = input.readVarInt();
+		ActionState state = new ActionState();
+
+		for (int i = 0; i < staticCount; i++) {
+			page.addStaticAction(new StaticShapeAction(readAction(input, state)));
+		}
+
+		int playbackCount = input.readVarInt();
+		state = new ActionState();
+
+		for (int i = 0; i < playbackCount; i++) {
+			page.addPlaybackAction(readAction(input, state));
+		}
+
+		return page;
+	}
+
+	private static void writeAction(Output output, PlaybackAction action, ActionState state)
+			throws IOException {
+		ActionType type = action.getType();
+
+		output.writeVarInt(type.ordinal());
+		output.writeSignedVarInt(action.getTimestamp() - state.timestamp);
+
+		state.timestamp = action.getTimestamp();
+
+		switch (type) {
+			case TOOL_BEGIN, TOOL_EXECUTE, TOOL_END -> {
+				PenPoint2D point = getPoint(action);
+
+				if (nonNull(action.getKeyEvent())) {
+					output.writeVarInt(POINT_PAYLOAD);
+					writePayload(output, action);
+				}
+				else if (isNull(point)) {
+					output.writeVarInt(POINT_NONE);
+				}
+				else {
+					output.writeVarInt(POINT_DELTA);
+					writePoint(output, point, state);
+				}
+			}
+			default -> writePayload(output, action);
+		}
+	}
+
+	private static PlaybackAction readAction(Input input, ActionState state) throws IOException {
+		int type = input.readVarInt();
+		int timestamp = state.timestamp + input.readSignedVarInt();
+
+		state.timestamp = timestamp;
+
+		if (type < 0 || type >= ActionType.values().length) {
+			throw new IOException("Unknown action type: " + type);
+		}
+
+		ActionType actionType = ActionType.values()[type];
+		PlaybackAction action;
+
+		switch (actionType) {
+			case TOOL_BEGIN, TOOL_EXECUTE, TOOL_END -> {
+				int form = input.readVarInt();
+
+				if (form == POINT_PAYLOAD) {
+					return ActionFactory.createAction(type, timestamp, input.readPayload());
+				}
+
+				PenPoint2D point = form == POINT_DELTA ? readPoint(input, state) : null;
+
+				if (actionType == ActionType.TOOL_BEGIN) {
+					action = new ToolBeginAction(point);
+				}
+				else if (actionType == ActionType.TOOL_EXECUTE) {
+					action = new ToolExecuteAction(point);
+				}
+				else {
+					action = new ToolEndAction(point);
+				}
+
+				action.setTimestamp(timestamp);
+			}
+			default -> action = ActionFactory.createAction(type, timestamp, input.readPayload());
+		}
+
+		return action;
+	}
+
+	private static void writePayload(Output output, PlaybackAction action) throws IOException {
+		byte[] data = action.toByteArray();
+		int length = data.length - ACTION_HEADER_LENGTH;
+
+		output.writeVarInt(length);
+		output.write(data, ACTION_HEADER_LENGTH, length);
+	}
+
+	private static void writePoint(Output output, PenPoint2D point, ActionState state) {
+		long x = Math.round(point.getX() * COORDINATE_SCALE);
+		long y = Math.round(point.getY() * COORDINATE_SCALE);
+		long p = Math.round(point.getPressure() * PRESSURE_SCALE);
+
+		if (p == 0 && point.getPressure() > 0) {
+			// Zero pressure points are dropped by shapes, keep them visible.
+			p = 1;
+		}
+
+		output.writeSignedVarLong(x - state.x);
+		output.writeSignedVarLong(y - state.y);
+		output.writeSignedVarLong(p - state.pressure);
+
+		state.x = x;
+		state.y = y;
+		state.pressure = p;
+	}
+
+	private static PenPoint2D readPoint(Input input, ActionState state) throws IOException {
+		state.x += input.readSignedVarLong();
+		state.y += input.readSignedVarLong();
+		state.pressure += input.readSignedVarLong();
+
+		return new PenPoint2D(state.x / COORDINATE_SCALE, state.y / COORDINATE_SCALE,
+				state.pressure / PRESSURE_SCALE);
+	}
+
+	private static PenPoint2D getPoint(PlaybackAction action) {
+		if (action instanceof ToolBeginAction beginAction) {
+			return beginAction.getPoint();
+		}
+		if (action instanceof ToolExecuteAction executeAction) {
+			return executeAction.getPoint();
+		}
+		if (action instanceof ToolEndAction endAction) {
+			return endAction.getPoint();
+		}
+		return null;
+	}
+
+	/**
+	 * @return the deflated page, or {@code null} if deflating does not reduce
+	 * the size.
+	 */
+	private static byte[] deflate(byte[] data, int offset, int length) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+		try {
+			deflater.setInput(data, offset, length);
+			deflater.finish();
+
+			Output output = new Output(length);
+			output.writeVarInt(ENCODING_DEFLATE);
+			output.writeVarInt(length);
+
+			byte[] buffer = new byte[Math.min(length, 8192)];
+
+			while (!deflater.finished()) {
+				int count = deflater.deflate(buffer);
+
+				output.write(buffer, 0, count);
+
+				if (output.length >= length) {
+					return null;
+				}
+			}
+
+			return output.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(Input input) throws IOException {
+		int length = input.readVarInt();
+		byte[] data = new byte[length];
+		Inflater inflater = new Inflater();
+
+		try {
+			inflater.setInput(input.data, input.position, input.limit - input.position);
+
+			int offset = 0;
+
+			while (offset < length) {
+				int count = inflater.inflate(data, offset, length - offset);
+
+				if (count == 0) {
+					// Truncated, or a stream requiring a preset dictionary,
+					// which the encoder never writes.
+					throw new IOException("Malformed page data");
+				}
+
+				offset += count;
+			}
+
+			return data;
+		}
+		catch (DataFormatException e) {
+			throw new IOException("Malformed page data", e);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+
+	/**
+	 * The values the next action is delta coded against.
+	 */
+	private static class ActionState {
+
+		int timestamp;
+
+		long x;
+
+		long y;
+
+		long pressure;
+	}
+
+
+	/**
+	 * Growable byte array with variable-length integer support.
+	 */
+	private static class Output {
+
+		byte[] data;
+
+		int length;
+
+
+		Output(int capacity) {
+			data = new byte[Math.max(capacity, 16)];
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xFFFFFFFFL);
+		}
+
+		void writeSignedVarInt(int value) {
+			writeVarInt((value << 1) ^ (value >> 31));
+		}
+
+		void writeSignedVarLong(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+
+			while ((value & ~0x7FL) != 0) {
+				data[length++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			data[length++] = (byte) value;
+		}
+
+		void write(byte[] bytes, int offset, int count) {
+			ensureCapacity(count);
+
+			System.arraycopy(bytes, offset, data, length, count);
+
+			length += count;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(data, length);
+		}
+
+		private void ensureCapacity(int count) {
+			if (length + count > data.length) {
+				data = Arrays.copyOf(data, Math.max(data.length * 2, length + count));
+			}
+		}
+	}
+
+
+	/**
+	 * Reads variable-length integers from a byte array.
+	 */
+	private static class Input {
+
+		final byte[] data;
+
+		final int limit;
+
+		int position;
+
+
+		/** Cursor over the action payloads, passed to the actions. */
+		final ByteBuffer cursor;
+
+
+		Input(byte[] data) {
+			this(data, 0, data.length);
+		}
+
+		Input(byte[] data, int offset, int length) {
+			this.data = data;
+			this.position = offset;
+			this.limit = offset + length;
+			this.cursor = ByteBuffer.wrap(data);
+		}
+
+		int readVarInt() throws IOException {
+			long value = readVarLong();
+
+			if (value > 0xFFFFFFFFL) {
+				throw new IOException("Malformed variable-length integer");
+			}
+
+			return (int) value;
+		}
+
+		int readSignedVarInt() throws IOException {
+			int value = readVarInt();
+
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readSignedVarLong() throws IOException {
+			long value = readVarLong();
+
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readVarLong() throws IOException {
+			long value = 0;
+
+			for (int shift = 0; shift < 64; shift += 7) {
+				if (position >= limit) {
+					throw new IOException("Unexpected end of page data");
+				}
+
+				byte b = data[position++];
+				value |= (long) (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+
+			throw new IOException("Malformed variable-length integer");
+		}
+
+		/**
+		 * @return the cursor limited to the next length-prefixed payload.
+		 */
+		ByteBuffer readPayload() throws IOException {
+			int count = readVarInt();
+
+			if (count < 0 || count > limit - position) {
+				throw new IOException("Unexpected end of page data");
+			}
+
+			cursor.limit(position + count).position(position);
+
+			position += count;
+
+			return cursor;
+		}
+	}
+}
@@ -23,8 +23,10 @@ import static java.util.Objects.nonNull;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 import org.lecturestudio.core.model.Interval;
 import org.lecturestudio.core.recording.edit.RecordingEditManager;
@@ -47,7 +49,13 @@ import org.lecturestudio.core.recording.edit.RecordingEditManager;
 public class Recording {
 
 	/** The format version of the recording, used for compatibility checks. */
-	public static final int FORMAT_VERSION = 3;
+	public static final int FORMAT_VERSION = 4;
+
+	/**
+	 * The oldest format version that can still be read. Version 3 differs only
+	 * in the encoding of the recorded events.
+	 */
+	public static final int MIN_FORMAT_VERSION = 3;
 
 	/**
 	 * Enumeration of content types that can be modified in a recording.
@@ -101,6 +109,8 @@ public class Recording {
 	 */
 	public Recording() {
 		header = new RecordingHeader();
+
+		editManager.setEditObserver(new EditTracker());
 	}
 
 	/**
@@ -117,6 +127,8 @@ public class Recording {
 		setRecordedAudio(new RecordedAudio(recording.getRecordedAudio().getAudioStream().clone()));
 		setRecordedEvents(new RecordedEvents(recording.getRecordedEvents().toByteArray()));
 		setRecordingHeader(recording.getRecordingHeader().clone());
+
+		editManager.setEditObserver(new EditTracker());
 	}
 
 	/**
@@ -227,10 +239,13 @@ public class Recording {
 	}
 
 	/**
-	 * Closes the document resources associated with this recording.
-	 * This should be called when the recording is no longer needed.
+	 * Closes the document resources and releases the edit history associated
+	 * with this recording. This should be called when the recording is no
+	 * longer needed.
 	 */
 	public void close() {
+		editManager.clear();
+
 		if (nonNull(getRecordedDocument().getDocument())) {
 			getRecordedDocument().getDocument().close();
 		}
@@ -317,16 +332,20 @@ public class Recording {
 	}
 
 	/**
-	 * Generates a hash code representing the current state of the recording.
-	 * This hash combines the state hashes of all recording components.
+	 * Returns the version vector representing the current state of the
+	 * recording. The vector combines the versions of all
+	 * recording components and the edit history and can be compared in
+	 * constant time.
 	 *
-	 * @return an integer hash code representing the current state.
+	 * @return the current state version.
 	 */
-	public int getStateHash() {
-		return Objects.hash(getRecordingHeader().getStateHash(),
-				getRecordedEvents().getStateHash(),
-				getRecordedDocument().getStateHash(),
-				getRecordedAudio().getStateHash());
+	public RecordingStateVersion getStateVersion() {
+		return new RecordingStateVersion(
+				getModificationVersion(getRecordingHeader()),
+				getModificationVersion(getRecordedAudio()),
+				getModificationVersion(getRecordedDocument()),
+				getModificationVersion(getRecordedEvents()),
+				editManager.getVersion());
 	}
 
 	/**
@@ -360,6 +379,8 @@ public class Recording {
 	 * Running it in the UI Thread might lead to freezes of the UI.
 	 */
 	public void fireChangeEvent(Content contentType, Interval<Double> duration) {
+		markModified(contentType);
+
 		RecordingChangeEvent event = new RecordingChangeEvent(this, contentType);
 		event.setDuration(duration);
 
@@ -396,4 +417,119 @@ public class Recording {
 
 		return -1;
 	}
+
+	/**
+	 * Assigns new versions to the recording components affected by the
+	 * specified content change.
+	 *
+	 * @param contentType The type of the changed content.
+	 */
+	private void markModified(Content contentType) {
+		switch (contentType) {
+			case HEADER -> markModified(header);
+			case AUDIO -> markModified(audio);
+			case DOCUMENT -> markModified(document);
+			case VIDEO, EVENTS_ADDED, EVENTS_CHANGED, EVENTS_REMOVED -> markModified(events);
+			case ALL -> {
+				markModified(header);
+				markModified(audio);
+				markModified(document);
+				markModified(events);
+			}
+		}
+	}
+
+	private static void markModified(RecordedObjectBase object) {
+		if (nonNull(object)) {
+			object.markModified();
+		}
+	}
+
+	private static long getModificationVersion(RecordedObjectBase object) {
+		return nonNull(object) ? object.getModificationVersion() : 0;
+	}
+
+	private static void restoreModificationVersion(RecordedObjectBase object, long version) {
+		if (nonNull(object)) {
+			object.restoreModificationVersion(version);
+		}
+	}
+
+	/**
+	 * Returns the versions of the header, audio, document and events, in this
+	 * order.
+	 */
+	private long[] getContentVersions() {
+		return new long[] {
+				getModificationVersion(header),
+				getModificationVersion(audio),
+				getModificationVersion(document),
+				getModificationVersion(events)
+		};
+	}
+
+	/**
+	 * Restores the versions of the header, audio, document and events
+	 * returned by {@link #getContentVersions()}.
+	 */
+	private void restoreContentVersions(long[] versions) {
+		restoreModificationVersion(header, versions[0]);
+		restoreModificationVersion(audio, versions[1]);
+		restoreModificationVersion(document, versions[2]);
+		restoreModificationVersion(events, versions[3]);
+	}
+
+
+
+	/**
+	 * Keeps the content versions in line with the position in the edit
+	 * history. Undoing or redoing back to a visited position restores the
+	 * content versions of that position, thus the recording is unmodified
+	 * again when it returns to the saved position. A modification outside the
+	 * edit history invalidates the versions of all positions.
+	 * <p>
+	 * All parts of the recording are marked as modified if a new edit did not
+	 * report any modified part. Otherwise, an incremental save would copy the
+	 * parts such an edit has modified from the previously saved file.
+	 */
+	private class EditTracker implements RecordingEditManager.EditObserver {
+
+		/** The content versions of the visited positions in the edit history. */
+		private final Map<Long, long[]> positionVersions = new HashMap<>();
+
+		/** The content versions before the current edit. */
+		private long[] versions;
+
+
+		@Override
+		public void beforeEdit() {
+			long position = editManager.getVersion();
+
+			versions = getContentVersions();
+
+			if (!Arrays.equals(positionVersions.get(position), versions)) {
+				// Modified outside the edit history, the other positions
+				// cannot be restored anymore.
+				positionVersions.clear();
+				positionVersions.put(position, versions);
+			}
+		}
+
+		@Override
+		public void afterEdit() {
+			long position = editManager.getVersion();
+			long[] restored = positionVersions.get(position);
+
+			if (nonNull(restored)) {
+				restoreContentVersions(restored);
+				return;
+			}
+
+			if (Arrays.equals(versions, getContentVersions())) {
+				markModified(Content.ALL);
+			}
+
+			positionVersions.put(position, getContentVersions());
+		}
+	}
 }
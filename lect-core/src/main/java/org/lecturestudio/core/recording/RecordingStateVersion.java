@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static java.util.Objects.isNull;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.lecturestudio.core.recording.Recording.Content;
+
+/**
+ * Immutable version vector of a {@link Recording}. Each component holds the
+ * version of one part of the recording. Comparing two versions is a
+ * constant-time operation and tells exactly which parts of the recording have
+ * been modified in between.
+ *
+ * @author Alex Andres
+ */
+public final class RecordingStateVersion {
+
+	private final long header;
+
+	private final long audio;
+
+	private final long document;
+
+	private final long events;
+
+	private final long edits;
+
+
+	/**
+	 * Creates a new {@code RecordingStateVersion} with the provided versions.
+	 *
+	 * @param header   The version of the recording header.
+	 * @param audio    The version of the recorded audio.
+	 * @param document The version of the recorded document.
+	 * @param events   The version of the recorded events.
+	 * @param edits    The version of the edit history.
+	 */
+	public RecordingStateVersion(long header, long audio, long document, long events, long edits) {
+		this.header = header;
+		this.audio = audio;
+		this.document = document;
+		this.events = events;
+		this.edits = edits;
+	}
+
+	/**
+	 * Checks whether the recording has been modified between the specified
+	 * version and this version.
+	 *
+	 * @param other The version to compare with, may be {@code null}.
+	 *
+	 * @return {@code true} if the versions differ or no version to compare with
+	 * has been provided.
+	 */
+	public boolean isModifiedSince(RecordingStateVersion other) {
+		return !equals(other);
+	}
+
+	/**
+	 * Returns the parts of the recording that have been modified between the
+	 * specified version and this version. The returned set contains one of
+	 * {@link Content#HEADER}, {@link Content#AUDIO}, {@link Content#DOCUMENT}
+	 * and {@link Content#EVENTS_CHANGED} for each modified part. If no version
+	 * to compare with is provided, or only the edit history has changed
+	 * without any part reporting a modification, all parts are considered as
+	 * modified. A {@link Recording} marks all parts as modified after an edit
+	 * that did not report any modified part, thus the parts of a version
+	 * that has not changed are clean, even if other parts have been edited.
+	 *
+	 * @param other The version to compare with, may be {@code null}.
+	 *
+	 * @return the modified parts of the recording.
+	 */
+	public Set<Content> getModifiedContent(RecordingStateVersion other) {
+		if (isNull(other)) {
+			return EnumSet.of(Content.HEADER, Content.AUDIO, Content.DOCUMENT,
+					Content.EVENTS_CHANGED);
+		}
+
+		Set<Content> modified = EnumSet.noneOf(Content.class);
+
+		if (header != other.header) {
+			modified.add(Content.HEADER);
+		}
+		if (audio != other.audio) {
+			modified.add(Content.AUDIO);
+		}
+		if (document != other.document) {
+			modified.add(Content.DOCUMENT);
+		}
+		if (events != other.events) {
+			modified.add(Content.EVENTS_CHANGED);
+		}
+		if (modified.isEmpty() && edits != other.edits) {
+			// An edit did not mark the parts it modified, don't skip any.
+			return EnumSet.of(Content.HEADER, Content.AUDIO, Content.DOCUMENT,
+					Content.EVENTS_CHANGED);
+		}
+
+		return modified;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		RecordingStateVersion other = (RecordingStateVersion) o;
+
+		return header == other.header && audio == other.audio
+				&& document == other.document && events == other.events
+				&& edits == other.edits;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(header, audio, document, events, edits);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [header=%d, audio=%d, document=%d, events=%d, edits=%d]",
+				getClass().getSimpleName(), header, audio, document, events, edits);
+	}
+}
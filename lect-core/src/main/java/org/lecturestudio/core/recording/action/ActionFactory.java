@@ -18,19 +18,49 @@
 
 package org.lecturestudio.core.recording.action;
 
+import static java.util.Objects.isNull;
+
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 public abstract class ActionFactory {
 
+	/** Cached, since {@link ActionType#values()} creates a new array each call. */
+	private static final ActionType[] TYPES = ActionType.values();
+
+
 	public static PlaybackAction createAction(int actionType, int timestamp, byte[] input) throws IOException {
+		return createAction(actionType, timestamp, isNull(input) ? null : ByteBuffer.wrap(input));
+	}
+
+	/**
+	 * Creates the action of the specified type and parses its payload between
+	 * the position and the limit of the provided buffer. The buffer is not
+	 * retained, so the caller may reuse it as cursor for the next action. The
+	 * position of the buffer is undefined afterwards.
+	 *
+	 * @param actionType The ordinal of the {@link ActionType}.
+	 * @param timestamp  The timestamp of the action.
+	 * @param input      The buffer containing the action payload.
+	 *
+	 * @return the created action.
+	 *
+	 * @throws IOException If the action type is unknown or the payload is
+	 *                     malformed.
+	 */
+	public static PlaybackAction createAction(int actionType, int timestamp, ByteBuffer input) throws IOException {
 		PlaybackAction action = getAction(actionType, input);
 		action.setTimestamp(timestamp);
 
 		return action;
 	}
 
-	private static PlaybackAction getAction(int actionType, byte[] input) throws IOException {
-		ActionType type = ActionType.values()[actionType];
+	private static PlaybackAction getAction(int actionType, ByteBuffer input) throws IOException {
+		if (actionType < 0 || actionType >= TYPES.length) {
+			throw new IOException("Action not defined: " + actionType);
+		}
+
+		ActionType type = TYPES[actionType];
 
 		switch (type) {
 			case DELETE_ALL:
@@ -42,7 +42,7 @@ public abstract class BaseStrokeAction extends PlaybackAction {
 		this.stroke = stroke;
 	}
 
-	protected BaseStrokeAction(byte[] input) throws IOException {
+	protected BaseStrokeAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -64,7 +64,7 @@ public abstract class BaseStrokeAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		if (buffer.remaining() >= 17) {
@@ -29,7 +29,7 @@ public class CloneAction extends PlaybackAction {
 		
 	}
 
-	public CloneAction(byte[] input) throws IOException {
+	public CloneAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class CloneAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
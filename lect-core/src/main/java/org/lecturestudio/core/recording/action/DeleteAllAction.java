@@ -29,7 +29,7 @@ public class DeleteAllAction extends PlaybackAction {
 		
 	}
 
-	public DeleteAllAction(byte[] input) throws IOException {
+	public DeleteAllAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class DeleteAllAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
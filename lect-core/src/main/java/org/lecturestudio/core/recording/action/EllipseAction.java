@@ -19,6 +19,7 @@
 package org.lecturestudio.core.recording.action;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.lecturestudio.core.input.KeyEvent;
 import org.lecturestudio.core.controller.ToolController;
@@ -33,7 +34,7 @@ public class EllipseAction extends BaseStrokeAction {
 		super(shapeHandle, stroke, keyEvent);
 	}
 
-	public EllipseAction(byte[] input) throws IOException {
+	public EllipseAction(ByteBuffer input) throws IOException {
 		super(input);
 	}
 
@@ -54,7 +54,7 @@ public class ExtendViewAction extends PlaybackAction {
 	 *
 	 * @throws IOException If an error occurs while parsing the input.
 	 */
-	public ExtendViewAction(byte[] input) throws IOException {
+	public ExtendViewAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -77,7 +77,7 @@ public class ExtendViewAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		double x = buffer.getDouble();
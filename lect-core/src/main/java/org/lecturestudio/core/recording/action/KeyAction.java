@@ -30,7 +30,7 @@ public class KeyAction extends PlaybackAction {
 		super(event);
 	}
 
-	public KeyAction(byte[] input) throws IOException {
+	public KeyAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -47,7 +47,7 @@ public class KeyAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -19,6 +19,7 @@
 package org.lecturestudio.core.recording.action;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.lecturestudio.core.input.KeyEvent;
 import org.lecturestudio.core.controller.ToolController;
@@ -33,7 +34,7 @@ public class LineAction extends BaseStrokeAction {
 		super(shapeHandle, stroke, keyEvent);
 	}
 
-	public LineAction(byte[] input) throws IOException {
+	public LineAction(ByteBuffer input) throws IOException {
 		super(input);
 	}
 
@@ -29,7 +29,7 @@ public class NextPageAction extends PlaybackAction {
 		
 	}
 
-	public NextPageAction(byte[] input) throws IOException {
+	public NextPageAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class NextPageAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -35,7 +35,7 @@ public class PageAction extends PlaybackAction {
 		this.pageNumber = pageNumber;
 	}
 
-	public PageAction(byte[] input) throws IOException {
+	public PageAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -55,7 +55,7 @@ public class PageAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		documentId = buffer.getLong();
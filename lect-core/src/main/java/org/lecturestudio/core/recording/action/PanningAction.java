@@ -29,7 +29,7 @@ public class PanningAction extends PlaybackAction {
 		
 	}
 
-	public PanningAction(byte[] input) throws IOException {
+	public PanningAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -47,7 +47,7 @@ public class PanningAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -18,6 +18,7 @@
 
 package org.lecturestudio.core.recording.action;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 
 import org.lecturestudio.core.controller.ToolController;
@@ -30,6 +31,18 @@ public abstract class PlaybackAction implements RecordedObject, Cloneable {
 
 	public abstract void execute(ToolController controller) throws Exception;
 
+	/**
+	 * Parses the action payload between the position and the limit of the
+	 * provided buffer. Implementations read the buffer relatively and must not
+	 * retain it, which allows a single buffer to be used as cursor over the
+	 * payloads of many actions.
+	 *
+	 * @param input The buffer containing the action payload.
+	 *
+	 * @throws IOException If the payload is malformed.
+	 */
+	public abstract void parseFrom(ByteBuffer input) throws IOException;
+
 	private static final int KEY_EVENT_MASK = 1;
 
 	private KeyEvent keyEvent;
@@ -114,29 +127,32 @@ public abstract class PlaybackAction implements RecordedObject, Cloneable {
 		return buffer;
 	}
 
+	@Override
+	public void parseFrom(byte[] input) throws IOException {
+		parseFrom(ByteBuffer.wrap(input));
+	}
+
 	/**
-	 * Creates a new {@code ByteBuffer} with the specified payload
-	 * to read from and reads default action fields, if any present.
+	 * Reads the default action fields, if any present, from the specified
+	 * payload buffer.
 	 * 
 	 * @param input The action payload data.
 	 * 
-	 * @return A new {@code ByteBuffer} to read specific action fields.
+	 * @return The provided {@code ByteBuffer} to read specific action fields.
 	 */
-	protected ByteBuffer createBuffer(byte[] input) {
-		ByteBuffer buffer = ByteBuffer.wrap(input);
-
-		int header = buffer.getInt();
+	protected ByteBuffer createBuffer(ByteBuffer input) {
+		int header = input.getInt();
 
 		if ((header & KEY_EVENT_MASK) == KEY_EVENT_MASK) {
 			// KeyEvent
-			int keyCode = buffer.getInt();
-			int modifiers = buffer.getInt();
-			KeyEvent.EventType eventType = KeyEvent.EventType.values()[buffer.get()];
+			int keyCode = input.getInt();
+			int modifiers = input.getInt();
+			KeyEvent.EventType eventType = KeyEvent.EventType.values()[input.get()];
 
 			keyEvent = new KeyEvent(keyCode, modifiers, eventType);
 		}
 
-		return buffer;
+		return input;
 	}
 
 	/**
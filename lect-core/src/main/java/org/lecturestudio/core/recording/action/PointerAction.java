@@ -19,6 +19,7 @@
 package org.lecturestudio.core.recording.action;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.lecturestudio.core.controller.ToolController;
 import org.lecturestudio.core.input.KeyEvent;
@@ -32,7 +33,7 @@ public class PointerAction extends BaseStrokeAction {
 		super(0, stroke, keyEvent);
 	}
 
-	public PointerAction(byte[] input) throws IOException {
+	public PointerAction(ByteBuffer input) throws IOException {
 		super(input);
 	}
 
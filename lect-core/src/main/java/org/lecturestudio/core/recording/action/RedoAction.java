@@ -29,7 +29,7 @@ public class RedoAction extends PlaybackAction {
 		
 	}
 
-	public RedoAction(byte[] input) throws IOException {
+	public RedoAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class RedoAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
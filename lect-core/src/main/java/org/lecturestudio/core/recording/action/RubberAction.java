@@ -29,7 +29,7 @@ public class RubberAction extends PlaybackAction {
 		
 	}
 
-	public RubberAction(byte[] input) throws IOException {
+	public RubberAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class RubberAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -32,7 +32,7 @@ public class RubberActionExt extends PlaybackAction {
 		this.shapeHandle = shapeHandle;
 	}
 
-	public RubberActionExt(byte[] input) throws IOException {
+	public RubberActionExt(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -50,7 +50,7 @@ public class RubberActionExt extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		this.shapeHandle = buffer.getInt();
@@ -64,7 +64,7 @@ public class ScreenAction extends PlaybackAction {
 	 *
      * @throws IOException if an error occurs during parsing.
      */
-	public ScreenAction(byte[] input) throws IOException {
+	public ScreenAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -159,7 +159,7 @@ public class ScreenAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		videoOffset = buffer.getInt();
@@ -29,7 +29,7 @@ public class SelectAction extends PlaybackAction {
 		
 	}
 
-	public SelectAction(byte[] input) throws IOException {
+	public SelectAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class SelectAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -29,7 +29,7 @@ public class SelectGroupAction extends PlaybackAction {
 		
 	}
 
-	public SelectGroupAction(byte[] input) throws IOException {
+	public SelectGroupAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class SelectGroupAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
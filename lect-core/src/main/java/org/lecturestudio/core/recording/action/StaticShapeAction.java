@@ -61,10 +61,9 @@ public class StaticShapeAction implements RecordedObject, Cloneable {
 		int dataLength = length - 5;
 
 		if (dataLength > 0) {
-			byte[] data = new byte[dataLength];
-			buffer.get(data);
+			buffer.limit(buffer.position() + dataLength);
 
-			action = ActionFactory.createAction(type, timestamp, data);
+			action = ActionFactory.createAction(type, timestamp, buffer);
 		}
 	}
 
@@ -32,7 +32,7 @@ public class TextAction extends PlaybackAction {
 		this.handle = handle;
 	}
 
-	public TextAction(byte[] input) throws IOException {
+	public TextAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -52,7 +52,7 @@ public class TextAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
@@ -35,10 +35,14 @@ public class TextChangeAction extends PlaybackAction {
 		this.text = text;
 	}
 
-	public TextChangeAction(byte[] input) throws IOException {
+	public TextChangeAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
+	public String getText() {
+		return text;
+	}
+
 	@Override
 	public void execute(ToolController controller) throws Exception {
 		controller.setText(handle, text);
@@ -62,7 +66,7 @@ public class TextChangeAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
@@ -48,7 +48,7 @@ public class TextFontChangeAction extends PlaybackAction {
 		this.attributes = attributes;
 	}
 
-	public TextFontChangeAction(byte[] input) throws IOException {
+	public TextFontChangeAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -86,7 +86,7 @@ public class TextFontChangeAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
@@ -36,7 +36,7 @@ public class TextLocationChangeAction extends PlaybackAction implements Location
 		this.location = location;
 	}
 
-	public TextLocationChangeAction(byte[] input) throws IOException {
+	public TextLocationChangeAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -62,7 +62,7 @@ public class TextLocationChangeAction extends PlaybackAction implements Location
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
@@ -32,7 +32,7 @@ public class TextRemoveAction extends PlaybackAction {
 		this.handle = handle;
 	}
 
-	public TextRemoveAction(byte[] input) throws IOException {
+	public TextRemoveAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -54,7 +54,7 @@ public class TextRemoveAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
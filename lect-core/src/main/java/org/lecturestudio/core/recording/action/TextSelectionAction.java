@@ -43,7 +43,7 @@ public class TextSelectionAction extends PlaybackAction {
 		this.color = color;
 	}
 
-	public TextSelectionAction(byte[] input) throws IOException {
+	public TextSelectionAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -90,7 +90,7 @@ public class TextSelectionAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		color = new Color(buffer.getInt());
@@ -48,7 +48,7 @@ public class TextSelectionExtAction extends PlaybackAction implements LocationMo
 		this.color = color;
 	}
 
-	public TextSelectionExtAction(byte[] input) throws IOException {
+	public TextSelectionExtAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -108,7 +108,7 @@ public class TextSelectionExtAction extends PlaybackAction implements LocationMo
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		if (buffer.remaining() >= 44) {
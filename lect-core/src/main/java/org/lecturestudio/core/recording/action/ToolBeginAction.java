@@ -34,7 +34,7 @@ public class ToolBeginAction extends PlaybackAction implements LocationModifiabl
 		this.point = point;
 	}
 
-	public ToolBeginAction(byte[] input) throws IOException {
+	public ToolBeginAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -58,7 +58,7 @@ public class ToolBeginAction extends PlaybackAction implements LocationModifiabl
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		if (buffer.remaining() >= 24) {
@@ -79,6 +79,10 @@ public class ToolBeginAction extends PlaybackAction implements LocationModifiabl
 		this.point = point;
 	}
 
+	public PenPoint2D getPoint() {
+		return point;
+	}
+
     @Override
     public void moveByDelta(Point2D delta) {
         point.subtract(delta);
@@ -34,7 +34,7 @@ public class ToolEndAction extends PlaybackAction implements LocationModifiable
 		this.point = point;
 	}
 
-	public ToolEndAction(byte[] input) throws IOException {
+	public ToolEndAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -58,7 +58,7 @@ public class ToolEndAction extends PlaybackAction implements LocationModifiable
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		if (buffer.remaining() >= 24) {
@@ -75,6 +75,10 @@ public class ToolEndAction extends PlaybackAction implements LocationModifiable
 		return ActionType.TOOL_END;
 	}
 
+	public PenPoint2D getPoint() {
+		return point;
+	}
+
 	@Override
 	public void moveByDelta(Point2D delta) {
 		point.subtract(delta);
@@ -34,7 +34,7 @@ public class ToolExecuteAction extends PlaybackAction implements LocationModifia
 		this.point = point;
 	}
 
-	public ToolExecuteAction(byte[] input) throws IOException {
+	public ToolExecuteAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -58,7 +58,7 @@ public class ToolExecuteAction extends PlaybackAction implements LocationModifia
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		if (buffer.remaining() >= 24) {
@@ -29,7 +29,7 @@ public class UndoAction extends PlaybackAction {
 		
 	}
 
-	public UndoAction(byte[] input) throws IOException {
+	public UndoAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -46,7 +46,7 @@ public class UndoAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
@@ -21,6 +21,7 @@ package org.lecturestudio.core.recording.action;
 import static java.util.Objects.nonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.lecturestudio.core.controller.ToolController;
 import org.lecturestudio.core.input.KeyEvent;
@@ -34,7 +35,7 @@ public class ZoomAction extends BaseStrokeAction {
 		super(0, stroke, keyEvent);
 	}
 
-	public ZoomAction(byte[] input) throws IOException {
+	public ZoomAction(ByteBuffer input) throws IOException {
 		super(input);
 	}
 
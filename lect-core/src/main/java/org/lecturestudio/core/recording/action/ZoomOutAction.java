@@ -46,7 +46,7 @@ public class ZoomOutAction extends PlaybackAction {
 	 *
 	 * @throws IOException If an error occurs while parsing the input data.
 	 */
-	public ZoomOutAction(byte[] input) throws IOException {
+	public ZoomOutAction(ByteBuffer input) throws IOException {
 		parseFrom(input);
 	}
 
@@ -63,7 +63,7 @@ public class ZoomOutAction extends PlaybackAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		createBuffer(input);
 	}
 
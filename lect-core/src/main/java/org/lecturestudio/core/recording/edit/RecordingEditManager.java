@@ -18,23 +18,125 @@
 
 package org.lecturestudio.core.recording.edit;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Stack;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import org.lecturestudio.core.recording.RecordingEditException;
 
 /**
  * The RecordingEditManager manages a list of {@link EditAction}s, providing a
  * way to undo or redo the appropriate recording edits.
+ * <p>
+ * The memory consumed by the undo state of {@link SpillableEditAction}s is
+ * kept within a configurable budget. If the budget is exceeded, the state of
+ * the oldest actions is spilled to disk and restored on demand.
  *
  * @author Alex Andres
  */
 public class RecordingEditManager {
 
+	private static final Logger LOG = LogManager.getLogger(RecordingEditManager.class);
+
+	/** The default memory budget for the undo state, 256 MB. */
+	public static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+
 	private final Stack<EditAction> undoActions = new Stack<>();
 
 	private final Stack<EditAction> redoActions = new Stack<>();
 
+	/** The position in the edit history assigned to each action. */
+	private final Map<EditAction, Long> positions = new IdentityHashMap<>();
+
+	/** The maximum number of bytes the undo state may occupy in memory. */
+	private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+	/** The last position assigned to an action or to the cleared history. */
+	private long lastPosition;
+
+	/** The position of the history without any applied actions. */
+	private long basePosition;
+
+	/** The current position in the edit history. */
+	private volatile long version;
+
+	/** The directory where spilled undo state is stored. */
+	private Path spillDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+
+	/** Observes the applied, undone and redone edits, may be {@code null}. */
+	private EditObserver observer;
+
+
+	/**
+	 * Sets the maximum number of bytes the undo state may occupy in memory.
+	 * A value smaller or equal to zero disables spilling.
+	 *
+	 * @param budget The memory budget in bytes.
+	 */
+	public void setMemoryBudget(long budget) {
+		this.memoryBudget = budget;
+
+		enforceMemoryBudget();
+	}
+
+	/**
+	 * @return the maximum number of bytes the undo state may occupy in memory.
+	 */
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Sets the directory where to store undo state that exceeds the memory
+	 * budget.
+	 *
+	 * @param directory The spill directory.
+	 */
+	public void setSpillDirectory(Path directory) {
+		this.spillDirectory = directory;
+	}
+
+	/**
+	 * Sets the observer to notify whenever an edit is applied, undone or
+	 * redone.
+	 *
+	 * @param observer The edit observer, may be {@code null}.
+	 */
+	public void setEditObserver(EditObserver observer) {
+		this.observer = observer;
+	}
+
+	/**
+	 * @return the estimated number of bytes the undo state occupies in memory.
+	 */
+	public long getMemoryUsage() {
+		long usage = 0;
+
+		for (EditAction action : undoActions) {
+			if (action instanceof SpillableEditAction spillable) {
+				usage += spillable.getStateSize();
+			}
+		}
+
+		return usage;
+	}
+
+	/**
+	 * Removes all edit actions and releases their undo state.
+	 */
+	public void clear() {
+		disposeAll(undoActions);
+		disposeAll(redoActions);
+
+		// The recording does not return to the state it had without edits.
+		basePosition = ++lastPosition;
+		version = basePosition;
+	}
 
 	/**
 	 * Adds an EditAction to this RecordingEditManager. This removes all edits
@@ -45,12 +147,21 @@ public class RecordingEditManager {
 	 * @throws RecordingEditException If the edit action cannot be executed.
 	 */
 	public void addEditAction(EditAction action) throws RecordingEditException {
+		beforeEdit();
+
 		action.execute();
 
+		positions.put(action, ++lastPosition);
 		undoActions.push(action);
 
 		// Clear the redo stack.
-		redoActions.clear();
+		disposeAll(redoActions);
+
+		version = lastPosition;
+
+		afterEdit();
+
+		enforceMemoryBudget();
 	}
 
 	/**
@@ -64,9 +175,15 @@ public class RecordingEditManager {
 		}
 
 		EditAction action = undoActions.pop();
+		restore(action);
+		beforeEdit();
 		action.undo();
 
 		redoActions.push(action);
+
+		version = getPosition();
+
+		afterEdit();
 	}
 
 	/**
@@ -80,9 +197,17 @@ public class RecordingEditManager {
 		}
 
 		EditAction action = redoActions.pop();
+		restore(action);
+		beforeEdit();
 		action.redo();
 
 		undoActions.push(action);
+
+		version = getPosition();
+
+		afterEdit();
+
+		enforceMemoryBudget();
 	}
 
 	/**
@@ -100,9 +225,104 @@ public class RecordingEditManager {
 	}
 
 	/**
-	 * @return the hash value of the current edit state.
+	 * Returns the current position in the edit history. Each applied edit gets
+	 * a new, unique position. Undoing or redoing edits back to a position
+	 * returns the same value again, thus equal values indicate that the
+	 * recording has the same edits applied.
+	 *
+	 * @return the current edit version.
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Spills the undo state of the oldest actions to disk until the memory
+	 * usage fits into the budget. The most recent action always stays in
+	 * memory to keep a single undo step fast.
 	 */
-	public int getStateHash() {
-		return Objects.hash(undoActions, redoActions);
+	private void enforceMemoryBudget() {
+		if (memoryBudget <= 0) {
+			return;
+		}
+
+		long usage = getMemoryUsage();
+
+		for (int i = 0; i < undoActions.size() - 1 && usage > memoryBudget; i++) {
+			if (undoActions.get(i) instanceof SpillableEditAction spillable
+					&& !spillable.isSpilled()) {
+				long size = spillable.getStateSize();
+
+				try {
+					spillable.spill(spillDirectory);
+
+					usage -= size - spillable.getStateSize();
+				}
+				catch (IOException e) {
+					LOG.error("Spill undo state failed", e);
+					return;
+				}
+			}
+		}
+	}
+
+	private long getPosition() {
+		return undoActions.empty() ? basePosition : positions.get(undoActions.peek());
+	}
+
+	private void beforeEdit() {
+		if (observer != null) {
+			observer.beforeEdit();
+		}
+	}
+
+	private void afterEdit() {
+		if (observer != null) {
+			observer.afterEdit();
+		}
+	}
+
+	private void restore(EditAction action) throws RecordingEditException {
+		if (action instanceof SpillableEditAction spillable && spillable.isSpilled()) {
+			try {
+				spillable.restore();
+			}
+			catch (IOException e) {
+				throw new RecordingEditException(e);
+			}
+		}
+	}
+
+	private void disposeAll(Stack<EditAction> actions) {
+		for (EditAction action : actions) {
+			if (action instanceof SpillableEditAction spillable) {
+				spillable.dispose();
+			}
+
+			positions.remove(action);
+		}
+
+		actions.clear();
+	}
+
+
+	/**
+	 * Observer of the edits applied by a {@code RecordingEditManager}. The
+	 * observer is notified synchronously, before and after an edit action has
+	 * been executed, undone or redone. {@link RecordingEditManager#getVersion()}
+	 * returns the position in the edit history before the edit during the
+	 * first call and after the edit during the second call.
+	 */
+	public interface EditObserver {
+
+		/**
+		 * Called before an edit action is executed, undone or redone.
+		 */
+		void beforeEdit();
+
+		/**
+		 * Called after an edit action has been executed, undone or redone.
+		 */
+		void afterEdit();
 	}
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording.edit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * An {@link EditAction} that holds undo state which may be moved out of memory.
+ * The {@code RecordingEditManager} uses this interface to keep the memory
+ * consumed by the edit history within a configured budget by spilling the
+ * state of older actions to disk.
+ *
+ * @author Alex Andres
+ *
+ * @see RecordingEditManager
+ */
+public interface SpillableEditAction extends EditAction {
+
+	/**
+	 * Returns the estimated number of bytes of undo state this action
+	 * currently holds in memory. Spilled state does not count.
+	 *
+	 * @return the estimated in-memory state size in bytes.
+	 */
+	long getStateSize();
+
+	/**
+	 * @return {@code true} if the undo state of this action has been written
+	 * to disk, otherwise {@code false}.
+	 */
+	boolean isSpilled();
+
+	/**
+	 * Writes the undo state of this action into the specified directory and
+	 * releases the in-memory copy.
+	 *
+	 * @param directory The directory where to store the state.
+	 *
+	 * @throws IOException If the state cannot be written.
+	 */
+	void spill(Path directory) throws IOException;
+
+	/**
+	 * Loads previously spilled undo state back into memory.
+	 *
+	 * @throws IOException If the state cannot be read.
+	 */
+	void restore() throws IOException;
+
+	/**
+	 * Releases all undo state held by this action, including spilled files.
+	 * The action must not be undone afterwards.
+	 */
+	void dispose();
+
+}
@@ -47,7 +47,7 @@ public class RecordingFileReader {
 
 		header.parseFrom(headerData);
 
-		if (header.getVersion() != Recording.FORMAT_VERSION) {
+		if (!isSupported(header.getVersion())) {
 			inputStream.close();
 
 			throw new IncompatibleFileFormatException("Incompatible file format");
@@ -74,6 +74,8 @@ public class RecordingFileReader {
 		Recording recording = new Recording();
 		recording.setSourceFile(srcFile);
 		recording.setRecordingHeader(header);
+		// The events of all supported versions are parsed alike, since the
+		// compact encoding is distinguishable from the former one.
 		recording.setRecordedEvents(new RecordedEvents(eventData));
 		recording.setRecordedDocument(new RecordedDocument(documentData));
 		recording.setRecordedAudio(new RecordedAudio(audioStream));
@@ -98,7 +100,7 @@ public class RecordingFileReader {
 
 			header.parseFrom(headerData);
 
-			if (header.getVersion() != Recording.FORMAT_VERSION) {
+			if (!isSupported(header.getVersion())) {
 				inputStream.close();
 
 				throw new IncompatibleFileFormatException(
@@ -117,4 +119,15 @@ public class RecordingFileReader {
 			return new RecordedAudio(audioStream);
 		}
 	}
+
+	/**
+	 * Checks whether recordings with the specified format version can be read.
+	 *
+	 * @param version The format version of a recording file.
+	 *
+	 * @return {@code true} if the format version is supported.
+	 */
+	public static boolean isSupported(int version) {
+		return version >= Recording.MIN_FORMAT_VERSION && version <= Recording.FORMAT_VERSION;
+	}
 }
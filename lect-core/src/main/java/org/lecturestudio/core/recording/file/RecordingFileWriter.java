@@ -18,170 +18,581 @@
 
 package org.lecturestudio.core.recording.file;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-
-import org.lecturestudio.core.io.DigestRandomAccessFile;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.Recording.Content;
 import org.lecturestudio.core.recording.RecordingHeader;
 import org.lecturestudio.core.util.ProgressCallback;
 
 public final class RecordingFileWriter {
 
-	public static int write(Recording recFile, File destFile) throws Exception {
+	/** The chunk size used to copy and hash unchanged file sections. */
+	private static final int COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	/** The chunk size used to stream the recorded audio. */
+	private static final int AUDIO_CHUNK_SIZE = 1024 * 1024;
+
+
+	public static long write(Recording recFile, File destFile) throws Exception {
 		return write(recFile, destFile, null);
 	}
 
-	public static int write(Recording recFile, File destFile, ProgressCallback progressCallback)
+	/**
+	 * Writes the recording to the specified file. An existing file is replaced.
+	 *
+	 * @param recFile          The recording to write.
+	 * @param destFile         The file to write the recording to.
+	 * @param progressCallback The callback to report the progress to.
+	 *
+	 * @return the total number of bytes written.
+	 *
+	 * @throws NoSuchAlgorithmException If the checksum algorithm is not available.
+	 * @throws IOException              If the recording could not be written.
+	 */
+	public static long write(Recording recFile, File destFile, ProgressCallback progressCallback)
 			throws NoSuchAlgorithmException, IOException {
-		if (destFile.exists()) {
-			destFile.delete();
+		try (FileChannel channel = FileChannel.open(destFile.toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			return write(recFile, channel, progressCallback);
 		}
+	}
 
-		try (DigestRandomAccessFile raFile = new DigestRandomAccessFile(destFile, "rw", RecordingHeader.CHECKSUM_ALGORITHM)) {
-			RecordingHeader header = recFile.getRecordingHeader();
-			RandomAccessAudioStream audioStream = recFile.getRecordedAudio().getAudioStream().clone();
-			audioStream.reset();
+	/**
+	 * Streams the recording into the specified channel. The recorded audio is
+	 * read chunk-wise, with all exclusions and filters applied, so the
+	 * recording is never held in memory as a whole. The checksum is computed
+	 * on a separate thread while the data is written.
+	 * <p>
+	 * The header precedes the sections and contains their checksum. If the
+	 * channel is seekable, the header is written after the sections at the
+	 * initial channel position. Otherwise, the checksum is computed in a first
+	 * pass over the recording, before the recording is streamed in a second
+	 * pass. The channel is not closed by this method.
+	 *
+	 * @param recFile          The recording to write.
+	 * @param channel          The channel to write the recording to.
+	 * @param progressCallback The callback to report the progress to.
+	 *
+	 * @return the total number of bytes written.
+	 *
+	 * @throws NoSuchAlgorithmException If the checksum algorithm is not available.
+	 * @throws IOException              If the recording could not be written.
+	 */
+	public static long write(Recording recFile, WritableByteChannel channel,
+			ProgressCallback progressCallback) throws NoSuchAlgorithmException, IOException {
+		return write(recFile, channel, Recording.FORMAT_VERSION, progressCallback);
+	}
+
+	/**
+	 * Streams the recording with the specified format version into the
+	 * specified channel. Format versions prior to {@link
+	 * Recording#FORMAT_VERSION} differ only in the encoding of the recorded
+	 * events and are required by consumers that do not read the compact
+	 * encoding, e.g. the web player.
+	 *
+	 * @param recFile          The recording to write.
+	 * @param channel          The channel to write the recording to.
+	 * @param formatVersion    The format version of the written recording.
+	 * @param progressCallback The callback to report the progress to.
+	 *
+	 * @return the total number of bytes written.
+	 *
+	 * @throws NoSuchAlgorithmException If the checksum algorithm is not available.
+	 * @throws IOException              If the recording could not be written.
+	 *
+	 * @see #write(Recording, WritableByteChannel, ProgressCallback)
+	 */
+	public static long write(Recording recFile, WritableByteChannel channel,
+			int formatVersion, ProgressCallback progressCallback)
+			throws NoSuchAlgorithmException, IOException {
+		if (!RecordingFileReader.isSupported(formatVersion)) {
+			throw new IllegalArgumentException("Unsupported format version: " + formatVersion);
+		}
+
+		RecordingHeader header = recFile.getRecordingHeader();
+
+		boolean compactEvents = formatVersion > Recording.MIN_FORMAT_VERSION;
 
-			byte[] eventData = recFile.getRecordedEvents().toByteArray();
-			byte[] docData = recFile.getRecordedDocument().toByteArray();
+		byte[] eventData = recFile.getRecordedEvents().toByteArray(compactEvents);
+		byte[] docData = recFile.getRecordedDocument().toByteArray();
+
+		int headerLength = header.getHeaderLength();
+		int eventsLength = eventData.length;
+		int documentLength = docData.length;
+		int audioLength = toSectionLength(recFile.getRecordedAudio().getAudioStream().getLength());
 
-			int headerLength = header.getHeaderLength();
-			int eventsLength = eventData.length;
-			int documentLength = docData.length;
-			int audioLength = (int) audioStream.getLength();
-			int totalSize = headerLength + eventsLength + documentLength + audioLength;
+		long totalSize = (long) headerLength + eventsLength + documentLength + audioLength;
 
-			float written = headerLength;
+		Progress progress = new Progress(totalSize, progressCallback);
+
+		header.setVersion(formatVersion);
+		header.setEventsLength(eventsLength);
+		header.setDocumentLength(documentLength);
+		header.setAudioLength(audioLength);
+
+		if (channel instanceof SeekableByteChannel seekable) {
+			long start = seekable.position();
 
 			// Skip the header and write it when the file checksum is computed.
-			raFile.seek(headerLength);
+			seekable.position(start + headerLength);
+			progress.add(headerLength);
+
+			header.setChecksum(writeSections(recFile, eventData, docData, seekable, progress));
+
+			long end = seekable.position();
+
+			// Write the file header at the beginning of the file.
+			seekable.position(start);
+			writeFully(ByteBuffer.wrap(header.toByteArray()), seekable);
+			seekable.position(end);
+		}
+		else {
+			header.setChecksum(writeSections(recFile, eventData, docData, null, null));
+
+			writeFully(ByteBuffer.wrap(header.toByteArray()), channel);
+			progress.add(headerLength);
+
+			writeSections(recFile, eventData, docData, channel, progress);
+		}
+
+		return totalSize;
+	}
+
+	/**
+	 * Writes the recording to the destination file by reusing the unchanged
+	 * sections of an existing recording file. Only the sections contained in
+	 * {@code modified} are serialized, all other sections are copied from the
+	 * source file with {@link FileChannel#transferTo}, which allows the
+	 * operating system to avoid copying the data through user space. The
+	 * recording is written to a temporary file next to the destination, which
+	 * then atomically replaces the destination file. This way an interrupted
+	 * save never leaves a truncated recording behind. If the destination file
+	 * cannot be replaced, because it is still opened as the source of the
+	 * recorded audio, the destination file is overwritten in place.
+	 * <p>
+	 * If the source file is {@code null}, does not exist or has an incompatible
+	 * format, all sections are written.
+	 *
+	 * @param recFile          The recording to write.
+	 * @param destFile         The file to write the recording to.
+	 * @param srcFile          The recording file to copy unchanged sections from.
+	 * @param modified         The recording content modified since the source
+	 *                         file has been written.
+	 * @param progressCallback The callback to report the progress to.
+	 *
+	 * @return the total number of bytes written.
+	 *
+	 * @throws NoSuchAlgorithmException If the checksum algorithm is not available.
+	 * @throws IOException              If the recording could not be written.
+	 */
+	public static long write(Recording recFile, File destFile, File srcFile,
+			Set<Content> modified, ProgressCallback progressCallback)
+			throws NoSuchAlgorithmException, IOException {
+		RecordingHeader header = recFile.getRecordingHeader();
+		RecordingHeader srcHeader = readHeader(srcFile);
+
+		Path destPath = destFile.toPath().toAbsolutePath();
+		Path tempPath = Files.createTempFile(destPath.getParent(), destFile.getName(), ".tmp");
+		Path audioPath = null;
+		long totalSize;
 
-			// Write events.
-			raFile.write(eventData);
+		try {
+			try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE);
+				 FileChannel srcChannel = nonNull(srcHeader)
+						 ? FileChannel.open(srcFile.toPath(), StandardOpenOption.READ)
+						 : null) {
+				MessageDigest md = MessageDigest.getInstance(RecordingHeader.CHECKSUM_ALGORITHM);
 
-			written += eventsLength;
-			setProgress(written / totalSize, progressCallback);
+				boolean copyEvents = nonNull(srcHeader) && !modified.contains(Content.EVENTS_CHANGED);
+				boolean copyDocument = nonNull(srcHeader) && !modified.contains(Content.DOCUMENT);
+				boolean copyAudio = nonNull(srcHeader) && !modified.contains(Content.AUDIO);
 
-			// Write the document.
-			raFile.write(docData);
+				byte[] eventData = copyEvents ? null : recFile.getRecordedEvents().toByteArray();
+				byte[] docData = copyDocument ? null : recFile.getRecordedDocument().toByteArray();
 
-			written += documentLength;
-			setProgress(written / totalSize, progressCallback);
+				if (!copyAudio) {
+					audioPath = exportAudio(recFile, destPath.getParent());
+				}
+
+				int headerLength = header.getHeaderLength();
+				long srcEventsOffset = headerLength;
+				long srcDocumentOffset = 0;
+				long srcAudioOffset = 0;
+
+				if (nonNull(srcHeader)) {
+					srcDocumentOffset = srcEventsOffset + srcHeader.getEventsLength();
+					srcAudioOffset = srcDocumentOffset + srcHeader.getDocumentLength();
+				}
+
+				int eventsLength = copyEvents ? srcHeader.getEventsLength() : eventData.length;
+				int documentLength = copyDocument ? srcHeader.getDocumentLength() : docData.length;
+				long audioSize = copyAudio
+						? srcChannel.size() - srcAudioOffset
+						: Files.size(audioPath);
+				totalSize = headerLength + eventsLength + documentLength + audioSize;
+
+				Progress progress = new Progress(totalSize, progressCallback);
+				progress.add(headerLength);
+
+				// Skip the header and write it when the file checksum is computed.
+				channel.position(headerLength);
+
+				// Write events.
+				if (copyEvents) {
+					copySection(srcChannel, srcEventsOffset, eventsLength, channel, md, progress);
+				}
+				else {
+					writeSection(eventData, channel, md, progress);
+				}
 
-			// Write audio.
-			byte[] audioBuffer = new byte[4096];
+				// Write the document.
+				if (copyDocument) {
+					copySection(srcChannel, srcDocumentOffset, documentLength, channel, md, progress);
+				}
+				else {
+					writeSection(docData, channel, md, progress);
+				}
+
+				// Write audio.
+				int audioLength;
+
+				if (copyAudio) {
+					copySection(srcChannel, srcAudioOffset, audioSize, channel, md, progress);
+
+					audioLength = srcHeader.getAudioLength();
+				}
+				else {
+					try (FileChannel audioChannel = FileChannel.open(audioPath, StandardOpenOption.READ)) {
+						copySection(audioChannel, 0, audioSize, channel, md, progress);
+					}
+					try (RandomAccessAudioStream audioStream = new RandomAccessAudioStream(audioPath.toFile())) {
+						audioLength = toSectionLength(audioStream.getLength());
+					}
+				}
+
+				// Set header values.
+				header.setVersion(Recording.FORMAT_VERSION);
+				header.setChecksum(md.digest());
+				header.setEventsLength(eventsLength);
+				header.setDocumentLength(documentLength);
+				header.setAudioLength(audioLength);
+
+				// Write the file header at the beginning of the file.
+				channel.position(0);
+				writeFully(ByteBuffer.wrap(header.toByteArray()), channel);
+
+				channel.force(false);
+			}
+
+			// The source file may be replaced only after it has been closed.
+			moveFile(tempPath, destPath);
+
+			setProgress(1, progressCallback);
+
+			return totalSize;
+		}
+		finally {
+			Files.deleteIfExists(tempPath);
+
+			if (nonNull(audioPath)) {
+				Files.deleteIfExists(audioPath);
+			}
+		}
+	}
+
+	/**
+	 * Streams the events, the document and the recorded audio into the
+	 * specified channel and computes their checksum. The checksum is updated
+	 * in order on the checksum pool, which allows hashing a chunk while it is
+	 * being written. Two audio buffers are used alternately, so that the next
+	 * chunk can be read while the previous one is still being hashed.
+	 *
+	 * @param channel  The channel to write to, or {@code null} to compute only
+	 *                 the checksum.
+	 * @param progress The progress to update, may be {@code null}.
+	 *
+	 * @return the checksum of all sections.
+	 */
+	private static byte[] writeSections(Recording recFile, byte[] eventData,
+			byte[] docData, WritableByteChannel channel, Progress progress)
+			throws NoSuchAlgorithmException, IOException {
+		MessageDigest md = MessageDigest.getInstance(RecordingHeader.CHECKSUM_ALGORITHM);
+		Executor hasher = ExecutionService.newSerialExecutor(ExecutionPool.CHECKSUM);
+
+		try (RandomAccessAudioStream audioStream = recFile.getRecordedAudio().getAudioStream().clone()) {
+			audioStream.reset();
+
+			hasher.execute(() -> md.update(eventData));
+			hasher.execute(() -> md.update(docData));
+
+			writeChunk(eventData, eventData.length, channel, progress);
+			writeChunk(docData, docData.length, channel, progress);
+
+			byte[][] buffers = { new byte[AUDIO_CHUNK_SIZE], new byte[AUDIO_CHUNK_SIZE] };
+			Future<?>[] pending = new Future<?>[buffers.length];
+			int index = 0;
 
 			while (true) {
-				int bytesRead = audioStream.read(audioBuffer);
-				if (bytesRead == -1) {
+				byte[] buffer = buffers[index];
+
+				// Wait until the buffer has been hashed before refilling it.
+				await(pending[index]);
+
+				int bytesRead = audioStream.read(buffer);
+				if (bytesRead <= 0) {
 					break;
 				}
 
-				raFile.write(audioBuffer, 0, bytesRead);
+				pending[index] = CompletableFuture.runAsync(
+						() -> md.update(buffer, 0, bytesRead), hasher);
+
+				writeChunk(buffer, bytesRead, channel, progress);
 
-				written += bytesRead;
-				setProgress(written / totalSize, progressCallback);
+				index = (index + 1) % buffers.length;
 			}
 
-			audioStream.close();
+			// The hasher runs the tasks in order, all updates are done afterwards.
+			return await(CompletableFuture.supplyAsync(md::digest, hasher));
+		}
+	}
 
-			// Update file header.
-			byte[] checksum = raFile.getDigest();
+	/**
+	 * Converts the length of a section to the 32-bit integer stored in the
+	 * file header.
+	 *
+	 * @param length The length of the section in bytes.
+	 *
+	 * @return the section length.
+	 *
+	 * @throws IOException If the section is too large for the file format.
+	 */
+	private static int toSectionLength(long length) throws IOException {
+		try {
+			return Math.toIntExact(length);
+		}
+		catch (ArithmeticException e) {
+			throw new IOException("Section of " + length + " bytes exceeds the maximum length of the file format", e);
+		}
+	}
 
-			// Set header values.
-			header.setVersion(Recording.FORMAT_VERSION);
-			header.setChecksum(checksum);
-			header.setEventsLength(eventsLength);
-			header.setDocumentLength(documentLength);
-			header.setAudioLength(audioLength);
+	private static void writeChunk(byte[] data, int length, WritableByteChannel channel,
+			Progress progress) throws IOException {
+		if (isNull(channel)) {
+			return;
+		}
 
-			// Write the file header at the beginning of the file.
-			raFile.seek(0);
-			raFile.write(header.toByteArray());
-			written += headerLength;
-			setProgress(written / totalSize, progressCallback);
+		writeFully(ByteBuffer.wrap(data, 0, length), channel);
 
-			return totalSize;
+		if (nonNull(progress)) {
+			progress.add(length);
 		}
-
 	}
 
-	public static byte[] writeToByteArray(Recording recFile) throws Exception {
-		return writeToByteArray(recFile, null);
+	private static void writeFully(ByteBuffer buffer, WritableByteChannel channel)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
 	}
 
-	public static byte[] writeToByteArray(Recording recFile, ProgressCallback progressCallback)
-			throws NoSuchAlgorithmException, IOException {
-		RecordingHeader header = recFile.getRecordingHeader();
-		RandomAccessAudioStream audioStream = recFile.getRecordedAudio().getAudioStream().clone();
-		audioStream.reset();
+	private static <T> T await(Future<T> future) throws IOException {
+		if (isNull(future)) {
+			return null;
+		}
 
-		byte[] eventData = recFile.getRecordedEvents().toByteArray();
-		byte[] docData = recFile.getRecordedDocument().toByteArray();
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 
-		int headerLength = header.getHeaderLength();
-		int eventsLength = eventData.length;
-		int documentLength = docData.length;
-		int audioLength = (int) audioStream.getLength();
-		int totalSize = headerLength + eventsLength + documentLength + audioLength;
+			throw new InterruptedIOException("Interrupted while computing the checksum");
+		}
+		catch (ExecutionException e) {
+			throw new IOException("Compute checksum failed", e.getCause());
+		}
+	}
 
-		byte[] result = new byte[totalSize];
+	/**
+	 * Reads the header of the specified recording file.
+	 *
+	 * @param file The recording file, may be {@code null}.
+	 *
+	 * @return the header, or {@code null} if the file does not exist or has an
+	 * incompatible format.
+	 */
+	private static RecordingHeader readHeader(File file) throws IOException {
+		if (isNull(file) || !file.isFile()) {
+			return null;
+		}
 
-		MessageDigest md = MessageDigest.getInstance(RecordingHeader.CHECKSUM_ALGORITHM);
+		RecordingHeader header = new RecordingHeader();
+		ByteBuffer buffer = ByteBuffer.allocate(header.getHeaderLength());
 
-		int offset = headerLength;
-		float written = headerLength;
-
-		// Write events
-		System.arraycopy(eventData, 0, result, offset, eventsLength);
-		md.update(eventData);
-		offset += eventsLength;
-		written += eventsLength;
-		setProgress(written / totalSize, progressCallback);
-
-		// Write the document
-		System.arraycopy(docData, 0, result, offset, documentLength);
-		md.update(docData);
-		offset += documentLength;
-		written += documentLength;
-		setProgress(written / totalSize, progressCallback);
-
-		// Write audio
-		byte[] audioBuffer = new byte[4096];
-		while (true) {
-			int bytesRead = audioStream.read(audioBuffer);
-			if (bytesRead == -1) {
-				break;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					return null;
+				}
 			}
-			System.arraycopy(audioBuffer, 0, result, offset, bytesRead);
-			md.update(audioBuffer, 0, bytesRead);
-			offset += bytesRead;
-			written += bytesRead;
-			setProgress(written / totalSize, progressCallback);
 		}
 
-		audioStream.close();
+		header.parseFrom(buffer.array());
 
-		byte[] checksum = md.digest();
+		if (header.getVersion() != Recording.FORMAT_VERSION) {
+			return null;
+		}
 
-		// Set header values
-		header.setVersion(Recording.FORMAT_VERSION);
-		header.setChecksum(checksum);
-		header.setEventsLength(eventsLength);
-		header.setDocumentLength(documentLength);
-		header.setAudioLength(audioLength);
+		return header;
+	}
+
+	/**
+	 * Exports the recorded audio, including all applied edits, into a
+	 * temporary WAV file in the specified directory.
+	 */
+	private static Path exportAudio(Recording recFile, Path directory) throws IOException {
+		Path audioPath = Files.createTempFile(directory, "export", ".wav");
+
+		try (FileChannel channel = FileChannel.open(audioPath, StandardOpenOption.WRITE)) {
+			RandomAccessAudioStream audioStream = recFile.getRecordedAudio().getAudioStream().clone();
+			audioStream.reset();
+			audioStream.write(channel);
+		}
+		catch (IOException e) {
+			Files.deleteIfExists(audioPath);
+			throw e;
+		}
+
+		return audioPath;
+	}
 
-		// Write header at the beginning
-		byte[] headerBytes = header.toByteArray();
-		System.arraycopy(headerBytes, 0, result, 0, headerBytes.length);
-		written += headerLength;
-		setProgress(written / totalSize, progressCallback);
+	private static void writeSection(byte[] data, FileChannel channel,
+			MessageDigest md, Progress progress) throws IOException {
+		writeFully(ByteBuffer.wrap(data), channel);
 
-		return result;
+		md.update(data);
+		progress.add(data.length);
+	}
+
+	/**
+	 * Copies a section of the source channel to the current position of the
+	 * target channel. Each chunk is transferred without passing through user
+	 * space and then read back from the source to update the checksum, which
+	 * is served from the page cache right after the transfer.
+	 */
+	private static void copySection(FileChannel src, long position, long length,
+			FileChannel target, MessageDigest md, Progress progress) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(COPY_CHUNK_SIZE, Math.max(length, 1)));
+		long end = position + length;
+
+		while (position < end) {
+			long count = Math.min(COPY_CHUNK_SIZE, end - position);
+			long transferred = 0;
+
+			while (transferred < count) {
+				long n = src.transferTo(position + transferred, count - transferred, target);
+				if (n <= 0) {
+					throw new IOException("Unexpected end of recording file");
+				}
+				transferred += n;
+			}
+
+			long read = 0;
+
+			while (read < count) {
+				buffer.clear();
+				buffer.limit((int) Math.min(buffer.capacity(), count - read));
+
+				int n = src.read(buffer, position + read);
+				if (n < 0) {
+					throw new IOException("Unexpected end of recording file");
+				}
+
+				buffer.flip();
+				md.update(buffer);
+				read += n;
+			}
+
+			position += count;
+			progress.add(count);
+		}
+	}
+
+	/**
+	 * Moves the written file to its destination, atomically if supported by
+	 * the file system. Some platforms, e.g. Windows, refuse to replace a file
+	 * that is still opened, like the source file of the recording being saved.
+	 * In this case the destination file is overwritten in place.
+	 */
+	private static void moveFile(Path source, Path target) throws IOException {
+		try {
+			try {
+				Files.move(source, target, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (FileSystemException e) {
+			if (!Files.isRegularFile(target)) {
+				throw e;
+			}
+
+			overwriteFile(source, target);
+		}
+	}
+
+	/**
+	 * Copies the content of the source file into the target file and
+	 * truncates the target file to the size of the source file. Unlike
+	 * replacing the target file, this works as long as the target file may be
+	 * written, even if it is opened by other streams.
+	 */
+	private static void overwriteFile(Path source, Path target) throws IOException {
+		try (FileChannel srcChannel = FileChannel.open(source, StandardOpenOption.READ);
+			 FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+			long size = srcChannel.size();
+			long position = 0;
+
+			while (position < size) {
+				long n = srcChannel.transferTo(position, size - position, channel);
+				if (n <= 0) {
+					throw new IOException("Unexpected end of recording file");
+				}
+				position += n;
+			}
+
+			channel.truncate(size);
+			channel.force(false);
+		}
 	}
 
 	private static void setProgress(float progress, ProgressCallback progressCallback) {
@@ -189,4 +600,29 @@ public final class RecordingFileWriter {
 			progressCallback.onProgress(progress);
 		}
 	}
+
+
+	/**
+	 * Accumulates the number of written bytes and reports the progress.
+	 */
+	private static class Progress {
+
+		private final long total;
+
+		private final ProgressCallback callback;
+
+		private long written;
+
+
+		Progress(long total, ProgressCallback callback) {
+			this.total = total;
+			this.callback = callback;
+		}
+
+		void add(long count) {
+			written += count;
+
+			setProgress((float) written / total, callback);
+		}
+	}
 }
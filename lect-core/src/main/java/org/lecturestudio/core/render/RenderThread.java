@@ -24,6 +24,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.lecturestudio.core.ExecutableBase;
 import org.lecturestudio.core.ExecutableException;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -61,7 +63,8 @@ public class RenderThread extends ExecutableBase {
 	@Override
 	protected void startInternal() throws ExecutableException {
 		if (running.compareAndSet(false, true)) {
-			thread = new Thread(this::renderLoop);
+			thread = ExecutionService.newThread(ExecutionPool.RENDER,
+					getClass().getSimpleName(), this::renderLoop);
 			thread.start();
 		}
 	}
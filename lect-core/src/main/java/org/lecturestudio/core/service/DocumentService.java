@@ -41,6 +41,8 @@ import org.lecturestudio.core.app.configuration.Configuration;
 import org.lecturestudio.core.app.configuration.WhiteboardConfiguration;
 import org.lecturestudio.core.bus.event.DocumentEvent;
 import org.lecturestudio.core.bus.event.PageEvent;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.geometry.Dimension2D;
 import org.lecturestudio.core.geometry.Rectangle2D;
 import org.lecturestudio.core.model.*;
@@ -75,7 +77,7 @@ public class DocumentService {
 	 * Creates and selects a new whiteboard.
 	 */
 	public CompletableFuture<Document> addWhiteboard() {
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Document whiteboard;
 
 			try {
@@ -100,7 +102,7 @@ public class DocumentService {
 	public CompletableFuture<Document> addWhiteboard(String templatePath) {
 		final File file = new File(nonNull(templatePath) ? templatePath : "");
 
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Document whiteboard;
 
 			try {
@@ -125,7 +127,7 @@ public class DocumentService {
 	public CompletableFuture<Document> openWhiteboard(String templatePath) {
 		final File file = new File(nonNull(templatePath) ? templatePath : "");
 
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			// Search for an opened whiteboard.
 			Document whiteboard = documents.getFirstWhiteboard();
 
@@ -168,7 +170,7 @@ public class DocumentService {
 	 * @param docFile the document file.
 	 */
 	public CompletableFuture<Document> openDocument(File docFile) {
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Optional<Document> fileDoc = documents.getDocumentByFile(docFile);
 
 			if (fileDoc.isPresent()) {
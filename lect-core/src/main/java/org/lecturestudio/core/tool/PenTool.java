@@ -18,7 +18,11 @@
 
 package org.lecturestudio.core.tool;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.geometry.StrokeSimplifier;
 import org.lecturestudio.core.model.Page;
 import org.lecturestudio.core.model.action.CreateShapeAction;
 import org.lecturestudio.core.model.shape.StrokeShape;
@@ -27,11 +31,20 @@ import org.lecturestudio.core.recording.action.PlaybackAction;
 
 /**
  * PaintTool that draws a Line with a given Stroke on the current Page.
+ * <p>
+ * If a simplification tolerance is configured, the input points of a live
+ * stroke are decimated before they are added to the shape and recorded. Thus,
+ * the shape, the recording and the stream receive the very same points. Tools
+ * created for playback, i.e. with a shape handle, never simplify.
  *
  * @author Alex Andres
  */
 public class PenTool extends StrokeTool<StrokeShape> {
 
+	/** The simplifier of the current stroke, null if disabled. */
+	private StrokeSimplifier simplifier;
+
+
 	public PenTool(ToolContext context) {
 		super(context, null);
 	}
@@ -45,6 +58,46 @@ public class PenTool extends StrokeTool<StrokeShape> {
 		return ToolType.PEN;
 	}
 
+	@Override
+	public void begin(PenPoint2D point, Page page) {
+		super.begin(point, page);
+
+		simplifier = createSimplifier();
+
+		if (nonNull(simplifier)) {
+			simplifier.begin(point);
+		}
+	}
+
+	@Override
+	public void execute(PenPoint2D point) {
+		if (isNull(simplifier)) {
+			super.execute(point);
+			return;
+		}
+
+		PenPoint2D emitted = simplifier.add(point);
+
+		if (nonNull(emitted)) {
+			super.execute(emitted);
+		}
+	}
+
+	@Override
+	public void end(PenPoint2D point) {
+		if (nonNull(simplifier)) {
+			PenPoint2D pending = simplifier.flush();
+
+			if (nonNull(pending)) {
+				super.execute(pending);
+			}
+
+			simplifier = null;
+		}
+
+		super.end(point);
+	}
+
 	@Override
 	protected void beginInternal(PenPoint2D point, Page page) {
 		shape.addPoint(point.clone());
@@ -70,4 +123,21 @@ public class PenTool extends StrokeTool<StrokeShape> {
 
 		return new StrokeShape(shapeStroke);
 	}
+
+	private StrokeSimplifier createSimplifier() {
+		if (nonNull(shapeHandle)) {
+			return null;
+		}
+
+		StrokeSettings settings = context.getPaintSettings(getType());
+		double tolerance = settings.getSimplification();
+
+		if (tolerance <= 0) {
+			return null;
+		}
+
+		double width = shape.getStroke().getWidth();
+
+		return new StrokeSimplifier(tolerance * width, width);
+	}
 }
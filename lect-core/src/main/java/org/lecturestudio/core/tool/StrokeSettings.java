@@ -24,12 +24,21 @@ import org.lecturestudio.core.beans.ObjectProperty;
 
 public class StrokeSettings extends PaintSettings {
 
+	/**
+	 * The default tolerance of simplified strokes. A deviation of a quarter of
+	 * the stroke width is not visible, but drops most of the points of
+	 * straight and slightly curved stroke segments.
+	 */
+	public static final double DEFAULT_SIMPLIFICATION = 0.25;
+
 	private final DoubleProperty width = new DoubleProperty();
 
 	private final ObjectProperty<StrokeWidthSettings> strokeWidthSettings = new ObjectProperty<>(StrokeWidthSettings.NORMAL);
 
 	private final BooleanProperty scale = new BooleanProperty();
 
+	private final DoubleProperty simplification = new DoubleProperty(DEFAULT_SIMPLIFICATION);
+
 
 	public StrokeSettings() {
 
@@ -41,6 +50,7 @@ public class StrokeSettings extends PaintSettings {
 		setWidth(settings.getWidth());
 		setScale(settings.getScale());
 		setStrokeWidthSettings(settings.getStrokeWidthSettings());
+		setSimplification(settings.getSimplification());
 	}
 
 	public DoubleProperty widthProperty() {
@@ -84,4 +94,26 @@ public class StrokeSettings extends PaintSettings {
 	public void setStrokeWidthSettings(StrokeWidthSettings strokeWidthSettings) {
 		this.strokeWidthSettings.set(strokeWidthSettings);
 	}
+
+	public DoubleProperty simplificationProperty() {
+		return simplification;
+	}
+
+	/**
+	 * @return the maximum deviation of simplified strokes relative to the
+	 * stroke width, zero if strokes are not simplified.
+	 */
+	public double getSimplification() {
+		return simplification.get();
+	}
+
+	/**
+	 * Sets the maximum deviation of simplified strokes relative to the stroke
+	 * width. Zero disables the simplification.
+	 *
+	 * @param simplification the tolerance to set.
+	 */
+	public void setSimplification(double simplification) {
+		this.simplification.set(simplification);
+	}
 }
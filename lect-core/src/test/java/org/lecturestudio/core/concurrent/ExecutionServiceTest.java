@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ordering of serial executors and the dispatching of timed tasks
+ * of the {@link ExecutionService}.
+ */
+class ExecutionServiceTest {
+
+	@Test
+	void testSerialExecutorKeepsOrder() throws InterruptedException {
+		Executor executor = ExecutionService.newSerialExecutor(ExecutionPool.BULK_IO);
+		List<Integer> order = new ArrayList<>();
+		CountDownLatch latch = new CountDownLatch(500);
+
+		for (int i = 0; i < 500; i++) {
+			int number = i;
+
+			executor.execute(() -> {
+				// No synchronization, the tasks must never run concurrently.
+				order.add(number);
+				latch.countDown();
+			});
+		}
+
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+		for (int i = 0; i < 500; i++) {
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+
+	@Test
+	void testScheduledTaskRunsAfterQueuedTasks() throws InterruptedException {
+		Executor executor = ExecutionService.newSerialExecutor(ExecutionPool.RENDER);
+		List<Integer> order = new ArrayList<>();
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			try {
+				blocked.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			order.add(0);
+		});
+
+		ExecutionService.schedule(executor, () -> {
+			order.add(1);
+			latch.countDown();
+		}, 0, TimeUnit.MILLISECONDS);
+
+		// The scheduled task must wait for the blocked task of its executor.
+		assertEquals(1, latch.getCount());
+
+		blocked.countDown();
+
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		assertEquals(List.of(0, 1), order);
+	}
+
+	@Test
+	void testFailingScheduledTaskKeepsRunning() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(3);
+
+		ScheduledFuture<?> future = ExecutionService.scheduleAtFixedRate(
+				ExecutionPool.BACKGROUND, () -> {
+					latch.countDown();
+
+					throw new IllegalStateException();
+				}, 0, 5, TimeUnit.MILLISECONDS);
+
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		}
+		finally {
+			future.cancel(false);
+		}
+
+		assertTrue(ExecutionService.getMetrics().containsKey(ExecutionPool.BACKGROUND));
+	}
+}
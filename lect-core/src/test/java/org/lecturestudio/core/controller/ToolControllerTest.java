@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
@@ -42,6 +43,7 @@ import org.lecturestudio.core.geometry.Point2D;
 import org.lecturestudio.core.geometry.Rectangle2D;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.Page;
+import org.lecturestudio.core.model.listener.ShapeListener;
 import org.lecturestudio.core.model.shape.ArrowShape;
 import org.lecturestudio.core.model.shape.EllipseShape;
 import org.lecturestudio.core.model.shape.LineShape;
@@ -54,6 +56,10 @@ import org.lecturestudio.core.service.DocumentService;
 import org.lecturestudio.core.text.Font;
 import org.lecturestudio.core.text.TextAttributes;
 import org.lecturestudio.core.tool.PresetColor;
+import org.lecturestudio.core.tool.ShapeModifyEvent;
+import org.lecturestudio.core.tool.ShapePaintEvent;
+import org.lecturestudio.core.tool.StrokeSettings;
+import org.lecturestudio.core.tool.ToolEventType;
 import org.lecturestudio.core.tool.ToolType;
 import org.lecturestudio.core.view.PresentationParameter;
 import org.lecturestudio.core.view.PresentationParameterProvider;
@@ -319,6 +325,26 @@ class ToolControllerTest extends ServiceTest {
 		assertTrue(getShapes().get(0) instanceof PenShape);
 	}
 
+	@Test
+	void testPenToolSimplifiesStroke() {
+		LinkedList<PenPoint2D> points = new LinkedList<>();
+
+		for (int i = 0; i < 10; i++) {
+			points.add(new PenPoint2D(100 + i * 10, 100));
+		}
+
+		controller.selectPenTool();
+
+		executeTool(points);
+
+		PenShape shape = (PenShape) getShapes().get(0);
+
+		// The default configuration simplifies the collinear points.
+		assertTrue(shape.getPoints().size() < points.size());
+		assertEquals(points.getFirst(), shape.getPoints().get(0));
+		assertEquals(points.getLast(), shape.getPoints().get(shape.getPoints().size() - 1));
+	}
+
 	@Test
 	void testPointerTool() {
 		controller.selectPointerTool();
@@ -424,6 +450,10 @@ class ToolControllerTest extends ServiceTest {
 
 	@Test
 	void testSelectionTool() {
+		// Keep all points to compare them with the points of the shape.
+		StrokeSettings penSettings = controller.getPaintSettings(ToolType.PEN);
+		penSettings.setSimplification(0);
+
 		LinkedList<PenPoint2D> penPoints = createRandomPoints();
 		controller.selectPenTool();
 		executeTool(penPoints);
@@ -604,6 +634,56 @@ class ToolControllerTest extends ServiceTest {
 		assertTrue(getShapes().get(0) instanceof ArrowShape);
 	}
 
+	@Test
+	void testBatchedToolEvents() {
+		List<ShapePaintEvent> paintEvents = new ArrayList<>();
+		List<ShapeModifyEvent> modifyEvents = new ArrayList<>();
+
+		getPage().addShapeListener(new ShapeListener() {
+
+			@Override
+			public void shapePainted(ShapePaintEvent event) {
+				paintEvents.add(event);
+			}
+
+			@Override
+			public void shapeModified(ShapeModifyEvent event) {
+				modifyEvents.add(event);
+			}
+		});
+
+		controller.selectPenTool();
+		executeTool(createRandomPoints());
+
+		Shape shape = getShapes().get(0);
+
+		controller.beginBatch();
+		controller.beginBatch();
+		controller.fireToolEvent(new ShapePaintEvent(ToolEventType.EXECUTE, shape,
+				new Rectangle2D(0, 0, 10, 10)));
+		controller.fireToolEvent(new ShapeModifyEvent(List.of(shape)));
+		controller.fireToolEvent(new ShapePaintEvent(ToolEventType.END, shape,
+				new Rectangle2D(20, 5, 10, 10)));
+		controller.fireToolEvent(new ShapeModifyEvent(List.of(shape)));
+		controller.endBatch();
+
+		assertTrue(paintEvents.isEmpty());
+		assertTrue(modifyEvents.isEmpty());
+
+		controller.endBatch();
+
+		assertEquals(1, paintEvents.size());
+		assertEquals(ToolEventType.END, paintEvents.get(0).getType());
+		assertEquals(new Rectangle2D(0, 0, 30, 15), paintEvents.get(0).getClipRect());
+		assertEquals(1, modifyEvents.size());
+		assertEquals(2, modifyEvents.get(0).getShapes().size());
+
+		controller.fireToolEvent(new ShapePaintEvent(ToolEventType.EXECUTE, shape, null));
+
+		assertEquals(2, paintEvents.size());
+		assertThrows(IllegalStateException.class, controller::endBatch);
+	}
+
 	private Page getPage() {
 		return documentService.getDocuments().getSelectedDocument().getCurrentPage();
 	}
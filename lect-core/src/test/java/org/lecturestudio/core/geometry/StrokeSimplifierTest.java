@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.geometry;
+
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the decimation of {@link StrokeSimplifier} against its error bound.
+ */
+class StrokeSimplifierTest {
+
+	private static final double TOLERANCE = 0.5;
+
+
+	@Test
+	void testStraightLine() {
+		List<PenPoint2D> input = new ArrayList<>();
+
+		for (int i = 0; i < 10; i++) {
+			input.add(new PenPoint2D(i, i));
+		}
+
+		List<PenPoint2D> output = simplify(input, 1);
+
+		assertEquals(2, output.size());
+		assertEquals(input.get(0), output.get(0));
+		assertEquals(input.get(9), output.get(1));
+	}
+
+	@Test
+	void testMaxPending() {
+		List<PenPoint2D> input = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++) {
+			input.add(new PenPoint2D(i, 0));
+		}
+
+		List<PenPoint2D> output = simplify(input, 1);
+
+		for (int i = 1; i < output.size(); i++) {
+			assertTrue(output.get(i).getX() - output.get(i - 1).getX() <= StrokeSimplifier.MAX_PENDING);
+		}
+
+		assertEquals(input.get(99), output.get(output.size() - 1));
+	}
+
+	@Test
+	void testPressureChange() {
+		StrokeSimplifier simplifier = new StrokeSimplifier(TOLERANCE, 10);
+		simplifier.begin(new PenPoint2D(0, 0, 0.5));
+
+		assertNull(simplifier.add(new PenPoint2D(1, 0, 0.5)));
+		assertNull(simplifier.add(new PenPoint2D(2, 0, 0.5)));
+		// A straight line, but the outline at the previous point would widen.
+		assertEquals(new PenPoint2D(2, 0, 0.5), simplifier.add(new PenPoint2D(3, 0, 1.0)));
+	}
+
+	@Test
+	void testBoundedError() {
+		List<PenPoint2D> input = new ArrayList<>();
+
+		for (int i = 0; i < 500; i++) {
+			double t = i * 0.05;
+			input.add(new PenPoint2D(t * 10, Math.sin(t) * 20, 0.5 + Math.sin(t * 3) * 0.3));
+		}
+
+		double width = 2;
+		List<PenPoint2D> output = simplify(input, width);
+
+		assertTrue(output.size() < input.size());
+
+		// Every dropped point must be close to the segment replacing it.
+		int index = 0;
+
+		for (int i = 1; i < output.size(); i++) {
+			PenPoint2D a = output.get(i - 1);
+			PenPoint2D b = output.get(i);
+
+			while (!input.get(index).equals(a)) {
+				index++;
+			}
+			while (!input.get(++index).equals(b)) {
+				double error = distance(input.get(index), a, b, width);
+
+				assertTrue(error <= TOLERANCE + 1e-9, "Error exceeds tolerance: " + error);
+			}
+		}
+	}
+
+	private static List<PenPoint2D> simplify(List<PenPoint2D> input, double width) {
+		StrokeSimplifier simplifier = new StrokeSimplifier(TOLERANCE, width);
+		List<PenPoint2D> output = new ArrayList<>();
+
+		simplifier.begin(input.get(0));
+		output.add(input.get(0));
+
+		for (PenPoint2D point : input.subList(1, input.size())) {
+			PenPoint2D emitted = simplifier.add(point);
+
+			if (nonNull(emitted)) {
+				output.add(emitted);
+			}
+		}
+
+		PenPoint2D pending = simplifier.flush();
+
+		if (nonNull(pending)) {
+			output.add(pending);
+		}
+
+		return output;
+	}
+
+	private static double distance(PenPoint2D p, PenPoint2D a, PenPoint2D b, double width) {
+		double dx = b.getX() - a.getX();
+		double dy = b.getY() - a.getY();
+		double lengthSq = dx * dx + dy * dy;
+		double t = lengthSq > 0
+				? Math.max(0, Math.min(1, ((p.getX() - a.getX()) * dx + (p.getY() - a.getY()) * dy) / lengthSq))
+				: 0;
+		double px = a.getX() + t * dx - p.getX();
+		double py = a.getY() + t * dy - p.getY();
+		double pressure = a.getPressure() + t * (b.getPressure() - a.getPressure());
+
+		return Math.sqrt(px * px + py * py) + Math.abs(pressure - p.getPressure()) * width / 2;
+	}
+}
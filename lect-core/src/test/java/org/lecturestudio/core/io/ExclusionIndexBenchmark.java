@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.lecturestudio.core.model.Interval;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the position mapping of {@link DynamicInputStream} with many
+ * exclusions, in the former linear scan and with the {@link ExclusionIndex}.
+ * Also measures building the exclusions one interval at a time, as done when
+ * cutting a recording repeatedly.
+ *
+ * @author Alex Andres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExclusionIndexBenchmark {
+
+	private static final long STREAM_LENGTH = 1_000_000_000L;
+
+	/** Number of position lookups per benchmark invocation. */
+	private static final int LOOKUPS = 1_000;
+
+	@Param({ "100", "10000" })
+	private int exclusionCount;
+
+	private List<Interval<Long>> intervals;
+
+	private List<Interval<Long>> sortedExclusions;
+
+	private DynamicInputStream stream;
+
+	private long[] positions;
+
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ExclusionIndexBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		long spacing = STREAM_LENGTH / exclusionCount;
+
+		stream = new DynamicInputStream(new ByteArrayInputStream(new byte[0]));
+		intervals = new ArrayList<>(exclusionCount);
+
+		for (int i = 0; i < exclusionCount; i++) {
+			long start = i * spacing + random.nextInt((int) (spacing / 2));
+			intervals.add(new Interval<>(start, start + 1 + random.nextInt(1000)));
+		}
+
+		stream.setExclusions(intervals);
+
+		sortedExclusions = stream.getExclusions();
+		positions = new long[LOOKUPS];
+
+		for (int i = 0; i < LOOKUPS; i++) {
+			positions[i] = (long) (random.nextDouble() * STREAM_LENGTH / 2);
+		}
+	}
+
+	@Benchmark
+	public long virtualToPhysicalLinear() {
+		long sum = 0;
+
+		for (long position : positions) {
+			sum += linearVirtualToPhysical(position);
+		}
+
+		return sum;
+	}
+
+	@Benchmark
+	public long virtualToPhysicalIndexed() {
+		long sum = 0;
+
+		for (long position : positions) {
+			sum += stream.virtualToPhysical(position);
+		}
+
+		return sum;
+	}
+
+	@Benchmark
+	public long physicalToVirtualIndexed() {
+		long sum = 0;
+
+		for (long position : positions) {
+			sum += stream.physicalToVirtual(position);
+		}
+
+		return sum;
+	}
+
+	@Benchmark
+	public DynamicInputStream addExclusions() {
+		DynamicInputStream target = new DynamicInputStream(
+				new ByteArrayInputStream(new byte[0]));
+
+		for (Interval<Long> interval : intervals) {
+			target.addExclusion(interval);
+		}
+
+		return target;
+	}
+
+	@Benchmark
+	public DynamicInputStream copyExclusions() {
+		DynamicInputStream target = new DynamicInputStream(
+				new ByteArrayInputStream(new byte[0]));
+
+		stream.copyExclusionsTo(target);
+
+		return target;
+	}
+
+	/**
+	 * The former mapping, scanning the sorted exclusions up to the position.
+	 */
+	private long linearVirtualToPhysical(long virtualPos) {
+		long physical = virtualPos;
+
+		for (Interval<Long> ex : sortedExclusions) {
+			if (ex.getStart() <= physical) {
+				physical += ex.getEnd() - ex.getStart();
+			}
+			else {
+				break;
+			}
+		}
+
+		return physical;
+	}
+}
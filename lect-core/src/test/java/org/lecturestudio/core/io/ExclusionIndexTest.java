@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.lecturestudio.core.model.Interval;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the indexed exclusion lookups of {@link DynamicInputStream} with a
+ * straightforward linear implementation on random edit sequences.
+ */
+class ExclusionIndexTest {
+
+	private static final int STREAM_LENGTH = 20_000;
+
+	private static final int ITERATIONS = 200;
+
+
+	@Test
+	void testRandomEquivalence() throws IOException {
+		Random random = new Random(42);
+		byte[] data = new byte[STREAM_LENGTH];
+
+		random.nextBytes(data);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			DynamicInputStream stream = new DynamicInputStream(new ByteArrayInputStream(data));
+			LinearExclusions reference = new LinearExclusions();
+
+			int edits = 1 + random.nextInt(60);
+
+			for (int j = 0; j < edits; j++) {
+				applyRandomEdit(random, stream, reference);
+			}
+
+			assertEquals(reference.exclusions.size(), stream.getExclusions().size());
+
+			for (int j = 0; j < reference.exclusions.size(); j++) {
+				Interval<Long> expected = reference.exclusions.get(j);
+				Interval<Long> actual = stream.getExclusions().get(j);
+
+				assertEquals(expected.getStart(), actual.getStart());
+				assertEquals(expected.getEnd(), actual.getEnd());
+			}
+
+			assertEquals(reference.getExcludedLength(), stream.getExcludedLength());
+
+			for (long pos = 0; pos < STREAM_LENGTH; pos += 1 + random.nextInt(16)) {
+				assertEquals(reference.virtualToPhysical(pos), stream.virtualToPhysical(pos));
+				assertEquals(reference.physicalToVirtual(pos), stream.physicalToVirtual(pos));
+			}
+
+			assertArrayEquals(reference.filter(data), readRandomly(random, stream));
+
+			stream.close();
+		}
+	}
+
+	@Test
+	void testSkipEquivalence() throws IOException {
+		Random random = new Random(7);
+		byte[] data = new byte[STREAM_LENGTH];
+
+		random.nextBytes(data);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			DynamicInputStream stream = new DynamicInputStream(new ByteArrayInputStream(data));
+			LinearExclusions reference = new LinearExclusions();
+
+			for (int j = 0; j < 30; j++) {
+				applyRandomEdit(random, stream, reference);
+			}
+
+			byte[] expected = reference.filter(data);
+			int virtualPos = 0;
+
+			while (virtualPos < expected.length) {
+				int skip = random.nextInt(500);
+				long skipped = stream.skip(skip);
+
+				virtualPos += (int) skipped;
+
+				int value = stream.read();
+
+				if (virtualPos >= expected.length) {
+					assertEquals(-1, value);
+					break;
+				}
+
+				assertEquals(expected[virtualPos] & 0xFF, value);
+				virtualPos++;
+			}
+
+			stream.close();
+		}
+	}
+
+	private static void applyRandomEdit(Random random, DynamicInputStream stream,
+			LinearExclusions reference) {
+		int op = random.nextInt(10);
+
+		if (op < 7) {
+			long start = random.nextInt(STREAM_LENGTH);
+			long end = start + 1 + random.nextInt(800);
+			Interval<Long> interval = new Interval<>(start, end);
+
+			stream.addExclusion(interval);
+			reference.add(interval);
+		}
+		else if (op < 9 && !reference.exclusions.isEmpty()) {
+			Interval<Long> existing = reference.exclusions.get(
+					random.nextInt(reference.exclusions.size()));
+			Interval<Long> interval = new Interval<>(existing.getStart(), existing.getEnd());
+
+			stream.removeExclusion(interval);
+			reference.remove(interval);
+		}
+		else {
+			List<Interval<Long>> intervals = new ArrayList<>();
+
+			for (int k = random.nextInt(20); k > 0; k--) {
+				long start = random.nextInt(STREAM_LENGTH);
+				intervals.add(new Interval<>(start, start + random.nextInt(400)));
+			}
+
+			stream.setExclusions(intervals);
+			reference.set(intervals);
+		}
+	}
+
+	private static byte[] readRandomly(Random random, DynamicInputStream stream)
+			throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int read;
+
+		while ((read = stream.read(buffer, 0, 1 + random.nextInt(buffer.length))) > 0) {
+			output.write(buffer, 0, read);
+		}
+
+		return output.toByteArray();
+	}
+
+
+	/**
+	 * Reference implementation scanning a sorted and merged list.
+	 */
+	private static class LinearExclusions {
+
+		List<Interval<Long>> exclusions = new ArrayList<>();
+
+
+		void add(Interval<Long> interval) {
+			exclusions.add(new Interval<>(interval.getStart(), interval.getEnd()));
+			normalize();
+		}
+
+		void remove(Interval<Long> interval) {
+			exclusions.removeIf(iv -> iv.getStart().equals(interval.getStart())
+					&& iv.getEnd().equals(interval.getEnd()));
+		}
+
+		void set(List<Interval<Long>> intervals) {
+			exclusions.clear();
+
+			for (Interval<Long> iv : intervals) {
+				if (iv.getStart() < iv.getEnd()) {
+					exclusions.add(new Interval<>(iv.getStart(), iv.getEnd()));
+				}
+			}
+
+			normalize();
+		}
+
+		long getExcludedLength() {
+			long total = 0;
+
+			for (Interval<Long> iv : exclusions) {
+				total += iv.getEnd() - iv.getStart();
+			}
+
+			return total;
+		}
+
+		long virtualToPhysical(long virtualPos) {
+			long physical = virtualPos;
+
+			for (Interval<Long> ex : exclusions) {
+				if (ex.getStart() <= physical) {
+					physical += ex.getEnd() - ex.getStart();
+				}
+				else {
+					break;
+				}
+			}
+
+			return physical;
+		}
+
+		long physicalToVirtual(long physicalPos) {
+			long virtual = physicalPos;
+
+			for (Interval<Long> ex : exclusions) {
+				if (ex.getEnd() <= physicalPos) {
+					virtual -= ex.getEnd() - ex.getStart();
+				}
+				else if (ex.getStart() <= physicalPos) {
+					return -1;
+				}
+				else {
+					break;
+				}
+			}
+
+			return virtual;
+		}
+
+		byte[] filter(byte[] data) {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			for (int i = 0; i < data.length; i++) {
+				if (physicalToVirtual(i) >= 0) {
+					output.write(data[i]);
+				}
+			}
+
+			return output.toByteArray();
+		}
+
+		private void normalize() {
+			if (exclusions.size() <= 1) {
+				return;
+			}
+
+			exclusions.sort(Comparator.comparingLong(Interval::getStart));
+
+			List<Interval<Long>> merged = new ArrayList<>();
+			Interval<Long> current = exclusions.get(0);
+
+			for (int i = 1; i < exclusions.size(); i++) {
+				Interval<Long> next = exclusions.get(i);
+
+				if (next.getStart() <= current.getEnd()) {
+					current = new Interval<>(current.getStart(),
+							Math.max(current.getEnd(), next.getEnd()));
+				}
+				else {
+					merged.add(current);
+					current = next;
+				}
+			}
+
+			merged.add(current);
+
+			exclusions = merged;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.pdf.pdfbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationText;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the import of shared pages by {@link PDFBoxDocument}.
+ */
+class PDFBoxDocumentTest {
+
+	private PDFBoxDocument srcDocument;
+
+	private PDFBoxDocument document;
+
+
+	@BeforeEach
+	void setUp() throws Exception {
+		srcDocument = new PDFBoxDocument();
+		srcDocument.addPage(640, 480);
+
+		PDPage srcPage = srcDocument.getDoc().getPage(0);
+		srcPage.setAnnotations(List.<PDAnnotation>of(new PDAnnotationText()));
+
+		document = new PDFBoxDocument();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		srcDocument.close();
+		document.close();
+	}
+
+	@Test
+	void testSharedContents() throws Exception {
+		int first = document.importSharedPage(srcDocument, 0);
+		COSArray firstContents = getContents(first);
+		int size = firstContents.size();
+
+		// Content appended after the first import must not be shared.
+		firstContents.add(new COSStream());
+
+		int second = document.importSharedPage(srcDocument, 0);
+		COSArray secondContents = getContents(second);
+
+		assertNotSame(firstContents, secondContents);
+		assertEquals(size, secondContents.size());
+
+		for (int i = 0; i < size; i++) {
+			assertSame(firstContents.getObject(i), secondContents.getObject(i));
+		}
+	}
+
+	@Test
+	void testCopiedAnnotations() throws Exception {
+		int first = document.importSharedPage(srcDocument, 0);
+		int second = document.importSharedPage(srcDocument, 0);
+
+		COSArray firstAnnotations = getAnnotations(first);
+		COSArray secondAnnotations = getAnnotations(second);
+
+		assertNotSame(firstAnnotations, secondAnnotations);
+		assertEquals(firstAnnotations.size(), secondAnnotations.size());
+		assertNotSame(firstAnnotations.getObject(0), secondAnnotations.getObject(0));
+	}
+
+	private COSArray getContents(int pageIndex) {
+		return (COSArray) getPageDict(pageIndex).getDictionaryObject(COSName.CONTENTS);
+	}
+
+	private COSArray getAnnotations(int pageIndex) {
+		return (COSArray) getPageDict(pageIndex).getDictionaryObject(COSName.ANNOTS);
+	}
+
+	private COSDictionary getPageDict(int pageIndex) {
+		return document.getDoc().getPage(pageIndex).getCOSObject();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.graphics.Color;
+import org.lecturestudio.core.recording.action.DeleteAllAction;
+import org.lecturestudio.core.recording.action.PenAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.PointerAction;
+import org.lecturestudio.core.recording.action.SelectAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+import org.lecturestudio.core.recording.action.UndoAction;
+import org.lecturestudio.core.recording.action.ZoomAction;
+import org.lecturestudio.core.recording.action.ZoomOutAction;
+import org.lecturestudio.core.tool.Stroke;
+
+import org.junit.jupiter.api.Test;
+
+class PageActionLogTest {
+
+	@Test
+	void testRemovedShapes() {
+		List<PlaybackAction> actions = new ArrayList<>();
+		PageActionLog log = new PageActionLog(actions);
+
+		addStroke(actions, 1);
+		addStroke(actions, 2);
+		actions.add(new DeleteAllAction());
+		addStroke(actions, 3);
+
+		List<PlaybackAction> compacted = log.compact(Set.of(3)::contains);
+
+		assertEquals(actions.subList(9, 13), compacted);
+	}
+
+	@Test
+	void testIncrementalUpdate() {
+		List<PlaybackAction> actions = new ArrayList<>();
+		PageActionLog log = new PageActionLog(actions);
+
+		addStroke(actions, 1);
+
+		assertEquals(actions, log.compact(Set.of(1)::contains));
+
+		actions.add(new UndoAction());
+		addStroke(actions, 2);
+
+		assertEquals(actions.subList(5, 9), log.compact(Set.of(2)::contains));
+	}
+
+	@Test
+	void testTransientUnits() {
+		List<PlaybackAction> actions = new ArrayList<>();
+		PageActionLog log = new PageActionLog(actions);
+
+		actions.add(new PointerAction(new Stroke(Color.BLACK, 1), null));
+		actions.add(new ToolBeginAction(new PenPoint2D(0, 0)));
+		actions.add(new ToolEndAction(new PenPoint2D(1, 1)));
+		actions.add(new ZoomAction(new Stroke(Color.BLACK, 1), null));
+		actions.add(new ToolBeginAction(new PenPoint2D(0, 0)));
+		actions.add(new ToolEndAction(new PenPoint2D(1, 1)));
+		actions.add(new ZoomOutAction());
+		addStroke(actions, 1);
+
+		assertEquals(actions.subList(6, 11), log.compact(Set.of(1)::contains));
+	}
+
+	@Test
+	void testPositionalUnits() {
+		List<PlaybackAction> actions = new ArrayList<>();
+		PageActionLog log = new PageActionLog(actions);
+
+		addStroke(actions, 1);
+		addStroke(actions, 2);
+		actions.add(new SelectAction());
+		actions.add(new ToolBeginAction(new PenPoint2D(0, 0)));
+		actions.add(new ToolEndAction(new PenPoint2D(1, 1)));
+
+		assertEquals(actions, log.compact(Set.of(2)::contains));
+	}
+
+	private static void addStroke(List<PlaybackAction> actions, int handle) {
+		actions.add(new PenAction(handle, new Stroke(Color.BLACK, 1), null));
+		actions.add(new ToolBeginAction(new PenPoint2D(0, 0)));
+		actions.add(new ToolExecuteAction(new PenPoint2D(1, 1)));
+		actions.add(new ToolEndAction(new PenPoint2D(2, 2)));
+	}
+}
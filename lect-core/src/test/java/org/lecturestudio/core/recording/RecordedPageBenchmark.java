@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.graphics.Color;
+import org.lecturestudio.core.recording.action.PenAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+import org.lecturestudio.core.tool.Stroke;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the deserialization of a synthetic page with 100k actions, in the
+ * former and in the compact event encoding. Run with the GC profiler to see
+ * the allocation rate, e.g. by executing the {@link #main} method.
+ *
+ * @author Alex Andres
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordedPageBenchmark {
+
+	private static final int ACTION_COUNT = 100_000;
+
+	/** Actions per stroke, including the begin and end actions. */
+	private static final int STROKE_LENGTH = 100;
+
+	private byte[] formerEvents;
+
+	private byte[] compactEvents;
+
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(RecordedPageBenchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build()).run();
+	}
+
+	@Setup
+	public void setup() throws IOException {
+		RecordedPage page = createPage(new Random(42));
+
+		// The former encoding concatenates the length-prefixed pages.
+		formerEvents = page.toByteArray();
+		compactEvents = new RecordedEvents(List.of(page)).toByteArray();
+	}
+
+	@Benchmark
+	public RecordedEvents parseFormer() throws IOException {
+		return new RecordedEvents(formerEvents);
+	}
+
+	@Benchmark
+	public RecordedEvents parseCompact() throws IOException {
+		return new RecordedEvents(compactEvents);
+	}
+
+	private static RecordedPage createPage(Random random) {
+		RecordedPage page = new RecordedPage();
+		int time = 0;
+		int handle = 0;
+
+		for (int i = 0; i < ACTION_COUNT; i += STROKE_LENGTH) {
+			double x = random.nextDouble();
+			double y = random.nextDouble();
+
+			page.addPlaybackAction(timed(new PenAction(handle++,
+					new Stroke(Color.BLACK, 0.003), null), time));
+			page.addPlaybackAction(timed(new ToolBeginAction(new PenPoint2D(x, y)), time));
+
+			for (int j = 0; j < STROKE_LENGTH - 3; j++) {
+				x += (random.nextDouble() - 0.5) * 0.005;
+				y += (random.nextDouble() - 0.5) * 0.005;
+				time += 5 + random.nextInt(4);
+
+				page.addPlaybackAction(timed(new ToolExecuteAction(
+						new PenPoint2D(x, y, random.nextDouble())), time));
+			}
+
+			page.addPlaybackAction(timed(new ToolEndAction(new PenPoint2D(x, y)), time));
+
+			time += 200;
+		}
+
+		return page;
+	}
+
+	private static PlaybackAction timed(PlaybackAction action, int timestamp) {
+		action.setTimestamp(timestamp);
+		return action;
+	}
+}
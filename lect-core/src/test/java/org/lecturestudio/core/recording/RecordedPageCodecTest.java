@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.graphics.Color;
+import org.lecturestudio.core.input.KeyEvent;
+import org.lecturestudio.core.recording.action.PenAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.StaticShapeAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+import org.lecturestudio.core.recording.action.UndoAction;
+import org.lecturestudio.core.tool.Stroke;
+
+import org.junit.jupiter.api.Test;
+
+class RecordedPageCodecTest {
+
+	@Test
+	void testRoundTrip() throws Exception {
+		RecordedPage page = createPage(new Random(1), 3, 500);
+
+		for (boolean compress : new boolean[] { false, true }) {
+			byte[] data = RecordedPageCodec.encode(page, compress);
+			RecordedPage decoded = RecordedPageCodec.decode(data);
+
+			assertEquals(page.getNumber(), decoded.getNumber());
+			assertEquals(page.getTimestamp(), decoded.getTimestamp());
+			assertEquals(page.getStaticActions().size(), decoded.getStaticActions().size());
+
+			for (int i = 0; i < page.getStaticActions().size(); i++) {
+				assertArrayEquals(page.getStaticActions().get(i).toByteArray(),
+						decoded.getStaticActions().get(i).toByteArray());
+			}
+
+			assertActions(page.getPlaybackActions(), decoded.getPlaybackActions());
+
+			// Quantized data is encoded losslessly.
+			assertArrayEquals(data, RecordedPageCodec.encode(decoded, compress));
+		}
+	}
+
+	@Test
+	void testCompactSize() throws Exception {
+		RecordedPage page = createPage(new Random(2), 0, 2000);
+
+		int formerSize = page.toByteArray().length;
+
+		assertTrue(RecordedPageCodec.encode(page, false).length * 2 < formerSize);
+		assertTrue(RecordedPageCodec.encode(page, true).length * 3 < formerSize);
+	}
+
+	@Test
+	void testCorruptDeflatedData() throws Exception {
+		// Deflate encoding of 100 bytes, followed by a zlib header requesting
+		// a preset dictionary.
+		byte[] presetDictionary = { 1, 100, 0x78, (byte) 0xBB, 0, 0, 0, 1 };
+
+		byte[] deflated = RecordedPageCodec.encode(createPage(new Random(4), 0, 500), true);
+		byte[] truncated = Arrays.copyOf(deflated, deflated.length / 2);
+
+		assertEquals(1, deflated[0]);
+
+		for (byte[] data : List.of(presetDictionary, truncated)) {
+			assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+				assertThrows(IOException.class, () -> RecordedPageCodec.decode(data));
+			});
+		}
+	}
+
+	@Test
+	void testFormerEncoding() throws Exception {
+		Random random = new Random(3);
+		List<RecordedPage> pages = List.of(createPage(random, 1, 50), createPage(random, 0, 80));
+		ByteArrayOutputStream formerData = new ByteArrayOutputStream();
+
+		for (RecordedPage page : pages) {
+			formerData.write(page.toByteArray());
+		}
+
+		RecordedEvents former = new RecordedEvents(formerData.toByteArray());
+		RecordedEvents compact = new RecordedEvents(new RecordedEvents(pages).toByteArray());
+
+		assertEquals(pages.size(), former.getRecordedPages().size());
+		assertEquals(pages.size(), compact.getRecordedPages().size());
+
+		for (int i = 0; i < pages.size(); i++) {
+			assertArrayEquals(pages.get(i).toByteArray(), former.getRecordedPages().get(i).toByteArray());
+			assertActions(pages.get(i).getPlaybackActions(),
+					compact.getRecordedPages().get(i).getPlaybackActions());
+		}
+	}
+
+	private static void assertActions(List<PlaybackAction> expected, List<PlaybackAction> actual)
+			throws Exception {
+		assertEquals(expected.size(), actual.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			PlaybackAction e = expected.get(i);
+			PlaybackAction a = actual.get(i);
+
+			assertEquals(e.getType(), a.getType());
+			assertEquals(e.getTimestamp(), a.getTimestamp());
+			assertEquals(e.getKeyEvent(), a.getKeyEvent());
+
+			if (e instanceof ToolExecuteAction executeAction) {
+				PenPoint2D p = executeAction.getPoint();
+				PenPoint2D q = ((ToolExecuteAction) a).getPoint();
+
+				assertTrue(Math.abs(p.getX() - q.getX()) < 1e-6);
+				assertTrue(Math.abs(p.getY() - q.getY()) < 1e-6);
+				assertTrue(Math.abs(p.getPressure() - q.getPressure()) < 1e-3);
+			}
+			else if (!(e instanceof ToolBeginAction) && !(e instanceof ToolEndAction)) {
+				assertArrayEquals(e.toByteArray(), a.toByteArray());
+			}
+		}
+	}
+
+	private static RecordedPage createPage(Random random, int staticCount, int pointCount) {
+		RecordedPage page = new RecordedPage();
+		page.setNumber(random.nextInt(100));
+		page.setTimestamp(random.nextInt(100000));
+
+		for (int i = 0; i < staticCount; i++) {
+			page.addStaticAction(new StaticShapeAction(
+					new PenAction(i, new Stroke(Color.BLACK, 0.003), null)));
+		}
+
+		int time = page.getTimestamp();
+		double x = random.nextDouble();
+		double y = random.nextDouble();
+
+		page.addPlaybackAction(timed(new PenAction(staticCount,
+				new Stroke(Color.BLACK, 0.003), new KeyEvent(17, 2)), time));
+		page.addPlaybackAction(timed(new ToolBeginAction(new PenPoint2D(x, y)), time));
+
+		for (int i = 0; i < pointCount; i++) {
+			x += (random.nextDouble() - 0.5) * 0.01;
+			y += (random.nextDouble() - 0.5) * 0.01;
+			time += random.nextInt(12);
+
+			PlaybackAction action = new ToolExecuteAction(new PenPoint2D(x, y, random.nextDouble()));
+
+			if (i % 100 == 99) {
+				action.setKeyEvent(new KeyEvent(16));
+			}
+
+			page.addPlaybackAction(timed(action, time));
+		}
+
+		page.addPlaybackAction(timed(new ToolEndAction((PenPoint2D) null), time));
+		page.addPlaybackAction(timed(new UndoAction(), time - 5));
+
+		return page;
+	}
+
+	private static PlaybackAction timed(PlaybackAction action, int timestamp) {
+		action.setTimestamp(timestamp);
+		return action;
+	}
+}
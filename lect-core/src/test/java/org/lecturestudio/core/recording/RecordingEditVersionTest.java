@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+
+import org.lecturestudio.core.recording.Recording.Content;
+import org.lecturestudio.core.recording.edit.EditAction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the {@link RecordingStateVersion} of a {@link Recording} follows
+ * the position in the edit history.
+ */
+class RecordingEditVersionTest {
+
+	private Recording recording;
+
+	private RecordingStateVersion saved;
+
+
+	@BeforeEach
+	void setUp() {
+		recording = new Recording();
+		saved = recording.getStateVersion();
+	}
+
+	@Test
+	void testUndoToSavedState() throws Exception {
+		recording.getEditManager().addEditAction(new DurationAction(1000));
+
+		assertTrue(recording.getStateVersion().isModifiedSince(saved));
+
+		recording.getEditManager().undo();
+
+		assertFalse(recording.getStateVersion().isModifiedSince(saved));
+	}
+
+	@Test
+	void testRedoToSavedState() throws Exception {
+		recording.getEditManager().addEditAction(new DurationAction(1000));
+		recording.getEditManager().addEditAction(new DurationAction(2000));
+
+		saved = recording.getStateVersion();
+
+		recording.getEditManager().undo();
+		recording.getEditManager().undo();
+
+		assertTrue(recording.getStateVersion().isModifiedSince(saved));
+
+		recording.getEditManager().redo();
+		recording.getEditManager().redo();
+
+		assertFalse(recording.getStateVersion().isModifiedSince(saved));
+	}
+
+	@Test
+	void testNewEditAfterUndo() throws Exception {
+		recording.getEditManager().addEditAction(new DurationAction(1000));
+
+		saved = recording.getStateVersion();
+
+		recording.getEditManager().undo();
+		recording.getEditManager().addEditAction(new DurationAction(1000));
+
+		// A different edit at the same depth does not return to the saved state.
+		assertTrue(recording.getStateVersion().isModifiedSince(saved));
+	}
+
+	@Test
+	void testModifiedOutsideEditHistory() throws Exception {
+		recording.getEditManager().addEditAction(new DurationAction(1000));
+		recording.getEditManager().undo();
+
+		// Modifications outside the edit history persist across undo and redo.
+		recording.fireChangeEvent(Content.HEADER);
+
+		recording.getEditManager().redo();
+		recording.getEditManager().undo();
+
+		assertEquals(EnumSet.of(Content.HEADER),
+				recording.getStateVersion().getModifiedContent(saved));
+	}
+
+
+
+	private class DurationAction implements EditAction {
+
+		private final long duration;
+
+		private long previousDuration;
+
+
+		DurationAction(long duration) {
+			this.duration = duration;
+		}
+
+		@Override
+		public void undo() {
+			setDuration(previousDuration);
+		}
+
+		@Override
+		public void redo() {
+			setDuration(duration);
+		}
+
+		@Override
+		public void execute() {
+			previousDuration = recording.getRecordingHeader().getDuration();
+
+			setDuration(duration);
+		}
+
+		private void setDuration(long duration) {
+			recording.getRecordingHeader().setDuration(duration);
+			recording.fireChangeEvent(Content.HEADER);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+
+import org.lecturestudio.core.recording.Recording.Content;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the detection of modified recording parts by
+ * {@link RecordingStateVersion}.
+ */
+class RecordingStateVersionTest {
+
+	@Test
+	void testUnmodified() {
+		RecordingStateVersion saved = new RecordingStateVersion(1, 2, 3, 4, 5);
+		RecordingStateVersion current = new RecordingStateVersion(1, 2, 3, 4, 5);
+
+		assertTrue(current.getModifiedContent(saved).isEmpty());
+	}
+
+	@Test
+	void testModifiedParts() {
+		RecordingStateVersion saved = new RecordingStateVersion(1, 2, 3, 4, 5);
+		RecordingStateVersion current = new RecordingStateVersion(1, 2, 7, 8, 6);
+
+		assertEquals(EnumSet.of(Content.DOCUMENT, Content.EVENTS_CHANGED),
+				current.getModifiedContent(saved));
+	}
+
+	@Test
+	void testEditsOnlyModifiesAll() {
+		RecordingStateVersion saved = new RecordingStateVersion(1, 2, 3, 4, 5);
+		RecordingStateVersion current = new RecordingStateVersion(1, 2, 3, 4, 6);
+
+		assertEquals(EnumSet.of(Content.HEADER, Content.AUDIO, Content.DOCUMENT,
+				Content.EVENTS_CHANGED), current.getModifiedContent(saved));
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.core.recording.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.graphics.Color;
+import org.lecturestudio.core.io.RandomAccessAudioStream;
+import org.lecturestudio.core.model.Document;
+import org.lecturestudio.core.recording.RecordedAudio;
+import org.lecturestudio.core.recording.RecordedDocument;
+import org.lecturestudio.core.recording.RecordedEvents;
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.Recording.Content;
+import org.lecturestudio.core.recording.RecordingHeader;
+import org.lecturestudio.core.recording.action.PenAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+import org.lecturestudio.core.tool.Stroke;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordingFileWriterTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testWriteModifiedEvents() throws Exception {
+		Recording recording = createRecording();
+		File file = tempDir.resolve("recording.presenter").toFile();
+
+		RecordingFileWriter.write(recording, file);
+
+		byte[] saved = Files.readAllBytes(file.toPath());
+
+		recording.getRecordedEvents().getRecordedPages().add(createPage(3, 30000));
+
+		// Save again over the same file, reusing the unchanged sections.
+		RecordingFileWriter.write(recording, file, file,
+				EnumSet.of(Content.EVENTS_CHANGED), null);
+
+		File rewriteFile = tempDir.resolve("rewrite.presenter").toFile();
+		RecordingFileWriter.write(recording, rewriteFile);
+
+		byte[] incremental = Files.readAllBytes(file.toPath());
+		byte[] rewrite = Files.readAllBytes(rewriteFile.toPath());
+
+		RecordingHeader savedHeader = readHeader(saved);
+		RecordingHeader header = readHeader(incremental);
+
+		assertFalse(Arrays.equals(getEvents(saved, savedHeader), getEvents(incremental, header)));
+		assertArrayEquals(getDocument(saved, savedHeader), getDocument(incremental, header));
+		assertArrayEquals(getAudio(saved, savedHeader), getAudio(incremental, header));
+
+		// The result equals a full rewrite, including the checksum.
+		assertArrayEquals(readHeader(rewrite).getChecksum(), header.getChecksum());
+		assertArrayEquals(rewrite, incremental);
+
+		// The temporary file has been moved.
+		try (var files = Files.list(tempDir)) {
+			assertEquals(2, files.count());
+		}
+	}
+
+	@Test
+	void testWriteFormerEventEncoding() throws Exception {
+		Recording recording = createRecording();
+		List<RecordedPage> pages = recording.getRecordedEvents().getRecordedPages();
+
+		// Write the recording as the web vector export does.
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		RecordingFileWriter.write(recording, Channels.newChannel(output),
+				Recording.MIN_FORMAT_VERSION, null);
+
+		ByteBuffer buffer = ByteBuffer.wrap(output.toByteArray());
+
+		RecordingHeader header = new RecordingHeader();
+		byte[] headerData = new byte[header.getHeaderLength()];
+		buffer.get(headerData);
+		header.parseFrom(headerData);
+
+		assertEquals(Recording.MIN_FORMAT_VERSION, header.getVersion());
+
+		int eventsEnd = buffer.position() + header.getEventsLength();
+
+		// Parse the events section in the layout read by the web player.
+		for (RecordedPage page : pages) {
+			int pageEnd = buffer.getInt() + buffer.position();
+
+			assertEquals(page.getNumber(), buffer.getInt());
+			assertEquals(page.getTimestamp(), buffer.getInt());
+
+			// Skip the static actions.
+			int staticLength = buffer.getInt();
+			buffer.position(buffer.position() + staticLength);
+
+			int playbackEnd = buffer.getInt() + buffer.position();
+
+			for (PlaybackAction action : page.getPlaybackActions()) {
+				int actionEnd = buffer.getInt() + buffer.position();
+
+				assertEquals(action.getType().ordinal(), buffer.get());
+				assertEquals(action.getTimestamp(), buffer.getInt());
+
+				buffer.position(actionEnd);
+			}
+
+			assertEquals(playbackEnd, buffer.position());
+			assertEquals(pageEnd, buffer.position());
+		}
+
+		assertEquals(eventsEnd, buffer.position());
+
+		// The former encoding is still read by the recording file reader.
+		byte[] eventData = new byte[header.getEventsLength()];
+		buffer.position(header.getHeaderLength());
+		buffer.get(eventData);
+
+		List<RecordedPage> parsed = new RecordedEvents(eventData).getRecordedPages();
+
+		assertEquals(pages.size(), parsed.size());
+
+		for (int i = 0; i < pages.size(); i++) {
+			assertArrayEquals(pages.get(i).toByteArray(), parsed.get(i).toByteArray());
+		}
+	}
+
+	private Recording createRecording() throws Exception {
+		List<RecordedPage> pages = new ArrayList<>();
+
+		for (int i = 0; i < 3; i++) {
+			pages.add(createPage(i, i * 10000));
+		}
+
+		RecordingHeader header = new RecordingHeader();
+		header.setDuration(30000);
+
+		Recording recording = new Recording();
+		recording.setRecordingHeader(header);
+		recording.setRecordedEvents(new RecordedEvents(pages));
+		recording.setRecordedDocument(createDocument(Files.readAllBytes(getFile("empty.pdf").toPath())));
+		recording.setRecordedAudio(new RecordedAudio(new RandomAccessAudioStream(getFile("8khz-mono.wav"))));
+
+		return recording;
+	}
+
+	private static RecordingHeader readHeader(byte[] data) throws Exception {
+		RecordingHeader header = new RecordingHeader();
+		header.parseFrom(Arrays.copyOf(data, header.getHeaderLength()));
+
+		return header;
+	}
+
+	private static byte[] getEvents(byte[] data, RecordingHeader header) {
+		int offset = header.getHeaderLength();
+
+		return Arrays.copyOfRange(data, offset, offset + header.getEventsLength());
+	}
+
+	private static byte[] getDocument(byte[] data, RecordingHeader header) {
+		int offset = header.getHeaderLength() + header.getEventsLength();
+
+		return Arrays.copyOfRange(data, offset, offset + header.getDocumentLength());
+	}
+
+	private static byte[] getAudio(byte[] data, RecordingHeader header) {
+		int offset = header.getHeaderLength() + header.getEventsLength()
+				+ header.getDocumentLength();
+
+		return Arrays.copyOfRange(data, offset, data.length);
+	}
+
+	/**
+	 * Creates a document with fixed content, since the file layout does not
+	 * depend on the PDF backends.
+	 */
+	private static RecordedDocument createDocument(byte[] data) {
+		return new RecordedDocument((Document) null) {
+
+			@Override
+			public byte[] toByteArray() {
+				return data;
+			}
+		};
+	}
+
+	private static RecordedPage createPage(int number, int timestamp) {
+		RecordedPage page = new RecordedPage();
+		page.setNumber(number);
+		page.setTimestamp(timestamp);
+
+		int time = timestamp + 1000;
+
+		page.addPlaybackAction(timed(new PenAction(number,
+				new Stroke(Color.BLACK, 0.003), null), time));
+		page.addPlaybackAction(timed(new ToolBeginAction(new PenPoint2D(0.1, 0.1)), time));
+
+		for (int i = 0; i < 50; i++) {
+			time += 10;
+
+			page.addPlaybackAction(timed(new ToolExecuteAction(
+					new PenPoint2D(0.1 + i * 0.01, 0.1 + i * 0.005, 0.5)), time));
+		}
+
+		page.addPlaybackAction(timed(new ToolEndAction(new PenPoint2D(0.6, 0.35)), time));
+
+		return page;
+	}
+
+	private static PlaybackAction timed(PlaybackAction action, int timestamp) {
+		action.setTimestamp(timestamp);
+		return action;
+	}
+
+	private File getFile(String file) {
+		return new File(getClass().getClassLoader().getResource(file).getFile());
+	}
+}
@@ -30,6 +30,9 @@ public class EditorConfiguration extends Configuration {
 	/** The threshold value in milliseconds for merging annotations. */
 	private final IntegerProperty actionsUniteThreshold = new IntegerProperty(700);
 
+	/** The memory in megabytes the edit history may occupy before being spilled to disk. */
+	private final IntegerProperty editHistoryMemoryLimit = new IntegerProperty(256);
+
 
 	/**
 	 * Get the path where the video export files are stored at.
@@ -84,4 +87,31 @@ public class EditorConfiguration extends Configuration {
 	public IntegerProperty actionsUniteThresholdProperty() {
 		return actionsUniteThreshold;
 	}
+
+	/**
+	 * Get the memory limit of the edit history in megabytes.
+	 *
+	 * @return the edit history memory limit.
+	 */
+	public int getEditHistoryMemoryLimit() {
+		return editHistoryMemoryLimit.get();
+	}
+
+	/**
+	 * Set the memory limit of the edit history in megabytes.
+	 *
+	 * @param limit the edit history memory limit.
+	 */
+	public void setEditHistoryMemoryLimit(int limit) {
+		this.editHistoryMemoryLimit.set(limit);
+	}
+
+	/**
+	 * Get the edit history memory limit property.
+	 *
+	 * @return the edit history memory limit property.
+	 */
+	public IntegerProperty editHistoryMemoryLimitProperty() {
+		return editHistoryMemoryLimit;
+	}
 }
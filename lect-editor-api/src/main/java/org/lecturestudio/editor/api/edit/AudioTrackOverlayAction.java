@@ -22,6 +22,7 @@ import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.model.Interval;
 import org.lecturestudio.core.recording.RecordedAudio;
 import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.Recording.Content;
 import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.edit.EditAction;
 import org.lecturestudio.editor.api.service.RecordingPlaybackService;
@@ -72,6 +73,11 @@ public class AudioTrackOverlayAction implements EditAction {
 		this.playbackService = playbackService;
 		this.controlChangeListener = () -> {
 			setAudioVolumeFilter(control);
+
+			// The filter is applied to the playback stream directly. Only mark
+			// the audio as modified, since the control changes continuously
+			// while the volume is adjusted.
+			recording.getRecordedAudio().markModified();
 		};
 		this.controlRemoveListener = () -> {
 			try {
@@ -109,6 +115,8 @@ public class AudioTrackOverlayAction implements EditAction {
 		control.removeChangeListener(controlChangeListener);
 
 		removeAudioVolumeFilter(control);
+
+		recording.fireChangeEvent(Content.AUDIO);
 	}
 
 	@Override
@@ -124,6 +132,8 @@ public class AudioTrackOverlayAction implements EditAction {
 		control.addRemoveListener(controlRemoveListener);
 
 		setAudioVolumeFilter(control);
+
+		recording.fireChangeEvent(Content.AUDIO);
 	}
 
 	private void setAudioVolumeFilter(AudioFilterControl<?> control) {
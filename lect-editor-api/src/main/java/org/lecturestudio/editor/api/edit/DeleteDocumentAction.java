@@ -19,20 +19,22 @@
 package org.lecturestudio.editor.api.edit;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.lecturestudio.core.model.Document;
-import org.lecturestudio.core.model.Page;
 import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.RecordedDocument;
 import org.lecturestudio.core.recording.edit.RecordedObjectAction;
+import org.lecturestudio.core.recording.edit.SpillableEditAction;
 
-public class DeleteDocumentAction extends RecordedObjectAction<RecordedDocument> {
+public class DeleteDocumentAction extends RecordedObjectAction<RecordedDocument>
+		implements SpillableEditAction {
 
 	private final List<Integer> pages = new ArrayList<>();
 
-	private byte[] docStream;
+	private final DocumentPagesBackup backup = new DocumentPagesBackup();
 
 
 	public DeleteDocumentAction(RecordedDocument lectureObject) {
@@ -49,12 +51,7 @@ public class DeleteDocumentAction extends RecordedObjectAction<RecordedDocument>
 			return;
 		}
 
-		try {
-			getRecordedObject().parseFrom(docStream);
-		}
-		catch (IOException e) {
-			throw new RecordingEditException(e);
-		}
+		restoreDocument();
 	}
 
 	@Override
@@ -68,30 +65,60 @@ public class DeleteDocumentAction extends RecordedObjectAction<RecordedDocument>
 
 	@Override
 	public void execute() throws RecordingEditException {
+		if (pages.isEmpty()) {
+			return;
+		}
+
 		Document document = getDocument();
-		List<Page> removeList = new ArrayList<>();
 
 		try {
-			docStream = getRecordedObject().toByteArray();
+			// Keep only the pages to be removed.
+			backup.backup(document, pages);
 		}
 		catch (IOException e) {
 			throw new RecordingEditException(e);
 		}
 
-		for (int pageNumber : pages) {
-			removeList.add(document.getPage(pageNumber));
-		}
-		for (Page page : removeList) {
-			document.removePage(page);
-		}
+		// Remove the pages from the live document.
+		document.removePages(pages.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	@Override
+	public long getStateSize() {
+		return backup.getSize();
+	}
+
+	@Override
+	public boolean isSpilled() {
+		return backup.isSpilled();
+	}
+
+	@Override
+	public void spill(Path directory) throws IOException {
+		backup.spill(directory);
+	}
 
-		// Serialize and load changed document.
+	@Override
+	public void restore() throws IOException {
+		backup.load();
+	}
+
+	@Override
+	public void dispose() {
+		backup.dispose();
+	}
+
+	private void restoreDocument() throws RecordingEditException {
 		try {
-			getRecordedObject().parseFrom(getRecordedObject().toByteArray());
+			// Insert the removed pages into the live document.
+			backup.restore(getDocument());
 		}
 		catch (IOException e) {
 			throw new RecordingEditException(e);
 		}
+
+		// Redo will take a new backup.
+		backup.dispose();
 	}
 
 	private Document getDocument() {
@@ -19,17 +19,21 @@
 package org.lecturestudio.editor.api.edit;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.recording.RecordedDocument;
 import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.edit.RecordedObjectAction;
+import org.lecturestudio.core.recording.edit.SpillableEditAction;
 
-public class DeleteDocumentPageAction extends RecordedObjectAction<RecordedDocument> {
+public class DeleteDocumentPageAction extends RecordedObjectAction<RecordedDocument>
+		implements SpillableEditAction {
 
 	private final int pageNumber;
 
-	private byte[] docStream;
+	private final DocumentPagesBackup backup = new DocumentPagesBackup();
 
 
 	public DeleteDocumentPageAction(RecordedDocument lectureObject, int pageNumber) {
@@ -40,12 +44,7 @@ public class DeleteDocumentPageAction extends RecordedObjectAction<RecordedDocum
 
 	@Override
 	public void undo() throws RecordingEditException {
-		try {
-			getRecordedObject().parseFrom(docStream);
-		}
-		catch (IOException e) {
-			throw new RecordingEditException(e);
-		}
+		restoreDocument();
 	}
 
 	@Override
@@ -55,23 +54,59 @@ public class DeleteDocumentPageAction extends RecordedObjectAction<RecordedDocum
 
 	@Override
 	public void execute() throws RecordingEditException {
-		Document document = getRecordedObject().getDocument();
+		Document document = getDocument();
 
 		try {
-			docStream = getRecordedObject().toByteArray();
+			// Keep only the page to be removed.
+			backup.backup(document, List.of(pageNumber));
 		}
 		catch (IOException e) {
 			throw new RecordingEditException(e);
 		}
 
-		document.removePage(document.getPage(pageNumber));
+		// Remove the page from the live document.
+		document.removePages(new int[] { pageNumber });
+	}
+
+	@Override
+	public long getStateSize() {
+		return backup.getSize();
+	}
+
+	@Override
+	public boolean isSpilled() {
+		return backup.isSpilled();
+	}
+
+	@Override
+	public void spill(Path directory) throws IOException {
+		backup.spill(directory);
+	}
+
+	@Override
+	public void restore() throws IOException {
+		backup.load();
+	}
+
+	@Override
+	public void dispose() {
+		backup.dispose();
+	}
 
-		// Serialize and load changed document.
+	private void restoreDocument() throws RecordingEditException {
 		try {
-			getRecordedObject().parseFrom(getRecordedObject().toByteArray());
+			// Insert the removed pages into the live document.
+			backup.restore(getDocument());
 		}
 		catch (IOException e) {
 			throw new RecordingEditException(e);
 		}
+
+		// Redo will take a new backup.
+		backup.dispose();
+	}
+
+	private Document getDocument() {
+		return getRecordedObject().getDocument();
 	}
 }
@@ -18,6 +18,10 @@
 
 package org.lecturestudio.editor.api.edit;
 
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,11 +30,12 @@ import java.util.Map;
 import org.lecturestudio.core.model.Interval;
 import org.lecturestudio.core.recording.RecordedEvents;
 import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.edit.RecordedObjectAction;
+import org.lecturestudio.core.recording.edit.SpillableEditAction;
 
-public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
-
-	private final List<RecordedPage> backupPages = new ArrayList<>();
+public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents>
+		implements SpillableEditAction {
 
 	private final List<Integer> removedPages = new ArrayList<>();
 
@@ -38,6 +43,8 @@ public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
 
 	private final Interval<Integer> editInterval;
 
+	private RecordedPagesSnapshot snapshot;
+
 	private Integer shiftPage;
 
 
@@ -65,15 +72,12 @@ public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
 		List<RecordedPage> recPages = lecturePages.getRecordedPages();
 		int lastRemoved = 0;
 
-		// Create backup.
-		backupPages.clear();
-		for (RecordedPage page : recPages) {
-			backupPages.add(page.clone());
-		}
+		// Pages are shared with the snapshot and copied only when cut.
+		snapshot = new RecordedPagesSnapshot(recPages);
 
 		// Remove pages.
 		for (Integer number : removedPages) {
-			lecturePages.removePage(number);
+			snapshot.remove(recPages, lecturePages.getRecordedPage(number));
 			lastRemoved = number;
 		}
 
@@ -82,17 +86,20 @@ public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
 			Integer number = entry.getKey();
 			Interval<Integer> interval = entry.getValue();
 
-			RecordedPage recPage = lecturePages.getRecordedPage(number);
+			RecordedPage recPage = snapshot.copyOnWrite(recPages,
+					lecturePages.getRecordedPage(number));
 			recPage.cut(interval);
 		}
 
 		if (shiftPage != null) {
 			RecordedPage recPage = lecturePages.getRecordedPage(shiftPage);
+			snapshot.track(recPage);
 			recPage.setTimestamp(editInterval.getStart());
 		}
 
 		// Shift page numbers and time stamps.
 		for (RecordedPage page : recPages) {
+			snapshot.track(page);
 			page.shift(editInterval);
 
 			if (page.getNumber() > lastRemoved) {
@@ -102,12 +109,19 @@ public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
 	}
 
 	@Override
-	public void undo() {
+	public void undo() throws RecordingEditException {
 		RecordedEvents lecturePages = getRecordedObject();
 		List<RecordedPage> recPages = lecturePages.getRecordedPages();
 
-		recPages.clear();
-		recPages.addAll(backupPages);
+		try {
+			snapshot.restore(recPages);
+		}
+		catch (IOException e) {
+			throw new RecordingEditException(e);
+		}
+
+		// Redo will take a new snapshot.
+		dispose();
 	}
 
 	@Override
@@ -115,4 +129,36 @@ public class DeleteEventsAction extends RecordedObjectAction<RecordedEvents> {
 		execute();
 	}
 
+	@Override
+	public long getStateSize() {
+		return nonNull(snapshot) ? snapshot.getSize() : 0;
+	}
+
+	@Override
+	public boolean isSpilled() {
+		return nonNull(snapshot) && snapshot.isSpilled();
+	}
+
+	@Override
+	public void spill(Path directory) throws IOException {
+		if (nonNull(snapshot)) {
+			snapshot.spill(directory);
+		}
+	}
+
+	@Override
+	public void restore() throws IOException {
+		if (nonNull(snapshot)) {
+			snapshot.load();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		if (nonNull(snapshot)) {
+			snapshot.dispose();
+			snapshot = null;
+		}
+	}
+
 }
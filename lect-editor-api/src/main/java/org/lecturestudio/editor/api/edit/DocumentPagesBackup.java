@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.editor.api.edit;
+
+import static java.util.Objects.nonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import org.lecturestudio.core.model.Document;
+
+/**
+ * Page-level backup of a document. Instead of serializing the whole document
+ * only the pages that are about to be removed are extracted into a small
+ * standalone PDF, which can be re-inserted at their original positions.
+ *
+ * @author Alex Andres
+ */
+public class DocumentPagesBackup {
+
+	/** The sorted page indices of the backed up pages. */
+	private int[] pageIndices = new int[0];
+
+	/** The serialized PDF containing only the backed up pages. */
+	private byte[] pageData;
+
+	/** The file containing the spilled page data. */
+	private Path spillFile;
+
+
+	/**
+	 * Extracts the pages with the specified indices from the document.
+	 *
+	 * @param document The document containing the pages.
+	 * @param indices  The indices of the pages to back up.
+	 *
+	 * @throws IOException If the pages cannot be extracted.
+	 */
+	public void backup(Document document, Collection<Integer> indices) throws IOException {
+		dispose();
+
+		pageIndices = indices.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+		Document pages = new Document();
+
+		try {
+			for (int pageIndex : pageIndices) {
+				pages.createPage(document.getPage(pageIndex));
+			}
+
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			pages.toOutputStream(stream);
+
+			pageData = stream.toByteArray();
+		}
+		finally {
+			pages.close();
+		}
+	}
+
+	/**
+	 * Re-inserts the backed up pages into the live document at their original
+	 * positions. The document does not need to be reloaded afterwards.
+	 *
+	 * @param document The document to insert the pages into.
+	 *
+	 * @throws IOException If the pages cannot be inserted.
+	 */
+	public void restore(Document document) throws IOException {
+		load();
+
+		// The document takes ownership of the page source.
+		document.restorePages(new Document(pageData), pageIndices);
+	}
+
+	/**
+	 * @return the number of bytes held in memory.
+	 */
+	public long getSize() {
+		return nonNull(pageData) ? pageData.length : 0;
+	}
+
+	/**
+	 * @return {@code true} if the page data has been written to disk.
+	 */
+	public boolean isSpilled() {
+		return nonNull(spillFile);
+	}
+
+	/**
+	 * Writes the page data into a file in the specified directory and releases
+	 * the in-memory copy.
+	 *
+	 * @param directory The directory where to store the page data.
+	 *
+	 * @throws IOException If the page data cannot be written.
+	 */
+	public void spill(Path directory) throws IOException {
+		if (isSpilled() || pageData == null) {
+			return;
+		}
+
+		Path file = Files.createTempFile(directory, "undo-doc", ".pdf");
+		Files.write(file, pageData);
+
+		spillFile = file;
+		pageData = null;
+	}
+
+	/**
+	 * Loads previously spilled page data back into memory.
+	 *
+	 * @throws IOException If the page data cannot be read.
+	 */
+	public void load() throws IOException {
+		if (!isSpilled()) {
+			return;
+		}
+
+		pageData = Files.readAllBytes(spillFile);
+
+		Files.deleteIfExists(spillFile);
+
+		spillFile = null;
+	}
+
+	/**
+	 * Releases the page data, including the spill file.
+	 */
+	public void dispose() {
+		if (isSpilled()) {
+			try {
+				Files.deleteIfExists(spillFile);
+			}
+			catch (IOException e) {
+				// Nothing to do, the file resides in the temp directory.
+			}
+
+			spillFile = null;
+		}
+
+		pageData = null;
+	}
+}
@@ -89,6 +89,7 @@ public class InsertPdfPageAction implements EditAction {
 		restoreDocument();
 		restorePages();
 
+		recording.fireChangeEvent(Content.DOCUMENT);
 		recording.fireChangeEvent(Content.EVENTS_CHANGED);
 	}
 
@@ -111,6 +112,7 @@ public class InsertPdfPageAction implements EditAction {
 		updateDocument(insertIndex);
 		updatePages(insertIndex);
 
+		recording.fireChangeEvent(Content.DOCUMENT);
 		recording.fireChangeEvent(Content.EVENTS_CHANGED);
 	}
 
@@ -0,0 +1,387 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.editor.api.edit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+
+/**
+ * A copy-on-write snapshot of the recorded pages of a recording. The snapshot
+ * shares all page objects with the live page list. A page is only copied when
+ * its content is about to be modified, in which case the untouched original is
+ * kept by the snapshot. Pages that only change their number or timestamps are
+ * shared as well; for these the snapshot records the few values required to
+ * revert them.
+ * <p>
+ * Edits are undone in reverse order, so shared pages are guaranteed to be in
+ * the state they had right after this snapshot's edit when it is restored.
+ *
+ * @author Alex Andres
+ */
+public class RecordedPagesSnapshot {
+
+	/** Rough estimate of the heap size of a single recorded action. */
+	private static final int ACTION_SIZE_ESTIMATE = 96;
+
+	/** The page list before the edit. Detached pages are null if spilled. */
+	private final List<RecordedPage> pages;
+
+	/** Originals that have been removed from, or copied in, the live list. */
+	private final Set<RecordedPage> detached = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/** The copies created by this snapshot, owned by the live list. */
+	private final Set<RecordedPage> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/** The state of shared pages before they were modified. */
+	private final Map<RecordedPage, PageState> states = new IdentityHashMap<>();
+
+	/** The file containing the spilled state. */
+	private Path spillFile;
+
+
+	/**
+	 * Creates a new {@code RecordedPagesSnapshot} of the specified pages.
+	 *
+	 * @param livePages The current pages of the recording.
+	 */
+	public RecordedPagesSnapshot(List<RecordedPage> livePages) {
+		this.pages = new ArrayList<>(livePages);
+	}
+
+	/**
+	 * Removes the specified page from the live page list. The page itself
+	 * remains untouched.
+	 *
+	 * @param livePages The current pages of the recording.
+	 * @param page      The page to remove.
+	 */
+	public void remove(List<RecordedPage> livePages, RecordedPage page) {
+		if (isNull(page) || !livePages.remove(page)) {
+			return;
+		}
+
+		detach(page);
+	}
+
+	/**
+	 * Replaces the specified page in the live page list with a copy that may
+	 * be modified freely. Calling this method on a copy created by this
+	 * snapshot returns the copy itself.
+	 *
+	 * @param livePages The current pages of the recording.
+	 * @param page      The page to modify.
+	 *
+	 * @return the page to apply the modifications to.
+	 */
+	public RecordedPage copyOnWrite(List<RecordedPage> livePages, RecordedPage page) {
+		if (copies.contains(page)) {
+			return page;
+		}
+
+		int index = indexOf(livePages, page);
+		if (index < 0) {
+			throw new IllegalArgumentException("Page is not part of the recording");
+		}
+
+		RecordedPage copy = page.clone();
+		livePages.set(index, copy);
+
+		copies.add(copy);
+		detach(page);
+
+		return copy;
+	}
+
+	/**
+	 * Records the page number and timestamps of the specified shared page
+	 * before it is shifted or renumbered. Page copies created by this snapshot
+	 * are ignored.
+	 *
+	 * @param page The page to be modified.
+	 */
+	public void track(RecordedPage page) {
+		if (copies.contains(page) || detached.contains(page) || states.containsKey(page)) {
+			return;
+		}
+
+		states.put(page, new PageState(page));
+	}
+
+	/**
+	 * Restores the live page list to the state this snapshot was taken of.
+	 *
+	 * @param livePages The current pages of the recording.
+	 *
+	 * @throws IOException If spilled state cannot be loaded.
+	 */
+	public void restore(List<RecordedPage> livePages) throws IOException {
+		load();
+
+		for (Map.Entry<RecordedPage, PageState> entry : states.entrySet()) {
+			entry.getValue().apply(entry.getKey());
+		}
+
+		livePages.clear();
+		livePages.addAll(pages);
+	}
+
+	/**
+	 * @return the estimated number of bytes held in memory by this snapshot.
+	 */
+	public long getSize() {
+		if (isSpilled()) {
+			return 0;
+		}
+
+		long size = (long) pages.size() * Integer.BYTES;
+
+		for (RecordedPage page : detached) {
+			size += (long) (page.getStaticActions().size()
+					+ page.getPlaybackActions().size()) * ACTION_SIZE_ESTIMATE;
+		}
+		for (PageState state : states.values()) {
+			size += state.getSize();
+		}
+
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the snapshot state has been written to disk.
+	 */
+	public boolean isSpilled() {
+		return nonNull(spillFile);
+	}
+
+	/**
+	 * Writes the detached pages and the recorded page states into a file in
+	 * the specified directory. Shared pages are kept by reference.
+	 *
+	 * @param directory The directory where to store the state.
+	 *
+	 * @throws IOException If the state cannot be written.
+	 */
+	public void spill(Path directory) throws IOException {
+		if (isSpilled()) {
+			return;
+		}
+
+		Path file = Files.createTempFile(directory, "undo-pages", ".bin");
+
+		try (DataOutputStream stream = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(file)))) {
+			stream.writeInt(pages.size());
+
+			for (RecordedPage page : pages) {
+				if (detached.contains(page)) {
+					// The compact page encoding quantizes pen points, but undo
+					// must restore the pages exactly.
+					stream.writeBoolean(true);
+					stream.write(page.toByteArray());
+				}
+				else {
+					stream.writeBoolean(false);
+
+					PageState state = states.get(page);
+					stream.writeBoolean(nonNull(state));
+
+					if (nonNull(state)) {
+						state.write(stream);
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+
+		for (int i = 0; i < pages.size(); i++) {
+			if (detached.contains(pages.get(i))) {
+				pages.set(i, null);
+			}
+		}
+
+		detached.clear();
+		states.clear();
+
+		spillFile = file;
+	}
+
+	/**
+	 * Loads the previously spilled state back into memory.
+	 *
+	 * @throws IOException If the state cannot be read.
+	 */
+	public void load() throws IOException {
+		if (!isSpilled()) {
+			return;
+		}
+
+		try (DataInputStream stream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(spillFile)))) {
+			int count = stream.readInt();
+
+			for (int i = 0; i < count; i++) {
+				boolean isDetached = stream.readBoolean();
+
+				if (isDetached) {
+					byte[] pageData = new byte[stream.readInt()];
+					stream.readFully(pageData);
+
+					RecordedPage page = new RecordedPage(pageData);
+					pages.set(i, page);
+					detached.add(page);
+				}
+				else if (stream.readBoolean()) {
+					states.put(pages.get(i), PageState.read(stream));
+				}
+			}
+		}
+
+		Files.deleteIfExists(spillFile);
+
+		spillFile = null;
+	}
+
+	/**
+	 * Releases all state held by this snapshot, including the spill file.
+	 */
+	public void dispose() {
+		if (isSpilled()) {
+			try {
+				Files.deleteIfExists(spillFile);
+			}
+			catch (IOException e) {
+				// Nothing to do, the file resides in the temp directory.
+			}
+
+			spillFile = null;
+		}
+
+		pages.clear();
+		detached.clear();
+		copies.clear();
+		states.clear();
+	}
+
+	private void detach(RecordedPage page) {
+		states.remove(page);
+
+		if (pages.stream().anyMatch(p -> p == page)) {
+			detached.add(page);
+		}
+	}
+
+	private static int indexOf(List<RecordedPage> list, RecordedPage page) {
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) == page) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * The mutable scalar state of a shared page: its number and timestamps.
+	 */
+	private static class PageState {
+
+		private final int number;
+
+		private final int timestamp;
+
+		private final int[] actionTimestamps;
+
+
+		PageState(RecordedPage page) {
+			List<PlaybackAction> actions = page.getPlaybackActions();
+
+			number = page.getNumber();
+			timestamp = page.getTimestamp();
+			actionTimestamps = new int[actions.size()];
+
+			for (int i = 0; i < actionTimestamps.length; i++) {
+				actionTimestamps[i] = actions.get(i).getTimestamp();
+			}
+		}
+
+		PageState(int number, int timestamp, int[] actionTimestamps) {
+			this.number = number;
+			this.timestamp = timestamp;
+			this.actionTimestamps = actionTimestamps;
+		}
+
+		void apply(RecordedPage page) {
+			List<PlaybackAction> actions = page.getPlaybackActions();
+			int count = Math.min(actions.size(), actionTimestamps.length);
+
+			page.setNumber(number);
+			page.setTimestamp(timestamp);
+
+			for (int i = 0; i < count; i++) {
+				actions.get(i).setTimestamp(actionTimestamps[i]);
+			}
+		}
+
+		long getSize() {
+			return 2L * Integer.BYTES + (long) actionTimestamps.length * Integer.BYTES;
+		}
+
+		void write(DataOutputStream stream) throws IOException {
+			stream.writeInt(number);
+			stream.writeInt(timestamp);
+			stream.writeInt(actionTimestamps.length);
+
+			for (int time : actionTimestamps) {
+				stream.writeInt(time);
+			}
+		}
+
+		static PageState read(DataInputStream stream) throws IOException {
+			int number = stream.readInt();
+			int timestamp = stream.readInt();
+			int[] actionTimestamps = new int[stream.readInt()];
+
+			for (int i = 0; i < actionTimestamps.length; i++) {
+				actionTimestamps[i] = stream.readInt();
+			}
+
+			return new PageState(number, timestamp, actionTimestamps);
+		}
+	}
+}
@@ -18,6 +18,8 @@
 
 package org.lecturestudio.editor.api.edit;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.lecturestudio.core.model.Interval;
@@ -25,14 +27,16 @@ import org.lecturestudio.core.recording.Recording;
 import org.lecturestudio.core.recording.Recording.Content;
 import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.edit.EditAction;
+import org.lecturestudio.core.recording.edit.SpillableEditAction;
 
 /**
  * Base class for specific {@code EditAction}s that maintains granular
  * sub-actions and the {@code Recording} on which the action is applied to.
+ * The undo state of spillable sub-actions is exposed to the edit manager.
  *
  * @author Alex Andres
  */
-public abstract class RecordingAction implements EditAction {
+public abstract class RecordingAction implements SpillableEditAction {
 
 	/**
 	 * The recording on which to operate.
@@ -90,6 +94,57 @@ public abstract class RecordingAction implements EditAction {
 		fireChangeEvent(duration);
 	}
 
+	@Override
+	public long getStateSize() {
+		long size = 0;
+
+		for (EditAction action : editActions) {
+			if (action instanceof SpillableEditAction spillable) {
+				size += spillable.getStateSize();
+			}
+		}
+
+		return size;
+	}
+
+	@Override
+	public boolean isSpilled() {
+		for (EditAction action : editActions) {
+			if (action instanceof SpillableEditAction spillable && spillable.isSpilled()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void spill(Path directory) throws IOException {
+		for (EditAction action : editActions) {
+			if (action instanceof SpillableEditAction spillable) {
+				spillable.spill(directory);
+			}
+		}
+	}
+
+	@Override
+	public void restore() throws IOException {
+		for (EditAction action : editActions) {
+			if (action instanceof SpillableEditAction spillable) {
+				spillable.restore();
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		for (EditAction action : editActions) {
+			if (action instanceof SpillableEditAction spillable) {
+				spillable.dispose();
+			}
+		}
+	}
+
 	/**
 	 * Returns the duration this action comprises. This method is meant to be
 	 * overridden by sub-classes to provide specific duration. By default
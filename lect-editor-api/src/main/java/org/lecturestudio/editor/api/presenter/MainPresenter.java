@@ -63,8 +63,10 @@ import org.lecturestudio.core.view.ViewLayer;
 import org.lecturestudio.media.recording.RecordingEvent;
 import org.lecturestudio.editor.api.input.Shortcut;
 import org.lecturestudio.editor.api.service.RecordingFileService;
+import org.lecturestudio.editor.api.util.CloseSearchIndexHandler;
 import org.lecturestudio.editor.api.util.SaveRecordingHandler;
 import org.lecturestudio.editor.api.view.MainView;
+import org.lecturestudio.media.search.SearchService;
 import org.lecturestudio.web.api.model.GitHubRelease;
 import org.lecturestudio.web.api.service.VersionChecker;
 
@@ -86,6 +88,8 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 
 	private final RecordingFileService recordingService;
 
+	private final SearchService searchService;
+
 	private SlidesPresenter slidesPresenter;
 
 	/** The waiting notification. */
@@ -97,13 +101,15 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 			NotificationPopupManager popupManager,
 			ViewContextFactory contextFactory,
 			RecentDocumentService recentDocumentService,
-			RecordingFileService recordingService) {
+			RecordingFileService recordingService,
+			SearchService searchService) {
 		super(context, view);
 
 		this.popupManager = popupManager;
 		this.contextFactory = contextFactory;
 		this.recentDocumentService = recentDocumentService;
 		this.recordingService = recordingService;
+		this.searchService = searchService;
 		this.viewMap = new ObservableHashMap<>();
 		this.shortcutMap = new HashMap<>();
 		this.contexts = new ArrayList<>();
@@ -140,6 +146,7 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 
 		addShutdownHandler(new SaveRecordingHandler(context, recordingService));
 		addShutdownHandler(new SaveConfigurationHandler(context));
+		addShutdownHandler(new CloseSearchIndexHandler(searchService));
 		addShutdownHandler(new ShutdownHandler() {
 
 			@Override
@@ -39,6 +39,7 @@ import org.lecturestudio.core.bus.event.DocumentEvent;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.Interval;
 import org.lecturestudio.core.presenter.Presenter;
+import org.lecturestudio.core.recording.Recording;
 import org.lecturestudio.core.presenter.command.ShowPresenterCommand;
 import org.lecturestudio.core.util.FileUtils;
 import org.lecturestudio.core.view.FileChooserView;
@@ -52,6 +53,9 @@ import org.lecturestudio.editor.api.presenter.command.SplitAndSaveRecordingComma
 import org.lecturestudio.editor.api.service.RecordingFileService;
 import org.lecturestudio.editor.api.service.RecordingPlaybackService;
 import org.lecturestudio.editor.api.view.MediaTrackControlsView;
+import org.lecturestudio.media.recording.RecordingEvent;
+import org.lecturestudio.media.search.RecordingSearchHit;
+import org.lecturestudio.media.search.SearchHit;
 import org.lecturestudio.media.search.SearchService;
 import org.lecturestudio.media.search.SearchState;
 
@@ -142,6 +146,24 @@ public class MediaTrackControlsPresenter extends Presenter<MediaTrackControlsVie
 		}
 	}
 
+	@Subscribe
+	public void onEvent(RecordingEvent event) {
+		if (event.created()) {
+			searchService.createIndex(event.getRecording())
+				.exceptionally(throwable -> {
+					logException(throwable, "Create recording search index failed");
+					return null;
+				});
+		}
+		else if (event.closed()) {
+			searchService.destroyIndex(event.getRecording())
+				.exceptionally(throwable -> {
+					logException(throwable, "Destroy recording search index failed");
+					return null;
+				});
+		}
+	}
+
 	private void undo() {
 		recordingService.undoChanges()
 			.exceptionally(throwable -> {
@@ -318,11 +340,13 @@ public class MediaTrackControlsPresenter extends Presenter<MediaTrackControlsVie
 
 
 	private void search(String text) {
-		if (isNull(text) || text.isEmpty() || text.isBlank()) {
+		Recording recording = recordingService.getSelectedRecording();
+
+		if (isNull(text) || text.isEmpty() || text.isBlank() || isNull(recording)) {
 			view.setSearchState(null);
 		}
 		else {
-			searchService.searchIndex(text)
+			searchService.searchIndex(recording, text)
 					.thenAccept(searchResult -> {
 						searchState = new SearchState(searchResult);
 
@@ -336,10 +360,10 @@ public class MediaTrackControlsPresenter extends Presenter<MediaTrackControlsVie
 	}
 
 	private void previousFoundPage() {
-		int pageIndex = searchState.selectPreviousIndex();
+		SearchHit hit = searchState.selectPreviousHit();
 
 		try {
-			playbackService.selectPage(pageIndex);
+			selectHit(hit);
 		}
 		catch (Exception e) {
 			handleException(e, "Select page failed", "select.recording.page.error");
@@ -349,10 +373,10 @@ public class MediaTrackControlsPresenter extends Presenter<MediaTrackControlsVie
 	}
 
 	private void nextFoundPage() {
-		int pageIndex = searchState.selectNextIndex();
+		SearchHit hit = searchState.selectNextHit();
 
 		try {
-			playbackService.selectPage(pageIndex);
+			selectHit(hit);
 		}
 		catch (Exception e) {
 			handleException(e, "Select page failed", "select.recording.page.error");
@@ -361,6 +385,16 @@ public class MediaTrackControlsPresenter extends Presenter<MediaTrackControlsVie
 		view.setSearchState(searchState);
 	}
 
+	private void selectHit(SearchHit hit) throws Exception {
+		if (hit instanceof RecordingSearchHit recordingHit) {
+			// Jump to the moment the text appeared on screen.
+			playbackService.seek(recordingHit.getStartTime());
+		}
+		else {
+			playbackService.selectPage(hit.getPageIndex());
+		}
+	}
+
 	private void zoomIn() {
 		EditorContext editorContext = (EditorContext) context;
 		double level = editorContext.getTrackZoomLevel();
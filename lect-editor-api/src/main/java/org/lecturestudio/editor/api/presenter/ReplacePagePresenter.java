@@ -47,6 +47,9 @@ public class ReplacePagePresenter extends Presenter<ReplacePageView> {
 
 	private Document newDoc;
 
+	/** Completes once the replacing document has been indexed. */
+	private CompletableFuture<Void> newDocIndex;
+
 	private Document currentDoc;
 
 	private ReplacePageType replacePageType = ReplacePageType.REPLACE_SINGLE_PAGE;
@@ -131,7 +134,7 @@ public class ReplacePagePresenter extends Presenter<ReplacePageView> {
 
 		view.setTotalPagesNewDocLabel(doc.getPageCount());
 
-		searchService.createIndex(doc)
+		newDocIndex = searchService.createIndex(doc)
 				.exceptionally(throwable -> {
 					logException(throwable, "Create search index failed");
 					return null;
@@ -256,6 +259,15 @@ public class ReplacePagePresenter extends Presenter<ReplacePageView> {
 	 * Closes the opened Documents.
 	 */
 	private void closeDocuments() {
+		Document document = newDoc;
+
+		// The replacing document is only indexed while the dialog is open.
+		newDocIndex.thenCompose(result -> searchService.destroyIndex(document))
+				.exceptionally(throwable -> {
+					logException(throwable, "Destroy search index failed");
+					return null;
+				});
+
 		newDoc.close();
 	}
 
@@ -264,7 +276,7 @@ public class ReplacePagePresenter extends Presenter<ReplacePageView> {
 			view.setSearchState(null);
 		}
 		else {
-			searchService.searchIndex(text)
+			searchService.searchIndex(newDoc, text)
 					.thenAccept(searchResult -> {
 						searchState = new SearchState(searchResult);
 
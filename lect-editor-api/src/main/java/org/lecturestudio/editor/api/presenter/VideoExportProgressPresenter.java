@@ -22,7 +22,6 @@ import static java.util.Objects.nonNull;
 
 import java.text.MessageFormat;
 import java.util.Stack;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -32,6 +31,8 @@ import javax.inject.Inject;
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.app.dictionary.Dictionary;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.model.Time;
 import org.lecturestudio.core.presenter.Presenter;
 import org.lecturestudio.core.view.ViewLayer;
@@ -60,7 +61,7 @@ public class VideoExportProgressPresenter extends Presenter<VideoExportProgressV
 		view.setOnCancel(this::cancel);
 		view.setOnClose(this::close);
 
-		CompletableFuture.runAsync(this::run)
+		ExecutionService.runAsync(ExecutionPool.BULK_IO, this::run)
 				.thenRun(this::done)
 				.exceptionally(e -> {
 					handleException(e, "Video rendering failed",
@@ -18,8 +18,9 @@ public class EditorTextChangeAction extends TextChangeAction {
 		this.textProperty = textProperty;
 	}
 
-	public EditorTextChangeAction(byte[] input) throws IOException {
-		super(input);
+	public EditorTextChangeAction(ByteBuffer input) throws IOException {
+		// The payload is parsed again below.
+		super(input.duplicate());
 		parseFrom(input);
 	}
 
@@ -46,7 +47,7 @@ public class EditorTextChangeAction extends TextChangeAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
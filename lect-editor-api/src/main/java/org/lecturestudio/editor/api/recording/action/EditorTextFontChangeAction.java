@@ -34,8 +34,9 @@ public class EditorTextFontChangeAction extends TextFontChangeAction {
 		this.attributesProperty = attributes;
 	}
 
-	public EditorTextFontChangeAction(byte[] input) throws IOException {
-		super(input);
+	public EditorTextFontChangeAction(ByteBuffer input) throws IOException {
+		// The payload is parsed again below.
+		super(input.duplicate());
 
 		colorProperty = new ObjectProperty<>();
 		fontProperty = new ObjectProperty<>();
@@ -82,7 +83,7 @@ public class EditorTextFontChangeAction extends TextFontChangeAction {
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
@@ -20,8 +20,9 @@ public class EditorTextLocationChangeAction extends TextLocationChangeAction imp
 		this.location = location;
 	}
 
-	public EditorTextLocationChangeAction(byte[] input) throws IOException {
-		super(input);
+	public EditorTextLocationChangeAction(ByteBuffer input) throws IOException {
+		// The payload is parsed again below.
+		super(input.duplicate());
 		parseFrom(input);
 	}
 
@@ -47,7 +48,7 @@ public class EditorTextLocationChangeAction extends TextLocationChangeAction imp
 	}
 
 	@Override
-	public void parseFrom(byte[] input) throws IOException {
+	public void parseFrom(ByteBuffer input) throws IOException {
 		ByteBuffer buffer = createBuffer(input);
 
 		handle = buffer.getInt();
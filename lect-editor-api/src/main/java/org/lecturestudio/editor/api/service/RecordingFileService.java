@@ -26,14 +26,12 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -44,6 +42,8 @@ import javax.inject.Singleton;
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.bus.EventBus;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.geometry.PenPoint2D;
 import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.model.Document;
@@ -52,12 +52,14 @@ import org.lecturestudio.core.model.RecentDocument;
 import org.lecturestudio.core.recording.*;
 import org.lecturestudio.core.recording.action.PlaybackAction;
 import org.lecturestudio.core.recording.edit.EditAction;
+import org.lecturestudio.core.recording.edit.RecordingEditManager;
 import org.lecturestudio.core.recording.file.RecordingFileReader;
 import org.lecturestudio.core.recording.file.RecordingFileWriter;
 import org.lecturestudio.core.recording.file.RecordingUtils;
 import org.lecturestudio.core.service.DocumentService;
 import org.lecturestudio.core.service.RecentDocumentService;
 import org.lecturestudio.core.util.ProgressCallback;
+import org.lecturestudio.editor.api.config.EditorConfiguration;
 import org.lecturestudio.editor.api.context.EditorContext;
 import org.lecturestudio.editor.api.edit.*;
 import org.lecturestudio.media.audio.FFmpegLoudnessNormalization;
@@ -100,8 +102,11 @@ public class RecordingFileService {
 	/** List of all currently opened recordings. */
 	private final List<Recording> recordings;
 
-	/** Maps recordings to their state hash values to track modifications. */
-	private final Map<Recording, Integer> recordingStateMap;
+	/** Maps recordings to their state versions at the time of saving to track modifications. */
+	private final Map<Recording, RecordingStateVersion> recordingStateMap;
+
+	/** Maps recordings to the state versions their source files contain. */
+	private final Map<Recording, RecordingStateVersion> fileStateMap;
 
 	/** Event bus for publishing and subscribing to application events. */
 	private final EventBus eventBus;
@@ -126,6 +131,7 @@ public class RecordingFileService {
 		this.documentService = documentService;
 		this.recordings = new ArrayList<>();
 		this.recordingStateMap = new HashMap<>();
+		this.fileStateMap = new HashMap<>();
 		this.loudnessConfigurationMap = new HashMap<>();
 	}
 
@@ -155,7 +161,7 @@ public class RecordingFileService {
 	 * @see RecordingEvent
 	 */
 	public CompletableFuture<Recording> openRecording(File file) {
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Recording recording;
 
 			try {
@@ -165,6 +171,8 @@ public class RecordingFileService {
 				throw new CompletionException(e);
 			}
 
+			fileStateMap.put(recording, recording.getStateVersion());
+
 			try {
 				RecordingUtils.validateScreenActions(recording);
 			}
@@ -175,6 +183,8 @@ public class RecordingFileService {
 						e.getMessage());
 			}
 
+			configureEditManager(recording);
+
 			// Add the successfully read recording to the list of active recordings.
 			recordings.add(recording);
 
@@ -242,7 +252,7 @@ public class RecordingFileService {
 	 * @param recording The recording for which to compute the loudness configuration.
 	 */
 	private void computeLoudnessConfiguration(Recording recording) {
-		CompletableFuture.runAsync(() -> {
+		ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			FFmpegLoudnessNormalization normalization = new FFmpegLoudnessNormalization();
 			try {
 				loudnessConfigurationMap.put(recording,
@@ -281,7 +291,7 @@ public class RecordingFileService {
 	 */
 	public CompletableFuture<Recording> importRecording(File file, double start, boolean normalizeNewAudio,
 														ProgressCallback callback) {
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Recording recording = getSelectedRecording();
 			Recording imported;
 
@@ -331,6 +341,9 @@ public class RecordingFileService {
 
 			playbackService.closeRecording();
 
+			recordingStateMap.remove(recording);
+			fileStateMap.remove(recording);
+
 			// Release resources.
 			recording.close();
 		}
@@ -464,7 +477,7 @@ public class RecordingFileService {
 	 * @return An async future completing the task
 	 */
 	public CompletableFuture<Void> cut(double start, double end, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -523,7 +536,7 @@ public class RecordingFileService {
 	 * or completes exceptionally with a {@link CompletionException} if an error occurs.
 	 */
 	public CompletableFuture<Void> deletePage(double timeNorm, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -573,7 +586,7 @@ public class RecordingFileService {
 			}
 		};
 
-		return CompletableFuture.runAsync(runnable);
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, runnable);
 	}
 
 	/**
@@ -612,7 +625,7 @@ public class RecordingFileService {
 			}
 		};
 
-		return CompletableFuture.runAsync(runnable);
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, runnable);
 	}
 
 	/**
@@ -630,7 +643,7 @@ public class RecordingFileService {
 	 * or completes exceptionally with a {@link CompletionException} if an error occurs.
 	 */
 	public CompletableFuture<Void> undoChanges() {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -660,7 +673,7 @@ public class RecordingFileService {
 	 * or completes exceptionally with a {@link CompletionException} if an error occurs.
 	 */
 	public CompletableFuture<Void> redoChanges() {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -696,13 +709,11 @@ public class RecordingFileService {
 	 * <p>
 	 * This method performs the following operations:
 	 * <ul>
-	 *   <li>Clones the recording's audio stream</li>
-	 *   <li>Creates a temporary file for the audio data</li>
-	 *   <li>Writes the audio data to the temporary file</li>
-	 *   <li>Creates a new recording object with the same content as the original</li>
-	 *   <li>Writes the recording to the destination file using {@link RecordingFileWriter}</li>
+	 *   <li>Determines the parts of the recording modified since its source file has been written</li>
+	 *   <li>Writes the modified parts to the destination file using {@link RecordingFileWriter}
+	 *   and copies all unchanged parts from the source file</li>
 	 *   <li>Updates the original recording's audio stream if overwriting its source file</li>
-	 *   <li>Updates the recording's state hash in the state map</li>
+	 *   <li>Updates the recording's state version in the state map</li>
 	 * </ul>
 	 * <p>
 	 * The operations are performed asynchronously on a background thread.
@@ -715,49 +726,26 @@ public class RecordingFileService {
 	 * or completes exceptionally with a {@link CompletionException} if an error occurs.
 	 */
 	public CompletableFuture<Void> saveRecording(Recording recording, File file, ProgressCallback callback) {
-		return CompletableFuture.runAsync(() -> {
-			RandomAccessAudioStream audioStream = recording.getRecordedAudio().getAudioStream().clone();
-			Path tmpPath = context.getTempDirectory().toPath();
-			File target = null;
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
+			RecordingStateVersion version = recording.getStateVersion();
+			File sourceFile = recording.getSourceFile();
+			Set<Recording.Content> modified = version.getModifiedContent(fileStateMap.get(recording));
 
 			try {
-				target = new File(Files.createTempFile(tmpPath, "export", "wav").toString());
-
-				try (FileOutputStream outStream = new FileOutputStream(target)) {
-					audioStream.reset();
-					audioStream.write(outStream.getChannel());
-				}
-				catch (Exception e) {
-					throw new CompletionException(e);
-				}
-
-				try (RandomAccessAudioStream newAudioStream = new RandomAccessAudioStream(target)) {
-					newAudioStream.reset();
-
-					Recording rec = new Recording();
-					rec.setRecordingHeader(recording.getRecordingHeader());
-					rec.setRecordedAudio(new RecordedAudio(newAudioStream));
-					rec.setRecordedEvents(recording.getRecordedEvents());
-					rec.setRecordedDocument(recording.getRecordedDocument());
+				RecordingFileWriter.write(recording, file, sourceFile, modified, callback);
 
-					RecordingFileWriter.write(rec, file, callback);
-				}
-
-				if (file.equals(recording.getSourceFile())) {
+				if (file.equals(sourceFile)) {
 					// File overwritten. Need to update the audio stream.
 					recording.setRecordedAudio(RecordingFileReader.getRecordedAudio(file));
+
+					fileStateMap.put(recording, recording.getStateVersion());
 				}
 
-				recordingStateMap.put(recording, recording.getStateHash());
+				recordingStateMap.put(recording, recording.getStateVersion());
 			}
 			catch (Exception e) {
 				throw new CompletionException(e);
 			}
-			finally {
-				if (nonNull(target)) {
-					target.delete();
-				}
-			}
 		});
 	}
 
@@ -818,7 +806,7 @@ public class RecordingFileService {
 					// Then we save the extracted part.
 					.thenCompose(ignored -> saveRecording(partial, file, callback))
 					// And remove the same interval in the selected recording.
-					.thenCompose(ignored -> CompletableFuture.runAsync(() -> {
+					.thenCompose(ignored -> ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 						try {
 							addEditAction(getSelectedRecording(),
 									new CutAction(getSelectedRecording(), start, end,
@@ -867,7 +855,7 @@ public class RecordingFileService {
 	 */
 	public CompletableFuture<Void> exportAudio(Recording recording, File file,
 			ProgressCallback callback) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				RecordingUtils.exportAudio(recording, file, callback);
 			}
@@ -908,7 +896,7 @@ public class RecordingFileService {
 	 * or completes exceptionally with a {@link CompletionException} if an error occurs.
 	 */
 	public CompletableFuture<Void> importAudio(File file, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				RandomAccessAudioStream stream = new RandomAccessAudioStream(file);
 
@@ -927,18 +915,19 @@ public class RecordingFileService {
 	}
 
 	/**
-	 * Retrieves the state hash value for a recording that was saved.
+	 * Retrieves the state version of a recording that was saved.
 	 * <p>
-	 * This method returns the hash value stored when the recording
-	 * was last saved. This hash can be used to determine if a recording
-	 * has been modified since it was last saved.
+	 * This method returns the version stored when the recording was last
+	 * saved. Comparing it with {@link Recording#getStateVersion()} tells
+	 * whether, and which parts of, the recording have been modified since it
+	 * was last saved.
 	 *
-	 * @param recording The recording for which to retrieve the save hash.
+	 * @param recording The recording for which to retrieve the save version.
 	 *
-	 * @return The hash value from when the recording was last saved, or null if the recording
+	 * @return The state version from when the recording was last saved, or null if the recording
 	 * has never been saved or is not being tracked.
 	 */
-	public Integer getRecordingSaveHash(Recording recording) {
+	public RecordingStateVersion getRecordingSaveVersion(Recording recording) {
 		return recordingStateMap.get(recording);
 	}
 
@@ -1007,6 +996,20 @@ public class RecordingFileService {
 		context.setPrimarySelection(selection);
 	}
 
+	/**
+	 * Applies the configured memory budget and spill directory to the edit
+	 * history of the specified recording.
+	 *
+	 * @param recording The recording whose edit manager should be configured.
+	 */
+	private void configureEditManager(Recording recording) {
+		EditorConfiguration config = (EditorConfiguration) context.getConfiguration();
+		RecordingEditManager editManager = recording.getEditManager();
+
+		editManager.setSpillDirectory(context.getTempDirectory().toPath());
+		editManager.setMemoryBudget(config.getEditHistoryMemoryLimit() * 1024L * 1024L);
+	}
+
 	/**
 	 * Suspends the ongoing playback if it has been started.
 	 * <p>
@@ -1081,7 +1084,7 @@ public class RecordingFileService {
 	 * @return An async future completing the task.
 	 */
 	public CompletableFuture<Void> movePage(int timestamp, int pageNumber, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -1116,7 +1119,7 @@ public class RecordingFileService {
 	 */
 	public CompletableFuture<Void> hidePage(int pageNumber,
 			Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -1163,7 +1166,7 @@ public class RecordingFileService {
 	 */
 	public CompletableFuture<Void> hideAndMoveNextPage(int pageNumber,
 			int timestamp, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				suspendPlayback();
 
@@ -1213,7 +1216,7 @@ public class RecordingFileService {
 			List<PlaybackAction> removeActions,
 			int pageNumber,
 			Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 				// Add and remove actions with a single composite action which
 				// can be undone in one step.
 				var changeAction = new ReplacePageEventsAction(recording,
@@ -1272,7 +1275,7 @@ public class RecordingFileService {
 	public CompletableFuture<Void> modifyPlaybackActionPositions(int handle,
 			int pageNumber, PenPoint2D delta, Recording recording) {
 		double timestampBefore = context.getPrimarySelection();
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 				try {
 					addEditAction(recording,
 							new ModifyPlaybackActionPositionsAction(recording, handle, pageNumber, delta));
@@ -1325,7 +1328,7 @@ public class RecordingFileService {
 	 */
 	public CompletionStage<Void> normalizeAudioLoudness(Double lufsValue,
 			ProgressCallback callback, Recording recording) {
-		return CompletableFuture.runAsync(() -> {
+		return ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 				try {
 					addEditAction(recording, new NormalizeLoudnessAction(recording, lufsValue, callback));
 				}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.editor.api.util;
+
+import org.lecturestudio.core.util.ShutdownHandler;
+import org.lecturestudio.media.search.SearchService;
+
+public class CloseSearchIndexHandler extends ShutdownHandler {
+
+	private final SearchService searchService;
+
+
+	public CloseSearchIndexHandler(SearchService searchService) {
+		this.searchService = searchService;
+	}
+
+	@Override
+	public boolean execute() {
+		try {
+			// Commit pending index changes and release the index lock.
+			searchService.close();
+		}
+		catch (Exception e) {
+			logException(e, "Close search index failed");
+		}
+
+		return true;
+	}
+}
@@ -23,6 +23,7 @@ import static java.util.Objects.nonNull;
 
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.RecordingStateVersion;
 import org.lecturestudio.core.util.ShutdownHandler;
 import org.lecturestudio.core.view.Action;
 import org.lecturestudio.editor.api.presenter.command.QuitSaveRecordingCommand;
@@ -48,11 +49,10 @@ public class SaveRecordingHandler extends ShutdownHandler {
 			return true;
 		}
 
-		Integer savedHash = recordingService.getRecordingSaveHash(recording);
+		RecordingStateVersion savedVersion = recordingService.getRecordingSaveVersion(recording);
 
-		if (nonNull(savedHash)) {
-			int currentHash = recording.getStateHash();
-			if (currentHash == savedHash) {
+		if (nonNull(savedVersion)) {
+			if (!recording.getStateVersion().isModifiedSince(savedVersion)) {
 				// Already saved, nothing to do;
 				return true;
 			}
@@ -28,7 +28,6 @@ import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Stack;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -39,6 +38,8 @@ import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.ExecutableState;
 import org.lecturestudio.core.bus.EventBus;
 import org.lecturestudio.core.bus.event.PageEvent;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.controller.ToolController;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.Time;
@@ -177,7 +178,7 @@ public class VideoEventExecutor extends EventExecutor {
 		if (state == ExecutableState.Initialized || state == ExecutableState.Stopped) {
 			eventBus.register(this);
 
-			CompletableFuture.runAsync(() -> {
+			ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 				try {
 					executeEvents();
 				}
@@ -216,38 +217,46 @@ public class VideoEventExecutor extends EventExecutor {
 				long startTime = getElapsedTime();
 
 				synchronized (playbacks) {
-					// Execute all events for the current time period.
-					while (true) {
-						if (!playbacks.isEmpty()) {
-							// Get the next action for execution.
-							PlaybackAction action = playbacks.peek();
+					// Render all events for the current time period at once.
+					toolController.beginBatch();
 
-							if (startTime < action.getTimestamp()) {
-								break;
-							}
+					try {
+						// Execute all events for the current time period.
+						while (true) {
+							if (!playbacks.isEmpty()) {
+								// Get the next action for execution.
+								PlaybackAction action = playbacks.peek();
+
+								if (startTime < action.getTimestamp()) {
+									break;
+								}
 
-							action.execute(toolController);
+								action.execute(toolController);
 
-							// Remove the executed action.
-							playbacks.pop();
+								// Remove the executed action.
+								playbacks.pop();
 
-							if (action.getType() == ActionType.SCREEN) {
-								try {
-									initVideoPlayer((ScreenAction) action);
-								}
-								catch (Exception e) {
-									handleError(e, "Init video reader failed");
-									return;
+								if (action.getType() == ActionType.SCREEN) {
+									try {
+										initVideoPlayer((ScreenAction) action);
+									}
+									catch (Exception e) {
+										handleError(e, "Init video reader failed");
+										return;
+									}
 								}
 							}
+							else if (pageNumber < recordedPages.size() - 1) {
+								// Get actions for the next page.
+								getPlaybackActions(++pageNumber);
+							}
+							else {
+								break;
+							}
 						}
-						else if (pageNumber < recordedPages.size() - 1) {
-							// Get actions for the next page.
-							getPlaybackActions(++pageNumber);
-						}
-						else {
-							break;
-						}
+					}
+					finally {
+						toolController.endBatch();
 					}
 
 					try {
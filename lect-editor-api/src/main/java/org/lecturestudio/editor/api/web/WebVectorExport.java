@@ -25,11 +25,12 @@ import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ShortBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -37,11 +38,14 @@ import java.util.stream.Collectors;
 
 import javax.sound.sampled.AudioFormat;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.bytedeco.ffmpeg.global.avcodec;
 import org.bytedeco.ffmpeg.global.avutil;
 import org.bytedeco.javacv.*;
 
 import org.lecturestudio.core.ExecutableException;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.io.DynamicInputStream;
 import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.io.ResourceLoader;
@@ -68,6 +72,9 @@ public class WebVectorExport extends RecordingExport {
 	/** Path to the HTML template file used for the export. */
 	private static final String TEMPLATE_FILE = "resources/export/web/vector/index.html";
 
+	/** The template placeholder replaced by the base64 encoded recording. */
+	private static final String RECORDING_PLACEHOLDER = "\"#{recording}\"";
+
 	/** Map containing template variables to be replaced in the output HTML. */
 	private final Map<String, String> data = new HashMap<>();
 
@@ -127,7 +134,7 @@ public class WebVectorExport extends RecordingExport {
 
 	@Override
 	protected void startInternal() {
-		CompletableFuture.supplyAsync(() -> {
+		ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			List<ScreenAction> screenActions = RecordingUtils.getScreenActions(recording);
 			if (!screenActions.isEmpty()) {
 				onRenderState(RecordingRenderState.RENDER_VECTOR_VIDEO);
@@ -189,22 +196,37 @@ public class WebVectorExport extends RecordingExport {
 	}
 
 	private void encodeRecording(Recording recording) throws Exception {
-		byte[] rec = RecordingFileWriter.writeToByteArray(recording);
-		String recEncoded = Base64.getEncoder().encodeToString(rec);
+		String indexContent = loadTemplateFile();
+		int recordingIndex = indexContent.indexOf(RECORDING_PLACEHOLDER);
 
-		data.put("recording", recEncoded);
+		if (recordingIndex < 0) {
+			throw new IllegalStateException("Missing recording placeholder in web index.html file.");
+		}
 
-		String indexContent = loadTemplateFile();
-		indexContent = processTemplateFile(indexContent, data);
+		String head = processTemplateFile(indexContent.substring(0, recordingIndex), data);
+		String tail = processTemplateFile(indexContent.substring(recordingIndex + RECORDING_PLACEHOLDER.length()), data);
 
 		File outputFile = config.getOutputFile();
 		String outputFileName = FileUtils.stripExtension(outputFile.getName()) + "-Vector";
+		Path indexPath = getFile(outputFileName + "." + FileUtils.getExtension(TEMPLATE_FILE)).toPath();
+
+		// Stream the base64 encoded recording directly into the index file.
+		try (OutputStream outStream = new BufferedOutputStream(Files.newOutputStream(indexPath))) {
+			outStream.write(head.getBytes(StandardCharsets.UTF_8));
+			outStream.write('\'');
 
-		writeTemplateFile(indexContent, getFile(outputFileName + "." + FileUtils.getExtension(TEMPLATE_FILE)));
+			try (OutputStream base64Stream = Base64.getEncoder().wrap(CloseShieldOutputStream.wrap(outStream))) {
+				// The web player reads the events in the former encoding.
+				RecordingFileWriter.write(recording, Channels.newChannel(base64Stream),
+						Recording.MIN_FORMAT_VERSION, null);
+			}
+
+			outStream.write('\'');
+			outStream.write(tail.getBytes(StandardCharsets.UTF_8));
+		}
 
 		// For debugging only.
-		//File recFile = getFile(outputFileName + ".plr");
-		//Files.write(recFile.toPath(), rec);
+		//RecordingFileWriter.write(recording, getFile(outputFileName + ".plr"));
 	}
 
 	private RecordedAudio encodeAudio() throws IOException {
@@ -377,11 +399,6 @@ public class WebVectorExport extends RecordingExport {
 		return sb.toString();
 	}
 
-	private void writeTemplateFile(String fileContent, File outputFile) throws IOException {
-		Path path = Paths.get(outputFile.getPath());
-		Files.writeString(path, fileContent);
-	}
-
 	private String encodeVideoFileToBase64(Path path) throws IOException {
 		ByteArrayOutputStream outStream = new SeekableByteArrayOutputStream();
 
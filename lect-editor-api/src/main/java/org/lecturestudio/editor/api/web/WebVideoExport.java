@@ -38,7 +38,6 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -48,6 +47,8 @@ import javax.imageio.ImageIO;
 
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.bus.EventBus;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.controller.RenderController;
 import org.lecturestudio.core.geometry.Dimension2D;
 import org.lecturestudio.core.geometry.Rectangle2D;
@@ -137,7 +138,7 @@ public class WebVideoExport extends RecordingExport {
 
 	@Override
 	protected void startInternal() {
-		CompletableFuture.runAsync(() -> {
+		ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				String pageModel = createPageModel(recording);
 
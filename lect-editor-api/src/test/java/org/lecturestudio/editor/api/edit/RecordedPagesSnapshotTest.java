@@ -0,0 +1,194 @@
+package org.lecturestudio.editor.api.edit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.lecturestudio.core.geometry.PenPoint2D;
+import org.lecturestudio.core.graphics.Color;
+import org.lecturestudio.core.model.Interval;
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.action.PenAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.ToolBeginAction;
+import org.lecturestudio.core.recording.action.ToolEndAction;
+import org.lecturestudio.core.recording.action.ToolExecuteAction;
+import org.lecturestudio.core.tool.Stroke;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the copy-on-write page sharing of {@link RecordedPagesSnapshot} and
+ * the restoration of the recorded pages, in memory and from disk.
+ */
+class RecordedPagesSnapshotTest {
+
+	/** The duration of a single page in milliseconds. */
+	static final int PAGE_DURATION = 10_000;
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void testCopyOnWrite() throws IOException {
+		List<RecordedPage> livePages = createPages(4);
+		List<RecordedPage> originals = new ArrayList<>(livePages);
+		List<byte[]> expected = encode(livePages);
+
+		RecordedPagesSnapshot snapshot = new RecordedPagesSnapshot(livePages);
+		RecordedPage copy = snapshot.copyOnWrite(livePages, originals.get(1));
+
+		assertNotSame(originals.get(1), copy);
+		assertSame(copy, livePages.get(1));
+		assertSame(copy, snapshot.copyOnWrite(livePages, copy));
+
+		copy.cut(new Interval<>(PAGE_DURATION + 1000, PAGE_DURATION + 3000));
+
+		// The original remains untouched, the other pages are shared.
+		assertArrayEquals(expected.get(1), originals.get(1).toByteArray());
+		assertSame(originals.get(0), livePages.get(0));
+		assertSame(originals.get(2), livePages.get(2));
+		assertSame(originals.get(3), livePages.get(3));
+	}
+
+	@Test
+	void testRestore() throws IOException {
+		List<RecordedPage> livePages = createPages(5);
+		List<RecordedPage> originals = new ArrayList<>(livePages);
+		List<byte[]> expected = encode(livePages);
+
+		RecordedPagesSnapshot snapshot = new RecordedPagesSnapshot(livePages);
+
+		deletePage(snapshot, livePages, 2);
+
+		assertEquals(4, livePages.size());
+
+		snapshot.restore(livePages);
+
+		assertPages(expected, livePages);
+
+		for (int i = 0; i < originals.size(); i++) {
+			assertSame(originals.get(i), livePages.get(i));
+		}
+	}
+
+	@Test
+	void testSpillRestore() throws IOException {
+		List<RecordedPage> livePages = createPages(5);
+		List<byte[]> expected = encode(livePages);
+
+		RecordedPagesSnapshot snapshot = new RecordedPagesSnapshot(livePages);
+
+		deletePage(snapshot, livePages, 1);
+
+		long size = snapshot.getSize();
+
+		snapshot.spill(tempDir);
+
+		assertTrue(snapshot.isSpilled());
+		assertTrue(size > 0);
+		assertEquals(0, snapshot.getSize());
+
+		try (var files = Files.list(tempDir)) {
+			assertEquals(1, files.count());
+		}
+
+		snapshot.restore(livePages);
+
+		assertPages(expected, livePages);
+
+		try (var files = Files.list(tempDir)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	/**
+	 * Removes a page, cuts the beginning of the preceding page and shifts the
+	 * subsequent pages, like deleting a time interval does.
+	 */
+	private static void deletePage(RecordedPagesSnapshot snapshot,
+			List<RecordedPage> livePages, int number) {
+		Interval<Integer> interval = new Interval<>(number * PAGE_DURATION,
+				(number + 1) * PAGE_DURATION);
+
+		snapshot.remove(livePages, livePages.get(number));
+
+		RecordedPage previous = snapshot.copyOnWrite(livePages, livePages.get(number - 1));
+		previous.cut(new Interval<>(previous.getTimestamp() + 100,
+				previous.getTimestamp() + 500));
+
+		for (RecordedPage page : livePages) {
+			snapshot.track(page);
+			page.shift(interval);
+
+			if (page.getNumber() > number) {
+				page.setNumber(page.getNumber() - 1);
+			}
+		}
+	}
+
+	static List<RecordedPage> createPages(int count) {
+		List<RecordedPage> pages = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			RecordedPage page = new RecordedPage();
+			page.setNumber(i);
+			page.setTimestamp(i * PAGE_DURATION);
+
+			int time = page.getTimestamp() + 1000;
+
+			page.addPlaybackAction(timed(new PenAction(i,
+					new Stroke(Color.BLACK, 0.003), null), time));
+			page.addPlaybackAction(timed(new ToolBeginAction(new PenPoint2D(0.1, 0.1)), time));
+
+			for (int j = 0; j < 50; j++) {
+				time += 100;
+
+				page.addPlaybackAction(timed(new ToolExecuteAction(
+						new PenPoint2D(0.1 + j * 0.01, 0.1 + j * 0.005)), time));
+			}
+
+			page.addPlaybackAction(timed(new ToolEndAction(new PenPoint2D(0.6, 0.35)), time));
+
+			pages.add(page);
+		}
+
+		return pages;
+	}
+
+	static List<byte[]> encode(List<RecordedPage> pages) throws IOException {
+		List<byte[]> encoded = new ArrayList<>();
+
+		for (RecordedPage page : pages) {
+			encoded.add(page.toByteArray());
+		}
+
+		return encoded;
+	}
+
+	static void assertPages(List<byte[]> expected, List<RecordedPage> pages)
+			throws IOException {
+		List<byte[]> actual = encode(pages);
+
+		assertEquals(expected.size(), actual.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(expected.get(i), actual.get(i));
+		}
+	}
+
+	private static PlaybackAction timed(PlaybackAction action, int timestamp) {
+		action.setTimestamp(timestamp);
+		return action;
+	}
+}
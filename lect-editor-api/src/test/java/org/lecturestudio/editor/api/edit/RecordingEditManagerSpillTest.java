@@ -0,0 +1,117 @@
+package org.lecturestudio.editor.api.edit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.lecturestudio.editor.api.edit.RecordedPagesSnapshotTest.PAGE_DURATION;
+import static org.lecturestudio.editor.api.edit.RecordedPagesSnapshotTest.assertPages;
+import static org.lecturestudio.editor.api.edit.RecordedPagesSnapshotTest.createPages;
+import static org.lecturestudio.editor.api.edit.RecordedPagesSnapshotTest.encode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.lecturestudio.core.model.Interval;
+import org.lecturestudio.core.recording.RecordedEvents;
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.RecordingEditException;
+import org.lecturestudio.core.recording.edit.RecordingEditManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Deletes pages with a {@link RecordingEditManager} whose memory budget forces
+ * the undo state to be spilled to disk, and checks that undo and redo across
+ * the spilled state reproduce the recorded pages exactly.
+ */
+class RecordingEditManagerSpillTest {
+
+	private static final int EDIT_COUNT = 4;
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void testUndoRedoAcrossSpill() throws IOException, RecordingEditException {
+		RecordedEvents events = new RecordedEvents(createPages(8));
+		List<RecordedPage> pages = events.getRecordedPages();
+
+		RecordingEditManager editManager = new RecordingEditManager();
+		editManager.setSpillDirectory(tempDir);
+		editManager.setMemoryBudget(1);
+
+		List<List<byte[]>> states = new ArrayList<>();
+		List<DeleteEventsAction> actions = new ArrayList<>();
+
+		states.add(encode(pages));
+
+		for (int i = 0; i < EDIT_COUNT; i++) {
+			DeleteEventsAction action = createDeletePageAction(events, 1);
+
+			editManager.addEditAction(action);
+
+			actions.add(action);
+			states.add(encode(pages));
+		}
+
+		// All but the most recent undo state have been spilled.
+		for (int i = 0; i < EDIT_COUNT - 1; i++) {
+			assertTrue(actions.get(i).isSpilled());
+		}
+		assertFalse(actions.get(EDIT_COUNT - 1).isSpilled());
+		assertEquals(EDIT_COUNT - 1, countFiles());
+
+		for (int i = EDIT_COUNT - 1; i >= 0; i--) {
+			editManager.undo();
+
+			assertPages(states.get(i), pages);
+		}
+
+		assertEquals(0, countFiles());
+
+		for (int i = 1; i <= EDIT_COUNT; i++) {
+			editManager.redo();
+
+			assertPages(states.get(i), pages);
+		}
+
+		assertTrue(countFiles() > 0);
+
+		while (editManager.hasUndoActions()) {
+			editManager.undo();
+		}
+
+		assertPages(states.get(0), pages);
+		assertEquals(0, countFiles());
+	}
+
+	/**
+	 * Creates an action removing the page with the specified number and the
+	 * beginning of the following page, like deleting a page and cutting the
+	 * recording does.
+	 */
+	private static DeleteEventsAction createDeletePageAction(RecordedEvents events,
+			int number) {
+		RecordedPage page = events.getRecordedPage(number);
+		RecordedPage nextPage = events.getRecordedPage(number + 1);
+
+		DeleteEventsAction action = new DeleteEventsAction(events,
+				new Interval<>(page.getTimestamp(), nextPage.getTimestamp()));
+		action.removeRecordedPage(number);
+		action.changeRecordedPage(number + 1, new Interval<>(nextPage.getTimestamp(),
+				nextPage.getTimestamp() + PAGE_DURATION / 5));
+
+		return action;
+	}
+
+	private long countFiles() throws IOException {
+		try (var files = Files.list(tempDir)) {
+			return files.count();
+		}
+	}
+}
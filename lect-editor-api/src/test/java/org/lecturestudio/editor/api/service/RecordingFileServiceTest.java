@@ -1,10 +1,15 @@
 package org.lecturestudio.editor.api.service;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import javax.inject.Singleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.inject.AbstractModule;
@@ -14,11 +19,16 @@ import org.junit.jupiter.api.Test;
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.audio.AudioSystemProvider;
 import org.lecturestudio.core.inject.GuiceInjector;
+import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.model.Interval;
+import org.lecturestudio.core.recording.RecordedPage;
 import org.lecturestudio.core.recording.Recording;
 import org.lecturestudio.core.recording.RecordingEditException;
 import org.lecturestudio.core.recording.file.IncompatibleFileFormatException;
 import org.lecturestudio.core.recording.file.RecordingFileReader;
+import org.lecturestudio.editor.api.edit.AudioTrackOverlayAction;
+import org.lecturestudio.media.track.AudioTrack;
+import org.lecturestudio.media.track.control.AdjustAudioVolumeControl;
 
 public class RecordingFileServiceTest extends ServiceTest {
 	RecordingFileService recordingFileService;
@@ -72,4 +82,44 @@ public class RecordingFileServiceTest extends ServiceTest {
 		awaitTrue(() -> recording.getEditManager().hasRedoActions(), 10);
 
 	}
+
+	@Test
+	public void testSaveVolumeOverlayAndPageEdit() throws Exception {
+		Recording recording = recordingFileService.getSelectedRecording();
+		File newFile = testPath.resolve("overlay_" + recording.getSourceFile().getName()).toFile();
+		List<RecordedPage> pages = recording.getRecordedEvents().getRecordedPages();
+		int pageNumber = pages.get(1).getNumber();
+		int pageTime = (pages.get(1).getTimestamp() + pages.get(2).getTimestamp()) / 2;
+		byte[] originalAudio = readAudio(recording.getRecordedAudio().getAudioStream());
+
+		// Mute the whole audio track.
+		AdjustAudioVolumeControl control = new AdjustAudioVolumeControl();
+		control.setStartTime(0);
+		control.setEndTime(1);
+		control.setVolumeScalar(0);
+
+		recording.getEditManager().addEditAction(new AudioTrackOverlayAction(
+				recording, new AudioTrack(), control,
+				injector.getInstance(RecordingPlaybackService.class)));
+
+		// Only the events are modified by moving a page.
+		recordingFileService.movePage(pageTime, pageNumber).get();
+
+		byte[] editedAudio = readAudio(recording.getRecordedAudio().getAudioStream());
+
+		assertFalse(Arrays.equals(originalAudio, editedAudio));
+
+		recordingFileService.saveRecording(newFile, progress -> {}).get();
+
+		Recording savedRecording = RecordingFileReader.read(newFile);
+
+		assertArrayEquals(editedAudio, readAudio(savedRecording.getRecordedAudio().getAudioStream()));
+		assertEquals(pageTime, savedRecording.getRecordedEvents().getRecordedPage(pageNumber).getTimestamp());
+	}
+
+	private static byte[] readAudio(RandomAccessAudioStream stream) throws IOException {
+		try (InputStream inputStream = stream.clone()) {
+			return inputStream.readAllBytes();
+		}
+	}
 }
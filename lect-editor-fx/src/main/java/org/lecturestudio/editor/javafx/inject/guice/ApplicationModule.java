@@ -51,6 +51,7 @@ import org.lecturestudio.editor.api.config.DefaultConfiguration;
 import org.lecturestudio.editor.api.config.EditorConfigService;
 import org.lecturestudio.editor.api.config.EditorConfiguration;
 import org.lecturestudio.editor.api.context.EditorContext;
+import org.lecturestudio.media.search.SearchService;
 import org.lecturestudio.media.webrtc.WebRtcAudioSystemProvider;
 import org.lecturestudio.swing.DefaultRenderContext;
 
@@ -106,6 +107,19 @@ public class ApplicationModule extends AbstractModule {
 		return new JsonRecentDocumentSource(file);
 	}
 
+	@Provides
+	@Singleton
+	SearchService createSearchService() {
+		try {
+			return new SearchService(Paths.get(LOCATOR.toAppDataPath("search-index")));
+		}
+		catch (IOException e) {
+			LOG.error("Open search index failed, using in-memory index", e);
+
+			return new SearchService();
+		}
+	}
+
 	@Provides
 	@Singleton
 	ApplicationContext createApplicationContext(Configuration config, Dictionary dict) throws Exception {
@@ -41,6 +41,7 @@ import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.app.ApplicationFactory;
 import org.lecturestudio.core.app.GraphicalApplication;
 import org.lecturestudio.core.app.Preloader;
+import org.lecturestudio.core.app.StartupTimeline;
 import org.lecturestudio.core.app.configuration.Configuration;
 import org.lecturestudio.core.presenter.MainPresenter;
 import org.lecturestudio.core.util.FileUtils;
@@ -102,8 +103,12 @@ public abstract class JavaFxApplication extends ApplicationBase implements Graph
 			appContext = appFactory.getApplicationContext();
 			requireNonNull(appContext, "Application context must not be null.");
 
+			StartupTimeline.mark("context");
+
 			mainPresenter = appFactory.getStartPresenter();
 			requireNonNull(mainPresenter, "Start presenter was not initialized.");
+
+			StartupTimeline.mark("presenter");
 		}
 		catch (Exception e) {
 			throw new ExecutableException(e);
@@ -61,6 +61,13 @@ public class ThumbnailPanel extends ListView<Page> {
 				onPageAdded(page);
 			});
 		}
+
+		@Override
+		public void pageChanged(final Page page) {
+			Platform.runLater(() -> {
+				onPageChanged(page);
+			});
+		}
 	};
 
 	private final List<PageSelectListener> selectListeners = new ArrayList<>();
@@ -158,6 +165,12 @@ public class ThumbnailPanel extends ListView<Page> {
 		getItems().remove(page);
 	}
 
+	private void onPageChanged(Page page) {
+		if (getItems().contains(page)) {
+			refresh();
+		}
+	}
+
 	private void setSelectedThumbnail(Page page) {
 		getSelectionModel().select(page);
 
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.lecturestudio.core.audio.AudioFormat;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.util.AudioUtils;
 
 public class WaveformBuilder {
@@ -69,7 +71,7 @@ public class WaveformBuilder {
 
 			errorSum += error;
 
-			futures.add(CompletableFuture.runAsync(() -> {
+			futures.add(ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
 				process(buffer, posSamples, negSamples, index, read,
 						sampleSize);
 			}));
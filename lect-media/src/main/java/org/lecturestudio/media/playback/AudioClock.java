@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.playback;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpolates the audio time between the updates of the audio player, which
+ * advances the audio time in steps of its buffer size. The interpolation is
+ * limited, so that actions are not executed ahead of time when the audio clock
+ * stalls. The clock must be reset whenever the audio time jumps or pauses, e.g.
+ * on seek and resume.
+ *
+ * @author Alex Andres
+ */
+class AudioClock {
+
+	/** The maximum time to interpolate, in milliseconds. */
+	static final long MAX_INTERPOLATION = 40;
+
+	/** The last observed audio time in milliseconds. */
+	private long audioTime = -1;
+
+	/** The system time at which the last audio time was observed. */
+	private long audioNanos;
+
+
+	/**
+	 * Forgets the last observed audio time, so that the next call of {@link
+	 * #getTime(long, long)} starts interpolating from the then current time.
+	 */
+	synchronized void reset() {
+		audioTime = -1;
+	}
+
+	/**
+	 * @param audioTime The current audio time in milliseconds.
+	 * @param nanos     The current system time in nanoseconds.
+	 *
+	 * @return the interpolated playback time in milliseconds.
+	 */
+	synchronized long getTime(long audioTime, long nanos) {
+		if (audioTime != this.audioTime) {
+			this.audioTime = audioTime;
+			this.audioNanos = nanos;
+		}
+
+		return audioTime + Math.min(TimeUnit.NANOSECONDS.toMillis(nanos - audioNanos),
+				MAX_INTERPOLATION);
+	}
+
+	/**
+	 * @param nanos The current system time in nanoseconds.
+	 *
+	 * @return {@code true} if the audio time has not advanced within the
+	 * interpolation limit.
+	 */
+	synchronized boolean isStalled(long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos - audioNanos) >= MAX_INTERPOLATION;
+	}
+
+	/**
+	 * @param time  The playback time in milliseconds.
+	 * @param nanos The current system time in nanoseconds.
+	 *
+	 * @return the nanoseconds until the specified playback time is reached.
+	 */
+	synchronized long getNanosUntil(long time, long nanos) {
+		return audioNanos + TimeUnit.MILLISECONDS.toNanos(time - audioTime) - nanos;
+	}
+}
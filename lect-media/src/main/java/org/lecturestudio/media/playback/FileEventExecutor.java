@@ -27,7 +27,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.logging.log4j.LogManager;
@@ -61,6 +63,12 @@ public class FileEventExecutor extends EventExecutor {
 
 	private static final Logger LOG = LogManager.getLogger(FileEventExecutor.class);
 
+	/** The maximum time to park the event thread, in nanoseconds. */
+	private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/** The time to park while the audio clock does not advance, in nanoseconds. */
+	private static final long STALL_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
 	/** The synchronization state that tracks timing for audio, video and events. */
 	private final SyncState syncState;
 
@@ -85,6 +93,9 @@ public class FileEventExecutor extends EventExecutor {
 	/** The currently active screen action that contains video playback information. */
 	private ScreenAction activeScreenAction;
 
+	/** Interpolates the audio time between the updates of the audio player. */
+	private final AudioClock clock = new AudioClock();
+
 
 	/**
 	 * Constructs a new FileEventExecutor for processing recorded events during playback.
@@ -189,10 +200,11 @@ public class FileEventExecutor extends EventExecutor {
 			startVideoPlayer();
 		}
 		else if (state == ExecutableState.Suspended) {
-			// Interrupt the Thread in case it was sleeping to play new annotations again.
-			if (thread.getState() == Thread.State.TIMED_WAITING) {
-				thread.interrupt();
-			}
+			// The audio time has not advanced while suspended.
+			clock.reset();
+
+			// Wake up the thread in case it is parked to play new annotations again.
+			LockSupport.unpark(thread);
 			thread.signal();
 
 			startVideoPlayer();
@@ -219,6 +231,12 @@ public class FileEventExecutor extends EventExecutor {
 		pageChangeEvents.clear();
 	}
 
+	/**
+	 * Executes the recorded actions in sync with the audio clock. On each tick
+	 * all due actions are executed in one batch. Afterwards, the thread parks
+	 * until the next action is due, so that bursts of actions with the same
+	 * timestamp are not spread over time.
+	 */
 	@Override
 	protected void executeEvents() throws Exception {
 		while (nonNull(thread)) {
@@ -229,73 +247,109 @@ public class FileEventExecutor extends EventExecutor {
 			ExecutableState state = getState();
 
 			if (state == ExecutableState.Starting || state == ExecutableState.Started) {
-				long time = getElapsedTime();
-				long sleep = 1;
+				long now = System.nanoTime();
+				long time = clock.getTime(getElapsedTime(), now);
+				long parkNanos;
 
 				synchronized (playbacks) {
-					if (!playbacks.isEmpty()) {
-						// Get the next action for execution.
-						PlaybackAction action = playbacks.peek();
+					long nextTime = executeDueActions(time);
 
-						if (time >= action.getTimestamp()) {
-							action.execute(toolController);
+					if (nextTime < 0) {
+						// All actions have been executed.
+						parkNanos = MAX_PARK_NANOS;
+					}
+					else if (clock.isStalled(now)) {
+						// Wait for the audio clock to advance.
+						parkNanos = STALL_PARK_NANOS;
+					}
+					else {
+						parkNanos = clock.getNanosUntil(nextTime, now);
+					}
+				}
 
-							// Remove the executed action.
-							playbacks.pop();
+				LockSupport.parkNanos(this, Math.max(0, Math.min(parkNanos, MAX_PARK_NANOS)));
+			}
+			else if (state == ExecutableState.Suspended) {
+				thread.await();
+			}
+		}
 
-							if (action.getType() == ActionType.SCREEN) {
-								initVideoPlayer((ScreenAction) action);
-								startVideoPlayer();
-							}
+		if (!stopped()) {
+			stop();
+		}
+	}
 
-							if (!playbacks.empty()) {
-								// Time to wait until the next action.
-								PlaybackAction nextAction = playbacks.peek();
-								sleep = (nextAction.getTimestamp() - action.getTimestamp()) / 2;
-							}
+	/**
+	 * Executes all actions that are due at the specified time. Proceeds with
+	 * the following pages once all actions of the current page are executed.
+	 *
+	 * @param time The current playback time in milliseconds.
+	 *
+	 * @return the timestamp of the next action, or -1 if all actions have
+	 * been executed.
+	 */
+	private long executeDueActions(long time) throws Exception {
+		int executed = 0;
 
-							syncState.setEventNumber(syncState.getEventNumber() + 1);
-						}
-						else {
-							// Relieve the CPU.
-							sleep = action.getTimestamp() - time;
-						}
-					}
-					else if (syncState.getPageNumber() < recordedPages.size() - 1) {
-						// Get actions for the next page.
-						getPlaybackActions(syncState.getPageNumber() + 1);
+		// Update the views once for all actions.
+		toolController.beginBatch();
+
+		try {
+			while (true) {
+				if (playbacks.isEmpty()) {
+					if (syncState.getPageNumber() >= recordedPages.size() - 1) {
+						return -1;
 					}
-				}
 
-				// Fail-safe.
-				if (sleep < 1) {
-					sleep = 1;
+					// Get actions for the next page.
+					getPlaybackActions(syncState.getPageNumber() + 1);
+
+					executed = 0;
+					continue;
 				}
 
-				// Relieve the CPU.
-				try {
-					thread.sleep(sleep);
+				PlaybackAction action = playbacks.peek();
+
+				if (action.getTimestamp() > time) {
+					return action.getTimestamp();
 				}
-				catch (InterruptedException e) {
-					// Ignore
+
+				action.execute(toolController);
+
+				// Remove the executed action.
+				playbacks.pop();
+
+				executed++;
+
+				if (action.getType() == ActionType.SCREEN) {
+					initVideoPlayer((ScreenAction) action);
+					startVideoPlayer();
 				}
 			}
-			else if (state == ExecutableState.Suspended) {
-				thread.await();
-			}
 		}
+		finally {
+			toolController.endBatch();
 
-		if (!stopped()) {
-			stop();
+			// Publish the progress once per batch.
+			syncState.setEventNumber(syncState.getEventNumber() + executed);
 		}
 	}
 
 	private void seek(int pageNumber, int timeMillis) throws ExecutableException {
 		RecordedPage recPage = recordedPages.get(pageNumber);
 
-		if (recPage.getNumber() == pageNumber) {
-			getPlaybackActions(pageNumber);
+		if (recPage.getNumber() != pageNumber) {
+			return;
+		}
+
+		getPlaybackActions(pageNumber);
+
+		// Do not interpolate from the time before the seek.
+		clock.reset();
+
+		toolController.beginBatch();
 
+		try {
 			// Find actions for execution on the given page.
 			while (!playbacks.isEmpty()) {
 				PlaybackAction action = playbacks.peek();
@@ -339,6 +393,9 @@ public class FileEventExecutor extends EventExecutor {
 				}
 			}
 		}
+		finally {
+			toolController.endBatch();
+		}
 	}
 
 	private synchronized void getPlaybackActions(int pageNumber) {
@@ -498,6 +555,8 @@ public class FileEventExecutor extends EventExecutor {
 		void shutdown() {
 			running = false;
 
+			LockSupport.unpark(this);
+
 			lock.lock();
 
 			try {
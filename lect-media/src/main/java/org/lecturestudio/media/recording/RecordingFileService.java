@@ -28,6 +28,8 @@ import javax.inject.Inject;
 
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.bus.EventBus;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.recording.Recording;
 import org.lecturestudio.core.recording.file.RecordingFileReader;
@@ -55,7 +57,7 @@ public class RecordingFileService {
 	}
 
 	public CompletableFuture<Recording> openRecording(File file) {
-		return CompletableFuture.supplyAsync(() -> {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
 			Recording recording;
 
 			try {
@@ -0,0 +1,460 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+import org.lecturestudio.core.model.Document;
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.Recording.Content;
+import org.lecturestudio.core.recording.RecordingStateVersion;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.StaticShapeAction;
+import org.lecturestudio.core.recording.action.TextChangeAction;
+import org.lecturestudio.media.search.RecordingSearchHit.Source;
+
+/**
+ * Time-aligned text index of a recording. The slide text of each recorded page
+ * visit and the content of typed annotations are mapped to the time range they
+ * were visible in. A query thus returns every moment of the lecture at which
+ * the matching text was on screen.
+ * <p>
+ * Extracting the text requires parsing all pages and actions of a recording.
+ * The extracted text segments are therefore stored in a file next to the
+ * recording and reused as long as the checksum of the recording file matches.
+ *
+ * @author Alex Andres
+ */
+final class RecordingIndex {
+
+	private static final Logger LOG = LogManager.getLogger(RecordingIndex.class);
+
+	/** The extension appended to the recording file name. */
+	static final String FILE_EXTENSION = ".index";
+
+	/** Content format marker 'LSRI' represented as an integer value. */
+	private static final int FILE_MARKER = 0x4C535249;
+
+	private static final int FILE_VERSION = 1;
+
+	private static final String FIELD_SEGMENT = "segment";
+
+	private final Recording recording;
+
+	private final Analyzer analyzer;
+
+	/** The state of the recording the segments have been extracted from. */
+	private RecordingStateVersion version;
+
+	private List<TextSegment> segments;
+
+	private ByteBuffersDirectory directory;
+
+	private DirectoryReader reader;
+
+	private IndexSearcher searcher;
+
+
+	RecordingIndex(Recording recording, Analyzer analyzer) {
+		this.recording = recording;
+		this.analyzer = analyzer;
+	}
+
+	/**
+	 * Loads the stored text segments of the recording, or extracts and stores
+	 * them if they are missing or outdated.
+	 *
+	 * @throws IOException If the index could not be created.
+	 */
+	synchronized void open() throws IOException {
+		version = recording.getStateVersion();
+		segments = read();
+
+		if (isNull(segments)) {
+			segments = extractSegments(recording);
+
+			write();
+		}
+
+		buildIndex();
+	}
+
+	/**
+	 * Searches the text segments of the recording. If the pages or events of
+	 * the recording have been edited since the last search, the index is
+	 * updated first.
+	 *
+	 * @param query The query.
+	 * @param terms The terms of the query used for highlighting.
+	 *
+	 * @return the matching moments sorted by time.
+	 *
+	 * @throws IOException If the index could not be searched.
+	 */
+	synchronized List<RecordingSearchHit> search(Query query, Set<Term> terms) throws IOException {
+		RecordingStateVersion current = recording.getStateVersion();
+		Set<Content> modified = current.getModifiedContent(version);
+
+		if (modified.contains(Content.EVENTS_CHANGED) || modified.contains(Content.DOCUMENT)) {
+			// The edited state is not stored, since it does not match the file.
+			version = current;
+			segments = extractSegments(recording);
+
+			buildIndex();
+		}
+
+		String key = getKey();
+		String title = recording.getRecordedDocument().getDocument().getTitle();
+		List<RecordingSearchHit> hits = new ArrayList<>();
+
+		TopDocs topDocs = searcher.search(query, Math.max(1, segments.size()));
+
+		for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+			org.apache.lucene.document.Document doc = searcher.doc(scoreDoc.doc);
+			TextSegment segment = segments.get(doc.getField(FIELD_SEGMENT).numericValue().intValue());
+
+			hits.add(new RecordingSearchHit(key, title, segment.pageIndex(), scoreDoc.score,
+					SearchFields.getHighlights(analyzer, doc, terms), segment.source(),
+					segment.text(), segment.startTime(), segment.endTime()));
+		}
+
+		hits.sort(Comparator.comparingInt(RecordingSearchHit::getStartTime));
+
+		return hits;
+	}
+
+	/**
+	 * Releases the in-memory index. The stored segments are kept.
+	 *
+	 * @throws IOException If the index could not be closed.
+	 */
+	synchronized void close() throws IOException {
+		if (nonNull(reader)) {
+			reader.close();
+			directory.close();
+
+			reader = null;
+			searcher = null;
+		}
+	}
+
+	private void buildIndex() throws IOException {
+		close();
+
+		directory = new ByteBuffersDirectory();
+
+		try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer))) {
+			for (int i = 0; i < segments.size(); i++) {
+				org.apache.lucene.document.Document doc = new org.apache.lucene.document.Document();
+				doc.add(new StoredField(FIELD_SEGMENT, i));
+
+				SearchFields.addContent(doc, segments.get(i).text());
+
+				writer.addDocument(doc);
+			}
+		}
+
+		reader = DirectoryReader.open(directory);
+		searcher = new IndexSearcher(reader);
+	}
+
+	private String getKey() {
+		return HexFormat.of().formatHex(recording.getRecordingHeader().getChecksum());
+	}
+
+	/**
+	 * @return the index file next to the recording, or {@code null} if the
+	 * recording has not been saved yet.
+	 */
+	private File getIndexFile() {
+		File sourceFile = recording.getSourceFile();
+		byte[] checksum = recording.getRecordingHeader().getChecksum();
+
+		if (isNull(sourceFile) || isNull(checksum) || Arrays.equals(checksum, new byte[checksum.length])) {
+			return null;
+		}
+
+		return new File(sourceFile.getParentFile(), sourceFile.getName() + FILE_EXTENSION);
+	}
+
+	private List<TextSegment> read() {
+		File file = getIndexFile();
+
+		if (isNull(file) || !file.isFile()) {
+			return null;
+		}
+
+		try (DataInputStream stream = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (stream.readInt() != FILE_MARKER || stream.readInt() != FILE_VERSION) {
+				return null;
+			}
+
+			byte[] checksum = new byte[stream.readUnsignedByte()];
+			stream.readFully(checksum);
+
+			if (!Arrays.equals(checksum, recording.getRecordingHeader().getChecksum())) {
+				// The recording has been modified.
+				return null;
+			}
+
+			int count = stream.readInt();
+			List<TextSegment> list = new ArrayList<>(count);
+
+			for (int i = 0; i < count; i++) {
+				int pageIndex = stream.readInt();
+				Source source = Source.values()[stream.readUnsignedByte()];
+				int startTime = stream.readInt();
+				int endTime = stream.readInt();
+				byte[] text = new byte[stream.readInt()];
+				stream.readFully(text);
+
+				list.add(new TextSegment(pageIndex, source, startTime, endTime,
+						new String(text, StandardCharsets.UTF_8)));
+			}
+
+			return list;
+		}
+		catch (IOException | RuntimeException e) {
+			LOG.warn("Read recording index failed, the index will be recreated", e);
+			return null;
+		}
+	}
+
+	private void write() {
+		File file = getIndexFile();
+
+		if (isNull(file)) {
+			return;
+		}
+
+		byte[] checksum = recording.getRecordingHeader().getChecksum();
+
+		try (DataOutputStream stream = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+			stream.writeInt(FILE_MARKER);
+			stream.writeInt(FILE_VERSION);
+			stream.writeByte(checksum.length);
+			stream.write(checksum);
+			stream.writeInt(segments.size());
+
+			for (TextSegment segment : segments) {
+				byte[] text = segment.text().getBytes(StandardCharsets.UTF_8);
+
+				stream.writeInt(segment.pageIndex());
+				stream.writeByte(segment.source().ordinal());
+				stream.writeInt(segment.startTime());
+				stream.writeInt(segment.endTime());
+				stream.writeInt(text.length);
+				stream.write(text);
+			}
+		}
+		catch (IOException e) {
+			// The index is rebuilt the next time, e.g. on read-only media.
+			LOG.warn("Write recording index failed", e);
+
+			file.delete();
+		}
+	}
+
+	/**
+	 * Extracts the time-aligned text of the recording. Each page visit yields
+	 * the text of the slide for the time the page was shown. Each typed
+	 * annotation yields its text for the time it was visible on the page. An
+	 * annotation that is edited by extending or shortening its text keeps a
+	 * single segment with the latest text; replacing the text starts a new
+	 * segment.
+	 *
+	 * @param recording The recording to extract the text from.
+	 *
+	 * @return the extracted text segments.
+	 */
+	static List<TextSegment> extractSegments(Recording recording) {
+		Document document = recording.getRecordedDocument().getDocument();
+		List<RecordedPage> pages = recording.getRecordedEvents().getRecordedPages();
+		int duration = (int) recording.getRecordingHeader().getDuration();
+		List<TextSegment> list = new ArrayList<>();
+
+		for (int i = 0; i < pages.size(); i++) {
+			RecordedPage page = pages.get(i);
+			int pageIndex = page.getNumber();
+			int startTime = page.getTimestamp();
+			int endTime = i < pages.size() - 1
+					? pages.get(i + 1).getTimestamp()
+					: Math.max(duration, startTime);
+
+			if (pageIndex < document.getPageCount()) {
+				String text = document.getPage(pageIndex).getPageText();
+
+				if (nonNull(text) && !text.isBlank()) {
+					list.add(new TextSegment(pageIndex, Source.SLIDE, startTime, endTime, text));
+				}
+			}
+
+			extractAnnotations(page, startTime, endTime, list);
+		}
+
+		return list;
+	}
+
+	private static void extractAnnotations(RecordedPage page, int startTime, int endTime,
+			List<TextSegment> list) {
+		// The annotations visible at the current time, by shape handle.
+		Map<Integer, Annotation> visible = new LinkedHashMap<>();
+		int pageIndex = page.getNumber();
+
+		for (StaticShapeAction staticAction : page.getStaticActions()) {
+			if (staticAction.getAction() instanceof TextChangeAction action) {
+				updateAnnotation(visible, action, startTime, pageIndex, list);
+			}
+		}
+
+		for (PlaybackAction action : page.getPlaybackActions()) {
+			int time = Math.max(startTime, action.getTimestamp());
+
+			switch (action.getType()) {
+				case TEXT_CHANGE -> updateAnnotation(visible, (TextChangeAction) action,
+						time, pageIndex, list);
+				case TEXT_REMOVE -> {
+					Annotation annotation = visible.remove(action.getHandle());
+
+					if (nonNull(annotation)) {
+						annotation.addTo(list, pageIndex, time);
+					}
+				}
+				case DELETE_ALL -> {
+					for (Annotation annotation : visible.values()) {
+						annotation.addTo(list, pageIndex, time);
+					}
+
+					visible.clear();
+				}
+				default -> {
+				}
+			}
+		}
+
+		for (Iterator<Annotation> iter = visible.values().iterator(); iter.hasNext(); ) {
+			iter.next().addTo(list, pageIndex, endTime);
+			iter.remove();
+		}
+	}
+
+	private static void updateAnnotation(Map<Integer, Annotation> visible,
+			TextChangeAction action, int time, int pageIndex, List<TextSegment> list) {
+		String text = action.getText();
+		Annotation annotation = visible.get(action.getHandle());
+
+		if (isNull(text)) {
+			return;
+		}
+		if (isNull(annotation)) {
+			visible.put(action.getHandle(), new Annotation(time, text));
+		}
+		else if (text.startsWith(annotation.lastText) || annotation.lastText.startsWith(text)) {
+			// Typing or deleting characters.
+			annotation.lastText = text;
+
+			if (!text.isBlank()) {
+				annotation.text = text;
+			}
+		}
+		else {
+			annotation.addTo(list, pageIndex, time);
+
+			visible.put(action.getHandle(), new Annotation(time, text));
+		}
+	}
+
+
+	/**
+	 * Text visible in a recording for a period of time.
+	 *
+	 * @param pageIndex The index of the page the text was shown on.
+	 * @param source    The origin of the text.
+	 * @param startTime The time in milliseconds at which the text appeared.
+	 * @param endTime   The time in milliseconds at which the text disappeared.
+	 * @param text      The text.
+	 */
+	record TextSegment(int pageIndex, Source source, int startTime, int endTime, String text) {
+
+	}
+
+
+	/**
+	 * A typed annotation that is currently visible.
+	 */
+	private static class Annotation {
+
+		private final int startTime;
+
+		/** The latest non-blank text. */
+		private String text;
+
+		/** The text as of the last change. */
+		private String lastText;
+
+
+		Annotation(int startTime, String text) {
+			this.startTime = startTime;
+			this.text = text;
+			this.lastText = text;
+		}
+
+		void addTo(List<TextSegment> list, int pageIndex, int endTime) {
+			if (!text.isBlank()) {
+				list.add(new TextSegment(pageIndex, Source.ANNOTATION, startTime, endTime, text));
+			}
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import java.util.List;
+
+/**
+ * A moment in a recording at which text matching a search query was on
+ * screen, either on the slide itself or in a typed annotation.
+ *
+ * @author Alex Andres
+ */
+public class RecordingSearchHit extends SearchHit {
+
+	/**
+	 * The origin of the matching text.
+	 */
+	public enum Source {
+
+		/** The text of the slide. */
+		SLIDE,
+
+		/** The text of a typed annotation on the slide. */
+		ANNOTATION
+
+	}
+
+
+	private final Source source;
+
+	private final String text;
+
+	private final int startTime;
+
+	private final int endTime;
+
+
+	public RecordingSearchHit(String documentKey, String documentTitle, int pageIndex,
+			float score, List<Highlight> highlights, Source source, String text,
+			int startTime, int endTime) {
+		super(documentKey, documentTitle, pageIndex, score, highlights);
+
+		this.source = source;
+		this.text = text;
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	public Source getSource() {
+		return source;
+	}
+
+	/**
+	 * @return the matching text, which the highlights refer to.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * @return the time in milliseconds at which the text appeared.
+	 */
+	public int getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the time in milliseconds at which the text disappeared.
+	 */
+	public int getEndTime() {
+		return endTime;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [page=%d, source=%s, start=%d, end=%d, score=%f, highlights=%s]",
+				RecordingSearchHit.class.getSimpleName(), getPageIndex(), source,
+				startTime, endTime, getScore(), getHighlights());
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+
+import org.lecturestudio.media.search.SearchHit.Highlight;
+
+/**
+ * The text fields shared by all search indices. Text is indexed into a
+ * language-neutral field and, if its language has been recognized, into the
+ * stemmed field of that language.
+ *
+ * @author Alex Andres
+ */
+final class SearchFields {
+
+	static final String CONTENT = "content";
+
+	static final String LANGUAGE = "language";
+
+
+	private SearchFields() {
+	}
+
+	/**
+	 * Adds the specified text to the document. The text is stored in the
+	 * language-neutral field.
+	 *
+	 * @param doc  The document to add the text to.
+	 * @param text The text to add.
+	 */
+	static void addContent(Document doc, String text) {
+		doc.add(new TextField(CONTENT, text, Field.Store.YES));
+
+		SearchLanguage language = SearchLanguage.detect(text);
+
+		if (nonNull(language)) {
+			doc.add(new TextField(language.getField(), text, Field.Store.NO));
+			doc.add(new StringField(LANGUAGE, language.name(), Field.Store.YES));
+		}
+	}
+
+	/**
+	 * @return the names of all fields a query is matched against.
+	 */
+	static String[] getContentFields() {
+		SearchLanguage[] languages = SearchLanguage.values();
+		String[] fields = new String[languages.length + 1];
+
+		fields[0] = CONTENT;
+
+		for (int i = 0; i < languages.length; i++) {
+			fields[i + 1] = languages[i].getField();
+		}
+
+		return fields;
+	}
+
+	/**
+	 * @return a new analyzer with the analyzers of all content fields.
+	 */
+	static PerFieldAnalyzerWrapper createAnalyzer() {
+		Map<String, Analyzer> fieldAnalyzers = new HashMap<>();
+
+		for (SearchLanguage language : SearchLanguage.values()) {
+			fieldAnalyzers.put(language.getField(), language.createAnalyzer());
+		}
+
+		// The language-neutral content is only tokenized and lower-cased.
+		return new PerFieldAnalyzerWrapper(new StandardAnalyzer(CharArraySet.EMPTY_SET),
+				fieldAnalyzers);
+	}
+
+	/**
+	 * Finds the passages of the stored text that match the specified query
+	 * terms.
+	 *
+	 * @param analyzer The analyzer the document has been indexed with.
+	 * @param doc      The stored document.
+	 * @param terms    The terms of the query.
+	 *
+	 * @return the sorted and merged highlights.
+	 *
+	 * @throws IOException If the text could not be analyzed.
+	 */
+	static List<Highlight> getHighlights(Analyzer analyzer, Document doc, Set<Term> terms)
+			throws IOException {
+		String text = doc.get(CONTENT);
+		String language = doc.get(LANGUAGE);
+		List<Highlight> highlights = new ArrayList<>();
+
+		if (isNull(text) || terms.isEmpty()) {
+			return highlights;
+		}
+
+		addHighlights(analyzer, CONTENT, text, terms, highlights);
+
+		if (nonNull(language)) {
+			addHighlights(analyzer, SearchLanguage.valueOf(language).getField(), text,
+					terms, highlights);
+		}
+
+		highlights.sort(Comparator.comparingInt(Highlight::start));
+
+		// Merge overlapping passages matched in both fields.
+		List<Highlight> merged = new ArrayList<>();
+
+		for (Highlight highlight : highlights) {
+			int last = merged.size() - 1;
+
+			if (last >= 0 && highlight.start() < merged.get(last).end()) {
+				Highlight prev = merged.get(last);
+				merged.set(last, new Highlight(prev.start(), Math.max(prev.end(), highlight.end())));
+			}
+			else {
+				merged.add(highlight);
+			}
+		}
+
+		return merged;
+	}
+
+	private static void addHighlights(Analyzer analyzer, String field, String text,
+			Set<Term> terms, List<Highlight> highlights) throws IOException {
+		if (terms.stream().noneMatch(term -> term.field().equals(field))) {
+			return;
+		}
+
+		// Analyze the text again, the offsets of the matching tokens are the highlights.
+		try (TokenStream stream = analyzer.tokenStream(field, text)) {
+			CharTermAttribute termAttr = stream.addAttribute(CharTermAttribute.class);
+			OffsetAttribute offsetAttr = stream.addAttribute(OffsetAttribute.class);
+
+			stream.reset();
+
+			while (stream.incrementToken()) {
+				if (terms.contains(new Term(field, termAttr.toString()))) {
+					highlights.add(new Highlight(offsetAttr.startOffset(), offsetAttr.endOffset()));
+				}
+			}
+
+			stream.end();
+		}
+	}
+}
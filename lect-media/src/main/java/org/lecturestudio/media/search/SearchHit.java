@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import java.util.List;
+
+/**
+ * A page matching a search query.
+ *
+ * @author Alex Andres
+ */
+public class SearchHit {
+
+	private final String documentKey;
+
+	private final String documentTitle;
+
+	private final int pageIndex;
+
+	private final float score;
+
+	private final List<Highlight> highlights;
+
+
+	public SearchHit(String documentKey, String documentTitle, int pageIndex,
+			float score, List<Highlight> highlights) {
+		this.documentKey = documentKey;
+		this.documentTitle = documentTitle;
+		this.pageIndex = pageIndex;
+		this.score = score;
+		this.highlights = highlights;
+	}
+
+	/**
+	 * @return the content hash of the document containing the page.
+	 */
+	public String getDocumentKey() {
+		return documentKey;
+	}
+
+	public String getDocumentTitle() {
+		return documentTitle;
+	}
+
+	public int getPageIndex() {
+		return pageIndex;
+	}
+
+	public float getScore() {
+		return score;
+	}
+
+	/**
+	 * @return the matching text passages of the page, sorted by position.
+	 */
+	public List<Highlight> getHighlights() {
+		return highlights;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s [document=%s, page=%d, score=%f, highlights=%s]",
+				SearchHit.class.getSimpleName(), documentTitle, pageIndex,
+				score, highlights);
+	}
+
+
+	/**
+	 * A matching text passage, given as character offsets into the page text.
+	 *
+	 * @param start The offset of the first character.
+	 * @param end   The offset after the last character.
+	 */
+	public record Highlight(int start, int end) {
+
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import java.util.Locale;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+
+/**
+ * The languages with a dedicated, stemming analyzer in the search index. The
+ * language of a page is guessed from the stop words contained in its text.
+ * Each language is indexed into its own field, so that queries are analyzed
+ * with the same analyzer as the text they are matched against.
+ *
+ * @author Alex Andres
+ */
+enum SearchLanguage {
+
+	ENGLISH("content_en", EnglishAnalyzer.ENGLISH_STOP_WORDS_SET),
+
+	GERMAN("content_de", GermanAnalyzer.getDefaultStopSet());
+
+	/** The minimum number of stop words required to recognize a language. */
+	private static final int MIN_STOP_WORDS = 2;
+
+	private final String field;
+
+	private final CharArraySet stopWords;
+
+
+	SearchLanguage(String field, CharArraySet stopWords) {
+		this.field = field;
+		this.stopWords = stopWords;
+	}
+
+	/**
+	 * @return the name of the index field containing text of this language.
+	 */
+	String getField() {
+		return field;
+	}
+
+	/**
+	 * @return a new analyzer for this language.
+	 */
+	Analyzer createAnalyzer() {
+		return switch (this) {
+			case ENGLISH -> new EnglishAnalyzer();
+			case GERMAN -> new GermanAnalyzer();
+		};
+	}
+
+	/**
+	 * Guesses the language of the specified text by counting the stop words
+	 * of each language.
+	 *
+	 * @param text The text to examine.
+	 *
+	 * @return the language of the text, or {@code null} if the language could
+	 * not be recognized.
+	 */
+	static SearchLanguage detect(String text) {
+		char[] chars = text.toLowerCase(Locale.ROOT).toCharArray();
+		int[] counts = new int[values().length];
+		int start = -1;
+
+		for (int i = 0; i <= chars.length; i++) {
+			boolean letter = i < chars.length && Character.isLetter(chars[i]);
+
+			if (letter && start < 0) {
+				start = i;
+			}
+			else if (!letter && start >= 0) {
+				for (SearchLanguage language : values()) {
+					if (language.stopWords.contains(chars, start, i - start)) {
+						counts[language.ordinal()]++;
+					}
+				}
+				start = -1;
+			}
+		}
+
+		SearchLanguage detected = null;
+		int max = MIN_STOP_WORDS - 1;
+
+		for (SearchLanguage language : values()) {
+			if (counts[language.ordinal()] > max) {
+				max = counts[language.ordinal()];
+				detected = language;
+			}
+		}
+
+		return detected;
+	}
+}
@@ -24,14 +24,17 @@ public class SearchResult {
 
 	private final String queryString;
 
+	private final List<SearchHit> hits;
+
 	private final List<Integer> pageIndices;
 
 	private final List<String> suggestions;
 
 
-	public SearchResult(String queryString, List<Integer> pageIndices, List<String> suggestions) {
+	public SearchResult(String queryString, List<? extends SearchHit> hits, List<String> suggestions) {
 		this.queryString = queryString;
-		this.pageIndices = pageIndices;
+		this.hits = List.copyOf(hits);
+		this.pageIndices = hits.stream().map(SearchHit::getPageIndex).toList();
 		this.suggestions = suggestions;
 	}
 
@@ -39,6 +42,10 @@ public class SearchResult {
 		return queryString;
 	}
 
+	public List<SearchHit> getHits() {
+		return hits;
+	}
+
 	public List<Integer> getPageIndices() {
 		return pageIndices;
 	}
@@ -50,8 +57,8 @@ public class SearchResult {
 	@Override
 	public String toString() {
 		return String.format(
-				"%s [queryString=%s, pageIndices=%s, suggestions=%s]",
-				SearchResult.class.getSimpleName(), queryString, pageIndices,
+				"%s [queryString=%s, hits=%s, suggestions=%s]",
+				SearchResult.class.getSimpleName(), queryString, hits,
 				suggestions);
 	}
 }
@@ -22,75 +22,256 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.StringField;
-import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.IndexFormatTooNewException;
+import org.apache.lucene.index.IndexFormatTooOldException;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
-import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.spell.LuceneDictionary;
 import org.apache.lucene.search.suggest.Lookup;
 import org.apache.lucene.search.suggest.analyzing.AnalyzingInfixSuggester;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.Page;
+import org.lecturestudio.core.recording.Recording;
 
+/**
+ * Full-text search over the pages of documents. The index is either kept in
+ * memory or stored on disk. Documents are identified by the hash of their
+ * content, so a document stored in a disk-based index is not indexed again
+ * when it is opened later. A disk-based index keeps only the most recently
+ * opened documents which are backed by a file. All searches share a near
+ * real-time searcher, which is refreshed whenever documents have been added.
+ * <p>
+ * Each page is indexed into a language-neutral field and, if the language of
+ * the page has been recognized, into a field analyzed with the stemming
+ * analyzer of that language.
+ * <p>
+ * Opened recordings get a separate, time-aligned index, which maps the slide
+ * text and typed annotations to the time they were on screen.
+ *
+ * @author Alex Andres
+ */
 public class SearchService {
 
+	private static final Logger LOG = LogManager.getLogger(SearchService.class);
+
+	/** The maximum number of hits when searching all documents. */
+	private static final int MAX_HITS = 100;
+
+	/** The maximum number of suggestions. */
+	private static final int MAX_SUGGESTIONS = 5;
+
+	/** The maximum number of documents kept in a disk-based index. */
+	private static final int MAX_DOCUMENTS = 200;
+
+	private static final String FIELD_KEY = "key";
+
+	private static final String FIELD_TITLE = "title";
+
+	private static final String FIELD_NUMBER = "number";
+
+	private static final String FIELD_OPENED = "opened";
+
+	private static final Sort PAGE_ORDER = new Sort(new SortField(FIELD_NUMBER, SortField.Type.INT));
+
+	private static final Sort RECENTLY_OPENED = new Sort(new SortField(FIELD_OPENED, SortField.Type.LONG, true));
+
 	private final Directory index;
 
+	/** Whether the index is stored on disk and kept when documents are closed. */
+	private final boolean persistent;
+
+	/** The maximum number of documents kept in a disk-based index. */
+	private final int maxDocuments;
+
 	private final Analyzer analyzer;
 
+	private final IndexWriter writer;
+
+	private final SearcherManager searcherManager;
+
+	/** The content hashes of the indexed open documents. */
+	private final Map<Document, String> documentKeys;
+
+	/** The time-aligned indices of the open recordings. */
+	private final Map<Recording, RecordingIndex> recordingIndices;
+
 	private AnalyzingInfixSuggester suggester;
 
-	private IndexReader reader;
+	/** Whether the suggester must be rebuilt before its next use. */
+	private volatile boolean suggesterOutdated;
 
 
+	/**
+	 * Creates a new {@link SearchService} with an in-memory index.
+	 */
 	public SearchService() {
-		index = new ByteBuffersDirectory();
-		analyzer = new GermanAnalyzer();
+		try {
+			index = new ByteBuffersDirectory();
+			persistent = false;
+			maxDocuments = MAX_DOCUMENTS;
+			analyzer = SearchFields.createAnalyzer();
+			writer = createWriter(index, analyzer, OpenMode.CREATE);
+			searcherManager = new SearcherManager(writer, null);
+			documentKeys = Collections.synchronizedMap(new IdentityHashMap<>());
+			recordingIndices = new ConcurrentHashMap<>();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
-	public CompletableFuture<Void> createIndex(Document document) {
-		return CompletableFuture.runAsync(() -> {
-			IndexWriterConfig config = new IndexWriterConfig(analyzer);
+	/**
+	 * Creates a new {@link SearchService} with an index stored in the
+	 * specified directory. An existing index is reused; an unreadable index is
+	 * replaced with an empty one.
+	 *
+	 * @param indexPath The directory of the index.
+	 *
+	 * @throws IOException If the index could not be opened.
+	 */
+	public SearchService(Path indexPath) throws IOException {
+		this(indexPath, MAX_DOCUMENTS);
+	}
 
-			try (IndexWriter writer = new IndexWriter(index, config)) {
-				for (Page page : document.getPages()) {
-					org.apache.lucene.document.Document doc = new org.apache.lucene.document.Document();
-					doc.add(new StringField("title", document.getName(), Field.Store.YES));
-					doc.add(new StoredField("number", page.getPageNumber()));
-					doc.add(new TextField("content", page.getPageText(), Field.Store.YES));
+	/**
+	 * Creates a new {@link SearchService} with an index stored in the
+	 * specified directory, which keeps at most the specified number of
+	 * documents.
+	 *
+	 * @param indexPath    The directory of the index.
+	 * @param maxDocuments The maximum number of documents in the index.
+	 *
+	 * @throws IOException If the index could not be opened.
+	 */
+	SearchService(Path indexPath, int maxDocuments) throws IOException {
+		index = FSDirectory.open(indexPath);
+		persistent = true;
+		this.maxDocuments = maxDocuments;
+		analyzer = SearchFields.createAnalyzer();
+		writer = openWriter(index, analyzer);
+		searcherManager = new SearcherManager(writer, null);
+		documentKeys = Collections.synchronizedMap(new IdentityHashMap<>());
+		recordingIndices = new ConcurrentHashMap<>();
+		suggesterOutdated = true;
+	}
+
+	/**
+	 * Adds the pages of the specified document to the index, unless a document
+	 * with the same content has been indexed before.
+	 *
+	 * @param document The document to index.
+	 *
+	 * @return a future completing once the document is searchable.
+	 */
+	public CompletableFuture<Void> createIndex(Document document) {
+		return ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
+			try {
+				String key = getDocumentKey(document);
 
-					writer.addDocument(doc);
+				synchronized (writer) {
+					if (!containsDocument(key)) {
+						addDocument(document, key);
+					}
+					else if (persistent) {
+						updateOpened(key);
+					}
 				}
+
+				documentKeys.put(document, key);
 			}
 			catch (IOException e) {
 				throw new CompletionException(e);
 			}
+		});
+	}
+
+	/**
+	 * Releases the specified document. With an in-memory index, the pages of
+	 * the document are removed from the index. A disk-based index keeps the
+	 * pages of a document backed by a file for the next time the document is
+	 * opened.
+	 *
+	 * @param document The document to release.
+	 *
+	 * @return a future completing once the document has been released.
+	 */
+	public CompletableFuture<Void> destroyIndex(Document document) {
+		return ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
+			String key = documentKeys.remove(document);
+
+			if (isNull(key) || documentKeys.containsValue(key)) {
+				return;
+			}
+			if (persistent && nonNull(document.getFile())) {
+				return;
+			}
 
 			try {
-				initReader();
-				initSuggester();
+				synchronized (writer) {
+					writer.deleteDocuments(new Term(FIELD_KEY, key));
+
+					if (persistent) {
+						writer.commit();
+					}
+				}
+
+				searcherManager.maybeRefreshBlocking();
+
+				suggesterOutdated = true;
 			}
 			catch (IOException e) {
 				throw new CompletionException(e);
@@ -98,21 +279,81 @@ public class SearchService {
 		});
 	}
 
-	public CompletableFuture<Void> destroyIndex(Document document) {
-		return CompletableFuture.runAsync(() -> {
-			IndexWriterConfig config = new IndexWriterConfig(analyzer);
-			Term term = new Term("title", document.getName());
+	/**
+	 * Searches all documents in the index, including documents that are not
+	 * open. The hits are sorted by relevance.
+	 *
+	 * @param queryString The query.
+	 *
+	 * @return a future providing the search result.
+	 */
+	public CompletableFuture<SearchResult> searchIndex(String queryString) {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> search(queryString, null, MAX_HITS));
+	}
+
+	/**
+	 * Searches the pages of the specified document. The hits are sorted by
+	 * page number.
+	 *
+	 * @param document    The document to search in.
+	 * @param queryString The query.
+	 *
+	 * @return a future providing the search result.
+	 */
+	public CompletableFuture<SearchResult> searchIndex(Document document, String queryString) {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
+			String key = documentKeys.get(document);
+
+			if (isNull(key)) {
+				// Not indexed yet.
+				return new SearchResult(queryString, List.of(), List.of());
+			}
+
+			return search(queryString, key, document.getPageCount());
+		});
+	}
+
+	/**
+	 * Creates the time-aligned index of the specified recording. The text of
+	 * the recording is stored in a file next to the recording, so that it is
+	 * extracted only once.
+	 *
+	 * @param recording The recording to index.
+	 *
+	 * @return a future completing once the recording is searchable.
+	 */
+	public CompletableFuture<Void> createIndex(Recording recording) {
+		return ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
+			RecordingIndex recordingIndex = new RecordingIndex(recording, analyzer);
 
-			try (IndexWriter writer = new IndexWriter(index, config)) {
-				writer.deleteDocuments(term);
+			try {
+				recordingIndex.open();
 			}
 			catch (IOException e) {
 				throw new CompletionException(e);
 			}
 
+			recordingIndices.put(recording, recordingIndex);
+		});
+	}
+
+	/**
+	 * Releases the time-aligned index of the specified recording.
+	 *
+	 * @param recording The recording to release.
+	 *
+	 * @return a future completing once the recording has been released.
+	 */
+	public CompletableFuture<Void> destroyIndex(Recording recording) {
+		return ExecutionService.runAsync(ExecutionPool.BACKGROUND, () -> {
+			RecordingIndex recordingIndex = recordingIndices.remove(recording);
+
+			if (isNull(recordingIndex)) {
+				return;
+			}
+
 			try {
-				initReader();
-				destroySuggester();
+				recordingIndex.close();
 			}
 			catch (IOException e) {
 				throw new CompletionException(e);
@@ -120,60 +361,319 @@ public class SearchService {
 		});
 	}
 
-	public CompletableFuture<SearchResult> searchIndex(String queryString) {
-		return CompletableFuture.supplyAsync(() -> {
-			List<Integer> pageIndices = new ArrayList<>();
-			List<String> suggestions = new ArrayList<>();
+	/**
+	 * Searches the slide text and the typed annotations of the specified
+	 * recording. The result contains a {@link RecordingSearchHit} for each
+	 * moment the matching text was on screen, sorted by time.
+	 *
+	 * @param recording   The recording to search in.
+	 * @param queryString The query.
+	 *
+	 * @return a future providing the search result.
+	 */
+	public CompletableFuture<SearchResult> searchIndex(Recording recording, String queryString) {
+		return ExecutionService.supplyAsync(ExecutionPool.BULK_IO, () -> {
+			RecordingIndex recordingIndex = recordingIndices.get(recording);
+
+			if (isNull(recordingIndex)) {
+				// Not indexed yet.
+				return new SearchResult(queryString, List.of(), List.of());
+			}
+
+			try {
+				Set<Term> terms = new HashSet<>();
+				Query query = parseQuery(queryString, terms);
+				List<RecordingSearchHit> hits = recordingIndex.search(query, terms);
+				List<String> suggestions;
+
+				IndexSearcher searcher = searcherManager.acquire();
+
+				try {
+					suggestions = getSuggestions(searcher, queryString);
+				}
+				finally {
+					searcherManager.release(searcher);
+				}
+
+				return new SearchResult(queryString, hits, suggestions);
+			}
+			catch (IOException | ParseException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Closes the index. Pending changes are written to disk.
+	 *
+	 * @throws IOException If the index could not be closed properly.
+	 */
+	public void close() throws IOException {
+		try {
+			searcherManager.close();
+			writer.close();
+
+			if (nonNull(suggester)) {
+				suggester.close();
+			}
+			for (RecordingIndex recordingIndex : recordingIndices.values()) {
+				recordingIndex.close();
+			}
+
+			recordingIndices.clear();
+		}
+		finally {
+			index.close();
+		}
+	}
+
+	private SearchResult search(String queryString, String key, int maxHits) {
+		try {
+			Set<Term> terms = new HashSet<>();
+			Query query = parseQuery(queryString, terms);
+
+			if (nonNull(key)) {
+				query = new BooleanQuery.Builder()
+						.add(query, BooleanClause.Occur.MUST)
+						.add(new TermQuery(new Term(FIELD_KEY, key)), BooleanClause.Occur.FILTER)
+						.build();
+			}
+
+			List<SearchHit> hits = new ArrayList<>();
+			List<String> suggestions;
+
+			IndexSearcher searcher = searcherManager.acquire();
 
 			try {
-				Query query = new QueryParser("content", analyzer).parse(queryString);
-				IndexSearcher searcher = new IndexSearcher(reader);
-				TopDocs topDocs = searcher.search(query, 10, Sort.INDEXORDER);
+				TopDocs topDocs = nonNull(key)
+						? searcher.search(query, Math.max(1, maxHits), PAGE_ORDER, true)
+						: searcher.search(query, maxHits);
 
 				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
 					org.apache.lucene.document.Document doc = searcher.doc(scoreDoc.doc);
 
-					pageIndices.add(doc.getField("number").numericValue().intValue());
+					hits.add(new SearchHit(doc.get(FIELD_KEY), doc.get(FIELD_TITLE),
+							doc.getField(FIELD_NUMBER).numericValue().intValue(),
+							scoreDoc.score, SearchFields.getHighlights(analyzer, doc, terms)));
 				}
 
-				List<Lookup.LookupResult> suggestList = suggester.lookup(queryString, true, 5);
+				suggestions = getSuggestions(searcher, queryString);
+			}
+			finally {
+				searcherManager.release(searcher);
+			}
 
-				for (Lookup.LookupResult lookupResult : suggestList) {
-					suggestions.add(lookupResult.key.toString());
+			return new SearchResult(queryString, hits, suggestions);
+		}
+		catch (IOException | ParseException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * Parses the query and collects its terms for highlighting.
+	 */
+	private Query parseQuery(String queryString, Set<Term> terms) throws ParseException {
+		Query query = new MultiFieldQueryParser(SearchFields.getContentFields(), analyzer)
+				.parse(queryString);
+
+		query.visit(QueryVisitor.termCollector(terms));
+
+		return query;
+	}
+
+	private List<String> getSuggestions(IndexSearcher searcher, String queryString)
+			throws IOException {
+		List<String> suggestions = new ArrayList<>();
+
+		synchronized (this) {
+			if (suggesterOutdated || isNull(suggester)) {
+				if (searcher.getIndexReader().numDocs() == 0) {
+					return suggestions;
+				}
+				if (isNull(suggester)) {
+					suggester = new AnalyzingInfixSuggester(new ByteBuffersDirectory(),
+							new StandardAnalyzer(CharArraySet.EMPTY_SET));
 				}
+
+				suggesterOutdated = false;
+				suggester.build(new LuceneDictionary(searcher.getIndexReader(), SearchFields.CONTENT));
 			}
-			catch (IOException | ParseException e) {
-				throw new CompletionException(e);
+
+			List<Lookup.LookupResult> suggestList = suggester.lookup(queryString, true, MAX_SUGGESTIONS);
+
+			for (Lookup.LookupResult lookupResult : suggestList) {
+				suggestions.add(lookupResult.key.toString());
 			}
+		}
 
-			return new SearchResult(queryString, pageIndices, suggestions);
-		});
+		return suggestions;
+	}
+
+	private boolean containsDocument(String key) throws IOException {
+		IndexSearcher searcher = searcherManager.acquire();
+
+		try {
+			return searcher.count(new TermQuery(new Term(FIELD_KEY, key))) > 0;
+		}
+		finally {
+			searcherManager.release(searcher);
+		}
 	}
 
-	private void initReader() throws IOException {
-		if (nonNull(reader)) {
-			reader.close();
+	private void addDocument(Document document, String key) throws IOException {
+		List<org.apache.lucene.document.Document> docs = new ArrayList<>();
+		long opened = System.currentTimeMillis();
+
+		for (Page page : document.getPages()) {
+			String text = page.getPageText();
+
+			if (isNull(text)) {
+				text = "";
+			}
+
+			org.apache.lucene.document.Document doc = new org.apache.lucene.document.Document();
+			doc.add(new StringField(FIELD_KEY, key, Field.Store.YES));
+			doc.add(new StringField(FIELD_TITLE, document.getName(), Field.Store.YES));
+			doc.add(new StoredField(FIELD_NUMBER, page.getPageNumber()));
+			doc.add(new NumericDocValuesField(FIELD_NUMBER, page.getPageNumber()));
+			doc.add(new NumericDocValuesField(FIELD_OPENED, opened));
+
+			SearchFields.addContent(doc, text);
+
+			docs.add(doc);
+		}
+
+		// All pages of a document become visible at once.
+		writer.addDocuments(docs);
+
+		searcherManager.maybeRefreshBlocking();
+
+		if (persistent) {
+			evictDocuments();
+
+			writer.commit();
 		}
 
-		reader = DirectoryReader.open(index);
+		suggesterOutdated = true;
+
+		LOG.debug("Indexed {} pages of {}", docs.size(), document.getName());
 	}
 
-	private void initSuggester() throws IOException {
-		if (isNull(suggester)) {
-			suggester = new AnalyzingInfixSuggester(new ByteBuffersDirectory(), analyzer);
+	/**
+	 * Marks the pages of the indexed document with the specified key as opened
+	 * now, which defers their eviction.
+	 */
+	private void updateOpened(String key) throws IOException {
+		try {
+			writer.updateNumericDocValue(new Term(FIELD_KEY, key), FIELD_OPENED,
+					System.currentTimeMillis());
+		}
+		catch (IllegalArgumentException e) {
+			// The index was created without opening times, its documents are
+			// evicted first and get an opening time once indexed again.
+			return;
 		}
 
-		suggester.build(new LuceneDictionary(reader, "content"));
+		writer.commit();
 	}
 
-	private void destroySuggester() throws IOException {
-		if (nonNull(suggester)) {
-			try {
-				suggester.close();
+	/**
+	 * Removes the least recently opened documents from a disk-based index, so
+	 * that the index does not grow without bounds. Open documents are kept.
+	 */
+	private void evictDocuments() throws IOException {
+		List<Term> evicted = new ArrayList<>();
+		IndexSearcher searcher = searcherManager.acquire();
+
+		try {
+			// Each indexed document has exactly one first page.
+			Query firstPages = NumericDocValuesField.newSlowExactQuery(FIELD_NUMBER, 0);
+			int count = searcher.count(firstPages);
+
+			if (count <= maxDocuments) {
+				return;
 			}
-			finally {
-				suggester = null;
+
+			ScoreDoc[] scoreDocs = searcher.search(firstPages, count, RECENTLY_OPENED).scoreDocs;
+
+			for (int i = maxDocuments; i < scoreDocs.length; i++) {
+				String key = searcher.doc(scoreDocs[i].doc).get(FIELD_KEY);
+
+				if (!documentKeys.containsValue(key)) {
+					evicted.add(new Term(FIELD_KEY, key));
+				}
+			}
+		}
+		finally {
+			searcherManager.release(searcher);
+		}
+
+		if (!evicted.isEmpty()) {
+			writer.deleteDocuments(evicted.toArray(new Term[0]));
+
+			searcherManager.maybeRefreshBlocking();
+
+			LOG.debug("Evicted {} documents from the search index", evicted.size());
+		}
+	}
+
+	/**
+	 * Computes the content hash of a document. File-based documents are hashed
+	 * by their file content and page count, in-memory documents by their page
+	 * texts.
+	 */
+	private static String getDocumentKey(Document document) throws IOException {
+		MessageDigest md;
+
+		try {
+			md = MessageDigest.getInstance("SHA-1");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+
+		File file = document.getFile();
+
+		if (nonNull(file) && file.isFile()) {
+			try (InputStream input = new DigestInputStream(Files.newInputStream(file.toPath()), md)) {
+				input.transferTo(OutputStream.nullOutputStream());
+			}
+
+			md.update(Integer.toString(document.getPageCount()).getBytes(StandardCharsets.UTF_8));
+		}
+		else {
+			for (Page page : document.getPages()) {
+				String text = page.getPageText();
+
+				if (nonNull(text)) {
+					md.update(text.getBytes(StandardCharsets.UTF_8));
+				}
+
+				// Separate the pages.
+				md.update((byte) 0);
 			}
 		}
+
+		return HexFormat.of().formatHex(md.digest());
+	}
+
+	private static IndexWriter openWriter(Directory index, Analyzer analyzer) throws IOException {
+		try {
+			return createWriter(index, analyzer, OpenMode.CREATE_OR_APPEND);
+		}
+		catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException e) {
+			LOG.warn("Search index is not readable and will be recreated", e);
+
+			return createWriter(index, analyzer, OpenMode.CREATE);
+		}
+	}
+
+	private static IndexWriter createWriter(Directory index, Analyzer analyzer,
+			OpenMode openMode) throws IOException {
+		IndexWriterConfig config = new IndexWriterConfig(analyzer);
+		config.setOpenMode(openMode);
+
+		return new IndexWriter(index, config);
 	}
 }
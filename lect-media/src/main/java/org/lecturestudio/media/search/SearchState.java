@@ -44,6 +44,16 @@ public class SearchState {
 		return searchResult.getPageIndices().get(selectedIndex - 1);
 	}
 
+	public SearchHit selectPreviousHit() {
+		selectedIndex = Math.max(selectedIndex - 1, 1);
+		return searchResult.getHits().get(selectedIndex - 1);
+	}
+
+	public SearchHit selectNextHit() {
+		selectedIndex = Math.min(selectedIndex + 1, getTotalHits());
+		return searchResult.getHits().get(selectedIndex - 1);
+	}
+
 	public int getSelectedIndex() {
 		return selectedIndex;
 	}
@@ -21,9 +21,10 @@ package org.lecturestudio.media.track;
 import static java.util.Objects.isNull;
 
 import java.io.IOException;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.recording.RecordingChangeEvent;
 import org.lecturestudio.media.audio.WaveformBuilder;
@@ -47,7 +48,7 @@ public class AudioTrack extends MediaTrackBase<RandomAccessAudioStream> {
 
 	@Override
 	public void setData(RandomAccessAudioStream stream) {
-		CompletableFuture.runAsync(() -> {
+		ExecutionService.runAsync(ExecutionPool.BULK_IO, () -> {
 			try {
 				waveformData = waveformBuilder.build(stream.getAudioFormat(),
 						stream.clone(), 30000);
@@ -30,7 +30,6 @@ import dev.onvoid.webrtc.media.audio.AudioDeviceModule;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.lecturestudio.core.ExecutableBase;
@@ -39,6 +38,8 @@ import org.lecturestudio.core.audio.AudioFormat;
 import org.lecturestudio.core.audio.AudioPlaybackProgressListener;
 import org.lecturestudio.core.audio.AudioUtils;
 import org.lecturestudio.core.audio.source.AudioSource;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.model.Time;
 import org.lecturestudio.core.audio.AudioPlayer;
 
@@ -288,7 +289,7 @@ public class WebRtcAudioPlayer extends ExecutableBase implements AudioPlayer {
 	}
 
 	private void stopPlayback() {
-		CompletableFuture.runAsync(() -> {
+		ExecutionService.runAsync(ExecutionPool.AUDIO, () -> {
 			try {
 				stop();
 			}
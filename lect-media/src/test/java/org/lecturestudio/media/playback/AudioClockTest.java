@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.playback;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the interpolation of the playback time by {@link AudioClock}.
+ */
+class AudioClockTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+
+	@Test
+	void testInterpolation() {
+		AudioClock clock = new AudioClock();
+
+		assertEquals(1000, clock.getTime(1000, SECOND));
+		assertEquals(1010, clock.getTime(1000, SECOND + millis(10)));
+
+		// The interpolation is limited while the audio time stalls.
+		assertEquals(1000 + AudioClock.MAX_INTERPOLATION, clock.getTime(1000, SECOND + millis(500)));
+		assertTrue(clock.isStalled(SECOND + millis(500)));
+
+		// An audio update restarts the interpolation.
+		assertEquals(1020, clock.getTime(1020, SECOND + millis(520)));
+		assertFalse(clock.isStalled(SECOND + millis(520)));
+	}
+
+	@Test
+	void testResetOnResume() {
+		AudioClock clock = new AudioClock();
+
+		clock.getTime(1000, SECOND);
+
+		// Paused for a while, the audio time did not advance.
+		long resumed = SECOND + millis(5000);
+
+		clock.reset();
+
+		assertEquals(1000, clock.getTime(1000, resumed));
+		assertFalse(clock.isStalled(resumed));
+		assertEquals(millis(20), clock.getNanosUntil(1020, resumed));
+	}
+
+	@Test
+	void testResetOnSeek() {
+		AudioClock clock = new AudioClock();
+
+		clock.getTime(3000, SECOND);
+
+		// Seek to the audio time observed before the seek.
+		long seeked = SECOND + millis(3000);
+
+		clock.reset();
+
+		assertEquals(3000, clock.getTime(3000, seeked));
+		assertEquals(millis(100), clock.getNanosUntil(3100, seeked));
+	}
+
+	private static long millis(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import org.lecturestudio.core.model.Document;
+import org.lecturestudio.core.recording.RecordedDocument;
+import org.lecturestudio.core.recording.RecordedEvents;
+import org.lecturestudio.core.recording.RecordedPage;
+import org.lecturestudio.core.recording.Recording;
+import org.lecturestudio.core.recording.action.DeleteAllAction;
+import org.lecturestudio.core.recording.action.PlaybackAction;
+import org.lecturestudio.core.recording.action.TextChangeAction;
+import org.lecturestudio.core.recording.action.TextRemoveAction;
+import org.lecturestudio.media.search.RecordingIndex.TextSegment;
+import org.lecturestudio.media.search.RecordingSearchHit.Source;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the extraction of time-aligned text segments by {@link RecordingIndex}
+ * and the reuse of the stored segments.
+ */
+class RecordingIndexTest {
+
+	private static final byte[] CHECKSUM = { 1, 2, 3, 4 };
+
+	@TempDir
+	Path tempDir;
+
+	private Analyzer analyzer;
+
+	private Document document;
+
+
+	@BeforeEach
+	void setUp() throws IOException {
+		analyzer = SearchFields.createAnalyzer();
+		document = createDocument("Introduction", "Summary");
+	}
+
+	@AfterEach
+	void tearDown() {
+		document.close();
+		analyzer.close();
+	}
+
+	@Test
+	void testSlideText() {
+		RecordedPage first = createPage(0, 0);
+		RecordedPage second = createPage(1, 500);
+
+		List<TextSegment> segments = RecordingIndex.extractSegments(
+				createRecording(2000, first, second));
+
+		assertEquals(2, segments.size());
+		assertSegment(segments.get(0), 0, Source.SLIDE, 0, 500, "Introduction");
+		assertSegment(segments.get(1), 1, Source.SLIDE, 500, 2000, "Summary");
+	}
+
+	@Test
+	void testReplacedText() {
+		RecordedPage page = createPage(2, 0,
+				new TextChangeAction(1, "He"),
+				new TextChangeAction(1, "Hello"),
+				new TextChangeAction(1, "Hell"),
+				new TextChangeAction(1, "World"));
+
+		List<TextSegment> segments = RecordingIndex.extractSegments(
+				createRecording(1000, page));
+
+		// Extending and shortening keep the segment, replacing starts a new one.
+		assertEquals(2, segments.size());
+		assertSegment(segments.get(0), 2, Source.ANNOTATION, 100, 400, "Hell");
+		assertSegment(segments.get(1), 2, Source.ANNOTATION, 400, 1000, "World");
+	}
+
+	@Test
+	void testRemovedText() {
+		RecordedPage page = createPage(2, 0,
+				new TextChangeAction(1, "one"),
+				new TextChangeAction(2, "two"),
+				new TextRemoveAction(1),
+				new DeleteAllAction());
+
+		List<TextSegment> segments = RecordingIndex.extractSegments(
+				createRecording(1000, page));
+
+		assertEquals(2, segments.size());
+		assertSegment(segments.get(0), 2, Source.ANNOTATION, 100, 300, "one");
+		assertSegment(segments.get(1), 2, Source.ANNOTATION, 200, 400, "two");
+	}
+
+	@Test
+	void testPageVisitEnd() {
+		RecordedPage first = createPage(2, 0, new TextChangeAction(1, "note"));
+		RecordedPage second = createPage(3, 700);
+
+		List<TextSegment> segments = RecordingIndex.extractSegments(
+				createRecording(1000, first, second));
+
+		// The annotation is visible until the page is left.
+		assertEquals(1, segments.size());
+		assertSegment(segments.get(0), 2, Source.ANNOTATION, 100, 700, "note");
+	}
+
+	@Test
+	void testStoredSegments() throws IOException {
+		File sourceFile = tempDir.resolve("lecture.presenter").toFile();
+		File indexFile = new File(sourceFile.getPath() + RecordingIndex.FILE_EXTENSION);
+
+		Recording recording = createRecording(1000,
+				createPage(2, 0, new TextChangeAction(1, "alpha")));
+		recording.setSourceFile(sourceFile);
+		recording.getRecordingHeader().setChecksum(CHECKSUM);
+
+		RecordingIndex index = new RecordingIndex(recording, analyzer);
+		index.open();
+		index.close();
+
+		assertTrue(indexFile.isFile());
+
+		// The stored segments are reused for a recording with the same checksum.
+		Recording reopened = createRecording(1000,
+				createPage(2, 0, new TextChangeAction(1, "beta")));
+		reopened.setSourceFile(sourceFile);
+		reopened.getRecordingHeader().setChecksum(CHECKSUM);
+
+		index = new RecordingIndex(reopened, analyzer);
+		index.open();
+
+		List<RecordingSearchHit> hits = search(index, "alpha");
+
+		assertEquals(1, hits.size());
+		assertEquals("alpha", hits.get(0).getText());
+		assertEquals(100, hits.get(0).getStartTime());
+		assertEquals(1000, hits.get(0).getEndTime());
+		assertTrue(search(index, "beta").isEmpty());
+
+		index.close();
+
+		// A different checksum drops the stored segments.
+		reopened.getRecordingHeader().setChecksum(new byte[] { 5, 6, 7, 8 });
+
+		index = new RecordingIndex(reopened, analyzer);
+		index.open();
+
+		assertTrue(search(index, "alpha").isEmpty());
+		assertEquals(1, search(index, "beta").size());
+
+		index.close();
+	}
+
+	private List<RecordingSearchHit> search(RecordingIndex index, String text)
+			throws IOException {
+		Term term = new Term(SearchFields.CONTENT, text);
+
+		return index.search(new TermQuery(term), Set.of(term));
+	}
+
+	private Recording createRecording(long duration, RecordedPage... pages) {
+		Recording recording = new Recording();
+		recording.setRecordedDocument(new RecordedDocument(document));
+		recording.setRecordedEvents(new RecordedEvents(List.of(pages)));
+		recording.getRecordingHeader().setDuration(duration);
+
+		return recording;
+	}
+
+	/**
+	 * Creates a page visit with the specified actions, which are 100 ms apart.
+	 */
+	private static RecordedPage createPage(int number, int timestamp,
+			PlaybackAction... actions) {
+		RecordedPage page = new RecordedPage();
+		page.setNumber(number);
+		page.setTimestamp(timestamp);
+
+		for (int i = 0; i < actions.length; i++) {
+			actions[i].setTimestamp(timestamp + (i + 1) * 100);
+
+			page.addPlaybackAction(actions[i]);
+		}
+
+		return page;
+	}
+
+	private static void assertSegment(TextSegment segment, int pageIndex,
+			Source source, int startTime, int endTime, String text) {
+		assertEquals(pageIndex, segment.pageIndex());
+		assertEquals(source, segment.source());
+		assertEquals(startTime, segment.startTime());
+		assertEquals(endTime, segment.endTime());
+		assertEquals(text, segment.text().strip());
+	}
+
+	private static Document createDocument(String... pageTexts) throws IOException {
+		try (PDDocument pdf = new PDDocument()) {
+			for (String text : pageTexts) {
+				PDPage page = new PDPage();
+				pdf.addPage(page);
+
+				try (PDPageContentStream stream = new PDPageContentStream(pdf, page)) {
+					stream.beginText();
+					stream.setFont(PDType1Font.HELVETICA, 12);
+					stream.newLineAtOffset(50, 700);
+					stream.showText(text);
+					stream.endText();
+				}
+			}
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			pdf.save(output);
+
+			return new Document(output.toByteArray());
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.media.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import org.lecturestudio.core.model.Document;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the disk-based index of {@link SearchService}.
+ */
+class SearchServiceTest {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void testReopenDocument() throws Exception {
+		Path indexPath = tempDir.resolve("index");
+		File file = createFile("lecture.pdf", "alpha one", "alpha two");
+
+		SearchService service = new SearchService(indexPath);
+		indexDocument(service, file);
+		service.close();
+
+		service = new SearchService(indexPath);
+
+		// The pages are still indexed after a restart.
+		assertEquals(2, countHits(service, "alpha"));
+
+		// Opening the same document again does not add its pages again.
+		indexDocument(service, file);
+
+		assertEquals(2, countHits(service, "alpha"));
+
+		service.close();
+	}
+
+	@Test
+	void testEvictDocuments() throws Exception {
+		SearchService service = new SearchService(tempDir.resolve("index"), 2);
+
+		indexDocument(service, createFile("a.pdf", "alpha"));
+		indexDocument(service, createFile("b.pdf", "beta"));
+		indexDocument(service, createFile("c.pdf", "gamma"));
+
+		// The least recently opened document is removed.
+		assertEquals(0, countHits(service, "alpha"));
+		assertEquals(1, countHits(service, "beta"));
+		assertEquals(1, countHits(service, "gamma"));
+
+		service.close();
+	}
+
+	/**
+	 * Opens, indexes and closes the document stored in the specified file.
+	 */
+	private static void indexDocument(SearchService service, File file) throws Exception {
+		Document document = new Document(file);
+
+		try {
+			service.createIndex(document).join();
+			service.destroyIndex(document).join();
+		}
+		finally {
+			document.close();
+		}
+
+		// Keep the opening times of the documents apart.
+		Thread.sleep(10);
+	}
+
+	private static int countHits(SearchService service, String queryString) {
+		return service.searchIndex(queryString).join().getHits().size();
+	}
+
+	private File createFile(String name, String... pageTexts) throws IOException {
+		File file = tempDir.resolve(name).toFile();
+
+		try (PDDocument pdf = new PDDocument()) {
+			for (String text : pageTexts) {
+				PDPage page = new PDPage();
+				pdf.addPage(page);
+
+				try (PDPageContentStream stream = new PDPageContentStream(pdf, page)) {
+					stream.beginText();
+					stream.setFont(PDType1Font.HELVETICA, 12);
+					stream.newLineAtOffset(50, 700);
+					stream.showText(text);
+					stream.endText();
+				}
+			}
+
+			pdf.save(file);
+		}
+
+		return file;
+	}
+}
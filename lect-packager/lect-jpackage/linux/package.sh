@@ -92,11 +92,36 @@ echo "Create Runtime"
 
 jlink --no-header-files --no-man-pages \
 	--strip-debug \
-	--strip-native-commands \
 	--include-locales=de,en \
 	--add-modules="$MODULES" \
 	--output "runtime"
 
+# Create the default class data sharing archive of the runtime. The archive
+# is mapped at launch and saves class loading and verification of the JDK
+# classes. In contrast to an archive of the application classes, it does not
+# depend on the installation path, which changes between this build and the
+# installed packages. The JVM silently falls back to regular class loading
+# if the archive cannot be used.
+echo "Create Class Data Archive"
+
+runtime/bin/java -Xshare:dump -Xlog:cds=warning
+
+# Verify that the archive is mapped by a relocated runtime, as installed by
+# the packages.
+cp -r runtime runtime_cds_check
+
+if runtime_cds_check/bin/java -Xshare:on -Xlog:cds -version
+then
+	echo "Class data archive is mapped by the relocated runtime"
+else
+	echo "Class data archive is not mapped by the relocated runtime"
+fi
+
+rm -Rf runtime_cds_check
+
+# The launchers embed the JVM, the native commands are not required.
+rm -Rf runtime/bin
+
 # Create the self-contained Java application package. Used only for the ZIP archive.
 echo "Create Application Image"
 
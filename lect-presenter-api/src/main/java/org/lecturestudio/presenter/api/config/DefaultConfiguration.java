@@ -57,6 +57,7 @@ public class DefaultConfiguration extends PresenterConfiguration {
 		setAutostartRecording(true);
 		setConfirmStopRecording(true);
 		setPageRecordingTimeout(2000);
+		setQuizRenderInterval(500);
 
 		getWhiteboardConfig().setBackgroundColor(Color.WHITE);
 		getWhiteboardConfig().setVerticalLinesVisible(true);
@@ -64,6 +64,9 @@ public class PresenterConfiguration extends Configuration {
 	/** The delay in milliseconds before selecting a new page is processed. */
 	private final IntegerProperty pageSelectionDelay = new IntegerProperty();
 
+	/** The minimum interval in milliseconds between two quiz result renderings. */
+	private final IntegerProperty quizRenderInterval = new IntegerProperty();
+
 	/** Configuration settings for streaming functionality. */
 	private final StreamConfiguration streamConfig = new StreamConfiguration();
 
@@ -254,6 +257,35 @@ public class PresenterConfiguration extends Configuration {
 		return pageSelectionDelay;
 	}
 
+	/**
+	 * Gets the minimum interval between two quiz result renderings in
+	 * milliseconds.
+	 *
+	 * @return the quiz render interval value.
+	 */
+	public Integer getQuizRenderInterval() {
+		return quizRenderInterval.get();
+	}
+
+	/**
+	 * Sets the minimum interval between two quiz result renderings in
+	 * milliseconds.
+	 *
+	 * @param interval the interval value to set.
+	 */
+	public void setQuizRenderInterval(Integer interval) {
+		this.quizRenderInterval.set(interval);
+	}
+
+	/**
+	 * Returns the quiz render interval property object.
+	 *
+	 * @return the IntegerProperty for quiz render interval setting.
+	 */
+	public IntegerProperty quizRenderIntervalProperty() {
+		return quizRenderInterval;
+	}
+
 	/**
 	 * Gets the stream configuration settings.
 	 *
@@ -21,7 +21,6 @@ package org.lecturestudio.presenter.api.handler;
 import static java.util.Objects.nonNull;
 
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 import org.lecturestudio.core.ExecutableException;
@@ -30,6 +29,8 @@ import org.lecturestudio.core.audio.AudioDeviceChangeListener;
 import org.lecturestudio.core.audio.AudioDeviceNotConnectedException;
 import org.lecturestudio.core.audio.AudioSystemProvider;
 import org.lecturestudio.core.audio.device.AudioDevice;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.presenter.api.context.PresenterContext;
 import org.lecturestudio.presenter.api.presenter.command.StartRecordingCommand;
 import org.lecturestudio.presenter.api.service.RecordingService;
@@ -94,7 +95,7 @@ public class AudioDeviceChangeHandler extends PresenterHandler {
 			}
 
 			// Show dialog to select a new microphone.
-			CompletableFuture.runAsync(() -> {
+			ExecutionService.runAsync(ExecutionPool.AUDIO, () -> {
 				context.getEventBus().post(new StartRecordingCommand(() -> {
 					try {
 						recordingService.start();
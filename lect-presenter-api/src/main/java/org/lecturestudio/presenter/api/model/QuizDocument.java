@@ -29,6 +29,7 @@ import java.awt.font.LineBreakMeasurer;
 import java.awt.font.TextAttribute;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
@@ -39,8 +40,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -65,7 +68,6 @@ import org.lecturestudio.core.model.DocumentType;
 import org.lecturestudio.core.pdf.PdfDocument;
 import org.lecturestudio.core.pdf.pdfbox.PDFGraphics2D;
 import org.lecturestudio.core.util.FileUtils;
-import org.lecturestudio.core.util.IOUtils;
 import org.lecturestudio.presenter.api.quiz.wordcloud.*;
 import org.lecturestudio.presenter.api.util.NumericStringComparator;
 import org.lecturestudio.web.api.model.quiz.Quiz;
@@ -110,14 +112,94 @@ public class QuizDocument extends HtmlToPdfDocument {
 	 */
 	public QuizDocument(File templateFile, Rectangle2D contentBounds,
 						Dictionary dict, QuizResult result) throws Exception {
+		this(createStaticPages(templateFile, contentBounds, result.getQuiz()), dict, result);
+	}
+
+	/**
+	 * Creates a new quiz document with previously rendered static pages and
+	 * the quiz result. Only the result charts are drawn onto the static pages,
+	 * which makes this constructor suitable for frequent updates of the result.
+	 *
+	 * @param staticPages the answer-independent pages of the quiz.
+	 * @param dict        the dictionary used for localization of text elements.
+	 * @param result      the quiz result data containing questions, answers, and statistics.
+	 *
+	 * @throws IOException if an I/O error occurs during document creation.
+	 */
+	public QuizDocument(StaticPages staticPages, Dictionary dict,
+						QuizResult result) throws Exception {
 		this.result = result;
 
-		init(createDocument(templateFile, contentBounds, dict, result));
+		init(createDocument(staticPages, dict, result));
 		setDocumentType(DocumentType.QUIZ);
 		setTitle(dict.get("quiz"));
 		setComment(result.getQuiz().getComment());
 	}
 
+	/**
+	 * Renders all pages of a quiz document that do not depend on the received
+	 * answers: the question pages and the pages which will contain the result
+	 * charts, without the charts. Rendering these pages with the HTML renderer
+	 * is the most expensive part of creating a quiz document.
+	 *
+	 * @param templateFile  the file to use as a template for the document;
+	 *                      if it doesn't exist, no template is used.
+	 * @param contentBounds the dimensional bounds defining the content area of the document.
+	 * @param quiz          the quiz to render.
+	 *
+	 * @return the rendered static pages.
+	 *
+	 * @throws Exception if the pages could not be rendered.
+	 */
+	public static StaticPages createStaticPages(File templateFile,
+			Rectangle2D contentBounds, Quiz quiz) throws Exception {
+		PDDocument tplDoc = templateFile.exists() ? PDDocument.load(templateFile) : null;
+
+		try (PDDocument doc = new PDDocument()) {
+			QuizType type = quiz.getType();
+			boolean hasCorrectAnswers = quiz.getOptions().stream().anyMatch(QuizOption::isCorrect);
+
+			// Create the first page with the question on it.
+			renderQuestion(tplDoc, doc, contentBounds, quiz, false);
+
+			if (type != QuizType.FREE_TEXT && hasCorrectAnswers) {
+				renderQuestion(tplDoc, doc, contentBounds, quiz, true);
+			}
+
+			int questionPageCount = doc.getNumberOfPages();
+			int[] chartPages;
+
+			if (type == QuizType.FREE_TEXT) {
+				// Create a new page for the word cloud.
+				renderWordCloudPage(tplDoc, doc, contentBounds);
+
+				chartPages = new int[] { doc.getNumberOfPages() - 1 };
+			}
+			else {
+				// Pages for the statistics bar-chart, the bar-chart and the pie-chart.
+				chartPages = new int[type == QuizType.MULTIPLE ? 3 : 2];
+
+				for (int i = 0; i < chartPages.length; i++) {
+					renderChartQuestions(tplDoc, doc, contentBounds, quiz);
+
+					chartPages[i] = doc.getNumberOfPages() - 1;
+				}
+			}
+
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			doc.save(stream);
+
+			return new StaticPages(templateFile, contentBounds, quiz,
+					getPageBounds(tplDoc), stream.toByteArray(),
+					questionPageCount, chartPages);
+		}
+		finally {
+			if (nonNull(tplDoc)) {
+				tplDoc.close();
+			}
+		}
+	}
+
 	/**
 	 * Checks whether this quiz document contains any answers.
 	 *
@@ -125,7 +207,7 @@ public class QuizDocument extends HtmlToPdfDocument {
 	 * {@code false} otherwise.
 	 */
 	public boolean hasAnswers() {
-		return nonNull(result) && !result.getResult().isEmpty();
+		return nonNull(result) && result.getAnswerCount() > 0;
 	}
 
 	/**
@@ -141,67 +223,78 @@ public class QuizDocument extends HtmlToPdfDocument {
 	}
 
 	/**
-	 * Creates a helper for generating a document representing a multiple-choice quiz,
-	 * rendering questions and associated answer statistics in chart format.
-	 * In other words, it creates a new page with the statistics bar-chart.
-	 * This method serves as an auxiliary method for the method
-	 * {@link #createDocument(File, Rectangle2D, Dictionary, QuizResult) createDocument}.
+	 * Renders an empty page which will contain the word cloud of a free-text
+	 * quiz.
 	 *
-	 * @param contentBounds the dimensional bounds defining the content area of the document.
-	 * @param dict          the dictionary used for localization or textual customization.
-	 * @param result        the quiz result data used to populate the document.
 	 * @param tplDoc        the template PDF document, which may be null.
-	 * @param doc           the target PDF document where the quiz will be rendered.
-	 * @param quiz          the quiz containing questions and answers to be included in the document.
-	 *
-	 * @throws IOException if an I/O error occurs during document creation or rendering.
-	 */
-	private static void createMultipleChoicePage(final Rectangle2D contentBounds, final Dictionary dict,
-												 final QuizResult result, final PDDocument tplDoc,
-												 final PDDocument doc, final Quiz quiz) throws IOException {
-		// Create a new page with the statistics bar-chart.
-		renderChartQuestions(tplDoc, doc, contentBounds, quiz);
-		renderChart(tplDoc, doc, result, createBarChartAnswerStats(dict, result), contentBounds);
-	}
-
-	/**
-	 * Creates a helper for generating a document representing a free-text quiz.
-	 * This method assists in rendering free-text quiz responses and the relevant
-	 * content within the specified target PDF document.
-	 * It serves as a method for handling free-text input quizzes and is an auxiliary method for the method
-	 * {@link #createDocument(File, Rectangle2D, Dictionary, QuizResult) createDocument}.
-	 *
+	 * @param doc           the target PDF document where the page will be added.
 	 * @param contentBounds the dimensional bounds defining the content area of the document.
-	 * @param result        the quiz result data used to populate the document.
-	 * @param tplDoc        the template PDF document, which may be null.
-	 * @param doc           the target PDF document where the quiz will be rendered.
 	 *
-	 * @throws IOException if an I/O error occurs during document creation or rendering.
+	 * @throws IOException if an I/O error occurs during rendering.
 	 */
-	private static void createWordCloudPage(final Rectangle2D contentBounds,
-											final QuizResult result,
-											final PDDocument tplDoc,
-											final PDDocument doc) throws IOException {
-		// Create a new page with a word cloud.
+	private static void renderWordCloudPage(final PDDocument tplDoc,
+											final PDDocument doc,
+											final Rectangle2D contentBounds) throws IOException {
 		var jdoc = Jsoup.parseBodyFragment("");
 		jdoc.head().append("<link rel=\"stylesheet\" href=\"html/quiz.css\">");
 		jdoc.outputSettings().prettyPrint(true);
 
 		renderHtmlPage(jdoc, tplDoc, doc, contentBounds, new HashMap<>());
+	}
 
-		// Add the word cloud to the last page.
+	/**
+	 * Draws the word cloud of a free-text quiz result onto the specified page.
+	 * The word cloud layout of the static pages is updated incrementally, so
+	 * words keep their position across renderings.
+	 *
+	 * @param doc         the target PDF document.
+	 * @param pageIndex   the index of the page to draw on.
+	 * @param staticPages the static pages providing the bounds and the layout.
+	 * @param result      the quiz result data used to populate the word cloud.
+	 *
+	 * @throws IOException if an I/O error occurs during rendering.
+	 */
+	private static void renderWordCloud(final PDDocument doc, final int pageIndex,
+										final StaticPages staticPages,
+										final QuizResult result) throws IOException {
 		List<WordItem> words = getWordFrequencies(result);
 
-		int pageIndex = doc.getNumberOfPages() - 1;
 		PDPage pdPage = doc.getPage(pageIndex);
 
-		Rectangle2D pageBounds = getPageBounds(tplDoc);
+		Rectangle2D pageBounds = staticPages.pageBounds;
+		Rectangle2D contentBounds = staticPages.contentBounds;
 
-		int width = (int) (contentBounds.getWidth() * pageBounds.getWidth());
-		int height = (int) (contentBounds.getHeight() * pageBounds.getHeight());
 		int marginX = (int) (contentBounds.getX() * pageBounds.getWidth());
 		int marginY = (int) (contentBounds.getY() * pageBounds.getHeight());
 
+		HorizontalWordLayout layout = staticPages.getWordCloudLayout();
+
+		synchronized (layout) {
+			layout.updateWords(words);
+
+			PDFGraphics2D g2dStream = new PDFGraphics2D(doc, pdPage, true);
+			// Move to the top-left corner.
+			g2dStream.transform(new AffineTransform(1, 0, 0, -1, 0, pdPage.getMediaBox().getHeight()));
+			g2dStream.translate(marginX, marginY);
+			layout.renderWordCloud(g2dStream, words);
+			g2dStream.close();
+		}
+	}
+
+	/**
+	 * Creates the layout of a word cloud which fills the content area of a
+	 * page.
+	 *
+	 * @param pageBounds    the bounds of the page.
+	 * @param contentBounds the dimensional bounds defining the content area of the document.
+	 *
+	 * @return a new word cloud layout.
+	 */
+	private static HorizontalWordLayout createWordCloudLayout(Rectangle2D pageBounds,
+															  Rectangle2D contentBounds) {
+		int width = (int) (contentBounds.getWidth() * pageBounds.getWidth());
+		int height = (int) (contentBounds.getHeight() * pageBounds.getHeight());
+
 		LayoutConfig customConfig = new LayoutConfig()
 				.horizontalPadding(12)
 				.verticalPadding(8)
@@ -211,15 +304,7 @@ public class QuizDocument extends HtmlToPdfDocument {
 
 		FontCalculator fontCalculator = new TieredFontCalculator(4, 20, 48);
 
-		HorizontalWordLayout layout = new HorizontalWordLayout(width, height, customConfig, fontCalculator);
-		layout.layoutWords(words);
-
-		PDFGraphics2D g2dStream = new PDFGraphics2D(doc, pdPage, true);
-		// Move to the top-left corner.
-		g2dStream.transform(new AffineTransform(1, 0, 0, -1, 0, pdPage.getMediaBox().getHeight()));
-		g2dStream.translate(marginX, marginY);
-		layout.renderWordCloud(g2dStream, words);
-		g2dStream.close();
+		return new HorizontalWordLayout(width, height, customConfig, fontCalculator);
 	}
 
 	/**
@@ -231,123 +316,67 @@ public class QuizDocument extends HtmlToPdfDocument {
 	 */
 	private static List<WordItem> getWordFrequencies(QuizResult result) {
 		List<WordItem> words = new ArrayList<>();
-		Map<String, Integer> frequencyMap = new HashMap<>();
-		Map<String, String> displayTextMap = new HashMap<>();
-
-		// Process the quiz result to count word frequencies.
-		for (var entry : result.getResult().entrySet()) {
-			String[] options = entry.getKey().getOptions();
-			Integer count = entry.getValue();
-
-			// For each option in the current answer, increment its frequency count.
-			for (String option : options) {
-				if (isNull(option) || option.isBlank()) {
-					continue;
-				}
-
-				// Shorten to a maximum length for consistent grouping and rendering.
-				String original = IOUtils.shortenString(option.trim(), 32);
-				String key = original.toLowerCase();
-
-				Integer frequency = frequencyMap.get(key);
-				frequency = isNull(frequency) ? count : frequency + count;
-
-				// Update the frequency count for this option (case-insensitive).
-				frequencyMap.put(key, frequency);
-
-				// Choose a display string: prefer a variant starting with a capital letter if seen.
-				String currentDisplay = displayTextMap.get(key);
-				if (currentDisplay == null) {
-					displayTextMap.put(key, original);
-				}
-				else {
-					boolean currentStartsCapital = !currentDisplay.isEmpty() && Character.isUpperCase(currentDisplay.codePointAt(0));
-					boolean originalStartsCapital = !original.isEmpty() && Character.isUpperCase(original.codePointAt(0));
 
-					if (originalStartsCapital && !currentStartsCapital) {
-						displayTextMap.put(key, original);
-					}
-				}
-			}
-		}
-
-		// Convert the frequency map entries to WordItem objects for word cloud visualization.
-		for (var entry : frequencyMap.entrySet()) {
-			String display = displayTextMap.getOrDefault(entry.getKey(), entry.getKey());
-			words.add(new WordItem(display, entry.getValue()));
+		// The frequencies are counted while the answers are received.
+		for (var entry : result.getWordFrequencies().entrySet()) {
+			words.add(new WordItem(entry.getKey(), entry.getValue()));
 		}
 
 		return words;
 	}
 
 	/**
-	 * Creates a PDF document based on a quiz template and results. The method generates
-	 * pages for different types of quiz content like questions, multiple-choice statistics,
-	 * free-text responses, and associated charts (bar and pie charts). It uses a given
-	 * template file, bounds, and data to format and render the document.
+	 * Creates a PDF document based on the static pages of a quiz and its
+	 * results. The result charts (bar and pie charts or the word cloud) are
+	 * drawn onto the chart pages. If there are no results, the chart pages are
+	 * removed.
 	 *
-	 * @param templateFile  the file to use as a template for creating the document;
-	 *                      if it doesn't exist, no template is used.
-	 * @param contentBounds the dimensional bounds defining the content region for the document.
-	 * @param dict          the dictionary used for localization or textual customization in the
-	 *                      rendering process.
-	 * @param result        the quiz result data containing questions, answers, and statistics
-	 *                      to be displayed in the document.
+	 * @param staticPages the answer-independent pages of the quiz.
+	 * @param dict        the dictionary used for localization or textual customization in the
+	 *                    rendering process.
+	 * @param result      the quiz result data containing questions, answers, and statistics
+	 *                    to be displayed in the document.
 	 *
 	 * @return a new instance of {@link PdfDocument} representing the generated quiz document.
 	 *
 	 * @throws IOException if an I/O error occurs during the document creation or rendering process.
 	 */
 	private static PdfDocument createDocument(
-			File templateFile,
-			Rectangle2D contentBounds,
+			StaticPages staticPages,
 			Dictionary dict,
 			QuizResult result) throws Exception {
-		PDDocument tplDoc = templateFile.exists() ? PDDocument.load(templateFile) : null;
-		PDDocument doc = new PDDocument();
-
-		Quiz quiz = result.getQuiz();
-		QuizType type = quiz.getType();
-		boolean hasCorrectAnswers = quiz.getOptions().stream().anyMatch(QuizOption::isCorrect);
-
-		// Create the first page with the question on it.
-		renderQuestion(tplDoc, doc, contentBounds, quiz, false);
-
-		if (type != QuizType.FREE_TEXT && hasCorrectAnswers) {
-			renderQuestion(tplDoc, doc, contentBounds, quiz, true);
-		}
-
-		// Checks if the list of results is empty.
-		if (!result.getResult().isEmpty()) {
-			if (type == QuizType.FREE_TEXT) {
-				// Create a new page with a word cloud.
-				createWordCloudPage(contentBounds, result, tplDoc, doc);
+		try (PDDocument doc = PDDocument.load(staticPages.pageData)) {
+			QuizType type = result.getQuiz().getType();
+			Rectangle2D pageBounds = staticPages.pageBounds;
+			Rectangle2D contentBounds = staticPages.contentBounds;
+			int[] chartPages = staticPages.chartPages;
+
+			// Checks if the list of results is empty.
+			if (result.getAnswerCount() == 0) {
+				for (int i = doc.getNumberOfPages() - 1; i >= staticPages.questionPageCount; i--) {
+					doc.removePage(i);
+				}
+			}
+			else if (type == QuizType.FREE_TEXT) {
+				renderWordCloud(doc, chartPages[0], staticPages, result);
 			}
 			else {
+				int chartIndex = 0;
+
 				if (type == QuizType.MULTIPLE) {
-					// Create a new page with the statistics bar-chart.
-					createMultipleChoicePage(contentBounds, dict, result, tplDoc, doc, quiz);
+					// Render the statistics bar-chart.
+					renderChart(doc, chartPages[chartIndex++], pageBounds,
+							createBarChartAnswerStats(dict, result), contentBounds);
 				}
 
-				// Create a new page with the bar-chart.
-				renderChartQuestions(tplDoc, doc, contentBounds, quiz);
-				renderChart(tplDoc, doc, result, createBarChart(dict, result), contentBounds);
-
-				// Create a new page with the pie-chart.
-				renderChartQuestions(tplDoc, doc, contentBounds, quiz);
-				renderChart(tplDoc, doc, result, createPieChart(dict, result), contentBounds);
+				renderChart(doc, chartPages[chartIndex++], pageBounds,
+						createBarChart(dict, result), contentBounds);
+				renderChart(doc, chartPages[chartIndex], pageBounds,
+						createPieChart(dict, result), contentBounds);
 			}
-		}
-
-		PdfDocument pdfDocument = createPdfDocument(doc);
 
-		if (nonNull(tplDoc)) {
-			tplDoc.close();
+			return createPdfDocument(doc);
 		}
-
-		doc.close();
-
-		return pdfDocument;
 	}
 
 	private static void renderQuestion(PDDocument tplDoc, PDDocument doc,
@@ -507,16 +536,8 @@ public class QuizDocument extends HtmlToPdfDocument {
 		renderHtmlPage(jdoc, tplDoc, doc, contentBounds, Map.of());
 	}
 
-	private static void renderChart(PDDocument tplDoc, PDDocument doc,
-									QuizResult result, Chart<?, ?> chart, Rectangle2D contentBounds) {
-		if (result.getResult().isEmpty()) {
-			return;
-		}
-
-		int pageIndex = doc.getNumberOfPages() - 1;
-
-		Rectangle2D pageBounds = getPageBounds(tplDoc);
-
+	private static void renderChart(PDDocument doc, int pageIndex, Rectangle2D pageBounds,
+									Chart<?, ?> chart, Rectangle2D contentBounds) {
 		int marginX = (int) (contentBounds.getX() * pageBounds.getWidth());
 		int marginY = (int) (contentBounds.getY() * pageBounds.getHeight());
 		int chartWidth = (int) (contentBounds.getWidth() * pageBounds.getWidth());
@@ -629,36 +650,21 @@ public class QuizDocument extends HtmlToPdfDocument {
 		chart.getStyler().setAxisTicksLineVisible(false);
 		chart.getStyler().setSeriesColors(new ChartColors().getSeriesColors());
 
-		Map<QuizAnswer, Integer> resultMap = result.getResult();
-		Map<String, Integer> chartMap = new HashMap<>();
-
-		for (QuizAnswer answer : resultMap.keySet()) {
-			String[] options = answer.getOptions();
-
-			if (options.length > 0) {
-				for (String o : answer.getOptions()) {
-					String key = quiz.getOptionAlpha(o);
-					Integer count = resultMap.get(answer);
+		Map<String, Integer> optionCounts = result.getOptionCounts();
+		Map<String, Integer> chartMap = new LinkedHashMap<>();
 
-					Integer value = chartMap.get(key);
-					if (value != null) {
-						count += value;
-					}
+		// Ordered by the options of the quiz.
+		for (int i = 0; i < quiz.getOptions().size(); i++) {
+			String option = Integer.toString(i);
+			Integer count = optionCounts.get(option);
 
-					chartMap.put(key, count);
-				}
+			if (nonNull(count)) {
+				chartMap.put(quiz.getOptionAlpha(option), count);
 			}
-			else {
-				String key = "{ }";
-				Integer count = resultMap.get(answer);
-				Integer value = chartMap.get(key);
-
-				if (value != null) {
-					count += value;
-				}
+		}
 
-				chartMap.put(key, count);
-			}
+		if (result.getEmptyAnswerCount() > 0) {
+			chartMap.put("{ }", result.getEmptyAnswerCount());
 		}
 
 		if (chartMap.isEmpty()) {
@@ -711,6 +717,76 @@ public class QuizDocument extends HtmlToPdfDocument {
 
 
 
+	/**
+	 * The rendered answer-independent pages of a quiz document. The pages can
+	 * be used to create any number of quiz documents for the same quiz, e.g.
+	 * each time new answers have been received. The word cloud layout is kept
+	 * with the pages, so that it can be updated incrementally.
+	 */
+	public static final class StaticPages {
+
+		private final File templateFile;
+
+		private final long templateModified;
+
+		private final Rectangle2D contentBounds;
+
+		private final Quiz quiz;
+
+		private final Rectangle2D pageBounds;
+
+		/** The serialized PDF containing all static pages. */
+		private final byte[] pageData;
+
+		/** The number of pages containing the question. */
+		private final int questionPageCount;
+
+		/** The indices of the pages the result charts are drawn on. */
+		private final int[] chartPages;
+
+		/** The word cloud layout of the last rendering. */
+		private HorizontalWordLayout wordCloudLayout;
+
+
+		private StaticPages(File templateFile, Rectangle2D contentBounds,
+				Quiz quiz, Rectangle2D pageBounds, byte[] pageData,
+				int questionPageCount, int[] chartPages) {
+			this.templateFile = templateFile;
+			this.templateModified = templateFile.lastModified();
+			this.contentBounds = new Rectangle2D(contentBounds);
+			this.quiz = quiz;
+			this.pageBounds = pageBounds;
+			this.pageData = pageData;
+			this.questionPageCount = questionPageCount;
+			this.chartPages = chartPages;
+		}
+
+		private synchronized HorizontalWordLayout getWordCloudLayout() {
+			if (isNull(wordCloudLayout)) {
+				wordCloudLayout = createWordCloudLayout(pageBounds, contentBounds);
+			}
+			return wordCloudLayout;
+		}
+
+		/**
+		 * Checks whether these pages have been rendered with the specified
+		 * parameters and can be reused.
+		 *
+		 * @param templateFile  the template file of the document.
+		 * @param contentBounds the bounds of the content area of the document.
+		 * @param quiz          the quiz of the document.
+		 *
+		 * @return {@code true} if these pages are up-to-date.
+		 */
+		public boolean matches(File templateFile, Rectangle2D contentBounds, Quiz quiz) {
+			return this.quiz == quiz
+					&& this.templateFile.equals(templateFile)
+					&& templateModified == templateFile.lastModified()
+					&& Objects.equals(this.contentBounds, contentBounds);
+		}
+	}
+
+
 	private static class ChartColors implements SeriesColors {
 
 		public static final Color C1 = Color.decode("#003f5c");
@@ -316,8 +316,6 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 
 		context.getEventBus().register(this);
 
-		createSettingsPresentation();
-
 		addHandler(new CheckVersionHandler(presenterContext));
 	}
 
@@ -743,6 +741,10 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 	private void onViewShown() {
 		PresenterContext presenterContext = (PresenterContext) context;
 
+		// The settings are not required to show the main window. Prepare them
+		// once the window is visible to keep them off the startup path.
+		createSettingsPresentation();
+
 		try {
 			RecordingBackup backup = new RecordingBackup(presenterContext.getRecordingDirectory());
 
@@ -848,6 +850,10 @@ public class MainPresenter extends org.lecturestudio.core.presenter.MainPresente
 	}
 
 	private void createSettingsPresentation() {
+		if (nonNull(findCachedPresenter(SettingsPresenter.class))) {
+			return;
+		}
+
 		// Create settings asynchronously as this can take some time.
 		CompletableFuture.runAsync(() -> {
 			try {
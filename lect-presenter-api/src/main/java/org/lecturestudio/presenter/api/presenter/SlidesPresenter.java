@@ -26,7 +26,6 @@ import javax.inject.Inject;
 
 import java.awt.Dimension;
 import java.io.File;
-import java.io.IOException;
 import java.math.BigInteger;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -913,12 +912,7 @@ public class SlidesPresenter extends Presenter<SlidesView> {
 			return;
 		}
 
-		try {
-			streamService.shareDocument(doc);
-		}
-		catch (IOException e) {
-			logException(e, "Share document failed");
-		}
+		streamService.shareDocument(doc);
 	}
 
 	private void stopQuiz() {
@@ -33,6 +33,14 @@ import java.util.List;
  * The layout starts from the center of the canvas and expands outward,
  * placing words in bands with vertical variance for a more natural look.
  * It uses a FontRenderContext for accurate text measurements and collision detection.
+ * Placed words are tracked in a {@link RowOccupancy} map, which finds the free
+ * slot closest to the center of a line without testing each candidate position
+ * against all placed words.
+ * <p>
+ * With {@link #updateWords(List)} the layout can be updated incrementally.
+ * Words that have already been placed with the same font keep their position,
+ * only new and resized words are placed. This keeps the cloud stable while it
+ * is updated with new answers.
  */
 public class HorizontalWordLayout {
 
@@ -42,8 +50,11 @@ public class HorizontalWordLayout {
 	/** Height of the canvas for the word cloud. */
 	private final int canvasHeight;
 
-	/** List of placed words with their bounding rectangles. */
-	private final List<Rectangle2D> placedWords;
+	/** Placed words by their text. */
+	private final Map<String, WordItem> placedWords;
+
+	/** The occupied areas of the canvas, including the padding of the words. */
+	private final RowOccupancy occupancy;
 
 	/** Font rendering context for accurate text measurements. */
 	private final FontRenderContext frc;
@@ -81,7 +92,8 @@ public class HorizontalWordLayout {
 		this.canvasHeight = height;
 		this.config = config;
 		this.fontCalculator = fontCalculator;
-		this.placedWords = new ArrayList<>();
+		this.placedWords = new HashMap<>();
+		this.occupancy = new RowOccupancy(height);
 		this.random = new Random();
 
 		// Create a temporary image to get FontRenderContext
@@ -97,33 +109,105 @@ public class HorizontalWordLayout {
 	 * @param words the list of words to be laid out, each with a frequency and text.
 	 */
 	public void layoutWords(List<WordItem> words) {
+		placedWords.clear();
+		occupancy.clear();
+
+		prepareWords(words);
+
+		for (WordItem word : words) {
+			placeWord(word);
+		}
+	}
+
+	/**
+	 * Updates the layout with the provided words. Words that have been placed
+	 * by a previous layout and did not change their font keep their position.
+	 * The space of removed and resized words is released, and new or resized
+	 * words are placed in the remaining space.
+	 *
+	 * @param words the list of words to be laid out, each with a frequency and text.
+	 */
+	public void updateWords(List<WordItem> words) {
+		Map<String, WordItem> previousWords = new HashMap<>(placedWords);
+
+		placedWords.clear();
+		occupancy.clear();
+
+		prepareWords(words);
+
+		List<WordItem> newWords = new ArrayList<>();
+
+		// Keep unchanged words in place first, the remaining space is used for new words.
+		for (WordItem word : words) {
+			WordItem previous = previousWords.get(word.text);
+
+			if (previous != null && previous.font.equals(word.font)) {
+				word.bounds = previous.bounds;
+				word.position = previous.position;
+
+				addPlacedWord(word);
+			}
+			else {
+				newWords.add(word);
+			}
+		}
+
+		for (WordItem word : newWords) {
+			placeWord(word);
+		}
+	}
+
+	/**
+	 * Sorts the words by frequency, the largest first, and assigns their fonts
+	 * and colors.
+	 *
+	 * @param words the list of words to prepare.
+	 */
+	private void prepareWords(List<WordItem> words) {
 		// Sort words by frequency (largest first)
 		words.sort((a, b) -> Integer.compare(b.frequency, a.frequency));
 
 		// Calculate font sizes based on frequency.
 		fontCalculator.calculateFontSizes(words);
+	}
+
+	/**
+	 * Finds a non-colliding position for the word, starting from the center,
+	 * and marks its area as occupied.
+	 *
+	 * @param word the word to place.
+	 */
+	private void placeWord(WordItem word) {
+		// Calculate text bounds.
+		word.bounds = word.font.getStringBounds(word.text, frc);
 
-		// Place words starting from the center.
-		int centerX = canvasWidth / 2;
-		int centerY = canvasHeight / 2;
+		// Find a non-colliding position.
+		word.position = findHorizontalPosition(word, canvasWidth / 2, canvasHeight / 2);
 
-		for (WordItem word : words) {
-			// Calculate text bounds.
-			word.bounds = word.font.getStringBounds(word.text, frc);
-
-			// Find a non-colliding position.
-			Point position = findHorizontalPosition(word, centerX, centerY);
-			word.position = position;
-
-			// Add to the placed words list (store actual bounds with padding).
-			Rectangle2D placedBounds = new Rectangle2D.Double(
-					position.x - config.horizontalPadding,
-					position.y - word.bounds.getHeight() - config.verticalPadding,
-					word.bounds.getWidth() + 2 * config.horizontalPadding,
-					word.bounds.getHeight() + 2 * config.verticalPadding
-			);
-			placedWords.add(placedBounds);
-		}
+		addPlacedWord(word);
+	}
+
+	/**
+	 * Marks the area of a placed word, including its padding, as occupied.
+	 *
+	 * @param word the placed word.
+	 */
+	private void addPlacedWord(WordItem word) {
+		Rectangle2D placedBounds = getPaddedBounds(word);
+
+		occupancy.add(placedBounds.getX(), placedBounds.getY(),
+				placedBounds.getWidth(), placedBounds.getHeight());
+
+		placedWords.put(word.text, word);
+	}
+
+	private Rectangle2D getPaddedBounds(WordItem word) {
+		return new Rectangle2D.Double(
+				word.position.x - config.horizontalPadding,
+				word.position.y - word.bounds.getHeight() - config.verticalPadding,
+				word.bounds.getWidth() + 2 * config.horizontalPadding,
+				word.bounds.getHeight() + 2 * config.verticalPadding
+		);
 	}
 
 	/**
@@ -242,7 +326,7 @@ public class HorizontalWordLayout {
 
 	/**
 	 * Finds a valid X position for the word at the specified Y coordinate.
-	 * It tries to center the word and expands outward to find a non-colliding position.
+	 * It returns the non-colliding position closest to the center.
 	 *
 	 * @param word       the word item to place.
 	 * @param y          the Y coordinate where the word should be placed.
@@ -252,76 +336,24 @@ public class HorizontalWordLayout {
 	 * @return a Point representing the valid X position, or null if no position is found.
 	 */
 	private Point findValidXPosition(WordItem word, int y, int wordWidth, int wordHeight) {
-		int centerX = canvasWidth / 2;
-
-		// Try center first
-		if (canPlaceAtWithPadding(centerX - wordWidth / 2, y, wordWidth, wordHeight)) {
-			return new Point(centerX - wordWidth / 2, y);
-		}
-
-		// Try positions expanding from the center
-		for (int offset = 10; offset < canvasWidth / 2; offset += 5) {
-			// Try right of the center
-			int x = centerX + offset;
-			if (x + wordWidth <= canvasWidth &&
-					canPlaceAtWithPadding(x, y, wordWidth, wordHeight)) {
-				return new Point(x, y);
-			}
-
-			// Try left of the center
-			x = centerX - offset - wordWidth;
-			if (x >= 0 && canPlaceAtWithPadding(x, y, wordWidth, wordHeight)) {
-				return new Point(x, y);
-			}
-		}
-
-		// Scan the entire width for any available space
-		for (int x = 0; x <= canvasWidth - wordWidth; x += 3) {
-			if (canPlaceAtWithPadding(x, y, wordWidth, wordHeight)) {
-				return new Point(x, y);
-			}
-		}
-
-		// No space available
-		return null;
-	}
-
-	/**
-	 * Checks if a rectangle can be placed at the specified position with padding.
-	 * This checks against all previously placed words and ensures it fits within canvas boundaries.
-	 *
-	 * @param x      the X coordinate to place the rectangle.
-	 * @param y      the Y coordinate to place the rectangle.
-	 * @param width  the width of the rectangle.
-	 * @param height the height of the rectangle.
-	 *
-	 * @return true if the rectangle can be placed, false otherwise.
-	 */
-	private boolean canPlaceAtWithPadding(int x, int y, int width, int height) {
-		// Create rectangle with padding included
-		Rectangle2D testRect = new Rectangle2D.Double(
-				x - config.horizontalPadding,
-				y - height - config.verticalPadding,
-				width + 2 * config.horizontalPadding,
-				height + 2 * config.verticalPadding
-		);
-
-		// Check against all placed words
-		for (Rectangle2D placed : placedWords) {
-			if (testRect.intersects(placed)) {
-				return false;
-			}
+		// Find the free slot closest to the center, including the padding on all sides.
+		int x = occupancy.findFreeX(y - wordHeight - config.verticalPadding,
+				y + config.verticalPadding, wordWidth, config.horizontalPadding,
+				0, canvasWidth - wordWidth, canvasWidth / 2 - wordWidth / 2);
+
+		if (x == RowOccupancy.NONE) {
+			// No space available
+			return null;
 		}
 
-		// Check canvas boundaries (without padding for actual placement)
-		return x >= 0 && y - height >= 0 && x + width <= canvasWidth && y <= canvasHeight;
+		return new Point(x, y);
 	}
 
 	private void drawBoundingBoxes(Graphics2D g2d) {
 		g2d.setColor(Color.LIGHT_GRAY);
 		g2d.setStroke(new BasicStroke(1));
-		for (Rectangle2D rect : placedWords) {
-			g2d.draw(rect);
+		for (WordItem word : placedWords.values()) {
+			g2d.draw(getPaddedBounds(word));
 		}
 	}
 }
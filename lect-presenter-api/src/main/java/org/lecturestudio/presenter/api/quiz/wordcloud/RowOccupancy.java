@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.presenter.api.quiz.wordcloud;
+
+import java.util.Arrays;
+
+/**
+ * Occupancy map of a word cloud canvas. For each pixel row the occupied
+ * horizontal intervals are kept sorted and merged. A free slot of a given
+ * width within a range of rows is found by merging the intervals of these
+ * rows and searching the gaps in between, instead of testing candidate
+ * positions against all placed words.
+ * <p>
+ * Intervals are half-open, i.e. rectangles touching each other at their
+ * edges do not overlap.
+ *
+ * @author Alex Andres
+ */
+final class RowOccupancy {
+
+	/** Returned by {@link #findFreeX} if there is no free slot. */
+	static final int NONE = Integer.MIN_VALUE;
+
+	private final int height;
+
+	/** The start positions of the occupied intervals of each row. */
+	private final int[][] starts;
+
+	/** The end positions, exclusive, of the occupied intervals of each row. */
+	private final int[][] ends;
+
+	/** The number of occupied intervals of each row. */
+	private final int[] counts;
+
+	/** Reusable buffers used to merge the intervals of multiple rows. */
+	private int[] mergeStarts = new int[16];
+
+	private int[] mergeEnds = new int[16];
+
+	private long[] mergeOrder = new long[16];
+
+	private int[] mergeValues = new int[16];
+
+
+	/**
+	 * Creates a new empty {@code RowOccupancy} with the specified number of
+	 * rows.
+	 *
+	 * @param height The number of pixel rows.
+	 */
+	RowOccupancy(int height) {
+		this.height = Math.max(0, height);
+		this.starts = new int[this.height][];
+		this.ends = new int[this.height][];
+		this.counts = new int[this.height];
+	}
+
+	/**
+	 * Marks all rows as free.
+	 */
+	void clear() {
+		Arrays.fill(counts, 0);
+	}
+
+	/**
+	 * Marks the specified rectangle as occupied. The rectangle is extended to
+	 * full pixels.
+	 *
+	 * @param x      The left edge of the rectangle.
+	 * @param y      The top edge of the rectangle.
+	 * @param width  The width of the rectangle.
+	 * @param height The height of the rectangle.
+	 */
+	void add(double x, double y, double width, double height) {
+		int left = (int) Math.floor(x);
+		int right = (int) Math.ceil(x + width);
+		int top = Math.max(0, (int) Math.floor(y));
+		int bottom = Math.min(this.height, (int) Math.ceil(y + height));
+
+		if (left >= right) {
+			return;
+		}
+
+		for (int row = top; row < bottom; row++) {
+			addInterval(row, left, right);
+		}
+	}
+
+	/**
+	 * Finds the free horizontal position closest to the preferred position,
+	 * where a slot of the specified width, extended by the padding on both
+	 * sides, does not overlap any occupied interval in the rows
+	 * {@code [top, bottom)}.
+	 *
+	 * @param top       The first row, inclusive.
+	 * @param bottom    The last row, exclusive.
+	 * @param width     The width of the slot.
+	 * @param padding   The horizontal padding on both sides of the slot.
+	 * @param minX      The minimum position of the slot.
+	 * @param maxX      The maximum position of the slot.
+	 * @param preferred The preferred position of the slot.
+	 *
+	 * @return the position of the slot, or {@link #NONE} if there is none.
+	 */
+	int findFreeX(int top, int bottom, int width, int padding, int minX,
+			int maxX, int preferred) {
+		if (minX > maxX) {
+			return NONE;
+		}
+
+		int count = mergeRows(Math.max(0, top), Math.min(height, bottom));
+		int best = NONE;
+		long bestDistance = Long.MAX_VALUE;
+		// Walk the gaps between the merged intervals, including the unbounded
+		// gaps before the first and after the last interval.
+		long gapStart = Integer.MIN_VALUE;
+
+		for (int i = 0; i <= count; i++) {
+			long gapEnd = i < count ? mergeStarts[i] : Integer.MAX_VALUE;
+			long low = Math.max(gapStart + padding, minX);
+			long high = Math.min(gapEnd - width - padding, maxX);
+
+			if (low <= high) {
+				long x = Math.max(low, Math.min(high, preferred));
+				long distance = Math.abs(x - preferred);
+
+				if (distance < bestDistance) {
+					best = (int) x;
+					bestDistance = distance;
+
+					if (distance == 0) {
+						break;
+					}
+				}
+				else if (low > preferred) {
+					// All following gaps are even further away.
+					break;
+				}
+			}
+
+			if (i < count) {
+				gapStart = mergeEnds[i];
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Merges the intervals of the specified rows into the merge buffers.
+	 *
+	 * @return the number of merged intervals.
+	 */
+	private int mergeRows(int top, int bottom) {
+		int total = 0;
+
+		for (int row = top; row < bottom; row++) {
+			total += counts[row];
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+		if (mergeOrder.length < total) {
+			int capacity = Math.max(total, mergeOrder.length * 2);
+
+			mergeOrder = new long[capacity];
+			mergeValues = new int[capacity];
+			mergeStarts = new int[capacity];
+			mergeEnds = new int[capacity];
+		}
+
+		// Collect the end positions and sort the start positions, each
+		// packed with the index of its end position.
+		int n = 0;
+
+		for (int row = top; row < bottom; row++) {
+			for (int i = 0; i < counts[row]; i++) {
+				mergeOrder[n] = ((long) starts[row][i] << 32) | n;
+				mergeValues[n] = ends[row][i];
+				n++;
+			}
+		}
+
+		Arrays.sort(mergeOrder, 0, n);
+
+		int count = 0;
+
+		for (int k = 0; k < n; k++) {
+			int start = (int) (mergeOrder[k] >> 32);
+			int end = mergeValues[(int) mergeOrder[k]];
+
+			if (count > 0 && start <= mergeEnds[count - 1]) {
+				mergeEnds[count - 1] = Math.max(mergeEnds[count - 1], end);
+			}
+			else {
+				mergeStarts[count] = start;
+				mergeEnds[count] = end;
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	private void addInterval(int row, int start, int end) {
+		int[] rowStarts = starts[row];
+		int[] rowEnds = ends[row];
+		int n = counts[row];
+
+		// First interval overlapping or touching the new one from the left.
+		int first = 0;
+		while (first < n && rowEnds[first] < start) {
+			first++;
+		}
+
+		// Intervals overlapping or touching the new one are merged.
+		int last = first;
+		while (last < n && rowStarts[last] <= end) {
+			start = Math.min(start, rowStarts[last]);
+			end = Math.max(end, rowEnds[last]);
+			last++;
+		}
+
+		int removed = last - first;
+		int newCount = n - removed + 1;
+
+		if (rowStarts == null || rowStarts.length < newCount) {
+			int capacity = Math.max(4, newCount * 2);
+
+			rowStarts = rowStarts == null ? new int[capacity] : Arrays.copyOf(rowStarts, capacity);
+			rowEnds = rowEnds == null ? new int[capacity] : Arrays.copyOf(rowEnds, capacity);
+
+			starts[row] = rowStarts;
+			ends[row] = rowEnds;
+		}
+
+		if (removed != 1) {
+			System.arraycopy(rowStarts, last, rowStarts, first + 1, n - last);
+			System.arraycopy(rowEnds, last, rowEnds, first + 1, n - last);
+		}
+
+		rowStarts[first] = start;
+		rowEnds[first] = end;
+		counts[row] = newCount;
+	}
+}
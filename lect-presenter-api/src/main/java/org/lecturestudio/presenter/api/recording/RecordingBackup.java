@@ -33,10 +33,11 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Stack;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
 
 import org.lecturestudio.core.audio.AudioFormat;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.io.RandomAccessAudioStream;
 import org.lecturestudio.core.io.RandomAccessStream;
 import org.lecturestudio.core.io.WaveHeader;
@@ -60,7 +61,7 @@ public class RecordingBackup {
 
 	private static final Logger LOG = LogManager.getLogger(RecordingBackup.class);
 	
-	private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+	private final Executor executorService = ExecutionService.newSerialExecutor(ExecutionPool.BULK_IO);
 	
 	private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy_MM_dd-HH_mm");
 	
@@ -191,12 +192,7 @@ public class RecordingBackup {
 			String eventsFile = sessionPathPrefix + ".dat";
 			
 			OutputStream eventStream = new BufferedOutputStream(new FileOutputStream(eventsFile));
-
-			for (RecordedPage recPage : pages) {
-				byte[] pageData = recPage.toByteArray();
-				eventStream.write(pageData);
-			}
-			
+			eventStream.write(new RecordedEvents(pages).toByteArray());
 			eventStream.flush();
 			eventStream.close();
 		}
@@ -96,7 +96,8 @@ public class SlideRecorder extends ExecutableBase {
 			insertPendingPageActions(recPage, page);
 		}
 
-		recordedDocument.createPage(page);
+		// Revisited slides share the content of their first recorded copy.
+		recordedDocument.createSharedPage(page);
 
 		// Update page to last recorded page relation.
 		addedPages.remove(page);
@@ -30,15 +30,18 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import javax.ws.rs.core.MediaType;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
@@ -47,6 +50,8 @@ import org.jsoup.select.Elements;
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.app.dictionary.Dictionary;
 import org.lecturestudio.core.bus.EventBus;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.geometry.Rectangle2D;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.DocumentType;
@@ -64,6 +69,11 @@ import org.lecturestudio.web.api.model.quiz.QuizResult;
 
 public class QuizFeatureWebService extends FeatureServiceBase {
 
+	private static final Logger LOG = LogManager.getLogger(QuizFeatureWebService.class);
+
+	/** The default minimum interval between two renderings in milliseconds. */
+	private static final int DEFAULT_RENDER_INTERVAL = 500;
+
 	private final Consumer<QuizAnswerMessage> messageConsumer = this::onMessage;
 
 	/** The web service client. */
@@ -73,8 +83,37 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 
 	private final EventBus eventBus;
 
-	/** Asynchronous quiz result render queue with only one rendering task in the queue. */
-	private ExecutorService executorService;
+	/**
+	 * Asynchronous quiz result renderer. Answers received in between two
+	 * renderings are coalesced and only the latest result is rendered.
+	 */
+	private final Executor renderExecutor = ExecutionService.newSerialExecutor(
+			ExecutionPool.RENDER);
+
+	/** Indicates whether a rendering of the latest result is scheduled. */
+	private final AtomicBoolean renderPending = new AtomicBoolean();
+
+	/** The received answer count, answers are received concurrently. */
+	private final AtomicLong answerCount = new AtomicLong();
+
+	/** The scheduled rendering, may be {@code null}. */
+	private volatile ScheduledFuture<?> renderFuture;
+
+	/** The time the oldest answer, which is not displayed yet, was received. */
+	private volatile long pendingSince;
+
+	/** The time the last rendering has been started. */
+	private volatile long lastRenderTime;
+
+	/** The number of renderings and the answer-to-display latencies in nanoseconds. */
+	private volatile long renderCount;
+
+	private volatile long latencySum;
+
+	private volatile long latencyMax;
+
+	/** The rendered answer-independent pages of the current quiz. */
+	private volatile QuizDocument.StaticPages staticPages;
 
 	private Quiz quiz;
 
@@ -82,9 +121,6 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 
 	private Document quizDocument;
 
-	/* The received answer count. */
-	private long answerCount;
-
 
 	/**
 	 * Creates a new {@link QuizFeatureWebService}.
@@ -118,9 +154,6 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 		if (isNull(quiz)) {
 			throw new ExecutableException("No quiz provided");
 		}
-
-		executorService = new ThreadPoolExecutor(1, 1, 0L,
-				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
 	}
 
 	@Override
@@ -129,7 +162,12 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 			throw new ExecutableException("No quiz result created");
 		}
 
-		answerCount = 0;
+		answerCount.set(0);
+		renderCount = 0;
+		latencySum = 0;
+		latencyMax = 0;
+
+		renderPending.set(false);
 
 		// Create a copy, since the markup of the question gets changed for the web view.
 		Quiz webQuiz = quiz.clone();
@@ -153,6 +191,8 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 			// Replace quiz document in silent-mode.
 			updateQuizDocument(false);
 		}
+
+		lastRenderTime = System.nanoTime();
 	}
 
 	@Override
@@ -166,11 +206,25 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 		catch (Exception e) {
 			throw new ExecutableException(e);
 		}
+
+		cancelRendering();
+
+		if (renderCount > 0) {
+			LOG.info("Quiz results rendered {} times for {} answers, answer-to-display latency: avg {} ms, max {} ms",
+					renderCount, answerCount.get(),
+					TimeUnit.NANOSECONDS.toMillis(latencySum / renderCount),
+					TimeUnit.NANOSECONDS.toMillis(latencyMax));
+		}
 	}
 
 	@Override
 	protected void destroyInternal() {
-		executorService.shutdown();
+		cancelRendering();
+
+		// Release the rendered pages, the quiz document is owned by the
+		// document service.
+		staticPages = null;
+		quizDocument = null;
 	}
 
 	private void onMessage(QuizAnswerMessage message) {
@@ -182,11 +236,11 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 		}
 
 		if (quizResult.addAnswer(answer)) {
-			updateQuizDocumentAsync();
+			long count = answerCount.incrementAndGet();
 
-			answerCount++;
+			updateQuizDocumentAsync();
 
-			eventBus.post(new QuizWebServiceState(getState(), answerCount));
+			eventBus.post(new QuizWebServiceState(getState(), count));
 		}
 	}
 
@@ -200,8 +254,15 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 			String template = templateConfig.getTemplatePath();
 			Rectangle2D templateBounds = templateConfig.getBounds();
 			File file = new File(nonNull(template) ? template : "");
+			Quiz quiz = result.getQuiz();
+
+			// The question pages do not change while answers are received.
+			if (isNull(staticPages) || !staticPages.matches(file, templateBounds, quiz)) {
+				staticPages = QuizDocument.createStaticPages(file, templateBounds, quiz);
+			}
 
-			doc = new QuizDocument(file, templateBounds, dict, result);
+			// Render a stable copy, answers are added concurrently.
+			doc = new QuizDocument(staticPages, dict, result.snapshot());
 			doc.setDocumentType(DocumentType.QUIZ);
 		}
 		catch (Exception e) {
@@ -262,17 +323,68 @@ public class QuizFeatureWebService extends FeatureServiceBase {
 	}
 
 	private void updateQuizDocumentAsync() {
+		// Only the first answer after a rendering schedules a new rendering.
+		// Subsequent answers are picked up by that rendering.
+		if (!renderPending.compareAndSet(false, true)) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		long interval = TimeUnit.MILLISECONDS.toNanos(getRenderInterval());
+		long delay = Math.max(0, lastRenderTime + interval - now);
+
+		pendingSince = now;
+
 		try {
-			executorService.execute(() -> {
-				if (started()) {
-					updateQuizDocument(true);
-				}
-			});
+			renderFuture = ExecutionService.schedule(renderExecutor,
+					this::renderQuizResult, delay, TimeUnit.NANOSECONDS);
 		}
 		catch (Exception e) {
-			// Ignore. May happen if execution was rejected, which is the
-			// objective to avoid multiple renderings.
+			// May happen if the application is shutting down in the meantime.
+			renderPending.set(false);
+		}
+	}
+
+	private void cancelRendering() {
+		ScheduledFuture<?> future = renderFuture;
+
+		if (nonNull(future)) {
+			future.cancel(false);
+			renderFuture = null;
+		}
+
+		renderPending.set(false);
+	}
+
+	private void renderQuizResult() {
+		long since = pendingSince;
+
+		// Reset before rendering, answers received from now on must be
+		// rendered again.
+		renderPending.set(false);
+
+		if (!started()) {
+			return;
 		}
+
+		lastRenderTime = System.nanoTime();
+
+		updateQuizDocument(true);
+
+		long latency = System.nanoTime() - since;
+
+		renderCount++;
+		latencySum += latency;
+		latencyMax = Math.max(latencyMax, latency);
+
+		LOG.debug("Quiz result displayed {} ms after the answer was received",
+				TimeUnit.NANOSECONDS.toMillis(latency));
+	}
+
+	private int getRenderInterval() {
+		Integer interval = context.getConfiguration().getQuizRenderInterval();
+
+		return nonNull(interval) ? Math.max(0, interval) : DEFAULT_RENDER_INTERVAL;
 	}
 
 	private MultipartBody getQuizResources(Quiz quiz) throws IOException {
@@ -26,13 +26,14 @@ import dev.onvoid.webrtc.media.video.desktop.ScreenCapturer;
 import dev.onvoid.webrtc.media.video.desktop.WindowCapturer;
 
 import java.math.BigInteger;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.lecturestudio.core.ExecutableBase;
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.app.ApplicationContext;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.presenter.api.event.ScreenShareStateEvent;
 import org.lecturestudio.web.api.event.LocalScreenVideoFrameEvent;
 import org.lecturestudio.web.api.model.ScreenSource;
@@ -136,7 +137,7 @@ public class ScreenCaptureService extends ExecutableBase {
 			throw new ExecutableException(e);
 		}
 
-		future = Executors.newScheduledThreadPool(1).scheduleAtFixedRate(() -> {
+		future = ExecutionService.scheduleAtFixedRate(ExecutionPool.RENDER, () -> {
 			if (started()) {
 				synchronized (capturer) {
 					capturer.captureFrame();
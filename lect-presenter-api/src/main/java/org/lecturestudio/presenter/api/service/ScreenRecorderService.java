@@ -23,16 +23,26 @@ import static java.util.Objects.nonNull;
 
 import com.google.common.eventbus.Subscribe;
 
+import dev.onvoid.webrtc.media.FourCC;
+import dev.onvoid.webrtc.media.video.VideoBufferConverter;
 import dev.onvoid.webrtc.media.video.VideoFrame;
+import dev.onvoid.webrtc.media.video.VideoFrameBuffer;
 
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.FileSystem;
 import org.apache.logging.log4j.LogManager;
@@ -40,6 +50,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.lecturestudio.core.ExecutableBase;
 import org.lecturestudio.core.ExecutableException;
+import org.lecturestudio.core.PageMetrics;
 import org.lecturestudio.core.app.configuration.AudioConfiguration;
 import org.lecturestudio.core.audio.AudioFormat;
 import org.lecturestudio.core.audio.AudioRecorder;
@@ -47,6 +58,8 @@ import org.lecturestudio.core.audio.AudioSystemProvider;
 import org.lecturestudio.core.audio.AudioUtils;
 import org.lecturestudio.core.audio.sink.ByteArrayAudioSink;
 import org.lecturestudio.core.codec.CodecID;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.geometry.Dimension2D;
 import org.lecturestudio.core.recording.action.ScreenAction;
 import org.lecturestudio.media.config.AudioRenderConfiguration;
@@ -57,7 +70,6 @@ import org.lecturestudio.media.video.FFmpegMuxer;
 import org.lecturestudio.media.video.VideoMuxer;
 import org.lecturestudio.presenter.api.context.PresenterContext;
 import org.lecturestudio.presenter.api.model.ScreenShareContext;
-import org.lecturestudio.swing.util.VideoFrameConverter;
 import org.lecturestudio.web.api.event.LocalScreenVideoFrameEvent;
 
 /**
@@ -69,7 +81,10 @@ import org.lecturestudio.web.api.event.LocalScreenVideoFrameEvent;
  * destroying recording resources.
  * <p>
  * The service uses FFmpeg for muxing audio and video streams and maintains timing
- * information for synchronization.
+ * information for synchronization. Video frames are handed over to a dedicated
+ * encoder thread through a small bounded queue, so that the event bus is never
+ * blocked by frame conversion and encoding. If the encoder falls behind, the
+ * oldest queued frames are dropped in favor of the most recent screen content.
  *
  * @author Alex Andres
  */
@@ -77,6 +92,9 @@ public class ScreenRecorderService extends ExecutableBase {
 
 	private static final Logger LOG = LogManager.getLogger(ScreenRecorderService.class);
 
+	/** The maximum number of frames waiting to be encoded. */
+	private static final int FRAME_QUEUE_CAPACITY = 3;
+
 	/** Date formatter used to generate timestamps for recording file names. */
 	private final DateFormat dateFormat = new SimpleDateFormat("yyyy_MM_dd-HH_mm");
 
@@ -89,6 +107,18 @@ public class ScreenRecorderService extends ExecutableBase {
 	/** Provider for audio system components used in recording. */
 	private final AudioSystemProvider audioSystemProvider;
 
+	/** Retained video frames waiting to be encoded, the oldest first. */
+	private final BlockingQueue<VideoFrame> frameQueue = new ArrayBlockingQueue<>(FRAME_QUEUE_CAPACITY);
+
+	/** The number of frames dropped because the encoder could not keep up. */
+	private final AtomicLong droppedFrames = new AtomicLong();
+
+	/** The thread converting and muxing the queued video frames. */
+	private Thread encoderThread;
+
+	/** Whether new frames are accepted, cleared as soon as the encoder stops. */
+	private volatile boolean acceptFrames;
+
 	/** The audio recorder component that captures system audio. */
 	private AudioRecorder audioRecorder;
 
@@ -101,14 +131,23 @@ public class ScreenRecorderService extends ExecutableBase {
 	/** Context containing information about the active screen sharing session. */
 	private ScreenShareContext shareContext;
 
-	/** Buffer used for temporary image processing during video frame conversion. */
-	private BufferedImage bufferedImage;
+	/** The reusable output image passed to the muxer, owned by the encoder thread. */
+	private BufferedImage outputImage;
+
+	/** The reusable buffer receiving the scaled ARGB pixels of a frame. */
+	private byte[] frameBuffer;
+
+	/** The width of the scaled frame last drawn into the output image. */
+	private int frameWidth;
+
+	/** The height of the scaled frame last drawn into the output image. */
+	private int frameHeight;
 
 	/** Action containing metadata about the screen recording. */
 	private ScreenAction screenAction;
 
 	/** Current timestamp in milliseconds for the recording session. */
-	private int timestampMs;
+	private volatile int timestampMs;
 
 	/** Timestamp in milliseconds when recording was last suspended. */
 	private int timestampMsSuspend;
@@ -158,20 +197,40 @@ public class ScreenRecorderService extends ExecutableBase {
 		return screenAction;
 	}
 
+	/**
+	 * Gets the number of video frames that have been dropped during the
+	 * current recording session because the encoder could not keep up with
+	 * the incoming frames.
+	 *
+	 * @return The number of dropped frames.
+	 */
+	public long getDroppedFrameCount() {
+		return droppedFrames.get();
+	}
+
 	@Subscribe
 	public void onEvent(LocalScreenVideoFrameEvent event) {
-		if (!started()) {
+		if (!started() || !acceptFrames) {
 			return;
 		}
 
-		try {
-			final VideoFrame videoFrame = event.getFrame();
-			videoFrame.retain();
-			addVideoFrame(videoFrame);
-			videoFrame.release();
+		final VideoFrame videoFrame = event.getFrame();
+		videoFrame.retain();
+
+		// Make room for the most recent frame by dropping the oldest ones.
+		while (!frameQueue.offer(videoFrame)) {
+			VideoFrame dropped = frameQueue.poll();
+
+			if (nonNull(dropped)) {
+				dropped.release();
+				droppedFrames.incrementAndGet();
+			}
 		}
-		catch (Exception e) {
-			LOG.error("Mux video frame failed", e);
+
+		if (!acceptFrames) {
+			// The encoder has been stopped meanwhile and may have drained the
+			// queue already, release the frame offered too late.
+			releaseQueuedFrames();
 		}
 	}
 
@@ -182,9 +241,11 @@ public class ScreenRecorderService extends ExecutableBase {
 		frames = 0;
 		timestampMs = 0;
 		timestampMsSuspend = 0;
+		droppedFrames.set(0);
 
 		initMuxer();
 		initAudioRecorder();
+		startEncoder();
 	}
 
 	@Override
@@ -201,8 +262,22 @@ public class ScreenRecorderService extends ExecutableBase {
 		audioRecorder.stop();
 		audioRecorder.destroy();
 
+		stopEncoder();
+
 		muxer.stop();
 		muxer.destroy();
+
+		long dropped = getDroppedFrameCount();
+
+		if (dropped > 0) {
+			LOG.warn("Screen recording dropped {} of {} frames, the encoder could not keep up",
+					dropped, dropped + frames);
+		}
+
+		outputImage = null;
+		frameBuffer = null;
+		frameWidth = 0;
+		frameHeight = 0;
 	}
 
 	@Override
@@ -275,12 +350,10 @@ public class ScreenRecorderService extends ExecutableBase {
 	/**
 	 * Converts a WebRTC video frame to a properly formatted BufferedImage.
 	 * <p>
-	 * This method performs several transformations on the input video frame:
-	 * <ul>
-	 *   <li>Resizes the frame to match the configured output dimensions</li>
-	 *   <li>Performs byte-to-int type conversion for proper image encoding</li>
-	 *   <li>Centers the image horizontally and vertically in the output frame</li>
-	 * </ul>
+	 * The frame is scaled to fit the configured output dimensions, converted
+	 * from I420 to ARGB and copied centered into the reusable output image. No
+	 * image is allocated per frame, since the muxer copies the image content
+	 * before the next frame is converted.
 	 *
 	 * @param videoFrame The WebRTC video frame to be converted.
 	 *
@@ -289,36 +362,79 @@ public class ScreenRecorderService extends ExecutableBase {
 	 * @throws Exception If an error occurs during the video frame conversion process.
 	 */
 	private BufferedImage convertVideoFrame(VideoFrame videoFrame) throws Exception {
+		final VideoFrameBuffer buffer = videoFrame.buffer;
+
 		if (nonNull(screenAction)) {
-			screenAction.setVideoDimension(new Dimension2D(videoFrame.buffer.getWidth(), videoFrame.buffer.getHeight()));
+			screenAction.setVideoDimension(new Dimension2D(buffer.getWidth(), buffer.getHeight()));
 		}
 
 		int width = (int) outputSize.getWidth();
 		int height = (int) outputSize.getHeight();
 
-		// Valid frame sizes are when width and height are divisible by 2.
-		bufferedImage = VideoFrameConverter.convertVideoFrame(videoFrame, bufferedImage, width, height);
+		if (isNull(outputImage)) {
+			outputImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		// Avoid native crash with invalid dimensions.
+		if (buffer.getWidth() <= 0 || buffer.getHeight() <= 0) {
+			return outputImage;
+		}
 
-		// Need to perform type (byte-to-int) conversion and center image
-		// vertically and horizontally.
-		BufferedImage converted = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Dimension2D size = new PageMetrics(buffer.getWidth(), buffer.getHeight())
+				.convert(width, height);
 
-		// Center resized frame.
-		int x = 0;
-		int y = 0;
+		int scaledWidth = (int) size.getWidth();
+		int scaledHeight = (int) size.getHeight();
 
-		if (bufferedImage.getWidth() < converted.getWidth()) {
-			x = (converted.getWidth() - bufferedImage.getWidth()) / 2;
-		}
-		if (bufferedImage.getHeight() < converted.getHeight()) {
-			y = (converted.getHeight() - bufferedImage.getHeight()) / 2;
+		if (scaledWidth <= 0 || scaledHeight <= 0) {
+			return outputImage;
 		}
 
-		Graphics2D g2d = converted.createGraphics();
-		g2d.drawImage(bufferedImage, x, y, null);
-		g2d.dispose();
+		VideoFrameBuffer scaled = buffer.cropAndScale(0, 0, buffer.getWidth(),
+				buffer.getHeight(), scaledWidth, scaledHeight);
+
+		try {
+			int cWidth = scaled.getWidth();
+			int cHeight = scaled.getHeight();
+			int length = cWidth * cHeight * 4;
+
+			if (isNull(frameBuffer) || frameBuffer.length != length) {
+				frameBuffer = new byte[length];
+			}
+
+			// ARGB in libyuv terms is BGRA in memory, i.e. little-endian ARGB integers.
+			VideoBufferConverter.convertFromI420(scaled, frameBuffer, FourCC.ARGB);
+
+			int[] pixels = ((DataBufferInt) outputImage.getRaster().getDataBuffer()).getData();
 
-		return converted;
+			if (cWidth != frameWidth || cHeight != frameHeight) {
+				// Clear the borders around the centered frame.
+				Arrays.fill(pixels, 0);
+
+				frameWidth = cWidth;
+				frameHeight = cHeight;
+			}
+
+			// Center resized frame.
+			int x = Math.max(0, (width - cWidth) / 2);
+			int y = Math.max(0, (height - cHeight) / 2);
+			int copyWidth = Math.min(cWidth, width - x);
+			int copyHeight = Math.min(cHeight, height - y);
+
+			IntBuffer source = ByteBuffer.wrap(frameBuffer)
+					.order(ByteOrder.LITTLE_ENDIAN)
+					.asIntBuffer();
+
+			for (int row = 0; row < copyHeight; row++) {
+				source.position(row * cWidth);
+				source.get(pixels, (y + row) * width + x, copyWidth);
+			}
+		}
+		finally {
+			scaled.release();
+		}
+
+		return outputImage;
 	}
 
 	/**
@@ -338,6 +454,75 @@ public class ScreenRecorderService extends ExecutableBase {
 		frames++;
 	}
 
+	/**
+	 * Starts the thread that converts and muxes the queued video frames.
+	 */
+	private void startEncoder() {
+		encoderThread = ExecutionService.newThread(ExecutionPool.BULK_IO, "ScreenRecorder-Encoder", () -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				VideoFrame videoFrame;
+
+				try {
+					videoFrame = frameQueue.take();
+				}
+				catch (InterruptedException e) {
+					break;
+				}
+
+				try {
+					addVideoFrame(videoFrame);
+				}
+				catch (Exception e) {
+					LOG.error("Mux video frame failed", e);
+				}
+				finally {
+					videoFrame.release();
+				}
+			}
+		});
+		encoderThread.setDaemon(true);
+		encoderThread.start();
+
+		acceptFrames = true;
+	}
+
+	/**
+	 * Stops the encoder thread and releases all frames that have not been
+	 * encoded yet. Frames offered after this method has been called are
+	 * rejected.
+	 */
+	private void stopEncoder() {
+		acceptFrames = false;
+
+		if (isNull(encoderThread)) {
+			return;
+		}
+
+		encoderThread.interrupt();
+
+		try {
+			encoderThread.join();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		encoderThread = null;
+
+		releaseQueuedFrames();
+	}
+
+	/**
+	 * Removes and releases all frames waiting in the queue.
+	 */
+	private void releaseQueuedFrames() {
+		VideoFrame videoFrame;
+
+		while ((videoFrame = frameQueue.poll()) != null) {
+			videoFrame.release();
+		}
+	}
+
 	private void initMuxer() throws ExecutableException {
 		String title = shareContext.getSource().getTitle();
 		String date = dateFormat.format(new Date());
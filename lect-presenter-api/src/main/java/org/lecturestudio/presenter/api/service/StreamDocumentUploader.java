@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.presenter.api.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.MediaType;
+
+import org.lecturestudio.core.model.Document;
+import org.lecturestudio.core.model.TemplateDocument;
+import org.lecturestudio.core.util.ProgressCallback;
+import org.lecturestudio.web.api.client.MultipartBody;
+import org.lecturestudio.web.api.stream.service.StreamProviderService;
+
+/**
+ * Uploads the documents shared in a stream. Documents are written into
+ * temporary files and identified by the SHA-256 checksum of their content. The
+ * server is asked for the checksum first, so documents that have already been
+ * uploaded, e.g. before a stream restart, are not transmitted again. Otherwise,
+ * the file is streamed from disk without being held in memory.
+ * <p>
+ * The uploaded copy of a whiteboard is a template with a number of empty pages,
+ * which simplifies the creation of new pages on the client side. Templates are
+ * generated only once for each whiteboard and kept until the whiteboard is
+ * discarded.
+ *
+ * @author Alex Andres
+ */
+public class StreamDocumentUploader {
+
+	/** The number of empty pages of uploaded whiteboards. */
+	private static final int WHITEBOARD_PAGES = 100;
+
+	private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+	private final Map<Document, DocumentFile> whiteboardTemplates = new IdentityHashMap<>();
+
+
+	/**
+	 * Writes the specified document into a file that can be uploaded. The
+	 * caller must hold the lock of the document, since the document cannot be
+	 * serialized while pages are being added or removed.
+	 *
+	 * @param document The document to upload.
+	 *
+	 * @return the file to upload.
+	 *
+	 * @throws IOException If the document cannot be written.
+	 */
+	public DocumentFile prepare(Document document) throws IOException {
+		if (!document.isWhiteboard()) {
+			return writeDocument(document, true);
+		}
+
+		synchronized (whiteboardTemplates) {
+			DocumentFile file = whiteboardTemplates.get(document);
+
+			if (isNull(file)) {
+				file = createWhiteboardTemplate(document);
+
+				whiteboardTemplates.put(document, file);
+			}
+
+			return file;
+		}
+	}
+
+	/**
+	 * Uploads the specified file, unless the server already has a file with
+	 * the same content. The file is released afterwards.
+	 *
+	 * @param service  The service to upload the file to.
+	 * @param file     The file to upload.
+	 * @param callback The callback to report the upload progress to, may be
+	 *                 {@code null}.
+	 *
+	 * @return the name of the file on the server.
+	 *
+	 * @throws IOException If the file cannot be read.
+	 */
+	public String upload(StreamProviderService service, DocumentFile file,
+			ProgressCallback callback) throws IOException {
+		try {
+			String remoteFile = service.findUploadedFile(file.checksum());
+
+			if (nonNull(remoteFile)) {
+				return remoteFile;
+			}
+
+			long size = Files.size(file.path());
+
+			try (InputStream stream = new ProgressInputStream(
+					Files.newInputStream(file.path()), size, callback)) {
+				MultipartBody body = new MultipartBody();
+				body.addFormData("checksum", file.checksum(), MediaType.TEXT_PLAIN_TYPE);
+				body.addFormData("file", stream, MediaType.MULTIPART_FORM_DATA_TYPE,
+						file.checksum() + ".pdf");
+
+				return service.uploadFile(body);
+			}
+		}
+		finally {
+			release(file);
+		}
+	}
+
+	/**
+	 * Deletes the specified file, if it is temporary. Whiteboard templates are
+	 * kept for later uploads.
+	 *
+	 * @param file The file that is no longer required.
+	 */
+	public void release(DocumentFile file) {
+		if (file.temporary()) {
+			deleteFile(file.path());
+		}
+	}
+
+	/**
+	 * Releases the uploaded template of the specified whiteboard.
+	 *
+	 * @param document The closed document.
+	 */
+	public void discard(Document document) {
+		DocumentFile file;
+
+		synchronized (whiteboardTemplates) {
+			file = whiteboardTemplates.remove(document);
+		}
+
+		if (nonNull(file)) {
+			deleteFile(file.path());
+		}
+	}
+
+	/**
+	 * Releases all whiteboard templates.
+	 */
+	public void dispose() {
+		synchronized (whiteboardTemplates) {
+			for (DocumentFile file : whiteboardTemplates.values()) {
+				deleteFile(file.path());
+			}
+
+			whiteboardTemplates.clear();
+		}
+	}
+
+	private DocumentFile createWhiteboardTemplate(Document document) throws IOException {
+		Path source = Files.createTempFile("stream-whiteboard", ".pdf");
+
+		try {
+			try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(source))) {
+				document.toOutputStream(stream);
+			}
+
+			Document template = new TemplateDocument(source.toFile());
+
+			try {
+				for (int i = 0; i < WHITEBOARD_PAGES; i++) {
+					template.createPage();
+				}
+
+				return writeDocument(template, false);
+			}
+			finally {
+				template.close();
+			}
+		}
+		finally {
+			Files.deleteIfExists(source);
+		}
+	}
+
+	private static DocumentFile writeDocument(Document document, boolean temporary)
+			throws IOException {
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+
+		Path path = Files.createTempFile("stream-doc", ".pdf");
+
+		try (OutputStream stream = new DigestOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(path)), digest)) {
+			document.toOutputStream(stream);
+		}
+		catch (IOException e) {
+			Files.deleteIfExists(path);
+			throw e;
+		}
+
+		return new DocumentFile(path, HexFormat.of().formatHex(digest.digest()), temporary);
+	}
+
+	private static void deleteFile(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException e) {
+			// Nothing to do, the file resides in the temp directory.
+		}
+	}
+
+
+	/**
+	 * A document written to disk, ready to be uploaded.
+	 *
+	 * @param path      The file containing the document.
+	 * @param checksum  The checksum of the file content.
+	 * @param temporary Whether the file is deleted after the upload.
+	 */
+	public record DocumentFile(Path path, String checksum, boolean temporary) {
+
+	}
+
+
+	/**
+	 * Reports the number of bytes read to a {@link ProgressCallback}.
+	 */
+	private static class ProgressInputStream extends FilterInputStream {
+
+		private final long size;
+
+		private final ProgressCallback callback;
+
+		private long read;
+
+
+		ProgressInputStream(InputStream stream, long size, ProgressCallback callback) {
+			super(stream);
+
+			this.size = size;
+			this.callback = callback;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+
+			if (value != -1) {
+				update(1);
+			}
+
+			return value;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = super.read(b, off, len);
+
+			if (count > 0) {
+				update(count);
+			}
+
+			return count;
+		}
+
+		private void update(int count) {
+			read += count;
+
+			if (nonNull(callback) && size > 0) {
+				callback.onProgress(Math.min(1, (float) read / size));
+			}
+		}
+	}
+}
@@ -24,15 +24,19 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.eventbus.Subscribe;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import javax.ws.rs.core.MediaType;
 
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.ExecutableState;
@@ -40,16 +44,20 @@ import org.lecturestudio.core.bus.ApplicationBus;
 import org.lecturestudio.core.bus.event.DocumentEvent;
 import org.lecturestudio.core.bus.event.PageEvent;
 import org.lecturestudio.core.bus.event.RecordActionEvent;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.model.Document;
 import org.lecturestudio.core.model.Page;
-import org.lecturestudio.core.model.TemplateDocument;
+import org.lecturestudio.core.model.shape.Shape;
+import org.lecturestudio.core.recording.PageActionLog;
 import org.lecturestudio.core.recording.RecordedPage;
 import org.lecturestudio.core.recording.action.PlaybackAction;
 import org.lecturestudio.core.service.DocumentService;
+import org.lecturestudio.core.util.ProgressCallback;
 import org.lecturestudio.presenter.api.event.RecordingStateEvent;
 import org.lecturestudio.presenter.api.model.QuizDocument;
+import org.lecturestudio.presenter.api.service.StreamDocumentUploader.DocumentFile;
 import org.lecturestudio.core.recording.PendingActions;
-import org.lecturestudio.web.api.client.MultipartBody;
 import org.lecturestudio.web.api.stream.StreamEventRecorder;
 import org.lecturestudio.web.api.stream.action.StreamAction;
 import org.lecturestudio.web.api.stream.action.StreamDocumentAction;
@@ -68,12 +76,38 @@ import org.lecturestudio.web.api.stream.service.StreamProviderService;
 @Singleton
 public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 
-	private final List<Document> cachedWhiteboards = new ArrayList<>();
+	/** The incrementally compacted pending actions of each page. */
+	private final Map<Page, PageActionLog> actionLogs = new HashMap<>();
 
 	private final DocumentService documentService;
 
 	private StreamProviderService streamProviderService;
 
+	/** Uploads documents in order without blocking the event thread. */
+	private final Executor uploadExecutor = ExecutionService.newSerialExecutor(
+			ExecutionPool.BULK_IO);
+
+	private final StreamDocumentUploader documentUploader = new StreamDocumentUploader();
+
+	/**
+	 * Completes once all actions passed to {@link #addPlaybackAction} so far
+	 * have been sent. Actions following a document upload are deferred until
+	 * the upload is complete to keep the order. If an upload fails, this
+	 * future completes exceptionally and the deferred actions are dropped.
+	 */
+	private CompletableFuture<Void> outbound = CompletableFuture.completedFuture(null);
+
+	/**
+	 * Set when a document upload has failed. Clients cannot apply any further
+	 * actions without the document, thus all actions are dropped until the
+	 * complete state is sent again.
+	 */
+	private boolean uploadFailed;
+
+	private ProgressCallback uploadProgressCallback;
+
+	private Consumer<Throwable> uploadErrorCallback;
+
 	private PendingActions pendingActions;
 
 	private Page currentPage;
@@ -102,7 +136,29 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 		this.streamProviderService = streamService;
 	}
 
-	public void shareDocument(Document document) throws IOException {
+	/**
+	 * Sets the callback to report the progress of document uploads to. The
+	 * callback is called on the upload thread.
+	 *
+	 * @param callback The upload progress callback.
+	 */
+	public void setUploadProgressCallback(ProgressCallback callback) {
+		this.uploadProgressCallback = callback;
+	}
+
+	/**
+	 * Sets the callback to report failed document uploads to. Once an upload
+	 * has failed, no further actions are sent until the state is sent again,
+	 * e.g. by restarting the stream. The callback is called on the upload
+	 * thread.
+	 *
+	 * @param callback The upload error callback.
+	 */
+	public void setUploadErrorCallback(Consumer<Throwable> callback) {
+		this.uploadErrorCallback = callback;
+	}
+
+	public void shareDocument(Document document) {
 		sendDocument(document);
 
 		addPlaybackAction(new StreamDocumentSelectAction(document));
@@ -127,8 +183,12 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 	@Override
 	public List<StreamPageActionsAction> getPreRecordedActions() {
 		List<StreamPageActionsAction> actions = new ArrayList<>();
+		Map<Page, List<PlaybackAction>> allPendingActions = pendingActions.getAllPendingActions();
 
-		for (var entry : pendingActions.getAllPendingActions().entrySet()) {
+		// Release the logs of pages which have been removed in the meantime.
+		actionLogs.keySet().retainAll(allPendingActions.keySet());
+
+		for (var entry : allPendingActions.entrySet()) {
 			Page page = entry.getKey();
 			Document document = page.getDocument();
 
@@ -137,7 +197,7 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 
 			RecordedPage recordedPage = new RecordedPage();
 			recordedPage.setNumber(pageNumber);
-			recordedPage.getPlaybackActions().addAll(entry.getValue());
+			recordedPage.getPlaybackActions().addAll(compactActions(page, entry.getValue()));
 
 			actions.add(new StreamPageActionsAction(documentId, recordedPage));
 		}
@@ -145,6 +205,16 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 		return actions;
 	}
 
+	@Override
+	public void resendState() {
+		try {
+			sendState();
+		}
+		catch (Exception e) {
+			logException(e, "Resend stream state failed");
+		}
+	}
+
 	@Subscribe
 	public void onEvent(final RecordingStateEvent event) {
 		final ExecutableState state = event.getState();
@@ -204,6 +274,10 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 		currentPage = doc.getCurrentPage();
 		pendingActions.setPendingPage(doc.getCurrentPage());
 
+		if (event.closed()) {
+			documentUploader.discard(doc);
+		}
+
 		if (!started()) {
 			if (event.closed()) {
 				removeActionsForDocument(doc);
@@ -214,12 +288,7 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 		StreamDocumentAction action = null;
 
 		if (event.created()) {
-			try {
-				action = uploadDocument(doc);
-			}
-			catch (IOException e) {
-				logException(e, "Transmit document failed");
-			}
+			sendDocument(doc);
 		}
 		else if (event.closed()) {
 			action = new StreamDocumentCloseAction(doc);
@@ -242,12 +311,7 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 			}
 
 			if (isInitialQuiz || doc.isMessage() || doc.isScreen()) {
-				try {
-					shareDocument(doc);
-				}
-				catch (IOException e) {
-					logException(e, "Transmit document failed");
-				}
+				shareDocument(doc);
 			}
 
 			// Set the current pending page, as it may have been removed previously
@@ -278,21 +342,8 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 	protected void startInternal() throws ExecutableException {
 		requireNonNull(course, "Course must be set");
 
-		// Transmit initial document state.
-		Document document = documentService.getDocuments().getSelectedDocument();
-
-		addPlaybackAction(new StreamInitAction(course.getId()));
-
 		try {
-			// Upload all opened PDF documents.
-			for (var doc : documentService.getDocuments().asList()) {
-				sendDocument(doc);
-			}
-
-			addPlaybackAction(new StreamDocumentSelectAction(document));
-			addPlaybackAction(new StreamPageSelectedAction(document.getCurrentPage()));
-
-			getPreRecordedActions().forEach(this::addPlaybackAction);
+			sendState();
 		}
 		catch (Exception e) {
 			throw new ExecutableException("Send action failed", e);
@@ -327,17 +378,39 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 	protected void stopInternal() {
 		startTime = -1;
 		halted = 0;
-
-//		for (Document document : cachedWhiteboards) {
-//			document.close();
-//		}
-
-//		cachedWhiteboards.clear();
 	}
 
 	@Override
 	protected void destroyInternal() {
 		ApplicationBus.unregister(this);
+
+		documentUploader.dispose();
+	}
+
+	/**
+	 * Transmits the complete document state. Documents which have already been
+	 * uploaded are not transmitted again.
+	 */
+	private synchronized void sendState() {
+		Document document = documentService.getDocuments().getSelectedDocument();
+
+		// The state supersedes the actions dropped after a failed upload.
+		if (uploadFailed) {
+			uploadFailed = false;
+			outbound = CompletableFuture.completedFuture(null);
+		}
+
+		addPlaybackAction(new StreamInitAction(course.getId()));
+
+		// Upload all opened PDF documents.
+		for (var doc : documentService.getDocuments().asList()) {
+			sendDocument(doc);
+		}
+
+		addPlaybackAction(new StreamDocumentSelectAction(document));
+		addPlaybackAction(new StreamPageSelectedAction(document.getCurrentPage()));
+
+		getPreRecordedActions().forEach(this::addPlaybackAction);
 	}
 
 	private void sendRecordingState(boolean isRecorded) {
@@ -360,63 +433,113 @@ public class WebRtcStreamEventRecorder extends StreamEventRecorder {
 		pendingActions.addPendingAction(action);
 	}
 
-	private void addPlaybackAction(StreamAction action) {
-		if (isNull(action) || !(started() || getState() == ExecutableState.Starting)) {
+	private synchronized void addPlaybackAction(StreamAction action) {
+		if (isNull(action) || !isSending() || uploadFailed) {
 			return;
 		}
 
-		notifyActionConsumers(action);
+		if (outbound.isDone()) {
+			notifyActionConsumers(action);
+		}
+		else {
+			outbound = outbound.thenRun(() -> sendDeferred(action));
+		}
 	}
 
-	private void removeActionsForDocument(Document document) {
-		document.getPages().forEach(pendingActions::clearPendingActions);
+	private void sendDeferred(StreamAction action) {
+		// The stream may have been stopped during a preceding upload.
+		if (isSending()) {
+			notifyActionConsumers(action);
+		}
 	}
 
-	private void sendDocument(Document document) throws IOException {
-		StreamDocumentCreateAction action = uploadDocument(document);
-
-		addPlaybackAction(action);
+	private boolean isSending() {
+		return started() || getState() == ExecutableState.Starting;
 	}
 
-	private StreamDocumentCreateAction uploadDocument(Document document)
-			throws IOException {
-		if (document.isWhiteboard()) {
-			// Copy whiteboard document with initially N empty pages.
-			// The empty pages are used to simplify new page creation on the client side.
-			ByteArrayOutputStream data = new ByteArrayOutputStream();
+	/**
+	 * Reduces the pending actions of a page to the actions required to restore
+	 * the current state of the page, so that joining clients do not replay
+	 * the complete annotation history.
+	 */
+	private List<PlaybackAction> compactActions(Page page, List<PlaybackAction> pageActions) {
+		PageActionLog log = actionLogs.get(page);
+
+		if (isNull(log) || !log.isLogOf(pageActions)) {
+			log = new PageActionLog(pageActions);
 
-			document.toOutputStream(data);
+			actionLogs.put(page, log);
+		}
 
-			Document whiteboard = new TemplateDocument(data.toByteArray());
-			whiteboard.setTitle(document.getName());
-			whiteboard.setDocumentType(document.getType());
+		Set<Integer> handles = new HashSet<>();
 
-			for (int i = 0; i < 100; i++) {
-				whiteboard.createPage();
-			}
+		for (Shape shape : page.getShapes()) {
+			handles.add(shape.getHandle());
+		}
+
+		return log.compact(handles::contains);
+	}
 
-			document = whiteboard;
+	private void removeActionsForDocument(Document document) {
+		document.getPages().forEach(pendingActions::clearPendingActions);
+	}
+
+	/**
+	 * Writes the document to disk and uploads it in the background. The create
+	 * action and all subsequently added actions are sent once the upload is
+	 * complete.
+	 */
+	private synchronized void sendDocument(Document document) {
+		if (!isSending() || uploadFailed) {
+			return;
+		}
+
+		StreamDocumentCreateAction action = new StreamDocumentCreateAction(document);
 
-			// Add the whiteboard document to the cache so it can be closed later.
-			cachedWhiteboards.add(document);
+		outbound = outbound.thenRunAsync(() -> uploadDocument(document, action),
+				uploadExecutor);
+	}
+
+	private void uploadDocument(Document document, StreamDocumentCreateAction action) {
+		if (!isSending()) {
+			return;
 		}
 
-		String docFileName = document.getUid().toString() + ".pdf";
-		ByteArrayOutputStream docData = new ByteArrayOutputStream();
+		try {
+			DocumentFile file;
+
+			// Holding the lock keeps the pages from being changed while the
+			// document is written.
+			synchronized (document) {
+				// The document may have been closed while waiting for
+				// preceding uploads.
+				if (document.isClosed()) {
+					return;
+				}
 
-		document.toOutputStream(docData);
+				file = documentUploader.prepare(document);
+			}
+
+			action.setDocumentChecksum(file.checksum());
+			action.setDocumentFile(documentUploader.upload(streamProviderService,
+					file, uploadProgressCallback));
+		}
+		catch (Exception e) {
+			logException(e, "Transmit document failed");
 
-		MultipartBody body = new MultipartBody();
-		body.addFormData("file",
-				new ByteArrayInputStream(docData.toByteArray()),
-				MediaType.MULTIPART_FORM_DATA_TYPE, docFileName);
+			synchronized (this) {
+				uploadFailed = true;
+			}
 
-		String remoteFile = streamProviderService.uploadFile(body);
+			// Failures caused by stopping the stream are not reported.
+			if (isSending() && nonNull(uploadErrorCallback)) {
+				uploadErrorCallback.accept(e);
+			}
 
-		StreamDocumentCreateAction docCreateAction = new StreamDocumentCreateAction(document);
-		docCreateAction.setDocumentFile(remoteFile);
-		docCreateAction.setDocumentChecksum(document.getUid().toString());
+			// Reject all actions chained behind the upload.
+			throw new CompletionException(e);
+		}
 
-		return docCreateAction;
+		notifyActionConsumers(action);
 	}
 }
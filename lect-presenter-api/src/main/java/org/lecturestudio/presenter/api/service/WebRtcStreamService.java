@@ -29,7 +29,6 @@ import dev.onvoid.webrtc.media.audio.AudioDevice;
 import dev.onvoid.webrtc.media.video.VideoCaptureCapability;
 import dev.onvoid.webrtc.media.video.VideoDevice;
 
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.HashMap;
@@ -269,7 +268,7 @@ public class WebRtcStreamService extends ExecutableBase {
 		janusSignalingClient.stopRemoteSpeech(context);
 	}
 
-	public void shareDocument(Document document) throws IOException {
+	public void shareDocument(Document document) {
 		if (streamState == ExecutableState.Started) {
 			eventRecorder.shareDocument(document);
 		}
@@ -393,6 +392,13 @@ public class WebRtcStreamService extends ExecutableBase {
 
 		eventRecorder.setCourse(course);
 		eventRecorder.setStreamProviderService(streamProviderService);
+		eventRecorder.setUploadErrorCallback(error -> {
+			// Clients cannot follow the presentation without the document.
+			pContext.setStreamStarted(false);
+
+			context.showError("stream.document.upload.error.title",
+					"stream.document.upload.error");
+		});
 
 		clientFailover.addExecutable(janusSignalingClient);
 		clientFailover.addExecutable(streamStateClient.getReconnectExecutable());
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.presenter.api.quiz.wordcloud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.awt.Point;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class HorizontalWordLayoutTest {
+
+	private static final int WIDTH = 576;
+
+	private static final int HEIGHT = 432;
+
+
+	@Test
+	void testPlacedWordsDoNotOverlap() {
+		LayoutConfig config = new LayoutConfig().horizontalPadding(12).verticalPadding(8);
+		HorizontalWordLayout layout = new HorizontalWordLayout(WIDTH, HEIGHT, config,
+				new TieredFontCalculator(4, 20, 48));
+
+		List<WordItem> words = createWords(60);
+		layout.layoutWords(words);
+
+		Point fallback = new Point(10, HEIGHT / 2);
+		List<Rectangle2D> placed = new ArrayList<>();
+
+		for (WordItem word : words) {
+			if (word.position.equals(fallback)) {
+				continue;
+			}
+
+			Rectangle2D bounds = new Rectangle2D.Double(word.position.x,
+					word.position.y - word.bounds.getHeight(),
+					word.bounds.getWidth(), word.bounds.getHeight());
+
+			for (Rectangle2D other : placed) {
+				assertFalse(bounds.intersects(other), word.text + " overlaps another word");
+			}
+
+			placed.add(bounds);
+		}
+
+		assertFalse(placed.isEmpty());
+	}
+
+	@Test
+	void testUpdateKeepsUnchangedWords() {
+		HorizontalWordLayout layout = new HorizontalWordLayout(WIDTH, HEIGHT);
+
+		List<WordItem> words = createWords(10);
+		layout.layoutWords(words);
+
+		Map<String, Point> positions = new HashMap<>();
+		for (WordItem word : words) {
+			positions.put(word.text, new Point(word.position));
+		}
+
+		// Same frequencies plus one new word with the lowest frequency.
+		List<WordItem> updated = createWords(10);
+		updated.add(new WordItem("new", 1));
+
+		layout.updateWords(updated);
+
+		for (WordItem word : updated) {
+			if (positions.containsKey(word.text)) {
+				assertEquals(positions.get(word.text), word.position);
+			}
+			else {
+				assertNotNull(word.bounds);
+			}
+		}
+	}
+
+	@Test
+	void testRowOccupancyFindsClosestSlot() {
+		RowOccupancy occupancy = new RowOccupancy(100);
+
+		occupancy.add(40, 10, 20, 20);
+
+		// The preferred slot is free in rows above the occupied area.
+		assertEquals(45, occupancy.findFreeX(0, 10, 10, 0, 0, 90, 45));
+		// Next to the occupied area, the left side is closer.
+		assertEquals(30, occupancy.findFreeX(10, 30, 10, 0, 0, 90, 45));
+		// Padding on both sides.
+		assertEquals(28, occupancy.findFreeX(10, 30, 10, 2, 0, 90, 45));
+		// No space left within the bounds.
+		assertEquals(RowOccupancy.NONE, occupancy.findFreeX(10, 30, 10, 0, 35, 45, 40));
+	}
+
+	private static List<WordItem> createWords(int count) {
+		List<WordItem> words = new ArrayList<>();
+
+		for (int i = 0; i < count; i++) {
+			words.add(new WordItem("word" + i, 1 + (i * 7) % 13));
+		}
+
+		return words;
+	}
+}
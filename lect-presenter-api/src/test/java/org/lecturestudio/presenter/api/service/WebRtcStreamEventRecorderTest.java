@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.presenter.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.WebApplicationException;
+
+import org.lecturestudio.web.api.client.MultipartBody;
+import org.lecturestudio.web.api.service.ServiceParameters;
+import org.lecturestudio.web.api.stream.action.StreamAction;
+import org.lecturestudio.web.api.stream.action.StreamInitAction;
+import org.lecturestudio.web.api.stream.model.Course;
+import org.lecturestudio.web.api.stream.service.StreamProviderService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WebRtcStreamEventRecorderTest extends ServiceTest {
+
+	private final List<StreamAction> actions = new CopyOnWriteArrayList<>();
+
+	private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger uploads = new AtomicInteger();
+
+	private WebRtcStreamEventRecorder recorder;
+
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ServiceParameters parameters = new ServiceParameters();
+		parameters.setUrl("http://localhost");
+
+		recorder = new WebRtcStreamEventRecorder(documentService);
+		recorder.setCourse(new Course() {
+
+			@Override
+			public Long getId() {
+				return 1L;
+			}
+		});
+		recorder.setStreamProviderService(new FailingStreamProviderService(parameters));
+		recorder.addRecordedActionConsumer(actions::add);
+		recorder.init();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		recorder.destroy();
+	}
+
+	@Test
+	void testFailedUpload() throws Exception {
+		CountDownLatch failed = new CountDownLatch(1);
+		CountDownLatch failedAgain = new CountDownLatch(2);
+
+		recorder.setUploadErrorCallback(error -> {
+			errors.add(error);
+
+			failed.countDown();
+			failedAgain.countDown();
+		});
+		recorder.start();
+
+		assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+		// The document uploads are serialized, so once the next state fails to
+		// upload, all actions queued behind the first upload have been handled.
+		recorder.resendState();
+
+		assertTrue(failedAgain.await(10, TimeUnit.SECONDS));
+
+		// Neither the second document nor the selection have been sent.
+		assertEquals(2, uploads.get());
+		assertEquals(2, actions.size());
+
+		for (StreamAction action : actions) {
+			assertTrue(action instanceof StreamInitAction);
+		}
+		for (Throwable error : errors) {
+			assertTrue(error instanceof WebApplicationException);
+		}
+	}
+
+
+
+	private class FailingStreamProviderService extends StreamProviderService {
+
+		FailingStreamProviderService(ServiceParameters parameters) {
+			super(parameters, () -> null);
+		}
+
+		@Override
+		public String findUploadedFile(String checksum) {
+			return null;
+		}
+
+		@Override
+		public String uploadFile(MultipartBody data) {
+			uploads.incrementAndGet();
+
+			throw new WebApplicationException(503);
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.lecturestudio.core.app.configuration.Configuration;
 import org.lecturestudio.core.inject.GuiceInjector;
 import org.lecturestudio.core.inject.Injector;
 import org.lecturestudio.presenter.swing.inject.guice.ConfigurationModule;
+import org.lecturestudio.swing.app.JavaFxToolkit;
 import org.lecturestudio.swing.app.LectSwingPreloader;
 import org.lecturestudio.swing.app.SwingApplication;
 
@@ -51,12 +52,9 @@ public class PresenterApplication extends SwingApplication {
 
 	@Override
 	protected void initInternal(String[] args) throws ExecutableException {
-		// JavaFX should be initialized prior to the app itself,
-		// e.g.,by creating a fake JFXPanel instance.
-		javafx.embed.swing.JFXPanel dummy = new javafx.embed.swing.JFXPanel();
-
-		// Ensure that the JavaFX platform keeps running.
-		javafx.application.Platform.setImplicitExit(false);
+		// JavaFX is only required by the file choosers. Start it in parallel
+		// to the app itself, the choosers wait until it is running.
+		JavaFxToolkit.startAsync();
 
 		super.initInternal(args);
 	}
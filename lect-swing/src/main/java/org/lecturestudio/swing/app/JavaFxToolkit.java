@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.swing.app;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.embed.swing.JFXPanel;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
+
+/**
+ * Starts the JavaFX toolkit for Swing applications that embed JavaFX
+ * components, e.g. the native file choosers. Starting the toolkit takes a
+ * considerable amount of time and is therefore done in the background, off the
+ * startup path of the application. Code that requires JavaFX waits until the
+ * toolkit is running.
+ *
+ * @author Alex Andres
+ */
+public final class JavaFxToolkit {
+
+	private static final Logger LOG = LogManager.getLogger(JavaFxToolkit.class);
+
+	private static final AtomicBoolean STARTING = new AtomicBoolean();
+
+	private static final CountDownLatch STARTED = new CountDownLatch(1);
+
+
+	private JavaFxToolkit() {
+	}
+
+	/**
+	 * Starts the JavaFX toolkit in a background thread. Subsequent calls have
+	 * no effect.
+	 */
+	public static void startAsync() {
+		if (!STARTING.compareAndSet(false, true)) {
+			return;
+		}
+
+		Thread thread = ExecutionService.newThread(ExecutionPool.RENDER, "JavaFX-Toolkit-Startup", () -> {
+			try {
+				// Creating a JFXPanel instance initializes the toolkit for the
+				// use within Swing and blocks until it is running.
+				new JFXPanel();
+
+				// Ensure that the JavaFX platform keeps running.
+				Platform.setImplicitExit(false);
+			}
+			catch (Throwable e) {
+				LOG.error("Start JavaFX toolkit failed", e);
+			}
+			finally {
+				STARTED.countDown();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Waits until the JavaFX toolkit is running. Starts the toolkit if this has
+	 * not been done yet.
+	 */
+	public static void awaitStarted() {
+		startAsync();
+
+		try {
+			STARTED.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
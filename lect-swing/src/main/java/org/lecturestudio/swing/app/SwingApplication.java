@@ -36,6 +36,7 @@ import org.lecturestudio.core.app.ApplicationBase;
 import org.lecturestudio.core.app.ApplicationContext;
 import org.lecturestudio.core.app.ApplicationFactory;
 import org.lecturestudio.core.app.GraphicalApplication;
+import org.lecturestudio.core.app.StartupTimeline;
 import org.lecturestudio.core.app.configuration.Configuration;
 import org.lecturestudio.core.app.view.Screens;
 import org.lecturestudio.core.presenter.MainPresenter;
@@ -63,8 +64,12 @@ public abstract class SwingApplication extends ApplicationBase implements Graphi
 			appContext = appFactory.getApplicationContext();
 			requireNonNull(appContext, "Application context must not be null");
 
+			StartupTimeline.mark("context");
+
 			mainPresenter = appFactory.getStartPresenter();
 			requireNonNull(mainPresenter, "Start presenter was not initialized");
+
+			StartupTimeline.mark("presenter");
 		}
 		catch (Exception e) {
 			throw new ExecutableException(e);
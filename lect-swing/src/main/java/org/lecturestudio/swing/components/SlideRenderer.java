@@ -27,11 +27,14 @@ import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.lecturestudio.core.app.configuration.WhiteboardConfiguration;
 import org.lecturestudio.core.controller.RenderController;
 import org.lecturestudio.core.geometry.Dimension2D;
+import org.lecturestudio.core.geometry.Rectangle2D;
+import org.lecturestudio.core.model.listener.ShapeChangeListener;
 import org.lecturestudio.core.model.Page;
 import org.lecturestudio.core.model.shape.GridShape;
 import org.lecturestudio.core.model.shape.Shape;
@@ -59,6 +62,25 @@ public class SlideRenderer {
 	private BufferedImage bufferImage;
 	private Graphics2D bufferg2d;
 
+	/**
+	 * The page image with all completed shapes flattened into it. Only the
+	 * most recent shape, which may still be in progress, is drawn live.
+	 */
+	private BufferedImage layerImage;
+
+	/** The shapes flattened into the layer image, in paint order. */
+	private final List<Shape> layerShapes = new ArrayList<>();
+
+	/** Invalidates the layer image once a flattened shape has changed. */
+	private final ShapeChangeListener layerListener = (shape, dirtyArea) -> invalidateLayer();
+
+	/** The view rect of the page the layer image has been rendered with. */
+	private Rectangle2D layerViewRect;
+
+	private boolean layerGrid;
+
+	private volatile boolean layerValid;
+
 	private AffineTransform deviceTransform;
 
 	private RenderController renderController;
@@ -87,10 +109,14 @@ public class SlideRenderer {
 
 	public void setPage(Page page) {
 		this.page = page;
+
+		invalidateLayer();
 	}
 
 	public void setPresentationParameter(PresentationParameter parameter) {
 		this.pParameter = parameter;
+
+		invalidateLayer();
 	}
 
 	public synchronized void renderPage() {
@@ -125,9 +151,12 @@ public class SlideRenderer {
 		frontImage = createImage(frontImage, size);
 		currentImage = createImage(currentImage, size);
 		bufferImage = createImage(bufferImage, size);
+		layerImage = createImage(layerImage, size);
 
 		bufferg2d = createGraphics(bufferg2d, bufferImage);
 
+		invalidateLayer();
+
 		Graphics2D g2d = frontImage.createGraphics();
 		g2d.drawImage(backImage, 0, 0, null);
 		g2d.dispose();
@@ -170,26 +199,109 @@ public class SlideRenderer {
 			return;
 		}
 
-		if (parameter.showGrid()) {
-			WhiteboardConfiguration wbConfig = parameter.getWhiteboardConfig();
+		// All shapes except the most recent one are considered as completed.
+		int completed = Math.max(shapes.size() - 1, 0);
 
-			GridShape gridShape = new GridShape();
-			gridShape.setViewRatio(new Dimension2D(4.0, 3.0));
-			gridShape.setColor(wbConfig.getGridColor());
-			gridShape.setHorizontalLinesInterval(wbConfig.getHorizontalLinesInterval());
-			gridShape.setHorizontalLinesVisible(wbConfig.getHorizontalLinesVisible());
-			gridShape.setVerticalLinesInterval(wbConfig.getVerticalLinesInterval());
-			gridShape.setVerticalLinesVisible(wbConfig.getVerticalLinesVisible());
+		updateLayer(shapes.subList(0, completed), parameter);
 
-			shapes.add(0, gridShape);
+		Graphics2D g2d = frontImage.createGraphics();
+		g2d.drawImage(layerImage, 0, 0, null);
+		drawShapes(g2d, shapes.subList(completed, shapes.size()));
+		g2d.dispose();
+		
+		g.drawImage(frontImage, 0, 0, null);
+	}
+
+	/**
+	 * Brings the layer image up to date with the specified completed shapes.
+	 * Shapes that have been appended since the last update are drawn on top of
+	 * the layer. Any other modification, e.g. removed or changed shapes,
+	 * results in rendering the layer from scratch.
+	 */
+	private void updateLayer(List<Shape> shapes, PresentationParameter parameter) {
+		boolean showGrid = parameter.showGrid();
+		Rectangle2D viewRect = parameter.getViewRect();
+
+		if (layerValid && layerGrid == showGrid && viewRect.equals(layerViewRect)
+				&& isLayerPrefix(shapes)) {
+			if (shapes.size() > layerShapes.size()) {
+				List<Shape> appended = shapes.subList(layerShapes.size(), shapes.size());
+
+				Graphics2D g2d = layerImage.createGraphics();
+				drawShapes(g2d, appended);
+				g2d.dispose();
+
+				addLayerShapes(appended);
+			}
+			return;
 		}
 
-		Graphics2D g2d = frontImage.createGraphics();
+		clearLayerShapes();
+
+		// Changes during rendering must invalidate the new layer.
+		layerValid = true;
+		layerGrid = showGrid;
+		layerViewRect = viewRect.clone();
+
+		Graphics2D g2d = layerImage.createGraphics();
 		g2d.drawImage(backImage, 0, 0, null);
+
+		if (showGrid) {
+			drawShapes(g2d, List.of(createGridShape(parameter)));
+		}
+
 		drawShapes(g2d, shapes);
 		g2d.dispose();
-		
-		g.drawImage(frontImage, 0, 0, null);
+
+		addLayerShapes(shapes);
+	}
+
+	private boolean isLayerPrefix(List<Shape> shapes) {
+		if (shapes.size() < layerShapes.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < layerShapes.size(); i++) {
+			if (shapes.get(i) != layerShapes.get(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void addLayerShapes(List<Shape> shapes) {
+		for (Shape shape : shapes) {
+			shape.addShapeChangedListener(layerListener);
+
+			layerShapes.add(shape);
+		}
+	}
+
+	private void clearLayerShapes() {
+		for (Shape shape : layerShapes) {
+			shape.removeShapeChangedListener(layerListener);
+		}
+
+		layerShapes.clear();
+	}
+
+	private void invalidateLayer() {
+		layerValid = false;
+	}
+
+	private GridShape createGridShape(PresentationParameter parameter) {
+		WhiteboardConfiguration wbConfig = parameter.getWhiteboardConfig();
+
+		GridShape gridShape = new GridShape();
+		gridShape.setViewRatio(new Dimension2D(4.0, 3.0));
+		gridShape.setColor(wbConfig.getGridColor());
+		gridShape.setHorizontalLinesInterval(wbConfig.getHorizontalLinesInterval());
+		gridShape.setHorizontalLinesVisible(wbConfig.getHorizontalLinesVisible());
+		gridShape.setVerticalLinesInterval(wbConfig.getVerticalLinesInterval());
+		gridShape.setVerticalLinesVisible(wbConfig.getVerticalLinesVisible());
+
+		return gridShape;
 	}
 
 	void resizeBuffer(Dimension2D size) {
@@ -208,12 +320,15 @@ public class SlideRenderer {
 			frontImage = createImage(frontImage, newSize);
 			currentImage = createImage(currentImage, newSize);
 			bufferImage = createImage(bufferImage, newSize);
+			layerImage = createImage(layerImage, newSize);
 
 			bufferg2d = createGraphics(bufferg2d, bufferImage);
+
+			invalidateLayer();
 		}
 	}
 
-	public void dispose() {
+	public synchronized void dispose() {
 		if (backImage != null) {
 			backImage.flush();
 			backImage = null;
@@ -226,6 +341,10 @@ public class SlideRenderer {
 			currentImage.flush();
 			currentImage = null;
 		}
+		if (layerImage != null) {
+			layerImage.flush();
+			layerImage = null;
+		}
 		if (bufferImage != null) {
 			bufferImage.flush();
 			bufferImage = null;
@@ -233,6 +352,9 @@ public class SlideRenderer {
 		if (bufferg2d != null) {
 			bufferg2d.dispose();
 		}
+
+		clearLayerShapes();
+		invalidateLayer();
 	}
 	
 	private BufferedImage createImage(BufferedImage reference, Dimension size) {
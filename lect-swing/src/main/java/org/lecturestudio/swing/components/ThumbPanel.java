@@ -88,6 +88,13 @@ public class ThumbPanel extends JPanel {
 				onPageAdded(page);
 			});
 		}
+
+		@Override
+		public void pageChanged(final Page page) {
+			SwingUtilities.invokeLater(() -> {
+				onPageChanged(page);
+			});
+		}
 	};
 
 	private final JScrollPane scrollPane;
@@ -386,6 +393,14 @@ public class ThumbPanel extends JPanel {
 		SwingUtilities.invokeLater(this::resizeContent);
 	}
 
+	private void onPageChanged(Page page) {
+		int index = getModel().indexOf(page);
+
+		if (index > -1) {
+			list.repaint(list.getCellBounds(index, index));
+		}
+	}
+
 	private DefaultListModel<Page> getModel() {
 		return (DefaultListModel<Page>) list.getModel();
 	}
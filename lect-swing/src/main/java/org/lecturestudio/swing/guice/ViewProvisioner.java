@@ -30,6 +30,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,7 @@ import org.lecturestudio.core.presenter.Presenter;
 import org.lecturestudio.core.util.AggregateBundle;
 import org.lecturestudio.swing.swixml.ViewFactory;
 import org.lecturestudio.swing.swixml.ViewLoader;
+import org.lecturestudio.swing.swixml.ViewTemplates;
 import org.lecturestudio.swing.view.SwingView;
 import org.lecturestudio.swing.view.ViewPostConstruct;
 
@@ -54,6 +56,43 @@ public class ViewProvisioner implements ProvisionListener {
 
 	private static final String VIEW_RESOURCES = "/resources/views/";
 
+	/** The {@link ViewPostConstruct} methods of each view class. */
+	private static final ClassValue<List<Method>> POST_CONSTRUCT_METHODS = new ClassValue<>() {
+
+		@Override
+		protected List<Method> computeValue(Class<?> type) {
+			return Arrays.stream(type.getDeclaredMethods())
+					.filter(method -> method.isAnnotationPresent(ViewPostConstruct.class)
+							&& method.getParameterCount() == 0)
+					.peek(method -> method.setAccessible(true))
+					.toList();
+		}
+	};
+
+	/** The injectable constructors of each presenter class. */
+	private static final ClassValue<List<Constructor<?>>> INJECT_CONSTRUCTORS = new ClassValue<>() {
+
+		@Override
+		protected List<Constructor<?>> computeValue(Class<?> type) {
+			return Arrays.stream(type.getDeclaredConstructors())
+					.filter(ctor -> ctor.isAnnotationPresent(Inject.class))
+					.peek(ctor -> ctor.setAccessible(true))
+					.toList();
+		}
+	};
+
+	/** The injectable fields of each presenter class. */
+	private static final ClassValue<List<Field>> INJECT_FIELDS = new ClassValue<>() {
+
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			return Arrays.stream(type.getDeclaredFields())
+					.filter(field -> field.isAnnotationPresent(Inject.class))
+					.peek(field -> field.setAccessible(true))
+					.toList();
+		}
+	};
+
 	private final Provider<Injector> injectorProvider;
 
 	private final Provider<AggregateBundle> resourceProvider;
@@ -137,14 +176,11 @@ public class ViewProvisioner implements ProvisionListener {
 		}
 
 		try {
-			viewLoader.render(xmlUrl);
+			// Render a copy of the once parsed view description.
+			viewLoader.render(ViewTemplates.get(xmlUrl));
 
-			for (Method method : view.getClass().getDeclaredMethods()) {
-				if (method.isAnnotationPresent(ViewPostConstruct.class) &&
-					method.getParameterCount() == 0) {
-					method.setAccessible(true);
-					method.invoke(view);
-				}
+			for (Method method : POST_CONSTRUCT_METHODS.get(view.getClass())) {
+				method.invoke(view);
 			}
 		}
 		catch (Exception e) {
@@ -160,36 +196,29 @@ public class ViewProvisioner implements ProvisionListener {
 		Injector injector = injectorProvider.get();
 		List<?> interfaces = List.of(view.getClass().getInterfaces());
 
-		for (Constructor<?> ctor : presenterClass.getDeclaredConstructors()) {
-			if (ctor.isAnnotationPresent(Inject.class)) {
-				List<Object> params = new ArrayList<>();
-
-				for (Class<?> paramCls : ctor.getParameterTypes()) {
-					if (interfaces.contains(paramCls)) {
-						params.add(view);
-					}
-					else {
-						params.add(injector.getInstance(paramCls));
-					}
-				}
-
-				try {
-					ctor.setAccessible(true);
+		for (Constructor<?> ctor : INJECT_CONSTRUCTORS.get(presenterClass)) {
+			List<Object> params = new ArrayList<>();
 
-					Presenter<?> presenter = (Presenter<?>) ctor.newInstance(params.toArray());
+			for (Class<?> paramCls : ctor.getParameterTypes()) {
+				if (interfaces.contains(paramCls)) {
+					params.add(view);
+				}
+				else {
+					params.add(injector.getInstance(paramCls));
+				}
+			}
 
-					for (Field field : presenterClass.getDeclaredFields()) {
-						if (field.isAnnotationPresent(Inject.class)) {
-							field.setAccessible(true);
-							field.set(presenter, injector.getInstance(field.getType()));
-						}
-					}
+			try {
+				Presenter<?> presenter = (Presenter<?>) ctor.newInstance(params.toArray());
 
-					presenter.initialize();
-				}
-				catch (Exception e) {
-					LOG.error("Initialize view-presenter failed", e);
+				for (Field field : INJECT_FIELDS.get(presenterClass)) {
+					field.set(presenter, injector.getInstance(field.getType()));
 				}
+
+				presenter.initialize();
+			}
+			catch (Exception e) {
+				LOG.error("Initialize view-presenter failed", e);
 			}
 		}
 	}
@@ -25,12 +25,16 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.lecturestudio.core.geometry.PathFactory;
 import org.lecturestudio.core.geometry.PenPoint2D;
 import org.lecturestudio.core.geometry.PenStroker;
 import org.lecturestudio.core.graphics.StrokeLineCap;
+import org.lecturestudio.core.model.listener.ShapeChangeListener;
 import org.lecturestudio.core.model.shape.StrokeShape;
 import org.lecturestudio.core.tool.Stroke;
 import org.lecturestudio.core.model.shape.Shape;
@@ -49,6 +53,16 @@ public class StrokeRenderer extends BaseRenderer {
 
 	private static final OperationComposite MULTIPLY_COMPOSITE = new OperationComposite(new MultiplyOperation());
 
+	/**
+	 * The highlighter outlines of the rendered shapes. The outlines are
+	 * independent of the view scale and are only rebuilt after the shape has
+	 * changed.
+	 */
+	private final Map<Shape, HighlighterPath> highlighterPaths = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/** Removes the cached outline of a shape once it has changed. */
+	private final ShapeChangeListener shapeListener = (shape, dirtyArea) -> highlighterPaths.remove(shape);
+
 
 	@Override
 	public Class<? extends Shape> forClass() {
@@ -67,25 +81,16 @@ public class StrokeRenderer extends BaseRenderer {
 		boolean isSelected = shape.isSelected();
 		boolean isOpaque = stroke.getColor().getOpacity() == 255;
 
-		// Copy points for synchronized rendering.
-		List<PenPoint2D> shapePoints = shape.getPoints();
-		List<PenPoint2D> points = new ArrayList<>();
-
-		synchronized (shapePoints) {
-			for (PenPoint2D point : shapePoints) {
-				points.add(point.clone());
-			}
-		}
-
 		if (isOpaque) {
-			drawPen(stroke, pShape.getPenStroker(), points, isSelected, context);
+			drawPen(stroke, pShape, isSelected, context);
 		}
 		else {
-			drawHighlighter(stroke, points, isSelected, context);
+			drawHighlighter(stroke, pShape, isSelected, context);
 		}
 	}
 
-	private void drawPen(Stroke stroke, PenStroker stroker, List<PenPoint2D> points, boolean isSelected, Graphics2D context) {
+	private void drawPen(Stroke stroke, StrokeShape shape, boolean isSelected, Graphics2D context) {
+		PenStroker stroker = shape.getPenStroker();
 		Color color = ColorConverter.INSTANCE.to(stroke.getColor());
 		Path2D path = stroker.getStrokePath();
 
@@ -94,6 +99,7 @@ public class StrokeRenderer extends BaseRenderer {
 
 		// Focus
 		if (isSelected) {
+			List<PenPoint2D> points = copyPoints(shape);
 			double penWidth = stroke.getWidth() * 0.75;
 			path = PathFactory.createPenPath(points, penWidth);
 
@@ -103,7 +109,7 @@ public class StrokeRenderer extends BaseRenderer {
 		}
 	}
 
-	private void drawHighlighter(Stroke pen, List<PenPoint2D> points, boolean isSelected, Graphics2D context) {
+	private void drawHighlighter(Stroke pen, StrokeShape shape, boolean isSelected, Graphics2D context) {
 		StrokeLineCap lineCap = pen.getStrokeLineCap();
 		java.awt.Stroke stroke = new BasicStroke((float) pen.getWidth(), lineCap.ordinal(), BasicStroke.JOIN_ROUND);
 		Color color = ColorConverter.INSTANCE.to(pen.getColor());
@@ -115,7 +121,7 @@ public class StrokeRenderer extends BaseRenderer {
 		// This should make the line look smoother.
 		context.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE);
 
-		Path2D path = PathFactory.createHighlighterPath(points, pen.getWidth());
+		Path2D path = getHighlighterPath(shape, pen.getWidth());
 
 		Composite oldComposite = context.getComposite();
 
@@ -127,7 +133,7 @@ public class StrokeRenderer extends BaseRenderer {
 		if (isSelected) {
 			double penWidth = pen.getWidth() * 0.75;
 
-			path = PathFactory.createHighlighterPath(points, penWidth);
+			path = PathFactory.createHighlighterPath(copyPoints(shape), penWidth);
 
 			context.setComposite(oldComposite);
 			context.setColor(FOCUS_COLOR);
@@ -136,4 +142,44 @@ public class StrokeRenderer extends BaseRenderer {
 		}
 	}
 
+	private Path2D getHighlighterPath(StrokeShape shape, double width) {
+		HighlighterPath cached = highlighterPaths.get(shape);
+		int pointCount = shape.getPoints().size();
+
+		if (cached != null && cached.width() == width && cached.pointCount() == pointCount) {
+			return cached.path();
+		}
+
+		List<PenPoint2D> points = copyPoints(shape);
+		Path2D path = PathFactory.createHighlighterPath(points, width);
+
+		shape.addShapeChangedListener(shapeListener);
+
+		highlighterPaths.put(shape, new HighlighterPath(path, width, points.size()));
+
+		return path;
+	}
+
+	/**
+	 * Copy points for synchronized rendering.
+	 */
+	private static List<PenPoint2D> copyPoints(Shape shape) {
+		List<PenPoint2D> shapePoints = shape.getPoints();
+		List<PenPoint2D> points;
+
+		synchronized (shapePoints) {
+			points = new ArrayList<>(shapePoints.size());
+
+			for (PenPoint2D point : shapePoints) {
+				points.add(point.clone());
+			}
+		}
+
+		return points;
+	}
+
+
+	private record HighlighterPath(Path2D path, double width, int pointCount) {
+
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.swing.swixml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+/**
+ * Cache of parsed view descriptions. Each view XML file is parsed only once,
+ * when the first view instance is created. Subsequent instances are rendered
+ * from a copy of the cached document, which avoids repeated resource loading
+ * and XML parsing. The XML files remain the single source of the views.
+ * <p>
+ * The documents are copied since the Swixml parser modifies the document
+ * while rendering, e.g. when resolving includes.
+ *
+ * @author Alex Andres
+ */
+public final class ViewTemplates {
+
+	private static final Map<String, Document> TEMPLATES = new ConcurrentHashMap<>();
+
+
+	private ViewTemplates() {
+	}
+
+	/**
+	 * Returns a copy of the parsed view description located at the specified
+	 * URL. The document is parsed on the first request.
+	 *
+	 * @param url The URL of the view XML file.
+	 *
+	 * @return a document that may be modified by the caller.
+	 *
+	 * @throws IOException If the view description cannot be read or parsed.
+	 */
+	public static Document get(URL url) throws IOException {
+		Document template = TEMPLATES.get(url.toExternalForm());
+
+		if (template == null) {
+			template = parse(url);
+
+			Document previous = TEMPLATES.putIfAbsent(url.toExternalForm(), template);
+
+			if (previous != null) {
+				template = previous;
+			}
+		}
+
+		// DOM implementations are not thread-safe, not even for read access.
+		synchronized (template) {
+			return (Document) template.cloneNode(true);
+		}
+	}
+
+	private static Document parse(URL url) throws IOException {
+		try (InputStream stream = url.openStream()) {
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			DocumentBuilder builder = factory.newDocumentBuilder();
+
+			return builder.parse(stream, url.toExternalForm());
+		}
+		catch (ParserConfigurationException | SAXException e) {
+			throw new IOException("Parse view " + url + " failed", e);
+		}
+	}
+}
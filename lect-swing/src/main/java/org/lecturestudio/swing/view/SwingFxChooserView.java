@@ -38,6 +38,7 @@ import javafx.stage.StageStyle;
 import javax.swing.*;
 
 import org.lecturestudio.core.view.View;
+import org.lecturestudio.swing.app.JavaFxToolkit;
 
 public abstract class SwingFxChooserView {
 
@@ -125,6 +126,9 @@ public abstract class SwingFxChooserView {
 
 		RunnableFuture<File> chooserRunnable = new ChooserRunnable(parent, type);
 
+		// The toolkit is started in the background during the application startup.
+		JavaFxToolkit.awaitStarted();
+
 		try {
 			Platform.runLater(chooserRunnable);
 
@@ -22,14 +22,14 @@ import static java.util.Objects.nonNull;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.lecturestudio.core.Executable;
 import org.lecturestudio.core.ExecutableBase;
 import org.lecturestudio.core.ExecutableException;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 
 /**
  * Client connection failover handler.
@@ -40,8 +40,6 @@ public class ClientFailover extends ExecutableBase {
 
 	private static final int DELAY_S = 10;
 
-	private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
 	private final List<Executable> executables = new CopyOnWriteArrayList<>();
 
 	private ScheduledFuture<?> future;
@@ -62,7 +60,7 @@ public class ClientFailover extends ExecutableBase {
 
 	@Override
 	protected void startInternal() throws ExecutableException {
-		scheduler.execute(() -> {
+		ExecutionService.getExecutor(ExecutionPool.BULK_IO).execute(() -> {
 			// Stop components to start from a clean state again.
 			for (Executable executable : executables) {
 				if (!executable.started()) {
@@ -77,8 +75,8 @@ public class ClientFailover extends ExecutableBase {
 				}
 			}
 
-			future = scheduler.scheduleWithFixedDelay(this::runTasks, DELAY_S,
-					DELAY_S, TimeUnit.SECONDS);
+			future = ExecutionService.scheduleWithFixedDelay(ExecutionPool.BULK_IO,
+					this::runTasks, DELAY_S, DELAY_S, TimeUnit.SECONDS);
 		});
 	}
 
@@ -26,14 +26,14 @@ import java.math.BigInteger;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.lecturestudio.core.ExecutableException;
 import org.lecturestudio.core.ExecutableState;
+import org.lecturestudio.core.concurrent.ExecutionPool;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.core.net.MediaType;
 import org.lecturestudio.web.api.event.PeerStateEvent;
 import org.lecturestudio.web.api.janus.JanusHandlerException.Type;
@@ -61,9 +61,6 @@ public class JanusHandler extends JanusStateHandler {
 	/** Records stream events for later playback. */
 	private final StreamEventRecorder eventRecorder;
 
-	/** Executor for scheduling periodic tasks like keep-alive messages. */
-	private ScheduledExecutorService executorService;
-
 	/** Future representing the scheduled keep-alive task. */
 	private ScheduledFuture<?> timeoutFuture;
 
@@ -200,8 +197,8 @@ public class JanusHandler extends JanusStateHandler {
 		// Trigger periodic keep-alive messages with half the session timeout.
 		long period = info.getSessionTimeout() / 2;
 
-		timeoutFuture = executorService.scheduleAtFixedRate(this::sendKeepAliveMessage, period,
-				period, TimeUnit.SECONDS);
+		timeoutFuture = ExecutionService.scheduleAtFixedRate(ExecutionPool.BULK_IO,
+				this::sendKeepAliveMessage, period, period, TimeUnit.SECONDS);
 	}
 
 	@Override
@@ -214,7 +211,6 @@ public class JanusHandler extends JanusStateHandler {
 
 	@Override
 	protected void initInternal() throws ExecutableException {
-		executorService = Executors.newSingleThreadScheduledExecutor();
 		messageHandlers = new HashMap<>();
 		speechPublishers = new ConcurrentHashMap<>();
 		participants = new ConcurrentHashMap<>();
@@ -249,7 +245,6 @@ public class JanusHandler extends JanusStateHandler {
 		if (nonNull(timeoutFuture) && !timeoutFuture.isCancelled()) {
 			timeoutFuture.cancel(true);
 		}
-		executorService.shutdownNow();
 	}
 
 	@Override
@@ -18,21 +18,51 @@
 
 package org.lecturestudio.web.api.model.quiz;
 
+import static java.util.Objects.isNull;
+
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lecturestudio.core.util.IOUtils;
 
 /**
  * Represents the result of a quiz, containing the quiz itself and the collected answers.
  * This class handles the validation and storage of quiz answers submitted by participants.
+ * <p>
+ * Answers may be added concurrently while the result is being read. All
+ * counters are {@link LongAdder}s in concurrent maps, so adding an answer
+ * never blocks. Besides the answer counts, the number of selections of each
+ * option and the word frequencies of free-text answers are maintained
+ * incrementally, so rendering a result does not need to walk all answers.
+ * Use {@link #snapshot()} to obtain a stable copy for rendering.
  *
  * @author Alex Andres
  */
 public class QuizResult {
 
+	/** The maximum length of a word counted in free-text answers. */
+	private static final int MAX_WORD_LENGTH = 32;
+
 	/** The quiz associated with these results. */
 	private final Quiz quiz;
 
 	/** Map of quiz answers to their counts, representing how many participants chose each answer. */
-	private final TreeMap<QuizAnswer, Integer> result;
+	private final ConcurrentSkipListMap<QuizAnswer, LongAdder> result;
+
+	/** Map of options to the number of answers which selected them. */
+	private final ConcurrentHashMap<String, LongAdder> optionCounts;
+
+	/** Map of lower-case words to their frequencies in free-text answers. */
+	private final ConcurrentHashMap<String, WordCount> wordCounts;
+
+	/** The number of answers without any selected option. */
+	private final LongAdder emptyAnswerCount;
+
+	/** The total number of accepted answers. */
+	private final LongAdder answerCount;
 
 
 	/**
@@ -42,12 +72,17 @@ public class QuizResult {
 	 */
 	public QuizResult(final Quiz quiz) {
 		this.quiz = quiz;
-		this.result = new TreeMap<>();
+		this.result = new ConcurrentSkipListMap<>();
+		this.optionCounts = new ConcurrentHashMap<>();
+		this.wordCounts = new ConcurrentHashMap<>();
+		this.emptyAnswerCount = new LongAdder();
+		this.answerCount = new LongAdder();
 	}
 
 	/**
 	 * Adds a quiz answer to the results if it's valid.
 	 * Increments the count for the answer if it already exists.
+	 * This method is thread-safe.
 	 *
 	 * @param answer The quiz answer to add.
 	 *
@@ -59,11 +94,52 @@ public class QuizResult {
 			return false;
 		}
 
-		result.merge(answer, 1, Integer::sum);
+		getCounter(result, answer).increment();
+
+		String[] options = answer.getOptions();
+
+		if (options.length == 0) {
+			emptyAnswerCount.increment();
+		}
+		else if (quiz.getType() == Quiz.QuizType.FREE_TEXT) {
+			for (String option : options) {
+				addWord(option);
+			}
+		}
+		else {
+			for (String option : options) {
+				getCounter(optionCounts, option).increment();
+			}
+		}
+
+		answerCount.increment();
 
 		return true;
 	}
-	
+
+	/**
+	 * Creates a copy of this result which is not affected by answers added
+	 * afterwards. Each counter is copied atomically, but answers added while
+	 * the copy is taken may only be contained in some of the counters.
+	 *
+	 * @return a copy of this result.
+	 */
+	public QuizResult snapshot() {
+		QuizResult copy = new QuizResult(quiz);
+
+		result.forEach((answer, count) -> copy.result.put(answer, copyCounter(count)));
+		optionCounts.forEach((option, count) -> copy.optionCounts.put(option, copyCounter(count)));
+		wordCounts.forEach((key, word) -> copy.wordCounts.put(key, word.copy()));
+
+		copy.emptyAnswerCount.add(emptyAnswerCount.sum());
+
+		for (LongAdder count : copy.result.values()) {
+			copy.answerCount.add(count.sum());
+		}
+
+		return copy;
+	}
+
 	/**
 	 * Gets the quiz associated with these results.
 	 *
@@ -72,14 +148,67 @@ public class QuizResult {
 	public Quiz getQuiz() {
 		return quiz;
 	}
-	
+
+	/**
+	 * Gets the total number of accepted answers.
+	 *
+	 * @return The number of answers.
+	 */
+	public long getAnswerCount() {
+		return answerCount.sum();
+	}
+
 	/**
-	 * Gets the map of quiz answers to their counts.
+	 * Gets the map of quiz answers to their counts. The returned map is an
+	 * unmodifiable copy, sorted by {@link QuizAnswer#compareTo(QuizAnswer)}.
 	 *
 	 * @return Map of quiz answers to the number of times each was submitted.
 	 */
 	public Map<QuizAnswer, Integer> getResult() {
-		return result;
+		Map<QuizAnswer, Integer> map = new LinkedHashMap<>();
+
+		result.forEach((answer, count) -> map.put(answer, count.intValue()));
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Gets the number of answers which selected an option, for each selected
+	 * option. Free-text answers are not counted, see
+	 * {@link #getWordFrequencies()}.
+	 *
+	 * @return Map of options to the number of answers which selected them.
+	 */
+	public Map<String, Integer> getOptionCounts() {
+		Map<String, Integer> map = new HashMap<>();
+
+		optionCounts.forEach((option, count) -> map.put(option, count.intValue()));
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Gets the number of answers without any selected option.
+	 *
+	 * @return The number of empty answers.
+	 */
+	public int getEmptyAnswerCount() {
+		return emptyAnswerCount.intValue();
+	}
+
+	/**
+	 * Gets the frequencies of the words in free-text answers. Words are
+	 * grouped case-insensitively and shortened to a maximum length. Each word
+	 * is represented by its first capitalized variant, if any.
+	 *
+	 * @return Map of words to their frequencies.
+	 */
+	public Map<String, Integer> getWordFrequencies() {
+		Map<String, Integer> map = new HashMap<>();
+
+		wordCounts.forEach((key, word) -> map.put(word.display.get(), word.count.intValue()));
+
+		return Collections.unmodifiableMap(map);
 	}
 	
 	/**
@@ -239,9 +368,78 @@ public class QuizResult {
 		}
 	}
 
+	private void addWord(String option) {
+		if (isNull(option) || option.isBlank()) {
+			return;
+		}
+
+		// Shorten to a maximum length for consistent grouping and rendering.
+		String word = IOUtils.shortenString(option.trim(), MAX_WORD_LENGTH);
+		String key = word.toLowerCase();
+
+		WordCount wordCount = wordCounts.get(key);
+
+		if (isNull(wordCount)) {
+			wordCount = wordCounts.computeIfAbsent(key, k -> new WordCount(word));
+		}
+
+		wordCount.add(word);
+	}
+
+	private static <K> LongAdder getCounter(Map<K, LongAdder> map, K key) {
+		// Avoid the allocation of the mapping function for existing counters.
+		LongAdder counter = map.get(key);
+
+		if (isNull(counter)) {
+			counter = map.computeIfAbsent(key, k -> new LongAdder());
+		}
+
+		return counter;
+	}
+
+	private static LongAdder copyCounter(LongAdder counter) {
+		LongAdder copy = new LongAdder();
+		copy.add(counter.sum());
+
+		return copy;
+	}
+
 	private static boolean startsWithUppercase(String s) {
 		if (s == null || s.isEmpty()) return false;
 		char ch = s.charAt(0);
 		return Character.isLetter(ch) && Character.isUpperCase(ch);
 	}
+
+
+	/**
+	 * The frequency of a word in free-text answers together with the text
+	 * used to display the word.
+	 */
+	private static class WordCount {
+
+		private final LongAdder count = new LongAdder();
+
+		private final AtomicReference<String> display;
+
+
+		WordCount(String display) {
+			this.display = new AtomicReference<>(display);
+		}
+
+		void add(String word) {
+			count.increment();
+
+			// Prefer a variant starting with a capital letter.
+			if (startsWithUppercase(word)) {
+				display.updateAndGet(current -> startsWithUppercase(current) ? current : word);
+			}
+		}
+
+		WordCount copy() {
+			WordCount copy = new WordCount(display.get());
+			copy.count.add(count.sum());
+
+			return copy;
+		}
+	}
 }
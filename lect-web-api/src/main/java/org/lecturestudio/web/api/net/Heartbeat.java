@@ -29,6 +29,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.lecturestudio.core.bus.EventBus;
+import org.lecturestudio.core.concurrent.ExecutionService;
 import org.lecturestudio.web.api.event.HeartbeatEvent;
 
 /**
@@ -46,7 +47,8 @@ public class Heartbeat {
 	private final long interval;
 	private final Duration timeout;
 	private boolean running;
-	private ScheduledExecutorService scheduler;
+	private ScheduledFuture<?> future;
+	private CompletableFuture<?> request;
 
 
 	/**
@@ -79,8 +81,10 @@ public class Heartbeat {
 		}
 
 		running = true;
-		scheduler = Executors.newSingleThreadScheduledExecutor();
-		scheduler.scheduleAtFixedRate(() -> {
+
+		// Sending a request does not block, thus the task runs on the
+		// scheduler thread and cannot be delayed by long-running bulk jobs.
+		future = ExecutionService.scheduleAtFixedRate(Runnable::run, () -> {
 			if (!isRunning()) {
 				return;
 			}
@@ -95,8 +99,8 @@ public class Heartbeat {
 	public synchronized void stop() {
 		running = false;
 
-		if (scheduler != null) {
-			scheduler.shutdownNow();
+		if (future != null) {
+			future.cancel(true);
 		}
 	}
 
@@ -105,26 +109,30 @@ public class Heartbeat {
 	}
 
 	private void sendHeartbeat() {
-		HttpRequest request = HttpRequest.newBuilder()
+		if (request != null && !request.isDone()) {
+			// The previous request is still pending.
+			return;
+		}
+
+		HttpRequest httpRequest = HttpRequest.newBuilder()
 				.uri(URI.create(url))
 				.timeout(timeout)
 				.GET()
 				.build();
 
-		try {
-			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-			if (response.statusCode() != 200) {
-				eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.FAILURE));
-			}
-			else {
-				eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.SUCCESS));
-			}
-		}
-		catch (Exception e) {
-			LOG.error("Heartbeat request failed: {}", e.getMessage(), e);
-
-			eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.FAILURE));
-		}
+		request = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+				.whenComplete((response, e) -> {
+					if (e != null) {
+						LOG.error("Heartbeat request failed: {}", e.getMessage(), e);
+
+						eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.FAILURE));
+					}
+					else if (response.statusCode() != 200) {
+						eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.FAILURE));
+					}
+					else {
+						eventBus.post(new HeartbeatEvent(HeartbeatEvent.Type.SUCCESS));
+					}
+				});
 	}
 }
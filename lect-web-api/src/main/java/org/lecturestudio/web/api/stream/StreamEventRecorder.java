@@ -33,6 +33,13 @@ public abstract class StreamEventRecorder extends LectureRecorder {
 
 	abstract public List<StreamPageActionsAction> getPreRecordedActions();
 
+	/**
+	 * Sends the complete current state, i.e. the documents, the selected page
+	 * and the page annotations, to the action consumers. The state supersedes
+	 * all previously recorded actions, e.g. after actions had to be discarded.
+	 */
+	abstract public void resendState();
+
 
 	public void addRecordedActionConsumer(Consumer<StreamAction> consumer) {
 		actionConsumers.add(consumer);
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.lecturestudio.web.api.stream.client;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.lecturestudio.web.api.stream.action.StreamAction;
+
+/**
+ * Ordered outbound queue of stream actions. A single writer sends the queued
+ * actions over the WebSocket, one action per binary message, and starts the
+ * next send only once the previous one has completed.
+ * <p>
+ * Each action is assigned a sequence number. Actions are retained until they
+ * have been sent successfully. Actions of failed sends and actions recorded
+ * while the connection is lost are replayed in order once a new connection
+ * has been established. The queue is bounded; while connected, producers are
+ * briefly blocked when the queue is full. Single actions are never dropped,
+ * since the receivers would end up with an inconsistent document and page
+ * state. If the queue is still full, all pending actions are discarded instead
+ * and the overflow handler is asked to send the complete current state, which
+ * supersedes the discarded actions.
+ *
+ * @author Alex Andres
+ */
+public class StreamActionQueue {
+
+	private static final Logger LOG = LogManager.getLogger(StreamActionQueue.class);
+
+	/** The maximum time a producer waits for free space in the queue. */
+	static final long OFFER_TIMEOUT_MS = 500;
+
+	private final Object lock = new Object();
+
+	/** The actions not yet sent, including the actions of failed sends. */
+	private final Deque<QueuedAction> queue = new ArrayDeque<>();
+
+	private final int capacity;
+
+	/** Sends the complete current state after pending actions were discarded. */
+	private final Runnable overflowHandler;
+
+	/** The action currently being sent. */
+	private QueuedAction inFlight;
+
+	/** Whether the overflow handler is sending the current state. */
+	private boolean resendingState;
+
+	private WebSocket webSocket;
+
+	private long nextSequence;
+
+	private long lastSentSequence = -1;
+
+	private int maxQueueSize;
+
+	private long discardedActions;
+
+	private long stateResends;
+
+	private long sentActions;
+
+	private long sendLatencyNanos;
+
+
+	/**
+	 * Creates a new {@code StreamActionQueue} with the specified capacity.
+	 *
+	 * @param capacity        The maximum number of queued actions.
+	 * @param overflowHandler Sends the complete current state when the queue
+	 *                        has overflowed.
+	 */
+	public StreamActionQueue(int capacity, Runnable overflowHandler) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+
+		this.capacity = capacity;
+		this.overflowHandler = requireNonNull(overflowHandler);
+	}
+
+	/**
+	 * Serializes and enqueues the specified action. The action is sent as soon
+	 * as all previously enqueued actions have been sent.
+	 * <p>
+	 * If the queue is full, the pending actions and the specified action are
+	 * discarded and the overflow handler is called on the calling thread to
+	 * send the complete current state, which includes the effect of the
+	 * discarded actions.
+	 *
+	 * @param action The action to send.
+	 *
+	 * @throws IOException If the action cannot be serialized.
+	 */
+	public void offer(StreamAction action) throws IOException {
+		// Serialize right away to capture the state at the time of recording.
+		byte[] data = action.toByteArray();
+		boolean overflow = false;
+
+		synchronized (lock) {
+			if (!resendingState) {
+				awaitCapacity();
+			}
+
+			if (queue.size() < capacity || resendingState) {
+				queue.addLast(new QueuedAction(nextSequence++, data, System.nanoTime()));
+
+				maxQueueSize = Math.max(maxQueueSize, queue.size());
+			}
+			else {
+				LOG.warn("Stream action queue full, discard {} pending actions and resend state",
+						queue.size() + 1);
+
+				discardedActions += queue.size() + 1;
+				stateResends++;
+				resendingState = true;
+				overflow = true;
+
+				queue.clear();
+			}
+		}
+
+		if (overflow) {
+			try {
+				overflowHandler.run();
+			}
+			finally {
+				synchronized (lock) {
+					resendingState = false;
+				}
+			}
+		}
+
+		sendNext();
+	}
+
+	/**
+	 * Starts sending the queued actions over the specified connection. Actions
+	 * which could not be sent over a previous connection are replayed first.
+	 *
+	 * @param webSocket The established connection.
+	 */
+	public void connect(WebSocket webSocket) {
+		synchronized (lock) {
+			this.webSocket = webSocket;
+
+			if (!queue.isEmpty()) {
+				LOG.info("Resume stream at sequence {} with {} pending actions",
+						queue.peekFirst().sequence(), queue.size());
+			}
+		}
+
+		sendNext();
+	}
+
+	/**
+	 * Stops sending actions. Subsequently offered actions are retained until
+	 * a new connection is provided with {@link #connect(WebSocket)}.
+	 */
+	public void disconnect() {
+		synchronized (lock) {
+			webSocket = null;
+
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Removes all pending actions.
+	 */
+	public void clear() {
+		synchronized (lock) {
+			queue.clear();
+
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * @return a snapshot of the queue metrics.
+	 */
+	public Metrics getMetrics() {
+		synchronized (lock) {
+			long averageLatency = sentActions > 0 ? sendLatencyNanos / sentActions : 0;
+
+			return new Metrics(queue.size(), maxQueueSize, lastSentSequence,
+					sentActions, discardedActions, stateResends,
+					TimeUnit.NANOSECONDS.toMillis(averageLatency));
+		}
+	}
+
+	private void awaitCapacity() {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(OFFER_TIMEOUT_MS);
+
+		// Apply backpressure only while the queue is being drained.
+		while (queue.size() >= capacity && nonNull(webSocket)) {
+			long remaining = deadline - System.nanoTime();
+
+			if (remaining <= 0) {
+				break;
+			}
+
+			try {
+				TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	private void sendNext() {
+		WebSocket socket;
+		QueuedAction action;
+
+		synchronized (lock) {
+			if (isNull(webSocket) || nonNull(inFlight) || queue.isEmpty()) {
+				return;
+			}
+
+			action = queue.removeFirst();
+			socket = webSocket;
+			inFlight = action;
+
+			lock.notifyAll();
+		}
+
+		try {
+			socket.sendBinary(ByteBuffer.wrap(action.data()), true)
+					.whenComplete((ws, error) -> onSent(socket, action, error));
+		}
+		catch (Throwable e) {
+			onSent(socket, action, e);
+		}
+	}
+
+	private void onSent(WebSocket socket, QueuedAction action, Throwable error) {
+		synchronized (lock) {
+			inFlight = null;
+
+			if (nonNull(error)) {
+				// Keep the order by putting the action back to the front.
+				queue.addFirst(action);
+
+				if (socket == webSocket) {
+					// The connection is broken, wait for a new one.
+					webSocket = null;
+				}
+
+				LOG.warn("Send stream action failed, {} actions pending", queue.size());
+			}
+			else {
+				lastSentSequence = action.sequence();
+				sentActions++;
+				sendLatencyNanos += System.nanoTime() - action.time();
+			}
+		}
+
+		// A send over a replaced connection may fail after the new connection
+		// has been established. Continue with the current connection, if any.
+		sendNext();
+	}
+
+
+	/**
+	 * Snapshot of the queue metrics.
+	 *
+	 * @param queueSize          The number of pending actions.
+	 * @param maxQueueSize       The maximum number of pending actions so far.
+	 * @param lastSentSequence   The sequence number of the last sent action.
+	 * @param sentActions        The number of sent actions.
+	 * @param discardedActions   The number of actions superseded by a state
+	 *                           resend.
+	 * @param stateResends       The number of state resends due to overflows.
+	 * @param averageSendLatency The average time in milliseconds from queuing
+	 *                           an action until it has been sent.
+	 */
+	public record Metrics(int queueSize, int maxQueueSize, long lastSentSequence,
+			long sentActions, long discardedActions, long stateResends,
+			long averageSendLatency) {
+
+	}
+
+
+	private record QueuedAction(long sequence, byte[] data, long time) {
+
+	}
+}
@@ -113,6 +113,18 @@ public interface StreamRestClient {
 	@Path("/file/upload")
 	String uploadFile(@MultipartForm MultipartBody data);
 
+	/**
+	 * Looks up a previously uploaded file by the checksum of its content.
+	 *
+	 * @param checksum The SHA-256 checksum of the file content.
+	 *
+	 * @return The file name of the uploaded file.
+	 */
+	@GET
+	@Produces(MediaType.TEXT_PLAIN)
+	@Path("/file/{checksum}")
+	String getUploadedFile(@PathParam("checksum") String checksum);
+
 	/**
 	 * Accept a speech request with the corresponding request ID.
 	 *
@@ -26,9 +26,9 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.WebSocket;
 import java.net.http.WebSocket.Builder;
-import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import org.lecturestudio.core.Executable;
@@ -50,8 +50,13 @@ import org.lecturestudio.web.api.websocket.WebSocketHeaderProvider;
  */
 public class StreamWebSocketClient extends ExecutableBase {
 
+	/** The maximum number of actions retained while the connection is lost. */
+	private static final int QUEUE_CAPACITY = 10_000;
+
 	private final Consumer<StreamAction> actionConsumer;
 
+	private final StreamActionQueue actionQueue;
+
 	private final ServiceParameters serviceParameters;
 
 	private final WebSocketHeaderProvider headerProvider;
@@ -75,6 +80,7 @@ public class StreamWebSocketClient extends ExecutableBase {
 		this.eventRecorder = eventRecorder;
 		this.clientFailover = new ClientFailover();
 		this.clientFailover.addExecutable(getReconnectExecutable());
+		this.actionQueue = new StreamActionQueue(QUEUE_CAPACITY, eventRecorder::resendState);
 
 		actionConsumer = this::send;
 	}
@@ -83,6 +89,13 @@ public class StreamWebSocketClient extends ExecutableBase {
 		return new Reconnect();
 	}
 
+	/**
+	 * @return the metrics of the outbound action queue.
+	 */
+	public StreamActionQueue.Metrics getQueueMetrics() {
+		return actionQueue.getMetrics();
+	}
+
 	@Override
 	protected void initInternal() throws ExecutableException {
 		eventRecorder.addRecordedActionConsumer(actionConsumer);
@@ -103,6 +116,10 @@ public class StreamWebSocketClient extends ExecutableBase {
 		eventRecorder.removeRecordedActionConsumer(actionConsumer);
 
 		closeWebsocket();
+
+		logDebugMessage("Stream action queue: {0}", actionQueue.getMetrics());
+
+		actionQueue.clear();
 	}
 
 	@Override
@@ -124,9 +141,14 @@ public class StreamWebSocketClient extends ExecutableBase {
 		webSocket = webSocketBuilder.buildAsync(
 				URI.create(serviceParameters.getUrl()), new WebSocketHandler())
 				.join();
+
+		// Replay actions recorded while the connection was lost.
+		actionQueue.connect(webSocket);
 	}
 
 	private void closeWebsocket() {
+		actionQueue.disconnect();
+
 		if (nonNull(webSocket) && !webSocket.isOutputClosed()) {
 			webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "disconnect").join();
 			webSocket.abort();
@@ -135,7 +157,7 @@ public class StreamWebSocketClient extends ExecutableBase {
 
 	private void send(StreamAction action) {
 		try {
-			webSocket.sendBinary(ByteBuffer.wrap(action.toByteArray()), true);
+			actionQueue.offer(action);
 		}
 		catch (IOException e) {
 			logException(e, "Send event state failed");
@@ -201,10 +223,20 @@ public class StreamWebSocketClient extends ExecutableBase {
 			}
 		}
 
+		@Override
+		public CompletionStage<?> onClose(WebSocket webSocket, int statusCode,
+				String reason) {
+			actionQueue.disconnect();
+
+			return super.onClose(webSocket, statusCode, reason);
+		}
+
 		@Override
 		public void onError(WebSocket webSocket, Throwable error) {
 			super.onError(webSocket, error);
 
+			actionQueue.disconnect();
+
 			if (started()) {
 				// Start recovery process.
 				try {
@@ -25,6 +25,7 @@ import java.util.UUID;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.WebApplicationException;
 
 import jakarta.inject.Inject;
 
@@ -121,6 +122,24 @@ public class StreamProviderService extends ProviderService {
 		return streamRestClient.uploadFile(data);
 	}
 
+	/**
+	 * Looks up a previously uploaded file by the checksum of its content. This
+	 * allows to skip uploads of files the server already has.
+	 *
+	 * @param checksum The SHA-256 checksum of the file content.
+	 *
+	 * @return The file name, or {@code null} if the server does not have the
+	 * file or does not support the lookup.
+	 */
+	public String findUploadedFile(String checksum) {
+		try {
+			return streamRestClient.getUploadedFile(checksum);
+		}
+		catch (WebApplicationException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Accept a speech request with the corresponding ID.
 	 *
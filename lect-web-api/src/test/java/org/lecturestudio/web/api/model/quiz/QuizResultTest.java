@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.web.api.model.quiz;
+
+import static java.util.Objects.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.lecturestudio.core.util.IOUtils;
+
+/**
+ * Tests the concurrent aggregation of quiz answers by the {@link QuizResult}.
+ * The aggregated counts are compared with the former aggregation of the
+ * answers at rendering time.
+ */
+class QuizResultTest {
+
+	@Test
+	void testAddAnswersConcurrently() throws InterruptedException {
+		Quiz quiz = createQuiz(Quiz.QuizType.MULTIPLE, 3);
+		QuizResult result = new QuizResult(quiz);
+		List<Thread> threads = new ArrayList<>();
+
+		for (int t = 0; t < 8; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					// Selects option 0 twice as often as the other options.
+					String[] options = i % 2 == 0
+							? new String[] { "0" }
+							: new String[] { "0", Integer.toString(1 + i % 4 / 2) };
+
+					result.addAnswer(new QuizAnswer(options));
+				}
+			});
+
+			threads.add(thread);
+			thread.start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(8000, result.getAnswerCount());
+		assertEquals(Map.of("0", 8000, "1", 2000, "2", 2000), result.getOptionCounts());
+		assertEquals(4000, (int) result.getResult().get(new QuizAnswer(new String[] { "0" })));
+		assertEquals(8000, result.snapshot().getAnswerCount());
+	}
+
+	@Test
+	void testOptionCountsMatchFormerAggregation() {
+		Quiz quiz = createQuiz(Quiz.QuizType.MULTIPLE, 3);
+		QuizResult result = new QuizResult(quiz);
+
+		addAnswers(result,
+				new String[] { "0" },
+				new String[] { "0", "2" },
+				new String[] { "2", "0" },
+				new String[] { "1" },
+				new String[] { },
+				new String[] { },
+				new String[] { "5" });
+
+		Map<String, Integer> chartMap = new HashMap<>();
+
+		result.getOptionCounts().forEach((option, count) ->
+				chartMap.put(quiz.getOptionAlpha(option), count));
+
+		if (result.getEmptyAnswerCount() > 0) {
+			chartMap.put("{ }", result.getEmptyAnswerCount());
+		}
+
+		assertEquals(Map.of("A", 3, "B", 1, "C", 2, "{ }", 2), chartMap);
+		assertEquals(getFormerOptionCounts(result), chartMap);
+	}
+
+	@Test
+	void testWordFrequenciesMatchFormerAggregation() {
+		QuizResult result = new QuizResult(createQuiz(Quiz.QuizType.FREE_TEXT, 5));
+
+		addAnswers(result,
+				new String[] { "java", "kotlin" },
+				new String[] { "Java" },
+				new String[] { "java" },
+				new String[] { "kotlin", "Scala" },
+				new String[] { "  rust  ", "RUST" },
+				new String[] { "a sentence which is longer than thirty-two characters" },
+				new String[] { "A sentence which is longer than thirty-two characters, too" },
+				new String[] { " " });
+
+		Map<String, Integer> frequencies = result.getWordFrequencies();
+
+		assertEquals(Map.of("Java", 3, "kotlin", 2, "Scala", 1, "RUST", 1,
+				"A sentence which is longer th...", 2), frequencies);
+		assertEquals(getFormerWordFrequencies(result), frequencies);
+	}
+
+	@Test
+	void testCapitalizedVariantOfEqualAnswers() {
+		QuizResult result = new QuizResult(createQuiz(Quiz.QuizType.FREE_TEXT, 1));
+
+		// Both answers are counted under the key of the first answer.
+		addAnswers(result,
+				new String[] { "java" },
+				new String[] { "Java" });
+
+		assertEquals(Map.of("Java", 2), result.getWordFrequencies());
+	}
+
+	private static Quiz createQuiz(Quiz.QuizType type, int optionCount) {
+		Quiz quiz = new Quiz(type, "Question");
+
+		for (int i = 0; i < optionCount; i++) {
+			quiz.addOption(new QuizOption("Option " + i, false));
+		}
+
+		return quiz;
+	}
+
+	private static void addAnswers(QuizResult result, String[]... answers) {
+		for (String[] options : answers) {
+			result.addAnswer(new QuizAnswer(options));
+		}
+	}
+
+	/**
+	 * The former aggregation of the statistics chart at rendering time.
+	 */
+	private static Map<String, Integer> getFormerOptionCounts(QuizResult result) {
+		Quiz quiz = result.getQuiz();
+		Map<QuizAnswer, Integer> resultMap = result.getResult();
+		Map<String, Integer> chartMap = new HashMap<>();
+
+		for (QuizAnswer answer : resultMap.keySet()) {
+			String[] options = answer.getOptions();
+			Integer count = resultMap.get(answer);
+
+			if (options.length > 0) {
+				for (String o : options) {
+					chartMap.merge(quiz.getOptionAlpha(o), count, Integer::sum);
+				}
+			}
+			else {
+				chartMap.merge("{ }", count, Integer::sum);
+			}
+		}
+
+		return chartMap;
+	}
+
+	/**
+	 * The former aggregation of the word cloud at rendering time.
+	 */
+	private static Map<String, Integer> getFormerWordFrequencies(QuizResult result) {
+		Map<String, Integer> frequencyMap = new HashMap<>();
+		Map<String, String> displayTextMap = new HashMap<>();
+
+		for (var entry : result.getResult().entrySet()) {
+			Integer count = entry.getValue();
+
+			for (String option : entry.getKey().getOptions()) {
+				if (isNull(option) || option.isBlank()) {
+					continue;
+				}
+
+				String original = IOUtils.shortenString(option.trim(), 32);
+				String key = original.toLowerCase();
+
+				frequencyMap.merge(key, count, Integer::sum);
+
+				String currentDisplay = displayTextMap.get(key);
+				if (currentDisplay == null) {
+					displayTextMap.put(key, original);
+				}
+				else {
+					boolean currentStartsCapital = Character.isUpperCase(currentDisplay.codePointAt(0));
+					boolean originalStartsCapital = Character.isUpperCase(original.codePointAt(0));
+
+					if (originalStartsCapital && !currentStartsCapital) {
+						displayTextMap.put(key, original);
+					}
+				}
+			}
+		}
+
+		Map<String, Integer> frequencies = new HashMap<>();
+
+		frequencyMap.forEach((key, frequency) -> frequencies.put(displayTextMap.get(key), frequency));
+
+		return frequencies;
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2026 TU Darmstadt, Department of Computer Science,
+ * Embedded Systems and Applications Group.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package org.lecturestudio.web.api.stream.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.lecturestudio.web.api.stream.action.StreamAction;
+import org.lecturestudio.web.api.stream.action.StreamActionType;
+
+/**
+ * Tests the ordering, the backpressure and the overflow handling of the
+ * {@link StreamActionQueue} with a fake WebSocket.
+ */
+class StreamActionQueueTest {
+
+	private StreamActionQueue queue;
+
+
+	@Test
+	void testOrderKeptAcrossFailedSendAndReconnect() throws IOException {
+		queue = new StreamActionQueue(100, () -> {});
+
+		FakeWebSocket brokenSocket = new FakeWebSocket(false);
+		queue.connect(brokenSocket);
+
+		queue.offer(new TestAction(1));
+		queue.offer(new TestAction(2));
+		queue.offer(new TestAction(3));
+
+		// Only one action is sent at a time.
+		assertEquals(List.of(1), brokenSocket.getNumbers());
+
+		brokenSocket.failPending();
+
+		// Recorded while the connection is lost.
+		queue.offer(new TestAction(4));
+
+		FakeWebSocket socket = new FakeWebSocket(true);
+		queue.connect(socket);
+
+		assertEquals(List.of(1, 2, 3, 4), socket.getNumbers());
+
+		StreamActionQueue.Metrics metrics = queue.getMetrics();
+
+		assertEquals(0, metrics.queueSize());
+		assertEquals(3, metrics.lastSentSequence());
+		assertEquals(4, metrics.sentActions());
+	}
+
+	@Test
+	void testFailedSendOfReplacedConnectionResumes() throws IOException {
+		queue = new StreamActionQueue(100, () -> {});
+
+		FakeWebSocket oldSocket = new FakeWebSocket(false);
+		queue.connect(oldSocket);
+
+		queue.offer(new TestAction(1));
+		queue.offer(new TestAction(2));
+
+		// Reconnect while the first action is still being sent.
+		FakeWebSocket socket = new FakeWebSocket(true);
+		queue.connect(socket);
+
+		assertEquals(List.of(), socket.getNumbers());
+
+		// The queue must continue without another action being offered.
+		oldSocket.failPending();
+
+		assertEquals(List.of(1, 2), socket.getNumbers());
+		assertEquals(0, queue.getMetrics().queueSize());
+	}
+
+	@Test
+	void testOfferBlocksAtMostTimeout() throws IOException {
+		queue = new StreamActionQueue(2, () -> {});
+
+		// The first action is never completed, the queue does not drain.
+		queue.connect(new FakeWebSocket(false));
+		queue.offer(new TestAction(1));
+		queue.offer(new TestAction(2));
+		queue.offer(new TestAction(3));
+
+		long start = System.nanoTime();
+
+		queue.offer(new TestAction(4));
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsed >= StreamActionQueue.OFFER_TIMEOUT_MS, "Waited " + elapsed + " ms");
+		assertTrue(elapsed < StreamActionQueue.OFFER_TIMEOUT_MS + 1000, "Waited " + elapsed + " ms");
+		assertEquals(1, queue.getMetrics().stateResends());
+	}
+
+	@Test
+	void testOfferDoesNotBlockWhileDisconnected() throws IOException {
+		queue = new StreamActionQueue(2, () -> {});
+		queue.offer(new TestAction(1));
+		queue.offer(new TestAction(2));
+
+		long start = System.nanoTime();
+
+		queue.offer(new TestAction(3));
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsed < StreamActionQueue.OFFER_TIMEOUT_MS, "Waited " + elapsed + " ms");
+	}
+
+	@Test
+	void testOverflowClearsQueueAndAcceptsStateActions() throws IOException {
+		queue = new StreamActionQueue(2, this::resendState);
+		queue.offer(new TestAction(1));
+		queue.offer(new TestAction(2));
+
+		// Overflows, the handler offers more actions than the queue can hold.
+		queue.offer(new TestAction(3));
+
+		StreamActionQueue.Metrics metrics = queue.getMetrics();
+
+		assertEquals(3, metrics.queueSize());
+		assertEquals(3, metrics.discardedActions());
+		assertEquals(1, metrics.stateResends());
+
+		FakeWebSocket socket = new FakeWebSocket(true);
+		queue.connect(socket);
+
+		assertEquals(List.of(100, 101, 102), socket.getNumbers());
+
+		// Back to normal operation.
+		queue.offer(new TestAction(4));
+
+		assertEquals(List.of(100, 101, 102, 4), socket.getNumbers());
+		assertEquals(1, queue.getMetrics().stateResends());
+	}
+
+	private void resendState() {
+		for (int i = 100; i < 103; i++) {
+			try {
+				queue.offer(new TestAction(i));
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+
+	private static class TestAction extends StreamAction {
+
+		private int number;
+
+
+		TestAction(int number) {
+			this.number = number;
+		}
+
+		@Override
+		public StreamActionType getType() {
+			return StreamActionType.STREAM_PAGE_ACTION;
+		}
+
+		@Override
+		public byte[] toByteArray() {
+			ByteBuffer buffer = createBuffer(4);
+			buffer.putInt(number);
+
+			return buffer.array();
+		}
+
+		@Override
+		public void parseFrom(byte[] input) {
+			number = createBuffer(input).getInt(5);
+		}
+	}
+
+
+	/**
+	 * Records the sent messages. Sends either complete right away or remain
+	 * pending until they are failed by the test.
+	 */
+	private static class FakeWebSocket implements WebSocket {
+
+		private final List<Integer> numbers = new ArrayList<>();
+
+		private final List<CompletableFuture<WebSocket>> pending = new ArrayList<>();
+
+		private final boolean complete;
+
+
+		FakeWebSocket(boolean complete) {
+			this.complete = complete;
+		}
+
+		List<Integer> getNumbers() {
+			synchronized (numbers) {
+				return new ArrayList<>(numbers);
+			}
+		}
+
+		void failPending() {
+			List<CompletableFuture<WebSocket>> futures = new ArrayList<>(pending);
+			pending.clear();
+
+			for (CompletableFuture<WebSocket> future : futures) {
+				future.completeExceptionally(new IOException("Connection lost"));
+			}
+		}
+
+		@Override
+		public CompletableFuture<WebSocket> sendBinary(ByteBuffer data, boolean last) {
+			synchronized (numbers) {
+				numbers.add(data.getInt(5));
+			}
+
+			if (complete) {
+				return CompletableFuture.completedFuture(this);
+			}
+
+			CompletableFuture<WebSocket> future = new CompletableFuture<>();
+			pending.add(future);
+
+			return future;
+		}
+
+		@Override
+		public CompletableFuture<WebSocket> sendText(CharSequence data, boolean last) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<WebSocket> sendPing(ByteBuffer message) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<WebSocket> sendPong(ByteBuffer message) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<WebSocket> sendClose(int statusCode, String reason) {
+			return CompletableFuture.completedFuture(this);
+		}
+
+		@Override
+		public void request(long n) {
+
+		}
+
+		@Override
+		public String getSubprotocol() {
+			return "";
+		}
+
+		@Override
+		public boolean isOutputClosed() {
+			return false;
+		}
+
+		@Override
+		public boolean isInputClosed() {
+			return false;
+		}
+
+		@Override
+		public void abort() {
+
+		}
+	}
+}